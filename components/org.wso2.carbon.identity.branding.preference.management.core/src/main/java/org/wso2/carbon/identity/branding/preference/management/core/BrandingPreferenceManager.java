@@ -21,7 +21,12 @@ package org.wso2.carbon.identity.branding.preference.management.core;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.NotImplementedException;
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingResolveRequest;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BulkBrandingResolveResult;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
+
+import java.util.Collection;
 
 /**
  * Branding preference management service interface.
@@ -82,6 +87,42 @@ public interface BrandingPreferenceManager {
                 "resolveApplicationBrandingPreference method is not implemented in " + this.getClass().getName());
     }
 
+    /**
+     * This service method is used to retrieve the serialized form of a resolved branding preference along with its
+     * entity tag and last modified time.
+     *
+     * @param type                Type of the branding preference.
+     * @param name                Name of the tenant/application.
+     * @param locale              Language preference of the branding.
+     * @param restrictToPublished Whether to resolve using only published branding preferences only.
+     * @return The serialized form of the resolved branding preference.
+     * @throws BrandingPreferenceMgtException if any error occurred.
+     */
+    default ResolvedBrandingPayload resolveBrandingPreferencePayload(String type, String name, String locale,
+                                                                     boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        throw new NotImplementedException(
+                "resolveBrandingPreferencePayload method is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * This service method is used to retrieve resolved branding preferences for many organizations/applications
+     * and locales in a single call.
+     *
+     * @param requests            Branding preferences to be resolved.
+     * @param restrictToPublished Whether to resolve using only published branding preferences only.
+     * @return The resolved branding preferences and the errors of the requests which could not be resolved.
+     * @throws BrandingPreferenceMgtException if any error occurred which is common to all the requests.
+     */
+    default BulkBrandingResolveResult resolveBrandingPreferences(Collection<BrandingResolveRequest> requests,
+                                                                 boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        throw new NotImplementedException(
+                "resolveBrandingPreferences method is not implemented in " + this.getClass().getName());
+    }
+
     /**
      * This API is used to retrieve a resolved branding preference for an application.
      *
@@ -34,8 +34,11 @@ import org.wso2.carbon.identity.branding.preference.management.core.exception.Br
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
 import org.wso2.carbon.identity.branding.preference.management.core.internal.BrandingPreferenceManagerComponentDataHolder;
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingResolveRequest;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BulkBrandingResolveResult;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomLayoutContent;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
 import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
@@ -53,6 +56,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -146,7 +150,7 @@ public class BrandingPreferenceManagerImpl implements BrandingPreferenceManager
                 Resource brandingPreferenceResource = buildResource(resourceName, inputStream);
                 getConfigurationManager().addResource(resourceType, brandingPreferenceResource);
                 getUIBrandingPreferenceResolver().clearBrandingResolverCacheHierarchy(brandingPreference.getType(),
-                        brandingPreference.getName(), tenantDomain);
+                        brandingPreference.getName(), brandingPreference.getLocale(), tenantDomain);
                 String appName = APPLICATION_TYPE.equals(brandingPreference.getType()) ?
                         brandingPreference.getName() : null;
                 CustomLayoutContent customLayoutContent =
@@ -249,6 +253,22 @@ public class BrandingPreferenceManagerImpl implements BrandingPreferenceManager
         return getUIBrandingPreferenceResolver().resolveBranding(type, name, locale, restrictToPublished);
     }
 
+    @Override
+    public ResolvedBrandingPayload resolveBrandingPreferencePayload(String type, String name, String locale,
+                                                                    boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        return getUIBrandingPreferenceResolver().resolveBrandingPayload(type, name, locale, restrictToPublished);
+    }
+
+    @Override
+    public BulkBrandingResolveResult resolveBrandingPreferences(Collection<BrandingResolveRequest> requests,
+                                                                boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        return getUIBrandingPreferenceResolver().resolveBranding(requests, restrictToPublished);
+    }
+
     /**
      * @deprecated Use {@link #resolveBrandingPreference(String, String, String, boolean)} instead.
      */
@@ -287,7 +307,10 @@ public class BrandingPreferenceManagerImpl implements BrandingPreferenceManager
             JdbcUtils.getNewNamedJdbcTemplate().withTransaction((template) -> {
                 Resource brandingPreferenceResource = buildResource(resourceName, inputStream);
                 getConfigurationManager().replaceResource(resourceType, brandingPreferenceResource);
-                clearBrandingResolverCacheIfRequired(oldBrandingPreference, brandingPreference, tenantDomain);
+                /* The resolver caches the resolved branding content as well, hence its caches are cleared even if
+                  the published state of the branding is not changed. */
+                getUIBrandingPreferenceResolver().clearBrandingResolverCacheHierarchy(brandingPreference.getType(),
+                        brandingPreference.getName(), brandingPreference.getLocale(), tenantDomain);
                 String appName = APPLICATION_TYPE.equals(brandingPreference.getType()) ?
                         brandingPreference.getName() : null;
                 CustomLayoutContent customLayoutContent =
@@ -325,7 +348,8 @@ public class BrandingPreferenceManagerImpl implements BrandingPreferenceManager
         try {
             JdbcUtils.getNewNamedJdbcTemplate().withTransaction((template) -> {
                 getConfigurationManager().deleteResource(resourceType, resourceName);
-                getUIBrandingPreferenceResolver().clearBrandingResolverCacheHierarchy(type, name, tenantDomain);
+                getUIBrandingPreferenceResolver().clearBrandingResolverCacheHierarchy(type, name, locale,
+                        tenantDomain);
                 String appName = APPLICATION_TYPE.equals(type) ? name : null;
                 getCustomContentPersistentDAO().deleteCustomContent(appName, tenantDomain);
                 return null;
@@ -771,32 +795,6 @@ public class BrandingPreferenceManagerImpl implements BrandingPreferenceManager
         }
     }
 
-    /**
-     * Clear the branding resolver cache if the branding preference enabled config is updated.
-     *
-     * @param previousBrandingPreference Previous branding preference.
-     * @param updatedBrandingPreference  Updated branding preference.
-     * @param tenantDomain               Tenant domain.
-     * @throws BrandingPreferenceMgtException If an error occurs while clearing branding resolver cache hierarchy.
-     */
-    private void clearBrandingResolverCacheIfRequired(BrandingPreference previousBrandingPreference,
-                                                      BrandingPreference updatedBrandingPreference, String tenantDomain)
-            throws BrandingPreferenceMgtException {
-
-        // If configs.isBrandingEnabled is not found in preferences, it is assumed that branding is enabled by default.
-        boolean isPreviousPreferencesPublished =
-                BrandingPreferenceMgtUtils.isBrandingPublished(previousBrandingPreference);
-        boolean isUpdatedPreferencesPublished =
-                BrandingPreferenceMgtUtils.isBrandingPublished(updatedBrandingPreference);
-
-        if (isPreviousPreferencesPublished == isUpdatedPreferencesPublished) {
-            return;
-        }
-
-        getUIBrandingPreferenceResolver().clearBrandingResolverCacheHierarchy(updatedBrandingPreference.getType(),
-                updatedBrandingPreference.getName(), tenantDomain);
-    }
-
     /**
      * Get UI branding preference resolver stored in the data holder.
      *
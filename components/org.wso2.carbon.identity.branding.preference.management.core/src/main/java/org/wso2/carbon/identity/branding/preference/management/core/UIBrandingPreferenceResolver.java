@@ -21,7 +21,14 @@ package org.wso2.carbon.identity.branding.preference.management.core;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.NotImplementedException;
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingResolveRequest;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BulkBrandingResolveResult;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * UI Branding Preference Resolver.
@@ -58,6 +65,74 @@ public interface UIBrandingPreferenceResolver {
                 "resolveBranding method is not implemented in " + this.getClass().getName());
     }
 
+    /**
+     * This method is used to retrieve a resolved branding preference asynchronously. Resolvers which do not
+     * override this resolve the branding preference in the calling thread.
+     *
+     * @param type                Type of the branding preference.
+     * @param name                Name of the tenant/application.
+     * @param locale              Language preference of the branding.
+     * @param restrictToPublished Whether to resolve using only published branding preferences.
+     * @return Completion stage of the requested branding preference. It completes exceptionally with a
+     * {@link BrandingPreferenceMgtException} if any error occurred while resolving branding preferences.
+     */
+    default CompletionStage<BrandingPreference> resolveBrandingAsync(String type, String name, String locale,
+                                                                     boolean restrictToPublished) {
+
+        CompletableFuture<BrandingPreference> result = new CompletableFuture<>();
+        try {
+            result.complete(resolveBranding(type, name, locale, restrictToPublished));
+        } catch (BrandingPreferenceMgtException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * This method is used to retrieve the serialized form of a resolved branding preference along with its entity
+     * tag and last modified time, so that it can be written to a response without serializing it again.
+     *
+     * @param type                Type of the branding preference.
+     * @param name                Name of the tenant/application.
+     * @param locale              Language preference of the branding.
+     * @param restrictToPublished Whether to resolve using only published branding preferences.
+     * @return The serialized form of the requested branding preference.
+     * @throws BrandingPreferenceMgtException if any error occurred while resolving branding preferences.
+     */
+    default ResolvedBrandingPayload resolveBrandingPayload(String type, String name, String locale,
+                                                           boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        throw new NotImplementedException(
+                "resolveBrandingPayload method is not implemented in " + this.getClass().getName());
+    }
+
+    /**
+     * This method is used to retrieve resolved branding preferences for many organizations/applications and locales
+     * in a single call. Failures of individual requests do not fail the whole call, and are returned as errors of
+     * the corresponding requests.
+     *
+     * @param requests            Branding preferences to be resolved.
+     * @param restrictToPublished Whether to resolve using only published branding preferences.
+     * @return The resolved branding preferences and the errors of the requests which could not be resolved.
+     * @throws BrandingPreferenceMgtException if any error occurred which is common to all the requests.
+     */
+    default BulkBrandingResolveResult resolveBranding(Collection<BrandingResolveRequest> requests,
+                                                      boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        BulkBrandingResolveResult result = new BulkBrandingResolveResult();
+        for (BrandingResolveRequest request : requests) {
+            try {
+                result.addBrandingPreference(request, resolveBranding(request.getType(), request.getName(),
+                        request.getLocale(), restrictToPublished));
+            } catch (BrandingPreferenceMgtException e) {
+                result.addError(request, e);
+            }
+        }
+        return result;
+    }
+
     /**
      * This method is used to clear the branding preference resolver caches, down
      * the organization hierarchy.
@@ -74,6 +149,23 @@ public interface UIBrandingPreferenceResolver {
                 "clearBrandingResolverCacheHierarchy method is not implemented in " + this.getClass().getName());
     }
 
+    /**
+     * This method is used to clear the branding preference resolver caches, down
+     * the organization hierarchy, after the branding preference of the given locale is changed.
+     *
+     * @param type                Branding preference type.
+     * @param name                Branding preference name.
+     * @param locale              Locale of the changed branding preference.
+     * @param currentTenantDomain Tenant domain where the cache needs to be cleared.
+     * @throws BrandingPreferenceMgtException if any error occurred.
+     */
+    default void clearBrandingResolverCacheHierarchy(String type, String name, String locale,
+                                                     String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        clearBrandingResolverCacheHierarchy(type, name, currentTenantDomain);
+    }
+
     /**
      * This method is used to clear the branding preference resolver caches of
      * the organization and all its children down the tree.
@@ -101,6 +193,29 @@ public interface UIBrandingPreferenceResolver {
         throw new NotImplementedException("This functionality is not implemented.");
     }
 
+    /**
+     * This method is used to retrieve a resolved custom text preference asynchronously. Resolvers which do not
+     * override this resolve the custom text preference in the calling thread.
+     *
+     * @param type   Type of the custom text preference.
+     * @param name   Name of the tenant/application.
+     * @param screen Screen param of the custom text preference.
+     * @param locale Language preference of the custom text preference.
+     * @return Completion stage of the resolved custom text preference. It completes exceptionally with a
+     * {@link BrandingPreferenceMgtException} if any error occurred.
+     */
+    default CompletionStage<CustomText> resolveCustomTextAsync(String type, String name, String screen,
+                                                               String locale) {
+
+        CompletableFuture<CustomText> result = new CompletableFuture<>();
+        try {
+            result.complete(resolveCustomText(type, name, screen, locale));
+        } catch (BrandingPreferenceMgtException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
     /**
      * This method is used to clear the custom text preference resolver caches of
      * the organization and all its children down the tree.
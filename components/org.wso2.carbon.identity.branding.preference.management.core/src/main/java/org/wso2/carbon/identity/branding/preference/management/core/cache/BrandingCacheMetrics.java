@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_METRICS_MAX_TRACKED_TENANTS_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_METRICS_MAX_TRACKED_TENANTS_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_METRICS_TOP_TENANT_COUNT_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_METRICS_TOP_TENANT_COUNT_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils.getPositiveIntegerConfig;
+
+/**
+ * Registry of the metrics of the branding caches. The metrics of each cache are published as an MBean and can also
+ * be pulled as snapshots. The other branding components publish their metrics MBeans through this registry as well,
+ * so that they are removed together with the cache MBeans.
+ */
+public class BrandingCacheMetrics {
+
+    private static final Log LOG = LogFactory.getLog(BrandingCacheMetrics.class);
+    private static final String MBEAN_NAME_FORMAT = "org.wso2.carbon.identity.branding.preference:type=%s,name=%s";
+    private static final String CACHE_METRICS_MBEAN_TYPE = "CacheMetrics";
+    private static volatile BrandingCacheMetrics instance;
+
+    private final Map<String, CacheMetricsRecorder> metricsRecorders = new ConcurrentHashMap<>();
+    private final Set<String> registeredMBeanNames = ConcurrentHashMap.newKeySet();
+    private final int maxTrackedTenants;
+    private final int defaultTopTenantCount;
+
+    private BrandingCacheMetrics() {
+
+        maxTrackedTenants = getPositiveIntegerConfig(CACHE_METRICS_MAX_TRACKED_TENANTS_CONFIG_KEY,
+                CACHE_METRICS_MAX_TRACKED_TENANTS_DEFAULT);
+        defaultTopTenantCount = getPositiveIntegerConfig(CACHE_METRICS_TOP_TENANT_COUNT_CONFIG_KEY,
+                CACHE_METRICS_TOP_TENANT_COUNT_DEFAULT);
+    }
+
+    /**
+     * Get the branding cache metrics instance.
+     *
+     * @return BrandingCacheMetrics instance.
+     */
+    public static BrandingCacheMetrics getInstance() {
+
+        if (instance == null) {
+            synchronized (BrandingCacheMetrics.class) {
+                if (instance == null) {
+                    instance = new BrandingCacheMetrics();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get the metrics recorder of the given cache. The recorder is created and published as an MBean on first use.
+     *
+     * @param cacheName Name of the cache.
+     * @return Metrics recorder of the cache.
+     */
+    public CacheMetricsRecorder getMetricsRecorder(String cacheName) {
+
+        return metricsRecorders.computeIfAbsent(cacheName, key -> {
+            CacheMetricsRecorder metricsRecorder =
+                    new CacheMetricsRecorder(key, maxTrackedTenants, defaultTopTenantCount);
+            registerMBean(CACHE_METRICS_MBEAN_TYPE, key, metricsRecorder);
+            return metricsRecorder;
+        });
+    }
+
+    /**
+     * Get the point in time metrics of all the branding caches.
+     *
+     * @param topTenantCount Maximum number of tenants to include per cache.
+     * @return Cache metrics snapshots.
+     */
+    public List<CacheMetricsSnapshot> getSnapshots(int topTenantCount) {
+
+        List<CacheMetricsSnapshot> snapshots = new ArrayList<>();
+        for (CacheMetricsRecorder metricsRecorder : metricsRecorders.values()) {
+            snapshots.add(metricsRecorder.getSnapshot(topTenantCount));
+        }
+        return snapshots;
+    }
+
+    /**
+     * Get the point in time metrics of the given branding cache.
+     *
+     * @param cacheName      Name of the cache.
+     * @param topTenantCount Maximum number of tenants to include.
+     * @return Cache metrics snapshot or null if the cache has not been used.
+     */
+    public CacheMetricsSnapshot getSnapshot(String cacheName, int topTenantCount) {
+
+        CacheMetricsRecorder metricsRecorder = metricsRecorders.get(cacheName);
+        return metricsRecorder == null ? null : metricsRecorder.getSnapshot(topTenantCount);
+    }
+
+    /**
+     * Publish the given MBean in the platform MBean server, replacing a stale MBean of the same name.
+     *
+     * @param type  Type of the MBean.
+     * @param name  Name of the MBean.
+     * @param mBean MBean to be published.
+     */
+    public void registerMBean(String type, String name, Object mBean) {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        String mBeanName = String.format(MBEAN_NAME_FORMAT, type, name);
+        try {
+            ObjectName objectName = new ObjectName(mBeanName);
+            // A stale MBean can be left behind by a previous activation of the bundle.
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(mBean, objectName);
+            registeredMBeanNames.add(mBeanName);
+        } catch (JMException e) {
+            LOG.warn("Error while registering the metrics MBean: " + mBeanName, e);
+        }
+    }
+
+    /**
+     * Remove the given MBean from the platform MBean server.
+     *
+     * @param type Type of the MBean.
+     * @param name Name of the MBean.
+     */
+    public void unregisterMBean(String type, String name) {
+
+        String mBeanName = String.format(MBEAN_NAME_FORMAT, type, name);
+        unregisterMBean(ManagementFactory.getPlatformMBeanServer(), mBeanName);
+        registeredMBeanNames.remove(mBeanName);
+    }
+
+    /**
+     * Remove the MBeans of the branding caches and the other registered MBeans from the platform MBean server.
+     */
+    public void unregisterMBeans() {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        for (String mBeanName : registeredMBeanNames) {
+            unregisterMBean(mBeanServer, mBeanName);
+        }
+        registeredMBeanNames.clear();
+    }
+
+    private void unregisterMBean(MBeanServer mBeanServer, String mBeanName) {
+
+        try {
+            ObjectName objectName = new ObjectName(mBeanName);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn("Error while unregistering the metrics MBean: " + mBeanName, e);
+        }
+    }
+}
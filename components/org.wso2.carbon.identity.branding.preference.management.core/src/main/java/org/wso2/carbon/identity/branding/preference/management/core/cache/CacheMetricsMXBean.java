@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import java.util.List;
+
+/**
+ * Management interface exposing the metrics of a branding cache over JMX.
+ */
+public interface CacheMetricsMXBean {
+
+    /**
+     * @return Name of the cache.
+     */
+    String getCacheName();
+
+    /**
+     * @return Number of lookups answered from the cache.
+     */
+    long getHitCount();
+
+    /**
+     * @return Number of lookups not found in the cache.
+     */
+    long getMissCount();
+
+    /**
+     * @return Ratio of the lookups answered from the cache.
+     */
+    double getHitRatio();
+
+    /**
+     * @return Number of entries added to the cache.
+     */
+    long getPutCount();
+
+    /**
+     * @return Number of entries and tenant spaces invalidated in the cache.
+     */
+    long getInvalidationCount();
+
+    /**
+     * @return Number of entries evicted by the cache to stay within its capacity.
+     */
+    long getEvictionCount();
+
+    /**
+     * @return Number of values loaded from the underlying source after a cache miss.
+     */
+    long getLoadCount();
+
+    /**
+     * @return Average time taken to load a value after a cache miss, in milliseconds.
+     */
+    double getAverageLoadTimeMillis();
+
+    /**
+     * @return Maximum time taken to load a value after a cache miss, in milliseconds.
+     */
+    double getMaxLoadTimeMillis();
+
+    /**
+     * @return Number of loads which joined an in-flight load of the same key instead of loading directly.
+     */
+    long getCoalescedLoadCount();
+
+    /**
+     * @return Number of joined loads which timed out while waiting and loaded directly.
+     */
+    long getTimedOutLoadWaitCount();
+
+    /**
+     * @return Number of cached values decoded after being read from the cache.
+     */
+    long getDecodeCount();
+
+    /**
+     * @return Average time taken to decode a cached value, in milliseconds.
+     */
+    double getAverageDecodeTimeMillis();
+
+    /**
+     * @return Maximum time taken to decode a cached value, in milliseconds.
+     */
+    double getMaxDecodeTimeMillis();
+
+    /**
+     * @return Estimated number of entries in the cache of this node.
+     */
+    long getEstimatedEntryCount();
+
+    /**
+     * @return Metrics of the tenants with the most cache lookups.
+     */
+    List<TenantCacheMetricsSnapshot> getTopTenants();
+
+    /**
+     * Get the metrics of the tenants with the most cache lookups.
+     *
+     * @param count Maximum number of tenants to return.
+     * @return Metrics of the tenants with the most cache lookups.
+     */
+    List<TenantCacheMetricsSnapshot> listTopTenants(int count);
+
+    /**
+     * Reset the metrics of the cache.
+     */
+    void reset();
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the metrics of a single branding cache, in total and per tenant. Only a bounded number of tenants are
+ * tracked individually, the tenants seen after the limit is reached are only counted in the totals.
+ * <p>
+ * The entry counts are estimated from the puts and invalidations done through this node, since the underlying
+ * cache does not expose its size. Entries expired or evicted by the cache itself are not reflected in them.
+ */
+public class CacheMetricsRecorder implements CacheMetricsMXBean {
+
+    private final String cacheName;
+    private final int maxTrackedTenants;
+    private final int defaultTopTenantCount;
+    private final Counters totals = new Counters();
+    private final Map<String, Counters> tenantCounters = new ConcurrentHashMap<>();
+    private final LongAccumulator maxLoadTimeNano = new LongAccumulator(Long::max, 0);
+    private final LongAccumulator maxDecodeTimeNano = new LongAccumulator(Long::max, 0);
+
+    CacheMetricsRecorder(String cacheName, int maxTrackedTenants, int defaultTopTenantCount) {
+
+        this.cacheName = cacheName;
+        this.maxTrackedTenants = maxTrackedTenants;
+        this.defaultTopTenantCount = defaultTopTenantCount;
+    }
+
+    void recordHit(String tenantDomain) {
+
+        totals.hits.increment();
+        Counters counters = getTenantCounters(tenantDomain);
+        if (counters != null) {
+            counters.hits.increment();
+        }
+    }
+
+    void recordMiss(String tenantDomain) {
+
+        totals.misses.increment();
+        Counters counters = getTenantCounters(tenantDomain);
+        if (counters != null) {
+            counters.misses.increment();
+        }
+    }
+
+    void recordPut(String tenantDomain) {
+
+        totals.puts.increment();
+        totals.entries.incrementAndGet();
+        Counters counters = getTenantCounters(tenantDomain);
+        if (counters != null) {
+            counters.puts.increment();
+            counters.entries.incrementAndGet();
+        }
+    }
+
+    void recordInvalidation(String tenantDomain) {
+
+        totals.invalidations.increment();
+        decrementEntries(totals.entries, 1);
+        Counters counters = getTenantCounters(tenantDomain);
+        if (counters != null) {
+            counters.invalidations.increment();
+            decrementEntries(counters.entries, 1);
+        }
+    }
+
+    void recordClear(String tenantDomain) {
+
+        totals.invalidations.increment();
+        Counters counters = tenantDomain == null ? null : tenantCounters.get(tenantDomain);
+        if (counters != null) {
+            counters.invalidations.increment();
+            decrementEntries(totals.entries, counters.entries.getAndSet(0));
+        }
+    }
+
+    void recordEviction() {
+
+        totals.evictions.increment();
+    }
+
+    void recordCoalescedLoad() {
+
+        totals.coalescedLoads.increment();
+    }
+
+    void recordTimedOutLoadWait() {
+
+        totals.timedOutLoadWaits.increment();
+    }
+
+    void recordLoad(String tenantDomain, long loadTimeNano) {
+
+        totals.loads.increment();
+        totals.loadTimeNano.add(loadTimeNano);
+        maxLoadTimeNano.accumulate(loadTimeNano);
+        Counters counters = getTenantCounters(tenantDomain);
+        if (counters != null) {
+            counters.loads.increment();
+            counters.loadTimeNano.add(loadTimeNano);
+        }
+    }
+
+    void recordDecode(long decodeTimeNano) {
+
+        totals.decodes.increment();
+        totals.decodeTimeNano.add(decodeTimeNano);
+        maxDecodeTimeNano.accumulate(decodeTimeNano);
+    }
+
+    /**
+     * Get the point in time metrics of the cache.
+     *
+     * @param topTenantCount Maximum number of tenants to include in the snapshot.
+     * @return Cache metrics snapshot.
+     */
+    public CacheMetricsSnapshot getSnapshot(int topTenantCount) {
+
+        return new CacheMetricsSnapshot(cacheName, totals.hits.sum(), totals.misses.sum(), totals.puts.sum(),
+                totals.invalidations.sum(), totals.evictions.sum(), totals.loads.sum(),
+                totals.getAverageLoadTimeMillis(), getMaxLoadTimeMillis(), totals.coalescedLoads.sum(),
+                totals.timedOutLoadWaits.sum(), totals.decodes.sum(), totals.getAverageDecodeTimeMillis(),
+                getMaxDecodeTimeMillis(), totals.entries.get(), listTopTenants(topTenantCount));
+    }
+
+    @Override
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return totals.hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return totals.misses.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+
+        long hitCount = totals.hits.sum();
+        long requestCount = hitCount + totals.misses.sum();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public long getPutCount() {
+
+        return totals.puts.sum();
+    }
+
+    @Override
+    public long getInvalidationCount() {
+
+        return totals.invalidations.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+
+        return totals.evictions.sum();
+    }
+
+    @Override
+    public long getLoadCount() {
+
+        return totals.loads.sum();
+    }
+
+    @Override
+    public double getAverageLoadTimeMillis() {
+
+        return totals.getAverageLoadTimeMillis();
+    }
+
+    @Override
+    public double getMaxLoadTimeMillis() {
+
+        return toMillis(maxLoadTimeNano.get());
+    }
+
+    @Override
+    public long getCoalescedLoadCount() {
+
+        return totals.coalescedLoads.sum();
+    }
+
+    @Override
+    public long getTimedOutLoadWaitCount() {
+
+        return totals.timedOutLoadWaits.sum();
+    }
+
+    @Override
+    public long getDecodeCount() {
+
+        return totals.decodes.sum();
+    }
+
+    @Override
+    public double getAverageDecodeTimeMillis() {
+
+        return totals.getAverageDecodeTimeMillis();
+    }
+
+    @Override
+    public double getMaxDecodeTimeMillis() {
+
+        return toMillis(maxDecodeTimeNano.get());
+    }
+
+    @Override
+    public long getEstimatedEntryCount() {
+
+        return totals.entries.get();
+    }
+
+    @Override
+    public List<TenantCacheMetricsSnapshot> getTopTenants() {
+
+        return listTopTenants(defaultTopTenantCount);
+    }
+
+    @Override
+    public List<TenantCacheMetricsSnapshot> listTopTenants(int count) {
+
+        List<TenantCacheMetricsSnapshot> tenantSnapshots = new ArrayList<>();
+        if (count <= 0) {
+            return tenantSnapshots;
+        }
+        for (Map.Entry<String, Counters> tenantEntry : tenantCounters.entrySet()) {
+            Counters counters = tenantEntry.getValue();
+            tenantSnapshots.add(new TenantCacheMetricsSnapshot(tenantEntry.getKey(), counters.hits.sum(),
+                    counters.misses.sum(), counters.loads.sum(), counters.getAverageLoadTimeMillis(),
+                    counters.entries.get()));
+        }
+        tenantSnapshots.sort(Comparator.comparingLong(TenantCacheMetricsSnapshot::getRequestCount).reversed());
+        return tenantSnapshots.size() > count ? new ArrayList<>(tenantSnapshots.subList(0, count)) : tenantSnapshots;
+    }
+
+    @Override
+    public void reset() {
+
+        // Entry counts are estimates of the current cache content, hence they are not reset.
+        totals.reset();
+        maxLoadTimeNano.reset();
+        maxDecodeTimeNano.reset();
+        tenantCounters.values().forEach(Counters::reset);
+    }
+
+    private Counters getTenantCounters(String tenantDomain) {
+
+        if (tenantDomain == null) {
+            return null;
+        }
+        Counters counters = tenantCounters.get(tenantDomain);
+        if (counters == null && tenantCounters.size() < maxTrackedTenants) {
+            counters = tenantCounters.computeIfAbsent(tenantDomain, key -> new Counters());
+        }
+        return counters;
+    }
+
+    private static void decrementEntries(AtomicLong entries, long count) {
+
+        entries.updateAndGet(current -> Math.max(0, current - count));
+    }
+
+    private static double toMillis(long timeNano) {
+
+        return (double) timeNano / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Counters of the cache or of a single tenant in the cache.
+     */
+    private static class Counters {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder puts = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadTimeNano = new LongAdder();
+        private final LongAdder coalescedLoads = new LongAdder();
+        private final LongAdder timedOutLoadWaits = new LongAdder();
+        private final LongAdder decodes = new LongAdder();
+        private final LongAdder decodeTimeNano = new LongAdder();
+        private final AtomicLong entries = new AtomicLong();
+
+        private double getAverageLoadTimeMillis() {
+
+            long loadCount = loads.sum();
+            return loadCount == 0 ? 0 : toMillis(loadTimeNano.sum()) / loadCount;
+        }
+
+        private double getAverageDecodeTimeMillis() {
+
+            long decodeCount = decodes.sum();
+            return decodeCount == 0 ? 0 : toMillis(decodeTimeNano.sum()) / decodeCount;
+        }
+
+        private void reset() {
+
+            hits.reset();
+            misses.reset();
+            puts.reset();
+            invalidations.reset();
+            evictions.reset();
+            loads.reset();
+            loadTimeNano.reset();
+            coalescedLoads.reset();
+            timedOutLoadWaits.reset();
+            decodes.reset();
+            decodeTimeNano.reset();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Point in time metrics of a branding cache, including the tenants with the most cache lookups.
+ */
+public class CacheMetricsSnapshot {
+
+    private final String cacheName;
+    private final long hitCount;
+    private final long missCount;
+    private final long putCount;
+    private final long invalidationCount;
+    private final long evictionCount;
+    private final long loadCount;
+    private final double averageLoadTimeMillis;
+    private final double maxLoadTimeMillis;
+    private final long coalescedLoadCount;
+    private final long timedOutLoadWaitCount;
+    private final long decodeCount;
+    private final double averageDecodeTimeMillis;
+    private final double maxDecodeTimeMillis;
+    private final long estimatedEntryCount;
+    private final List<TenantCacheMetricsSnapshot> topTenants;
+
+    public CacheMetricsSnapshot(String cacheName, long hitCount, long missCount, long putCount,
+                                long invalidationCount, long evictionCount, long loadCount,
+                                double averageLoadTimeMillis, double maxLoadTimeMillis, long coalescedLoadCount,
+                                long timedOutLoadWaitCount, long decodeCount, double averageDecodeTimeMillis,
+                                double maxDecodeTimeMillis, long estimatedEntryCount,
+                                List<TenantCacheMetricsSnapshot> topTenants) {
+
+        this.cacheName = cacheName;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+        this.invalidationCount = invalidationCount;
+        this.evictionCount = evictionCount;
+        this.loadCount = loadCount;
+        this.averageLoadTimeMillis = averageLoadTimeMillis;
+        this.maxLoadTimeMillis = maxLoadTimeMillis;
+        this.coalescedLoadCount = coalescedLoadCount;
+        this.timedOutLoadWaitCount = timedOutLoadWaitCount;
+        this.decodeCount = decodeCount;
+        this.averageDecodeTimeMillis = averageDecodeTimeMillis;
+        this.maxDecodeTimeMillis = maxDecodeTimeMillis;
+        this.estimatedEntryCount = estimatedEntryCount;
+        this.topTenants = Collections.unmodifiableList(topTenants);
+    }
+
+    public String getCacheName() {
+
+        return cacheName;
+    }
+
+    public long getHitCount() {
+
+        return hitCount;
+    }
+
+    public long getMissCount() {
+
+        return missCount;
+    }
+
+    public double getHitRatio() {
+
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    public long getPutCount() {
+
+        return putCount;
+    }
+
+    public long getInvalidationCount() {
+
+        return invalidationCount;
+    }
+
+    public long getEvictionCount() {
+
+        return evictionCount;
+    }
+
+    public long getLoadCount() {
+
+        return loadCount;
+    }
+
+    public double getAverageLoadTimeMillis() {
+
+        return averageLoadTimeMillis;
+    }
+
+    public double getMaxLoadTimeMillis() {
+
+        return maxLoadTimeMillis;
+    }
+
+    public long getCoalescedLoadCount() {
+
+        return coalescedLoadCount;
+    }
+
+    public long getTimedOutLoadWaitCount() {
+
+        return timedOutLoadWaitCount;
+    }
+
+    public long getDecodeCount() {
+
+        return decodeCount;
+    }
+
+    public double getAverageDecodeTimeMillis() {
+
+        return averageDecodeTimeMillis;
+    }
+
+    public double getMaxDecodeTimeMillis() {
+
+        return maxDecodeTimeMillis;
+    }
+
+    public long getEstimatedEntryCount() {
+
+        return estimatedEntryCount;
+    }
+
+    public List<TenantCacheMetricsSnapshot> getTopTenants() {
+
+        return topTenants;
+    }
+}
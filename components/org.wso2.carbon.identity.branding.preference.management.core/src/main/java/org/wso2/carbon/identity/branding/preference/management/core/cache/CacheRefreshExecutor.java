@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_REFRESH_POOL_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_REFRESH_POOL_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_REFRESH_QUEUE_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_REFRESH_QUEUE_SIZE_DEFAULT;
+
+/**
+ * Bounded executor which refreshes the stale entries of the branding caches in the background. At most one refresh
+ * of a cache entry is pending at a time, and a refresh is dropped when the executor has no capacity for it, since the
+ * stale entry is still served until the entry expires. The tenant state of the submitting thread's carbon context is
+ * restored in a tenant flow before each refresh runs.
+ */
+public class CacheRefreshExecutor {
+
+    private static final Log LOG = LogFactory.getLog(CacheRefreshExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "branding-cache-refresh-";
+    private static volatile CacheRefreshExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final Set<Object> pendingRefreshes = ConcurrentHashMap.newKeySet();
+    private final LongAdder scheduledCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private CacheRefreshExecutor() {
+
+        int poolSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(CACHE_REFRESH_POOL_SIZE_CONFIG_KEY,
+                CACHE_REFRESH_POOL_SIZE_DEFAULT);
+        int queueSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(CACHE_REFRESH_QUEUE_SIZE_CONFIG_KEY,
+                CACHE_REFRESH_QUEUE_SIZE_DEFAULT);
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Getting the singleton instance of CacheRefreshExecutor.
+     *
+     * @return CacheRefreshExecutor instance.
+     */
+    public static CacheRefreshExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (CacheRefreshExecutor.class) {
+                if (instance == null) {
+                    instance = new CacheRefreshExecutor();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the executor. A new executor is created on the next {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (CacheRefreshExecutor.class) {
+            if (instance != null) {
+                instance.executor.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Run the given refresh in the background in the tenant context of the calling thread, unless a refresh of the
+     * same key is already pending.
+     *
+     * @param refreshKey Key which identifies the refreshed cache entry.
+     * @param refresh    Refresh to be run.
+     * @return True if the refresh is scheduled.
+     */
+    public boolean submit(Object refreshKey, Refresh refresh) {
+
+        if (!pendingRefreshes.add(refreshKey)) {
+            skippedCount.increment();
+            return false;
+        }
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        String organizationId = carbonContext.getOrganizationId();
+        try {
+            executor.execute(() -> {
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext threadLocalCarbonContext =
+                            PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    threadLocalCarbonContext.setTenantDomain(tenantDomain);
+                    threadLocalCarbonContext.setTenantId(tenantId);
+                    threadLocalCarbonContext.setUsername(username);
+                    threadLocalCarbonContext.setOrganizationId(organizationId);
+                    refresh.refresh();
+                    completedCount.increment();
+                } catch (BrandingPreferenceMgtException | RuntimeException e) {
+                    failedCount.increment();
+                    LOG.warn("Error while refreshing the branding cache entry: " + refreshKey + " of tenant: " +
+                            tenantDomain, e);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                    pendingRefreshes.remove(refreshKey);
+                }
+            });
+            scheduledCount.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingRefreshes.remove(refreshKey);
+            rejectedCount.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Branding cache refresh executor has no capacity to refresh: " + refreshKey +
+                        ". The stale entry is served until it expires.");
+            }
+            return false;
+        }
+    }
+
+    public int getPendingCount() {
+
+        return pendingRefreshes.size();
+    }
+
+    public long getScheduledCount() {
+
+        return scheduledCount.sum();
+    }
+
+    public long getSkippedCount() {
+
+        return skippedCount.sum();
+    }
+
+    public long getCompletedCount() {
+
+        return completedCount.sum();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    public long getRejectedCount() {
+
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Refresh which reloads a cache entry and adds it back to the cache.
+     */
+    @FunctionalInterface
+    public interface Refresh {
+
+        void refresh() throws BrandingPreferenceMgtException;
+    }
+}
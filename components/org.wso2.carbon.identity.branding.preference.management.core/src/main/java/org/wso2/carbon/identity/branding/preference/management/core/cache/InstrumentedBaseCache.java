@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.core.model.IdentityCacheConfig;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_REFRESH_HARD_TIMEOUT_CONFIG_KEY_FORMAT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_REFRESH_SOFT_TIMEOUT_CONFIG_KEY_FORMAT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CACHE_TIMEOUT_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_RETENTION_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_RETENTION_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.IDENTITY_CACHE_MANAGER_NAME;
+
+/**
+ * Base cache which records the hits, misses, puts, invalidations and load times of a branding cache in the
+ * {@link BrandingCacheMetrics}.
+ * <p>
+ * The cache can also be configured with soft and hard timeouts for its {@link TimestampedCacheEntry} values. A value
+ * older than the hard timeout is treated as a miss, while a value older than the soft timeout is still served and
+ * can be refreshed in the background through {@link #refreshIfStale}. Explicit invalidations evict the values
+ * immediately regardless of the timeouts.
+ * <p>
+ * The values of a tenant can also be invalidated only on this node through {@link #invalidateLocally}, which treats
+ * the {@link TimestampedCacheEntry} values cached before the invalidation as misses. This allows the invalidations of
+ * many tenants to be sent to the other cluster nodes in a single message instead of one message per cache entry.
+ * The invalidation times are retained at least as long as the timeout of the underlying cache, after which the values
+ * cached before them have expired.
+ *
+ * @param <K> Cache key type.
+ * @param <V> Cache value type.
+ */
+public abstract class InstrumentedBaseCache<K extends Serializable, V extends Serializable> extends BaseCache<K, V> {
+
+    // Invalidations are counted in stripes of tenants to detect the ones done while refreshing a value.
+    private static final int INVALIDATION_COUNT_STRIPES = 64;
+
+    private final String cacheName;
+    private final CacheMetricsRecorder metricsRecorder;
+    private final long softTimeoutInMillis;
+    private final long hardTimeoutInMillis;
+    private final AtomicLongArray invalidationCounts = new AtomicLongArray(INVALIDATION_COUNT_STRIPES);
+    private final ConcurrentMap<String, Long> localInvalidationTimes = new ConcurrentHashMap<>();
+    private final long localInvalidationRetentionInMillis;
+    private volatile long localInvalidationPruneTime = System.currentTimeMillis();
+
+    protected InstrumentedBaseCache(String cacheName) {
+
+        super(cacheName);
+        this.cacheName = cacheName;
+        this.metricsRecorder = BrandingCacheMetrics.getInstance().getMetricsRecorder(cacheName);
+        this.softTimeoutInMillis = TimeUnit.SECONDS.toMillis(BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                String.format(CACHE_REFRESH_SOFT_TIMEOUT_CONFIG_KEY_FORMAT, cacheName), 0));
+        this.hardTimeoutInMillis = TimeUnit.SECONDS.toMillis(BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                String.format(CACHE_REFRESH_HARD_TIMEOUT_CONFIG_KEY_FORMAT, cacheName), 0));
+        this.localInvalidationRetentionInMillis = TimeUnit.SECONDS.toMillis(Math.max(getCacheTimeout(cacheName),
+                BrandingPreferenceMgtUtils.getPositiveIntegerConfig(CLUSTER_INVALIDATION_RETENTION_CONFIG_KEY,
+                        CLUSTER_INVALIDATION_RETENTION_DEFAULT)));
+    }
+
+    @Override
+    public V getValueFromCache(K key, String tenantDomain) {
+
+        V cachedValue = super.getValueFromCache(key, tenantDomain);
+        if (isOlderThan(cachedValue, hardTimeoutInMillis) || isLocallyInvalidated(cachedValue, tenantDomain)) {
+            cachedValue = null;
+        }
+        V value = resolveCachedValue(key, cachedValue);
+        if (isEnabled()) {
+            if (value == null) {
+                metricsRecorder.recordMiss(tenantDomain);
+            } else {
+                metricsRecorder.recordHit(tenantDomain);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void addToCache(K key, V entry, String tenantDomain) {
+
+        setCachedTime(entry);
+        super.addToCache(key, entry, tenantDomain);
+        if (isEnabled()) {
+            metricsRecorder.recordPut(tenantDomain);
+        }
+    }
+
+    @Override
+    public void addToCacheOnRead(K key, V entry, String tenantDomain) {
+
+        setCachedTime(entry);
+        super.addToCacheOnRead(key, entry, tenantDomain);
+        if (isEnabled()) {
+            metricsRecorder.recordPut(tenantDomain);
+        }
+    }
+
+    @Override
+    public void clearCacheEntry(K key, String tenantDomain) {
+
+        super.clearCacheEntry(key, tenantDomain);
+        invalidationCounts.incrementAndGet(getInvalidationCountStripe(tenantDomain));
+        if (isEnabled()) {
+            metricsRecorder.recordInvalidation(tenantDomain);
+        }
+    }
+
+    @Override
+    public void clear(String tenantDomain) {
+
+        super.clear(tenantDomain);
+        invalidationCounts.incrementAndGet(getInvalidationCountStripe(tenantDomain));
+        if (isEnabled()) {
+            metricsRecorder.recordClear(tenantDomain);
+        }
+    }
+
+    @Override
+    public void clear(int tenantId) {
+
+        super.clear(tenantId);
+        for (int i = 0; i < INVALIDATION_COUNT_STRIPES; i++) {
+            invalidationCounts.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * Invalidate the values of the given tenant only on this node, without notifying the other cluster nodes. The
+     * values cached before the invalidation are treated as misses until they are replaced.
+     *
+     * @param tenantDomain Tenant domain of the values.
+     */
+    public void invalidateLocally(String tenantDomain) {
+
+        long now = System.currentTimeMillis();
+        if (now - localInvalidationPruneTime > localInvalidationRetentionInMillis) {
+            // Values older than the retention have expired from the underlying cache.
+            localInvalidationPruneTime = now;
+            localInvalidationTimes.values().removeIf(time -> now - time > localInvalidationRetentionInMillis);
+        }
+        localInvalidationTimes.merge(tenantDomain, now, Math::max);
+        invalidationCounts.incrementAndGet(getInvalidationCountStripe(tenantDomain));
+        if (isEnabled()) {
+            metricsRecorder.recordClear(tenantDomain);
+        }
+    }
+
+    /**
+     * Refresh the given value in the background if it is older than the soft timeout of the cache. The stale value
+     * keeps being served until the refresh adds the reloaded value to the cache.
+     *
+     * @param key          Cache key.
+     * @param value        Value returned for the key by {@link #getValueFromCache}.
+     * @param tenantDomain Tenant domain of the value.
+     * @param refresh      Refresh which reloads the value and adds it to the cache.
+     */
+    public void refreshIfStale(K key, V value, String tenantDomain, CacheRefreshExecutor.Refresh refresh) {
+
+        if (!isEnabled() || !isOlderThan(value, softTimeoutInMillis)) {
+            return;
+        }
+        int stripe = getInvalidationCountStripe(tenantDomain);
+        long invalidationCount = invalidationCounts.get(stripe);
+        CacheRefreshExecutor.getInstance().submit(new AbstractMap.SimpleImmutableEntry<>(cacheName, key), () -> {
+            refresh.refresh();
+            if (invalidationCounts.get(stripe) != invalidationCount) {
+                // The refreshed value may have been loaded before an invalidation done while refreshing.
+                clearCacheEntry(key, tenantDomain);
+            }
+        });
+    }
+
+    /**
+     * Resolve the value returned for a lookup from the value found in the underlying cache. A cache which keeps
+     * its values outside the underlying cache can override this to return null for the values it no longer has.
+     *
+     * @param key         Cache key.
+     * @param cachedValue Value found in the underlying cache.
+     * @return Value to return for the lookup.
+     */
+    protected V resolveCachedValue(K key, V cachedValue) {
+
+        return cachedValue;
+    }
+
+    /**
+     * Record a value evicted by the cache to stay within its capacity.
+     */
+    protected void recordEviction() {
+
+        metricsRecorder.recordEviction();
+    }
+
+    /**
+     * Record the time taken to load a value of this cache from the underlying source after a cache miss.
+     *
+     * @param tenantDomain Tenant domain of the loaded value.
+     * @param loadTimeNano Load time in nanoseconds.
+     */
+    public void recordLoadTime(String tenantDomain, long loadTimeNano) {
+
+        metricsRecorder.recordLoad(tenantDomain, loadTimeNano);
+    }
+
+    /**
+     * Record the time taken to decode a value of this cache after it is read from the cache.
+     *
+     * @param decodeTimeNano Decode time in nanoseconds.
+     */
+    public void recordDecodeTime(long decodeTimeNano) {
+
+        metricsRecorder.recordDecode(decodeTimeNano);
+    }
+
+    /**
+     * Record a load of this cache which joined an in-flight load of the same key instead of loading directly.
+     */
+    public void recordCoalescedLoad() {
+
+        metricsRecorder.recordCoalescedLoad();
+    }
+
+    /**
+     * Record a joined load of this cache which timed out while waiting and loaded directly.
+     */
+    public void recordTimedOutLoadWait() {
+
+        metricsRecorder.recordTimedOutLoadWait();
+    }
+
+    private boolean isLocallyInvalidated(Object value, String tenantDomain) {
+
+        if (localInvalidationTimes.isEmpty() || tenantDomain == null || !(value instanceof TimestampedCacheEntry)) {
+            return false;
+        }
+        Long invalidationTime = localInvalidationTimes.get(tenantDomain);
+        return invalidationTime != null && ((TimestampedCacheEntry) value).getCachedTime() <= invalidationTime;
+    }
+
+    /**
+     * Get the timeout of the underlying cache, after which its values expire.
+     *
+     * @param cacheName Cache name.
+     * @return Cache timeout in seconds.
+     */
+    private static int getCacheTimeout(String cacheName) {
+
+        IdentityCacheConfig identityCacheConfig =
+                IdentityUtil.getIdentityCacheConfig(IDENTITY_CACHE_MANAGER_NAME, cacheName);
+        if (identityCacheConfig != null && identityCacheConfig.getTimeout() > 0) {
+            return identityCacheConfig.getTimeout();
+        }
+        return CACHE_TIMEOUT_DEFAULT;
+    }
+
+    private static void setCachedTime(Object entry) {
+
+        if (entry instanceof TimestampedCacheEntry) {
+            ((TimestampedCacheEntry) entry).setCachedTime(System.currentTimeMillis());
+        }
+    }
+
+    private static boolean isOlderThan(Object value, long timeoutInMillis) {
+
+        if (timeoutInMillis <= 0 || !(value instanceof TimestampedCacheEntry)) {
+            return false;
+        }
+        long cachedTime = ((TimestampedCacheEntry) value).getCachedTime();
+        return cachedTime > 0 && System.currentTimeMillis() - cachedTime >= timeoutInMillis;
+    }
+
+    private static int getInvalidationCountStripe(String tenantDomain) {
+
+        return tenantDomain == null ? 0 : Math.floorMod(tenantDomain.hashCode(), INVALIDATION_COUNT_STRIPES);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+/**
+ * Point in time metrics of a single tenant in a branding cache.
+ */
+public class TenantCacheMetricsSnapshot {
+
+    private final String tenantDomain;
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final double averageLoadTimeMillis;
+    private final long estimatedEntryCount;
+
+    public TenantCacheMetricsSnapshot(String tenantDomain, long hitCount, long missCount, long loadCount,
+                                      double averageLoadTimeMillis, long estimatedEntryCount) {
+
+        this.tenantDomain = tenantDomain;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.averageLoadTimeMillis = averageLoadTimeMillis;
+        this.estimatedEntryCount = estimatedEntryCount;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public long getHitCount() {
+
+        return hitCount;
+    }
+
+    public long getMissCount() {
+
+        return missCount;
+    }
+
+    public long getRequestCount() {
+
+        return hitCount + missCount;
+    }
+
+    public long getLoadCount() {
+
+        return loadCount;
+    }
+
+    public double getAverageLoadTimeMillis() {
+
+        return averageLoadTimeMillis;
+    }
+
+    public long getEstimatedEntryCount() {
+
+        return estimatedEntryCount;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry which records the time it was added to an {@link InstrumentedBaseCache}, so that the cache can tell
+ * whether the entry has outlived its soft or hard timeout.
+ */
+public abstract class TimestampedCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 6206139184227459470L;
+
+    private long cachedTime;
+
+    /**
+     * @return Time in milliseconds since epoch at which the entry was added to the cache, or 0 if it is not known.
+     */
+    public long getCachedTime() {
+
+        return cachedTime;
+    }
+
+    /**
+     * @param cachedTime Time in milliseconds since epoch at which the entry was added to the cache.
+     */
+    public void setCachedTime(long cachedTime) {
+
+        this.cachedTime = cachedTime;
+    }
+}
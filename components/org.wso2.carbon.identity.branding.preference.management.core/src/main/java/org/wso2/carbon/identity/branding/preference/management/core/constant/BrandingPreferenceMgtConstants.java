@@ -52,9 +52,102 @@ public class BrandingPreferenceMgtConstants {
     public static final String CUSTOM_CONTENT_SIZE_LIMIT_CONFIG_KEY =
             "BrandingConfiguration.CustomContent.MaxFileSize";
     public static final int CUSTOM_CONTENT_SIZE_LIMIT_DEFAULT = 1048576; // 1 MB
+    public static final String CUSTOM_CONTENT_CACHE_MAX_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.CustomContent.CacheMaxSize";
+    public static final int CUSTOM_CONTENT_CACHE_MAX_SIZE_DEFAULT = 104857600; // 100 MB
+    public static final String CUSTOM_CONTENT_CACHE_OFF_HEAP_CONFIG_KEY =
+            "BrandingConfiguration.CustomContent.CacheOffHeap";
+    public static final String RESOLVER_TOMBSTONE_TIMEOUT_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.NotConfiguredCacheTimeout";
+    public static final int RESOLVER_TOMBSTONE_TIMEOUT_DEFAULT = 300; // 5 minutes
+    public static final String RESOLVER_BATCHED_ANCESTOR_LOOKUP_ENABLED_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.BatchedAncestorLookup.Enable";
+    public static final String RESOLVER_GENERATION_INVALIDATION_ENABLED_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.GenerationInvalidation.Enable";
+    public static final String RESOLVER_IN_FLIGHT_LOAD_WAIT_TIMEOUT_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.InFlightLoadWaitTimeout";
+    public static final int RESOLVER_IN_FLIGHT_LOAD_WAIT_TIMEOUT_DEFAULT = 3000; // 3 seconds
+    public static final String RESOLVER_ASYNC_POOL_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.AsyncExecutor.PoolSize";
+    public static final int RESOLVER_ASYNC_POOL_SIZE_DEFAULT = 20;
+    public static final String RESOLVER_ASYNC_QUEUE_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.AsyncExecutor.QueueSize";
+    public static final int RESOLVER_ASYNC_QUEUE_SIZE_DEFAULT = 1000;
+    public static final String RESOLVER_ASYNC_VIRTUAL_THREADS_ENABLED_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.AsyncExecutor.VirtualThreads.Enable";
+    public static final String RESOLVER_WARM_UP_ENABLED_CONFIG_KEY = "BrandingConfiguration.Resolver.WarmUp.Enable";
+    public static final String RESOLVER_WARM_UP_SNAPSHOT_FILE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.WarmUp.SnapshotFile";
+    public static final String RESOLVER_WARM_UP_SNAPSHOT_INTERVAL_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.WarmUp.SnapshotInterval";
+    public static final int RESOLVER_WARM_UP_SNAPSHOT_INTERVAL_DEFAULT = 300; // 5 minutes
+    public static final String RESOLVER_WARM_UP_SNAPSHOT_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.WarmUp.SnapshotSize";
+    public static final int RESOLVER_WARM_UP_SNAPSHOT_SIZE_DEFAULT = 1000;
+    public static final String RESOLVER_WARM_UP_RATE_CONFIG_KEY = "BrandingConfiguration.Resolver.WarmUp.RatePerSecond";
+    public static final int RESOLVER_WARM_UP_RATE_DEFAULT = 50;
+    public static final String RESOLVER_INVALIDATION_PARALLELISM_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.Parallelism";
+    public static final int RESOLVER_INVALIDATION_PARALLELISM_DEFAULT = 4;
+    public static final String RESOLVER_INVALIDATION_QUEUE_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.QueueSize";
+    public static final int RESOLVER_INVALIDATION_QUEUE_SIZE_DEFAULT = 100;
+    public static final String RESOLVER_INVALIDATION_VIRTUAL_THREADS_ENABLED_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.VirtualThreads.Enable";
+    public static final String RESOLVER_INVALIDATION_JOB_POOL_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.JobPoolSize";
+    public static final int RESOLVER_INVALIDATION_JOB_POOL_SIZE_DEFAULT = 1;
+    public static final String RESOLVER_INVALIDATION_JOB_QUEUE_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.JobQueueSize";
+    public static final int RESOLVER_INVALIDATION_JOB_QUEUE_SIZE_DEFAULT = 100;
+    public static final String RESOLVER_INVALIDATION_JOB_HISTORY_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.JobHistorySize";
+    public static final int RESOLVER_INVALIDATION_JOB_HISTORY_SIZE_DEFAULT = 100;
+    public static final String RESOLVER_INVALIDATION_CHECKPOINT_ENABLED_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.Checkpoint.Enable";
+    public static final String RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE = "BRANDING_INVALIDATION_CHECKPOINTS";
+    public static final String RESOLVER_INVALIDATION_PAGE_RETRY_COUNT_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.PageRetryCount";
+    public static final int RESOLVER_INVALIDATION_PAGE_RETRY_COUNT_DEFAULT = 3;
+    public static final String RESOLVER_INVALIDATION_JOB_RETRY_COUNT_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.HierarchyInvalidation.JobRetryCount";
+    public static final int RESOLVER_INVALIDATION_JOB_RETRY_COUNT_DEFAULT = 3;
+    public static final String RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_ENABLED_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.CustomTextInvalidation.Debounce.Enable";
+    public static final String RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_WINDOW_CONFIG_KEY =
+            "BrandingConfiguration.Resolver.CustomTextInvalidation.Debounce.Window";
+    public static final int RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_WINDOW_DEFAULT = 1000; // milliseconds
+    public static final String CACHE_METRICS_MAX_TRACKED_TENANTS_CONFIG_KEY =
+            "BrandingConfiguration.CacheMetrics.MaxTrackedTenants";
+    public static final int CACHE_METRICS_MAX_TRACKED_TENANTS_DEFAULT = 1000;
+    public static final String CACHE_METRICS_TOP_TENANT_COUNT_CONFIG_KEY =
+            "BrandingConfiguration.CacheMetrics.TopTenantCount";
+    public static final int CACHE_METRICS_TOP_TENANT_COUNT_DEFAULT = 10;
+    public static final String CACHE_REFRESH_SOFT_TIMEOUT_CONFIG_KEY_FORMAT =
+            "BrandingConfiguration.CacheRefresh.%s.SoftTimeout";
+    public static final String CACHE_REFRESH_HARD_TIMEOUT_CONFIG_KEY_FORMAT =
+            "BrandingConfiguration.CacheRefresh.%s.HardTimeout";
+    public static final String CACHE_REFRESH_POOL_SIZE_CONFIG_KEY = "BrandingConfiguration.CacheRefresh.PoolSize";
+    public static final int CACHE_REFRESH_POOL_SIZE_DEFAULT = 2;
+    public static final String CACHE_REFRESH_QUEUE_SIZE_CONFIG_KEY = "BrandingConfiguration.CacheRefresh.QueueSize";
+    public static final int CACHE_REFRESH_QUEUE_SIZE_DEFAULT = 100;
+    public static final String CLUSTER_INVALIDATION_BATCHING_ENABLE_CONFIG_KEY =
+            "BrandingConfiguration.ClusterInvalidation.Batching.Enable";
+    public static final String CLUSTER_INVALIDATION_BATCH_SIZE_CONFIG_KEY =
+            "BrandingConfiguration.ClusterInvalidation.BatchSize";
+    public static final int CLUSTER_INVALIDATION_BATCH_SIZE_DEFAULT = 500;
+    public static final String CLUSTER_INVALIDATION_FLUSH_INTERVAL_CONFIG_KEY =
+            "BrandingConfiguration.ClusterInvalidation.FlushInterval";
+    public static final int CLUSTER_INVALIDATION_FLUSH_INTERVAL_DEFAULT = 1000; // milliseconds
+    public static final String CLUSTER_INVALIDATION_RETENTION_CONFIG_KEY =
+            "BrandingConfiguration.ClusterInvalidation.Retention";
+    public static final int CLUSTER_INVALIDATION_RETENTION_DEFAULT = 900; // seconds
+    public static final String IDENTITY_CACHE_MANAGER_NAME = "IdentityApplicationManagementCacheManager";
+    public static final int CACHE_TIMEOUT_DEFAULT = 900; // seconds
 
     public static final String RESOURCE_NOT_EXISTS_ERROR_CODE = "CONFIGM_00017";
     public static final String RESOURCES_NOT_EXISTS_ERROR_CODE = "CONFIGM_00020";
+    public static final String RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE = "CONFIGM_00016";
     public static final String RESOURCE_ALREADY_EXISTS_ERROR_CODE = "CONFIGM_00013";
     public static final String SELF_SIGN_UP_URL = "selfSignUpURL";
     public static final String RECOVERY_PORTAL_URL = "recoveryPortalURL";
@@ -164,7 +257,11 @@ public class BrandingPreferenceMgtConstants {
                         "preference resolution."),
         ERROR_CODE_ERROR_RESOLVING_TENANT_FOR_CUSTOM_TEXT_PREFERENCE("BRANDINGM_00050",
                 "Error while resolving tenant domain for accessing organization: %s during custom text " +
-                        "preference resolution.");
+                        "preference resolution."),
+        ERROR_CODE_ASYNC_RESOLVE_CAPACITY_EXCEEDED("BRANDINGM_00051",
+                "Maximum number of pending asynchronous preference resolutions exceeded for tenant: %s."),
+        ERROR_CODE_IN_FLIGHT_LOAD_INTERRUPTED("BRANDINGM_00052",
+                "Interrupted while waiting for the in-flight load of: %s.");
 
         private final String code;
         private final String message;
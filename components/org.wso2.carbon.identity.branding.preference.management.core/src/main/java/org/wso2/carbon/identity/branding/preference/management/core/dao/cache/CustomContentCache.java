@@ -18,21 +18,42 @@
 
 package org.wso2.carbon.identity.branding.preference.management.core.dao.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.utils.CarbonUtils;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CUSTOM_CONTENT_CACHE_MAX_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CUSTOM_CONTENT_CACHE_MAX_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CUSTOM_CONTENT_CACHE_OFF_HEAP_CONFIG_KEY;
+
 /**
- * Cache for custom content.
+ * Cache for custom content. Since a custom content can be as large as a few megabytes, the contents are kept in a
+ * node local store bounded by their size, while the underlying cache only holds a reference to the content version.
+ * Hence, the cluster wide invalidations of the underlying cache still apply to the contents. The contents can
+ * optionally be kept in direct memory to keep large long-lived contents out of the heap.
  */
-public class CustomContentCache extends BaseCache<OrgCustomContentCacheKey, CustomContentCacheEntry> {
+public class CustomContentCache extends InstrumentedBaseCache<OrgCustomContentCacheKey, CustomContentCacheEntry> {
 
     private static final String CACHE_NAME = "BrandingCustomContentCache";
 
     private static final CustomContentCache INSTANCE = new CustomContentCache();
 
+    private final AtomicLong contentVersionSequence = new AtomicLong();
+    private final CustomContentWeightedStore contentStore;
+
     private CustomContentCache() {
 
         super(CACHE_NAME);
+        int maxSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(CUSTOM_CONTENT_CACHE_MAX_SIZE_CONFIG_KEY,
+                CUSTOM_CONTENT_CACHE_MAX_SIZE_DEFAULT);
+        if (BrandingPreferenceMgtUtils.getBooleanConfig(CUSTOM_CONTENT_CACHE_OFF_HEAP_CONFIG_KEY, false)) {
+            contentStore = new CustomContentWeightedStore(new CustomContentOffHeapArena(maxSize));
+        } else {
+            contentStore = new CustomContentWeightedStore(maxSize);
+        }
     }
 
     /**
@@ -45,4 +66,123 @@ public class CustomContentCache extends BaseCache<OrgCustomContentCacheKey, Cust
         CarbonUtils.checkSecurity();
         return INSTANCE;
     }
+
+    @Override
+    public void addToCache(OrgCustomContentCacheKey key, CustomContentCacheEntry entry, String tenantDomain) {
+
+        if (isEnabled()) {
+            super.addToCache(key, storeContent(key, entry, tenantDomain), tenantDomain);
+        }
+    }
+
+    @Override
+    public void addToCacheOnRead(OrgCustomContentCacheKey key, CustomContentCacheEntry entry, String tenantDomain) {
+
+        if (isEnabled()) {
+            super.addToCacheOnRead(key, storeContent(key, entry, tenantDomain), tenantDomain);
+        }
+    }
+
+    @Override
+    public void clearCacheEntry(OrgCustomContentCacheKey key, String tenantDomain) {
+
+        super.clearCacheEntry(key, tenantDomain);
+        contentStore.remove(key);
+    }
+
+    @Override
+    public void clear(String tenantDomain) {
+
+        super.clear(tenantDomain);
+        contentStore.removeTenant(tenantDomain);
+    }
+
+    @Override
+    public void clear(int tenantId) {
+
+        super.clear(tenantId);
+        contentStore.removeTenant(IdentityTenantUtil.getTenantDomain(tenantId));
+    }
+
+    @Override
+    protected CustomContentCacheEntry resolveCachedValue(OrgCustomContentCacheKey key,
+                                                         CustomContentCacheEntry cachedValue) {
+
+        if (cachedValue == null) {
+            return null;
+        }
+        // The content may have been evicted from the store while its reference is still in the cache.
+        CustomContentCacheEntry storedEntry = contentStore.get(key, cachedValue.getContentVersion());
+        if (storedEntry != null) {
+            storedEntry.setCachedTime(cachedValue.getCachedTime());
+        }
+        return storedEntry;
+    }
+
+    /**
+     * @return Capacity of the custom content store in bytes.
+     */
+    public long getMaxWeight() {
+
+        return contentStore.getMaxWeight();
+    }
+
+    /**
+     * @return Whether the custom contents are kept in direct memory.
+     */
+    public boolean isOffHeap() {
+
+        return contentStore.isOffHeap();
+    }
+
+    /**
+     * @return Estimated size of the stored compressed custom contents in bytes.
+     */
+    public long getWeight() {
+
+        return contentStore.getWeight();
+    }
+
+    /**
+     * @return Number of stored custom contents.
+     */
+    public int getStoredContentCount() {
+
+        return contentStore.getEntryCount();
+    }
+
+    /**
+     * @return Number of custom contents evicted to stay within the capacity.
+     */
+    public long getEvictionCount() {
+
+        return contentStore.getEvictionCount();
+    }
+
+    /**
+     * @return Estimated size of the custom contents evicted to stay within the capacity, in bytes.
+     */
+    public long getEvictedWeight() {
+
+        return contentStore.getEvictedWeight();
+    }
+
+    /**
+     * @return Number of custom contents not stored since they are larger than the capacity.
+     */
+    public long getRejectionCount() {
+
+        return contentStore.getRejectionCount();
+    }
+
+    private CustomContentCacheEntry storeContent(OrgCustomContentCacheKey key, CustomContentCacheEntry entry,
+                                                 String tenantDomain) {
+
+        long contentVersion = contentVersionSequence.incrementAndGet();
+        int evictedCount = contentStore.put(key, entry, contentVersion, tenantDomain);
+        for (int i = 0; i < evictedCount; i++) {
+            recordEviction();
+        }
+        return new CustomContentCacheEntry(contentVersion);
+    }
 }
@@ -18,30 +18,112 @@
 
 package org.wso2.carbon.identity.branding.preference.management.core.dao.cache;
 
+import org.wso2.carbon.identity.branding.preference.management.core.cache.TimestampedCacheEntry;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomLayoutContent;
-import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
- * Cache entry for custom content.
+ * Cache entry for custom content. The html, css and js contents are kept as deflate compressed UTF-8 bytes and are
+ * decoded each time the content is retrieved, since they are much smaller in that form.
  */
-public class CustomContentCacheEntry extends CacheEntry {
+public class CustomContentCacheEntry extends TimestampedCacheEntry {
+
+    private static final long serialVersionUID = -4578392012345678902L;
+    private static final int COMPRESSION_BUFFER_SIZE = 4096;
 
-    private static final long serialVersionUID = -4578392012345678901L;
-    private CustomLayoutContent customLayoutContent;
+    private CompressedText html;
+    private CompressedText css;
+    private CompressedText js;
+    private long contentVersion;
 
     public CustomContentCacheEntry(CustomLayoutContent customLayoutContent) {
 
-        this.customLayoutContent = customLayoutContent;
+        setCustomLayoutContent(customLayoutContent);
     }
 
     /**
-     * Get the custom layout content.
+     * Create an entry which refers to a content of the given version kept outside the cache.
+     *
+     * @param contentVersion Version of the referred content.
+     */
+    CustomContentCacheEntry(long contentVersion) {
+
+        this.contentVersion = contentVersion;
+    }
+
+    /**
+     * Get the version of the referred content.
+     *
+     * @return Content version.
+     */
+    long getContentVersion() {
+
+        return contentVersion;
+    }
+
+    /**
+     * Get the size of the compressed contents.
+     *
+     * @return Compressed size in bytes.
+     */
+    long getCompressedSize() {
+
+        return CompressedText.sizeOf(html) + CompressedText.sizeOf(css) + CompressedText.sizeOf(js);
+    }
+
+    /**
+     * Write the compressed contents of this entry to a byte array.
+     *
+     * @return Compressed contents.
+     */
+    byte[] toBytes() {
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) getCompressedSize() + 3 * CompressedText.HEADER_SIZE);
+        CompressedText.writeTo(html, buffer);
+        CompressedText.writeTo(css, buffer);
+        CompressedText.writeTo(js, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Create an entry from the compressed contents written by {@link #toBytes()}.
+     *
+     * @param bytes Compressed contents.
+     * @return Cache entry.
+     */
+    static CustomContentCacheEntry fromBytes(byte[] bytes) {
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CustomContentCacheEntry entry = new CustomContentCacheEntry(0L);
+        entry.html = CompressedText.readFrom(buffer);
+        entry.css = CompressedText.readFrom(buffer);
+        entry.js = CompressedText.readFrom(buffer);
+        return entry;
+    }
+
+    /**
+     * Get the custom layout content. The content is decoded on each invocation, hence the callers should retain
+     * the returned content rather than invoking this repeatedly.
      *
      * @return Custom layout content.
      */
     public CustomLayoutContent getCustomLayoutContent() {
 
-        return customLayoutContent;
+        if (html == null) {
+            return null;
+        }
+        return new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(html.decode())
+                .setCss(css == null ? null : css.decode())
+                .setJs(js == null ? null : js.decode())
+                .build();
     }
 
     /**
@@ -51,6 +133,100 @@ public class CustomContentCacheEntry extends CacheEntry {
      */
     public void setCustomLayoutContent(CustomLayoutContent customLayoutContent) {
 
-        this.customLayoutContent = customLayoutContent;
+        if (customLayoutContent == null) {
+            html = null;
+            css = null;
+            js = null;
+            return;
+        }
+        html = CompressedText.encode(customLayoutContent.getHtml());
+        css = CompressedText.encode(customLayoutContent.getCss());
+        js = CompressedText.encode(customLayoutContent.getJs());
+    }
+
+    /**
+     * Deflate compressed UTF-8 bytes of a text.
+     */
+    private static class CompressedText implements Serializable {
+
+        private static final long serialVersionUID = 3620385217467103452L;
+        // Length of the text and of the compressed bytes, where a length of -1 denotes an absent text.
+        private static final int HEADER_SIZE = 2 * Integer.BYTES;
+        private final byte[] bytes;
+        private final int length;
+
+        private CompressedText(byte[] bytes, int length) {
+
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        private static CompressedText encode(String text) {
+
+            if (text == null) {
+                return null;
+            }
+            byte[] input = text.getBytes(StandardCharsets.UTF_8);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(input);
+                deflater.finish();
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[COMPRESSION_BUFFER_SIZE];
+                while (!deflater.finished()) {
+                    outputStream.write(buffer, 0, deflater.deflate(buffer));
+                }
+                return new CompressedText(outputStream.toByteArray(), input.length);
+            } finally {
+                deflater.end();
+            }
+        }
+
+        private String decode() {
+
+            byte[] output = new byte[length];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(bytes);
+                int offset = 0;
+                while (offset < length && !inflater.finished()) {
+                    int inflated = inflater.inflate(output, offset, length - offset);
+                    if (inflated == 0 && inflater.needsInput()) {
+                        break;
+                    }
+                    offset += inflated;
+                }
+                if (offset != length) {
+                    throw new IllegalStateException("Truncated custom content found in the cache.");
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Invalid custom content found in the cache.", e);
+            } finally {
+                inflater.end();
+            }
+            return new String(output, StandardCharsets.UTF_8);
+        }
+
+        private static void writeTo(CompressedText text, ByteBuffer buffer) {
+
+            if (text == null) {
+                buffer.putInt(-1).putInt(0);
+                return;
+            }
+            buffer.putInt(text.length).putInt(text.bytes.length).put(text.bytes);
+        }
+
+        private static CompressedText readFrom(ByteBuffer buffer) {
+
+            int length = buffer.getInt();
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return length < 0 ? null : new CompressedText(bytes, length);
+        }
+
+        private static long sizeOf(CompressedText text) {
+
+            return text == null ? 0 : text.bytes.length;
+        }
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.dao.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded arena of direct memory holding custom contents outside the heap. The memory is reserved lazily in
+ * segments, which are split into fixed size blocks. A content is written to as many blocks as it needs, and the
+ * blocks are reused once the content is freed, so only the block numbers of a content are kept on the heap.
+ * <p>
+ * This class is not thread safe and is guarded by the {@link CustomContentWeightedStore} using it.
+ */
+class CustomContentOffHeapArena {
+
+    static final int BLOCK_SIZE = 4096;
+    private static final int BLOCKS_PER_SEGMENT = 256;
+    private static final int SEGMENT_SIZE = BLOCK_SIZE * BLOCKS_PER_SEGMENT;
+
+    private final int maxSegments;
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    private int[] freeBlocks = new int[BLOCKS_PER_SEGMENT];
+    private int freeBlockCount;
+
+    /**
+     * @param capacity Maximum direct memory to reserve in bytes, rounded down to a whole number of segments but
+     *                 not to less than one segment.
+     */
+    CustomContentOffHeapArena(long capacity) {
+
+        this.maxSegments = (int) Math.max(1, Math.min(Integer.MAX_VALUE / BLOCKS_PER_SEGMENT,
+                capacity / SEGMENT_SIZE));
+    }
+
+    /**
+     * Write the given content to free blocks, reserving a new segment if needed.
+     *
+     * @param content Content to write.
+     * @return Numbers of the blocks holding the content, or null if there are not enough free blocks.
+     */
+    int[] write(byte[] content) {
+
+        int blockCount = getBlockCount(content.length);
+        while (freeBlockCount < blockCount && segments.size() < maxSegments) {
+            reserveSegment();
+        }
+        if (freeBlockCount < blockCount) {
+            return null;
+        }
+        int[] blocks = new int[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blocks[i] = freeBlocks[--freeBlockCount];
+            int offset = i * BLOCK_SIZE;
+            getBlockBuffer(blocks[i]).put(content, offset, Math.min(BLOCK_SIZE, content.length - offset));
+        }
+        return blocks;
+    }
+
+    /**
+     * Read a content from the given blocks.
+     *
+     * @param blocks Numbers of the blocks holding the content.
+     * @param length Length of the content in bytes.
+     * @return Content.
+     */
+    byte[] read(int[] blocks, int length) {
+
+        byte[] content = new byte[length];
+        for (int i = 0; i < blocks.length; i++) {
+            int offset = i * BLOCK_SIZE;
+            getBlockBuffer(blocks[i]).get(content, offset, Math.min(BLOCK_SIZE, length - offset));
+        }
+        return content;
+    }
+
+    /**
+     * Release the given blocks to be reused.
+     *
+     * @param blocks Numbers of the blocks to release.
+     */
+    void free(int[] blocks) {
+
+        for (int block : blocks) {
+            freeBlocks[freeBlockCount++] = block;
+        }
+    }
+
+    /**
+     * @return Maximum direct memory the arena can reserve in bytes.
+     */
+    long getCapacity() {
+
+        return (long) maxSegments * SEGMENT_SIZE;
+    }
+
+    /**
+     * @return Direct memory reserved so far in bytes.
+     */
+    long getReservedSize() {
+
+        return (long) segments.size() * SEGMENT_SIZE;
+    }
+
+    static int getBlockCount(int length) {
+
+        return Math.max(1, (length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    }
+
+    private void reserveSegment() {
+
+        int firstBlock = segments.size() * BLOCKS_PER_SEGMENT;
+        segments.add(ByteBuffer.allocateDirect(SEGMENT_SIZE));
+        if (freeBlocks.length < freeBlockCount + BLOCKS_PER_SEGMENT) {
+            int[] grownFreeBlocks = new int[segments.size() * BLOCKS_PER_SEGMENT];
+            System.arraycopy(freeBlocks, 0, grownFreeBlocks, 0, freeBlockCount);
+            freeBlocks = grownFreeBlocks;
+        }
+        // Push in the reverse order so that the blocks of a new segment are handed out in order.
+        for (int block = firstBlock + BLOCKS_PER_SEGMENT - 1; block >= firstBlock; block--) {
+            freeBlocks[freeBlockCount++] = block;
+        }
+    }
+
+    /**
+     * Get a view of the segment of the given block, positioned at the start of the block. The absolute bulk
+     * operations of ByteBuffer are not available on Java 8, hence a positioned duplicate is used instead.
+     */
+    private ByteBuffer getBlockBuffer(int block) {
+
+        ByteBuffer blockBuffer = segments.get(block / BLOCKS_PER_SEGMENT).duplicate();
+        blockBuffer.position(getBlockOffset(block));
+        return blockBuffer;
+    }
+
+    private static int getBlockOffset(int block) {
+
+        return (block % BLOCKS_PER_SEGMENT) * BLOCK_SIZE;
+    }
+}
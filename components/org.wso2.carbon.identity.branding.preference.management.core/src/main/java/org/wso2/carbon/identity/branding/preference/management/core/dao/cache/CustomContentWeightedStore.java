@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.dao.cache;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Node local store of the custom layout contents, bounded by the estimated heap size of the contents. The least
+ * recently used contents are evicted once the capacity is exceeded.
+ * <p>
+ * When an off-heap arena is given, the compressed contents are kept in the arena instead of the heap and the store
+ * is bounded by the direct memory they take.
+ */
+class CustomContentWeightedStore {
+
+    // Estimated heap size of an entry excluding its compressed contents.
+    private static final long ENTRY_OVERHEAD = 192;
+
+    private final long maxWeight;
+    private final CustomContentOffHeapArena offHeapArena;
+    private final Map<OrgCustomContentCacheKey, StoredContent> contents = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long evictionCount;
+    private long evictedWeight;
+    private long rejectionCount;
+
+    CustomContentWeightedStore(long maxWeight) {
+
+        this.maxWeight = maxWeight;
+        this.offHeapArena = null;
+    }
+
+    CustomContentWeightedStore(CustomContentOffHeapArena offHeapArena) {
+
+        this.maxWeight = offHeapArena.getCapacity();
+        this.offHeapArena = offHeapArena;
+    }
+
+    /**
+     * Store the given content, evicting the least recently used contents if the capacity is exceeded. A content
+     * larger than the capacity is not stored.
+     *
+     * @param key          Cache key of the content.
+     * @param entry        Cache entry holding the content.
+     * @param version      Version of the content, which the lookups must match.
+     * @param tenantDomain Tenant domain of the content.
+     * @return Number of evicted contents.
+     */
+    synchronized int put(OrgCustomContentCacheKey key, CustomContentCacheEntry entry, long version,
+                          String tenantDomain) {
+
+        removeContent(key);
+        byte[] offHeapContent = offHeapArena == null ? null : entry.toBytes();
+        long entryWeight = offHeapContent == null ? weigh(entry) : weighOffHeap(offHeapContent.length);
+        if (entryWeight > maxWeight) {
+            rejectionCount++;
+            return 0;
+        }
+
+        int evictedCount = 0;
+        Iterator<Map.Entry<OrgCustomContentCacheKey, StoredContent>> iterator = contents.entrySet().iterator();
+        while (weight + entryWeight > maxWeight && iterator.hasNext()) {
+            StoredContent eldest = iterator.next().getValue();
+            iterator.remove();
+            release(eldest);
+            evictionCount++;
+            evictedWeight += eldest.weight;
+            evictedCount++;
+        }
+
+        if (offHeapContent == null) {
+            contents.put(key, new StoredContent(entry, version, entryWeight, tenantDomain));
+        } else {
+            contents.put(key, new StoredContent(offHeapArena.write(offHeapContent), offHeapContent.length, version,
+                    entryWeight, tenantDomain));
+        }
+        weight += entryWeight;
+        return evictedCount;
+    }
+
+    /**
+     * Get the stored content of the given version.
+     *
+     * @param key     Cache key of the content.
+     * @param version Expected version of the content.
+     * @return Cache entry holding the content or null if it is not stored or is of another version.
+     */
+    synchronized CustomContentCacheEntry get(OrgCustomContentCacheKey key, long version) {
+
+        StoredContent storedContent = contents.get(key);
+        if (storedContent == null || storedContent.version != version) {
+            return null;
+        }
+        if (storedContent.offHeapBlocks != null) {
+            return CustomContentCacheEntry.fromBytes(
+                    offHeapArena.read(storedContent.offHeapBlocks, storedContent.offHeapLength));
+        }
+        return storedContent.entry;
+    }
+
+    synchronized void remove(OrgCustomContentCacheKey key) {
+
+        removeContent(key);
+    }
+
+    /**
+     * Remove the stored contents of the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    synchronized void removeTenant(String tenantDomain) {
+
+        Iterator<Map.Entry<OrgCustomContentCacheKey, StoredContent>> iterator = contents.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<OrgCustomContentCacheKey, StoredContent> storedContent = iterator.next();
+            if (StringUtils.equals(storedContent.getValue().tenantDomain, tenantDomain)) {
+                iterator.remove();
+                release(storedContent.getValue());
+            }
+        }
+    }
+
+    long getMaxWeight() {
+
+        return maxWeight;
+    }
+
+    boolean isOffHeap() {
+
+        return offHeapArena != null;
+    }
+
+    synchronized long getWeight() {
+
+        return weight;
+    }
+
+    synchronized int getEntryCount() {
+
+        return contents.size();
+    }
+
+    synchronized long getEvictionCount() {
+
+        return evictionCount;
+    }
+
+    synchronized long getEvictedWeight() {
+
+        return evictedWeight;
+    }
+
+    synchronized long getRejectionCount() {
+
+        return rejectionCount;
+    }
+
+    /**
+     * Estimate the heap size of the given entry from the size of its compressed contents.
+     *
+     * @param entry Cache entry holding the content.
+     * @return Estimated heap size in bytes.
+     */
+    static long weigh(CustomContentCacheEntry entry) {
+
+        return ENTRY_OVERHEAD + entry.getCompressedSize();
+    }
+
+    /**
+     * Get the direct memory taken by an off-heap content of the given length.
+     *
+     * @param length Length of the content in bytes.
+     * @return Size of the arena blocks holding the content in bytes.
+     */
+    static long weighOffHeap(int length) {
+
+        return (long) CustomContentOffHeapArena.getBlockCount(length) * CustomContentOffHeapArena.BLOCK_SIZE;
+    }
+
+    private void removeContent(OrgCustomContentCacheKey key) {
+
+        StoredContent storedContent = contents.remove(key);
+        if (storedContent != null) {
+            release(storedContent);
+        }
+    }
+
+    private void release(StoredContent storedContent) {
+
+        weight -= storedContent.weight;
+        if (storedContent.offHeapBlocks != null) {
+            offHeapArena.free(storedContent.offHeapBlocks);
+        }
+    }
+
+    /**
+     * Content stored with its version and weight, either as a cache entry or as the arena blocks holding it.
+     */
+    private static class StoredContent {
+
+        private final CustomContentCacheEntry entry;
+        private final int[] offHeapBlocks;
+        private final int offHeapLength;
+        private final long version;
+        private final long weight;
+        private final String tenantDomain;
+
+        private StoredContent(CustomContentCacheEntry entry, long version, long weight, String tenantDomain) {
+
+            this(entry, null, 0, version, weight, tenantDomain);
+        }
+
+        private StoredContent(int[] offHeapBlocks, int offHeapLength, long version, long weight,
+                              String tenantDomain) {
+
+            this(null, offHeapBlocks, offHeapLength, version, weight, tenantDomain);
+        }
+
+        private StoredContent(CustomContentCacheEntry entry, int[] offHeapBlocks, int offHeapLength, long version,
+                              long weight, String tenantDomain) {
+
+            this.entry = entry;
+            this.offHeapBlocks = offHeapBlocks;
+            this.offHeapLength = offHeapLength;
+            this.version = version;
+            this.weight = weight;
+            this.tenantDomain = tenantDomain;
+        }
+    }
+}
@@ -90,11 +90,41 @@ class CustomContentPersistentDAOImpl implements CustomContentPersistentDAO {
         // Check if the content is already cached.
         CustomContentCacheEntry cacheEntry = getCacheEntry(applicationUuid, tenantDomain);
         if (cacheEntry != null) {
-            return cacheEntry.getCustomLayoutContent();
+            getCustomContentCache().refreshIfStale(getCacheKey(applicationUuid, tenantDomain), cacheEntry,
+                    tenantDomain, () -> addCustomContentToCacheOnRead(loadCustomContent(applicationUuid,
+                            tenantDomain), applicationUuid, tenantDomain));
+            long decodeStartTime = System.nanoTime();
+            try {
+                return cacheEntry.getCustomLayoutContent();
+            } finally {
+                getCustomContentCache().recordDecodeTime(System.nanoTime() - decodeStartTime);
+            }
+        }
+
+        CustomLayoutContent customLayoutContent;
+        long loadStartTime = System.nanoTime();
+        try {
+            customLayoutContent = loadCustomContent(applicationUuid, tenantDomain);
+        } finally {
+            getCustomContentCache().recordLoadTime(tenantDomain, System.nanoTime() - loadStartTime);
         }
+        addCustomContentToCacheOnRead(customLayoutContent, applicationUuid, tenantDomain);
+        return customLayoutContent;
+    }
+
+    /**
+     * Load the custom layout content from the database.
+     *
+     * @param applicationUuid Application UUID, if applicable.
+     * @param tenantDomain    Tenant domain.
+     * @return Custom layout content, or null if not found.
+     * @throws BrandingPreferenceMgtException If an error occurs while retrieving the content.
+     */
+    private CustomLayoutContent loadCustomContent(String applicationUuid, String tenantDomain)
+            throws BrandingPreferenceMgtException {
 
         int tenantId = getTenantId(tenantDomain);
-        CustomLayoutContent customLayoutContent = null;
+        CustomLayoutContent customLayoutContent;
         if (StringUtils.isBlank(applicationUuid)) {
             customLayoutContent = getOrgCustomContentDAO().getOrgCustomContent(tenantId);
             if (log.isDebugEnabled()) {
@@ -109,7 +139,6 @@ class CustomContentPersistentDAOImpl implements CustomContentPersistentDAO {
                                 "successfully retrieved.", applicationUuid, tenantDomain));
             }
         }
-        addCustomContentToCacheOnRead(customLayoutContent, applicationUuid, tenantDomain);
         return customLayoutContent;
     }
 
@@ -151,6 +180,21 @@ class CustomContentPersistentDAOImpl implements CustomContentPersistentDAO {
         }
     }
 
+    /**
+     * Get the cache key of the custom layout content.
+     *
+     * @param applicationUuid Application UUID, if applicable.
+     * @param tenantDomain    Tenant domain.
+     * @return Cache key.
+     */
+    private OrgCustomContentCacheKey getCacheKey(String applicationUuid, String tenantDomain) {
+
+        if (StringUtils.isBlank(applicationUuid)) {
+            return new OrgCustomContentCacheKey(tenantDomain);
+        }
+        return new AppCustomContentCacheKey(applicationUuid, tenantDomain);
+    }
+
     /**
      * Retrieves the cached custom layout content for the specified application UUID and tenant domain.
      *
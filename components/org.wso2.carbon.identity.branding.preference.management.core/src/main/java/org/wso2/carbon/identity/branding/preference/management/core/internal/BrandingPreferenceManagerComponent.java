@@ -23,6 +23,7 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
@@ -31,6 +32,8 @@ import org.wso2.carbon.identity.branding.preference.management.core.BrandingPref
 import org.wso2.carbon.identity.branding.preference.management.core.UIBrandingPreferenceResolver;
 import org.wso2.carbon.identity.branding.preference.management.core.ai.BrandingAIPreferenceManager;
 import org.wso2.carbon.identity.branding.preference.management.core.ai.BrandingAIPreferenceManagerImpl;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.BrandingCacheMetrics;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.CacheRefreshExecutor;
 import org.wso2.carbon.identity.branding.preference.management.core.listener.IdentityTenantMgtListener;
 import org.wso2.carbon.identity.branding.preference.management.core.listener.PortalURLResolver;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
@@ -72,6 +75,16 @@ public class BrandingPreferenceManagerComponent {
         }
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext context) {
+
+        BrandingCacheMetrics.getInstance().unregisterMBeans();
+        CacheRefreshExecutor.shutdown();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("BrandingPreferenceMgt Service Component is deactivated.");
+        }
+    }
+
     @Reference(
             name = "resource.configuration.manager.service",
             service = ConfigurationManager.class,
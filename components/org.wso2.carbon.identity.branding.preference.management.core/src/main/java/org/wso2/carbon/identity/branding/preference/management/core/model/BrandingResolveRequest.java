@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.model;
+
+import java.util.Objects;
+
+/**
+ * A model class representing a single branding preference to be resolved in a bulk resolve request.
+ */
+public class BrandingResolveRequest {
+
+    private final String type;
+    private final String name;
+    private final String locale;
+
+    public BrandingResolveRequest(String type, String name, String locale) {
+
+        this.type = type;
+        this.name = name;
+        this.locale = locale;
+    }
+
+    public String getType() {
+
+        return type;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public String getLocale() {
+
+        return locale;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BrandingResolveRequest that = (BrandingResolveRequest) o;
+        return Objects.equals(type, that.type) && Objects.equals(name, that.name) &&
+                Objects.equals(locale, that.locale);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(type, name, locale);
+    }
+
+    @Override
+    public String toString() {
+
+        return type + ":" + name + ":" + locale;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.model;
+
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A model class representing the result of a bulk branding preference resolve request. Each request is either
+ * resolved to a branding preference or failed with an error.
+ */
+public class BulkBrandingResolveResult {
+
+    private final Map<BrandingResolveRequest, BrandingPreference> brandingPreferences = new LinkedHashMap<>();
+    private final Map<BrandingResolveRequest, BrandingPreferenceMgtException> errors = new LinkedHashMap<>();
+
+    public Map<BrandingResolveRequest, BrandingPreference> getBrandingPreferences() {
+
+        return Collections.unmodifiableMap(brandingPreferences);
+    }
+
+    public Map<BrandingResolveRequest, BrandingPreferenceMgtException> getErrors() {
+
+        return Collections.unmodifiableMap(errors);
+    }
+
+    public void addBrandingPreference(BrandingResolveRequest request, BrandingPreference brandingPreference) {
+
+        brandingPreferences.put(request, brandingPreference);
+    }
+
+    public void addError(BrandingResolveRequest request, BrandingPreferenceMgtException error) {
+
+        errors.put(request, error);
+    }
+}
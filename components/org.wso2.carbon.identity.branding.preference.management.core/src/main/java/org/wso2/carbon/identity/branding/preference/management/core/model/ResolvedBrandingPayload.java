@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.model;
+
+import java.io.Serializable;
+
+/**
+ * A model class representing the serialized form of a resolved branding preference. It can be written to a response
+ * as it is, and its entity tag and last modified time can be used to answer conditional requests.
+ */
+public class ResolvedBrandingPayload implements Serializable {
+
+    private static final long serialVersionUID = 4183905170642938814L;
+
+    private final byte[] content;
+    private final String eTag;
+    private final long lastModified;
+
+    /**
+     * @param content      UTF-8 encoded JSON of the resolved branding preference.
+     * @param eTag         Strong entity tag computed from the content.
+     * @param lastModified Time in milliseconds at which the branding preference was resolved.
+     */
+    public ResolvedBrandingPayload(byte[] content, String eTag, long lastModified) {
+
+        this.content = content;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @return UTF-8 encoded JSON of the resolved branding preference. Must be treated as read-only.
+     */
+    public byte[] getContent() {
+
+        return content;
+    }
+
+    /**
+     * @return Strong entity tag computed from the content, including the surrounding quotes.
+     */
+    public String getETag() {
+
+        return eTag;
+    }
+
+    /**
+     * @return Time in milliseconds at which the branding preference was resolved.
+     */
+    public long getLastModified() {
+
+        return lastModified;
+    }
+}
@@ -281,7 +281,7 @@ public class BrandingPreferenceMgtUtils {
      */
     public static boolean isBrandingPublished(BrandingPreference brandingPreference) {
 
-        JSONObject preferences = new JSONObject((LinkedHashMap) brandingPreference.getPreference());
+        JSONObject preferences = new JSONObject((Map) brandingPreference.getPreference());
 
         // If configs.isBrandingEnabled is not found in preferences, it is assumed that branding is enabled by default.
         return !preferences.has(CONFIGS) ||
@@ -480,4 +480,47 @@ public class BrandingPreferenceMgtUtils {
         log.debug("Portal URL is not configured for tenant: " + tenantDomain + ". Using default URL: "
                 + defaultURL);
     }
+
+    /**
+     * Get a boolean configuration from the identity configurations.
+     *
+     * @param configKey    Configuration key.
+     * @param defaultValue Default value to use if the configuration is not found.
+     * @return Configured value or the default value.
+     */
+    public static boolean getBooleanConfig(String configKey, boolean defaultValue) {
+
+        String configValue = IdentityUtil.getProperty(configKey);
+        if (StringUtils.isBlank(configValue)) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(configValue.trim());
+    }
+
+    /**
+     * Get a positive integer configuration from the identity configurations.
+     *
+     * @param configKey    Configuration key.
+     * @param defaultValue Default value to use if the configuration is not found or invalid.
+     * @return Configured value or the default value.
+     */
+    public static int getPositiveIntegerConfig(String configKey, int defaultValue) {
+
+        String configValue = IdentityUtil.getProperty(configKey);
+        if (StringUtils.isBlank(configValue)) {
+            return defaultValue;
+        }
+        try {
+            int value = Integer.parseInt(configValue.trim());
+            if (value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Error while parsing the configuration: " + configKey, e);
+            }
+        }
+        log.warn("Invalid configuration found for: " + configKey + ". Using default value: " + defaultValue);
+        return defaultValue;
+    }
 }
@@ -109,7 +109,7 @@ public class BrandingPreferenceManagerImplTest {
         brandingPreferenceManagerImpl = new BrandingPreferenceManagerImpl();
 
         BrandingPreferenceManagerComponentDataHolder.getInstance().setUiBrandingPreferenceResolver(resolver);
-        doNothing().when(resolver).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        doNothing().when(resolver).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
         doNothing().when(resolver).clearCustomTextResolverCacheHierarchy(any(), any(), any());
 
         ConfigurationManager configurationManager = ConfigurationManagementUtils.getConfigurationManager();
@@ -180,7 +180,7 @@ public class BrandingPreferenceManagerImplTest {
         Assert.assertEquals(addedBP.getPreference(), inputBP.getPreference());
         Assert.assertEquals(addedBP.getName(), inputBP.getName());
         // Verify that clearBrandingResolverCacheHierarchy is called once and only once.
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         //  Retrieving added branding preference.
         BrandingPreference retrievedBP = brandingPreferenceManagerImpl.getBrandingPreference
@@ -205,13 +205,13 @@ public class BrandingPreferenceManagerImplTest {
         Assert.assertEquals(addedBP.getPreference(), inputBP.getPreference());
         Assert.assertEquals(addedBP.getName(), inputBP.getName());
         // Verify that clearBrandingResolverCacheHierarchy is called once and only once.
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         //  Adding conflicting branding preference.
         assertThrows(BrandingPreferenceMgtClientException.class, () -> brandingPreferenceManagerImpl
                 .addBrandingPreference(inputBP));
         // Verify that clearBrandingResolverCacheHierarchy is not called after the conflicting addition.
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         // Deleting added branding preference.
         brandingPreferenceManagerImpl.deleteBrandingPreference(inputBP.getType(), inputBP.getName(),
@@ -267,7 +267,7 @@ public class BrandingPreferenceManagerImplTest {
         assertThrows(BrandingPreferenceMgtClientException.class, () -> brandingPreferenceManagerImpl
                 .addBrandingPreference(inputBP));
         // Verify that clearBrandingResolverCacheHierarchy is never called.
-        verify(resolver, never()).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, never()).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
     }
 
     @Test(description = "Test the transaction errors while adding branding preference.")
@@ -518,13 +518,13 @@ public class BrandingPreferenceManagerImplTest {
         BrandingPreference addedBP = brandingPreferenceManagerImpl.addBrandingPreference(inputBP);
         Assert.assertEquals(addedBP.getPreference(), inputBP.getPreference());
         // Verify that clearBrandingResolverCacheHierarchy is called once and only once.
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         BrandingPreference updatedBP = brandingPreferenceManagerImpl.replaceBrandingPreference(newBP);
         Assert.assertEquals(updatedBP.getPreference(), newBP.getPreference());
-         /* Since published state is not changed, verify that clearBrandingResolverCacheHierarchy is not called again
-           after the update. */
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+         /* Even though the published state is not changed, verify that clearBrandingResolverCacheHierarchy is called
+           again after the update, since the resolver caches the resolved branding content. */
+        verify(resolver, times(2)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         //  Retrieving updated branding preference.
         BrandingPreference retrievedBP = brandingPreferenceManagerImpl.getBrandingPreference
@@ -588,13 +588,13 @@ public class BrandingPreferenceManagerImplTest {
         BrandingPreference addedBP = brandingPreferenceManagerImpl.addBrandingPreference(inputBP);
         Assert.assertEquals(addedBP.getPreference(), inputBP.getPreference());
         // Verify that clearBrandingResolverCacheHierarchy is called once and only once.
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         BrandingPreference updatedBP = brandingPreferenceManagerImpl.replaceBrandingPreference(newBP);
         Assert.assertEquals(updatedBP.getPreference(), newBP.getPreference());
          /* Since published state is changed, verify that clearBrandingResolverCacheHierarchy is called again
            after the update. */
-        verify(resolver, times(2)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(2)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         //  Retrieving updated branding preference.
         BrandingPreference retrievedBP = brandingPreferenceManagerImpl.getBrandingPreference
@@ -690,13 +690,13 @@ public class BrandingPreferenceManagerImplTest {
         Assert.assertEquals(addedBP.getPreference(), inputBP.getPreference());
         Assert.assertEquals(addedBP.getName(), inputBP.getName());
         // Verify that clearBrandingResolverCacheHierarchy is called once and only once.
-        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(1)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         // Deleting added branding preference.
         brandingPreferenceManagerImpl.deleteBrandingPreference
                 (inputBP.getType(), inputBP.getName(), inputBP.getLocale());
         // Verify that clearBrandingResolverCacheHierarchy is called again after the deletion.
-        verify(resolver, times(2)).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, times(2)).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
 
         // Retrieving deleted branding preference.
         assertThrows(BrandingPreferenceMgtClientException.class, () -> brandingPreferenceManagerImpl
@@ -710,7 +710,7 @@ public class BrandingPreferenceManagerImplTest {
         assertThrows(BrandingPreferenceMgtClientException.class, () -> brandingPreferenceManagerImpl
                 .deleteBrandingPreference(ORGANIZATION_TYPE, SUPER_TENANT_DOMAIN_NAME, DEFAULT_LOCALE));
         // Verify that clearBrandingResolverCacheHierarchy is never called.
-        verify(resolver, never()).clearBrandingResolverCacheHierarchy(any(), any(), any());
+        verify(resolver, never()).clearBrandingResolverCacheHierarchy(any(), any(), any(), any());
     }
 
     @Test(description = "Test the transaction errors while deleting branding preference.")
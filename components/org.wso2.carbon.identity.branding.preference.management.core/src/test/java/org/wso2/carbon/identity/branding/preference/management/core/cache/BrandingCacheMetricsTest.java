@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the branding cache metrics.
+ */
+public class BrandingCacheMetricsTest {
+
+    private static final String CACHE_NAME = "TestBrandingCache";
+    private static final String TENANT_DOMAIN_1 = "tenant-1";
+    private static final String TENANT_DOMAIN_2 = "tenant-2";
+    private static final String TENANT_DOMAIN_3 = "tenant-3";
+
+    @Test
+    public void testRecordCacheMetrics() {
+
+        CacheMetricsRecorder metricsRecorder = new CacheMetricsRecorder(CACHE_NAME, 10, 10);
+        metricsRecorder.recordMiss(TENANT_DOMAIN_1);
+        metricsRecorder.recordLoad(TENANT_DOMAIN_1, TimeUnit.MILLISECONDS.toNanos(4));
+        metricsRecorder.recordPut(TENANT_DOMAIN_1);
+        metricsRecorder.recordHit(TENANT_DOMAIN_1);
+        metricsRecorder.recordHit(TENANT_DOMAIN_1);
+        metricsRecorder.recordMiss(TENANT_DOMAIN_2);
+        metricsRecorder.recordLoad(TENANT_DOMAIN_2, TimeUnit.MILLISECONDS.toNanos(2));
+        metricsRecorder.recordPut(TENANT_DOMAIN_2);
+        metricsRecorder.recordInvalidation(TENANT_DOMAIN_2);
+        metricsRecorder.recordCoalescedLoad();
+        metricsRecorder.recordCoalescedLoad();
+        metricsRecorder.recordTimedOutLoadWait();
+        metricsRecorder.recordDecode(TimeUnit.MILLISECONDS.toNanos(1));
+        metricsRecorder.recordDecode(TimeUnit.MILLISECONDS.toNanos(3));
+
+        CacheMetricsSnapshot snapshot = metricsRecorder.getSnapshot(10);
+        assertEquals(snapshot.getHitCount(), 2);
+        assertEquals(snapshot.getMissCount(), 2);
+        assertEquals(snapshot.getHitRatio(), 0.5);
+        assertEquals(snapshot.getPutCount(), 2);
+        assertEquals(snapshot.getInvalidationCount(), 1);
+        assertEquals(snapshot.getLoadCount(), 2);
+        assertEquals(snapshot.getAverageLoadTimeMillis(), 3.0);
+        assertEquals(snapshot.getMaxLoadTimeMillis(), 4.0);
+        assertEquals(snapshot.getCoalescedLoadCount(), 2);
+        assertEquals(snapshot.getTimedOutLoadWaitCount(), 1);
+        assertEquals(snapshot.getDecodeCount(), 2);
+        assertEquals(snapshot.getAverageDecodeTimeMillis(), 2.0);
+        assertEquals(snapshot.getMaxDecodeTimeMillis(), 3.0);
+        assertEquals(snapshot.getEstimatedEntryCount(), 1);
+
+        List<TenantCacheMetricsSnapshot> topTenants = snapshot.getTopTenants();
+        assertEquals(topTenants.size(), 2);
+        assertEquals(topTenants.get(0).getTenantDomain(), TENANT_DOMAIN_1);
+        assertEquals(topTenants.get(0).getRequestCount(), 3);
+        assertEquals(topTenants.get(0).getEstimatedEntryCount(), 1);
+        assertEquals(topTenants.get(1).getTenantDomain(), TENANT_DOMAIN_2);
+        assertEquals(topTenants.get(1).getEstimatedEntryCount(), 0);
+        assertEquals(metricsRecorder.listTopTenants(1).size(), 1);
+    }
+
+    @Test
+    public void testClearTenantReducesEstimatedEntryCount() {
+
+        CacheMetricsRecorder metricsRecorder = new CacheMetricsRecorder(CACHE_NAME, 10, 10);
+        metricsRecorder.recordPut(TENANT_DOMAIN_1);
+        metricsRecorder.recordPut(TENANT_DOMAIN_1);
+        metricsRecorder.recordPut(TENANT_DOMAIN_2);
+        metricsRecorder.recordClear(TENANT_DOMAIN_1);
+
+        assertEquals(metricsRecorder.getEstimatedEntryCount(), 1);
+        assertEquals(metricsRecorder.getInvalidationCount(), 1);
+
+        metricsRecorder.reset();
+        assertEquals(metricsRecorder.getPutCount(), 0);
+        assertEquals(metricsRecorder.getEstimatedEntryCount(), 1);
+    }
+
+    @Test
+    public void testTrackedTenantsAreBounded() {
+
+        CacheMetricsRecorder metricsRecorder = new CacheMetricsRecorder(CACHE_NAME, 2, 10);
+        metricsRecorder.recordHit(TENANT_DOMAIN_1);
+        metricsRecorder.recordHit(TENANT_DOMAIN_2);
+        metricsRecorder.recordHit(TENANT_DOMAIN_3);
+
+        assertEquals(metricsRecorder.getHitCount(), 3);
+        assertEquals(metricsRecorder.getTopTenants().size(), 2);
+    }
+
+    @Test
+    public void testMetricsPublishedAsMBean() throws Exception {
+
+        BrandingCacheMetrics brandingCacheMetrics = BrandingCacheMetrics.getInstance();
+        CacheMetricsRecorder metricsRecorder = brandingCacheMetrics.getMetricsRecorder(CACHE_NAME);
+        metricsRecorder.recordHit(TENANT_DOMAIN_1);
+
+        ObjectName objectName =
+                new ObjectName("org.wso2.carbon.identity.branding.preference:type=CacheMetrics,name=" + CACHE_NAME);
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+        assertEquals(ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "HitCount"), 1L);
+        assertNotNull(brandingCacheMetrics.getSnapshot(CACHE_NAME, 1));
+        assertNull(brandingCacheMetrics.getSnapshot("UnknownCache", 1));
+
+        brandingCacheMetrics.unregisterMBeans();
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+    }
+}
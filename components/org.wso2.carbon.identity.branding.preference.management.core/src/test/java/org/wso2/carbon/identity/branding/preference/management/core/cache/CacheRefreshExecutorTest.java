@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.cache;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the background refresh of the branding cache entries.
+ */
+public class CacheRefreshExecutorTest {
+
+    private static final String TENANT_DOMAIN = "tenant-1";
+    private static final int TENANT_ID = 2;
+    private static final String REFRESH_KEY = "refresh-key";
+
+    @BeforeMethod
+    public void setUp() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes", "repository")
+                .toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome, "conf").toString());
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        PrivilegedCarbonContext.endTenantFlow();
+        CacheRefreshExecutor.shutdown();
+    }
+
+    @Test
+    public void testRefreshInTenantContext() throws Exception {
+
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch refreshReleased = new CountDownLatch(1);
+        CountDownLatch refreshCompleted = new CountDownLatch(1);
+        AtomicReference<String> refreshTenantDomain = new AtomicReference<>();
+        CacheRefreshExecutor refreshExecutor = CacheRefreshExecutor.getInstance();
+
+        assertTrue(refreshExecutor.submit(REFRESH_KEY, () -> {
+            refreshTenantDomain.set(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            refreshStarted.countDown();
+            try {
+                refreshReleased.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            refreshCompleted.countDown();
+        }));
+        assertTrue(refreshStarted.await(10, TimeUnit.SECONDS));
+        // A refresh of the same entry is not scheduled while the previous one is pending.
+        assertFalse(refreshExecutor.submit(REFRESH_KEY, () -> { }));
+        refreshReleased.countDown();
+        assertTrue(refreshCompleted.await(10, TimeUnit.SECONDS));
+
+        assertEquals(refreshTenantDomain.get(), TENANT_DOMAIN);
+        assertEquals(refreshExecutor.getScheduledCount(), 1);
+        assertEquals(refreshExecutor.getSkippedCount(), 1);
+    }
+
+    @Test
+    public void testRefreshAgainAfterCompletion() throws Exception {
+
+        CacheRefreshExecutor refreshExecutor = CacheRefreshExecutor.getInstance();
+        CountDownLatch firstRefresh = new CountDownLatch(1);
+        assertTrue(refreshExecutor.submit(REFRESH_KEY, firstRefresh::countDown));
+        assertTrue(firstRefresh.await(10, TimeUnit.SECONDS));
+
+        // The pending refresh is released after the refresh runs, so wait until it is no longer pending.
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (refreshExecutor.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        CountDownLatch secondRefresh = new CountDownLatch(1);
+        assertTrue(refreshExecutor.submit(REFRESH_KEY, secondRefresh::countDown));
+        assertTrue(secondRefresh.await(10, TimeUnit.SECONDS));
+    }
+}
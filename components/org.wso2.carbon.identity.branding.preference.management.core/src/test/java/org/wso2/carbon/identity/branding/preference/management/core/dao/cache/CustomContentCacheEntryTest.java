@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.dao.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.branding.preference.management.core.model.CustomLayoutContent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the compressed custom content cache entry.
+ */
+public class CustomContentCacheEntryTest {
+
+    private static final String HTML = "<div class=\"branding\">\u0DC1\u0DCA\u200D\u0DBB\u0DD3 \u4F60\u597D</div>";
+    private static final String CSS = ".branding { color: #ff7300; }";
+    private static final String JS = "console.log('branding');";
+
+    @Test
+    public void testGetCustomLayoutContent() {
+
+        CustomContentCacheEntry entry = new CustomContentCacheEntry(new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(HTML)
+                .setCss(CSS)
+                .setJs(JS)
+                .build());
+
+        CustomLayoutContent content = entry.getCustomLayoutContent();
+        assertEquals(content.getHtml(), HTML);
+        assertEquals(content.getCss(), CSS);
+        assertEquals(content.getJs(), JS);
+    }
+
+    @Test
+    public void testGetCustomLayoutContentWithoutCssAndJs() {
+
+        CustomContentCacheEntry entry = new CustomContentCacheEntry(new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(HTML)
+                .build());
+
+        CustomLayoutContent content = entry.getCustomLayoutContent();
+        assertEquals(content.getHtml(), HTML);
+        assertNull(content.getCss());
+        assertNull(content.getJs());
+    }
+
+    @Test
+    public void testGetEmptyCustomLayoutContent() {
+
+        assertNull(new CustomContentCacheEntry((CustomLayoutContent) null).getCustomLayoutContent());
+        assertNull(new CustomContentCacheEntry(1L).getCustomLayoutContent());
+    }
+
+    @Test
+    public void testWriteAndReadCompressedContents() {
+
+        CustomContentCacheEntry entry = new CustomContentCacheEntry(new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(HTML)
+                .setCss(CSS)
+                .build());
+
+        CustomLayoutContent content = CustomContentCacheEntry.fromBytes(entry.toBytes()).getCustomLayoutContent();
+        assertEquals(content.getHtml(), HTML);
+        assertEquals(content.getCss(), CSS);
+        assertNull(content.getJs());
+    }
+
+    @Test
+    public void testCompressCustomLayoutContent() {
+
+        String html = StringUtils.repeat("<div class=\"branding\"><span>Welcome</span></div>", 1000);
+        CustomContentCacheEntry entry = new CustomContentCacheEntry(new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(html)
+                .build());
+
+        assertTrue(entry.getCompressedSize() < html.length() / 5);
+        assertEquals(entry.getCustomLayoutContent().getHtml(), html);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.management.core.dao.cache;
+
+import org.apache.commons.lang.RandomStringUtils;
+import org.apache.commons.lang.StringUtils;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.branding.preference.management.core.model.CustomLayoutContent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for the size bounded custom content store.
+ */
+public class CustomContentWeightedStoreTest {
+
+    private static final String TENANT_DOMAIN_1 = "tenant-1";
+    private static final String TENANT_DOMAIN_2 = "tenant-2";
+    private static final String TENANT_DOMAIN_3 = "tenant-3";
+
+    @Test
+    public void testWeighContent() {
+
+        CustomContentCacheEntry entry = buildEntry(100);
+        assertEquals(CustomContentWeightedStore.weigh(entry), 192 + entry.getCompressedSize());
+        assertEquals(CustomContentWeightedStore.weigh(new CustomContentCacheEntry(1L)), 192);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsedContent() {
+
+        long entryWeight = CustomContentWeightedStore.weigh(buildEntry(100));
+        CustomContentWeightedStore store = new CustomContentWeightedStore(entryWeight * 2);
+        OrgCustomContentCacheKey key1 = new OrgCustomContentCacheKey(TENANT_DOMAIN_1);
+        OrgCustomContentCacheKey key2 = new OrgCustomContentCacheKey(TENANT_DOMAIN_2);
+        OrgCustomContentCacheKey key3 = new OrgCustomContentCacheKey(TENANT_DOMAIN_3);
+
+        assertEquals(store.put(key1, buildEntry(100), 1, TENANT_DOMAIN_1), 0);
+        assertEquals(store.put(key2, buildEntry(100), 2, TENANT_DOMAIN_2), 0);
+        // Access the first content so that the second content becomes the least recently used one.
+        assertNotNull(store.get(key1, 1));
+        assertEquals(store.put(key3, buildEntry(100), 3, TENANT_DOMAIN_3), 1);
+
+        assertNotNull(store.get(key1, 1));
+        assertNull(store.get(key2, 2));
+        assertNotNull(store.get(key3, 3));
+        assertEquals(store.getEntryCount(), 2);
+        assertEquals(store.getWeight(), entryWeight * 2);
+        assertEquals(store.getEvictionCount(), 1);
+        assertEquals(store.getEvictedWeight(), entryWeight);
+    }
+
+    @Test
+    public void testRejectContentLargerThanCapacity() {
+
+        CustomContentWeightedStore store = new CustomContentWeightedStore(1024);
+        OrgCustomContentCacheKey key = new OrgCustomContentCacheKey(TENANT_DOMAIN_1);
+        CustomLayoutContent largeContent = new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(RandomStringUtils.randomAlphanumeric(4096))
+                .build();
+
+        assertEquals(store.put(key, buildEntry(10), 1, TENANT_DOMAIN_1), 0);
+        assertEquals(store.put(key, new CustomContentCacheEntry(largeContent), 2, TENANT_DOMAIN_1), 0);
+        // The larger content replaces the previous one, hence neither of them is stored.
+        assertNull(store.get(key, 1));
+        assertNull(store.get(key, 2));
+        assertEquals(store.getRejectionCount(), 1);
+        assertEquals(store.getEvictionCount(), 0);
+        assertEquals(store.getWeight(), 0);
+    }
+
+    @Test
+    public void testGetContentOfAnotherVersion() {
+
+        CustomContentWeightedStore store = new CustomContentWeightedStore(1024);
+        OrgCustomContentCacheKey key = new OrgCustomContentCacheKey(TENANT_DOMAIN_1);
+
+        store.put(key, buildEntry(10), 1, TENANT_DOMAIN_1);
+        assertNull(store.get(key, 2));
+        assertNotNull(store.get(key, 1));
+    }
+
+    @Test
+    public void testRemoveTenantContents() {
+
+        CustomContentWeightedStore store = new CustomContentWeightedStore(4096);
+        OrgCustomContentCacheKey key1 = new OrgCustomContentCacheKey(TENANT_DOMAIN_1);
+        OrgCustomContentCacheKey key2 = new OrgCustomContentCacheKey(TENANT_DOMAIN_2);
+
+        store.put(key1, buildEntry(10), 1, TENANT_DOMAIN_1);
+        store.put(key2, buildEntry(10), 2, TENANT_DOMAIN_2);
+        store.removeTenant(TENANT_DOMAIN_1);
+
+        assertNull(store.get(key1, 1));
+        assertNotNull(store.get(key2, 2));
+        assertEquals(store.getEntryCount(), 1);
+        assertEquals(store.getWeight(), CustomContentWeightedStore.weigh(buildEntry(10)));
+    }
+
+    @Test
+    public void testStoreContentOffHeap() {
+
+        CustomContentWeightedStore store = new CustomContentWeightedStore(new CustomContentOffHeapArena(0));
+        OrgCustomContentCacheKey key1 = new OrgCustomContentCacheKey(TENANT_DOMAIN_1);
+        OrgCustomContentCacheKey key2 = new OrgCustomContentCacheKey(TENANT_DOMAIN_2);
+        String html = RandomStringUtils.randomAlphanumeric(10000);
+        CustomContentCacheEntry entry = new CustomContentCacheEntry(new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(html)
+                .setJs("console.log('branding');")
+                .build());
+
+        store.put(key1, entry, 1, TENANT_DOMAIN_1);
+        store.put(key2, buildEntry(10), 2, TENANT_DOMAIN_2);
+        CustomContentCacheEntry storedEntry = store.get(key1, 1);
+        assertEquals(storedEntry.getCustomLayoutContent().getHtml(), html);
+        assertEquals(storedEntry.getCustomLayoutContent().getJs(), "console.log('branding');");
+        assertEquals(store.getWeight(), CustomContentWeightedStore.weighOffHeap(entry.toBytes().length) +
+                CustomContentWeightedStore.weighOffHeap(buildEntry(10).toBytes().length));
+
+        store.removeTenant(TENANT_DOMAIN_1);
+        assertNull(store.get(key1, 1));
+        assertEquals(store.getWeight(), CustomContentWeightedStore.weighOffHeap(buildEntry(10).toBytes().length));
+    }
+
+    @Test
+    public void testEvictOffHeapContent() {
+
+        CustomContentWeightedStore store = new CustomContentWeightedStore(new CustomContentOffHeapArena(0));
+        String[] tenantDomains = new String[6];
+        String[] htmls = new String[tenantDomains.length];
+        for (int i = 0; i < tenantDomains.length; i++) {
+            tenantDomains[i] = "tenant-" + i;
+            htmls[i] = RandomStringUtils.randomAlphanumeric(300000);
+            store.put(new OrgCustomContentCacheKey(tenantDomains[i]), new CustomContentCacheEntry(
+                    new CustomLayoutContent.CustomLayoutContentBuilder().setHtml(htmls[i]).build()), i,
+                    tenantDomains[i]);
+        }
+
+        assertTrue(store.getEvictionCount() > 0);
+        assertTrue(store.getWeight() <= store.getMaxWeight());
+        assertNull(store.get(new OrgCustomContentCacheKey(tenantDomains[0]), 0));
+        int last = tenantDomains.length - 1;
+        assertEquals(store.get(new OrgCustomContentCacheKey(tenantDomains[last]), last).getCustomLayoutContent()
+                .getHtml(), htmls[last]);
+    }
+
+    private static CustomContentCacheEntry buildEntry(int htmlLength) {
+
+        return new CustomContentCacheEntry(new CustomLayoutContent.CustomLayoutContentBuilder()
+                .setHtml(StringUtils.repeat("h", htmlLength))
+                .build());
+    }
+}
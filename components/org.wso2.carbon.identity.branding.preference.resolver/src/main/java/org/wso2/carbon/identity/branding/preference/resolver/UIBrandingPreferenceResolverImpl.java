@@ -19,7 +19,6 @@
 package org.wso2.carbon.identity.branding.preference.resolver;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -28,47 +27,86 @@ import org.osgi.annotation.bundle.Capability;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
 import org.wso2.carbon.identity.branding.preference.management.core.UIBrandingPreferenceResolver;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
 import org.wso2.carbon.identity.branding.preference.management.core.dao.CustomContentPersistentDAO;
 import org.wso2.carbon.identity.branding.preference.management.core.dao.impl.CustomContentPersistentFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtServerException;
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingResolveRequest;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BulkBrandingResolveResult;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
 import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.AncestorAppIdsCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCacheEntry;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCacheKey;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCacheEntry;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingResolutionTarget;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.HierarchyDependentCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCacheKey;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.TextCustomizedOrgCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.TextCustomizedOrgCacheEntry;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.TextCustomizedOrgCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.TextCustomizedOrgTombstoneCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.TombstoneCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.TombstoneCacheStatistics;
+import org.wso2.carbon.identity.branding.preference.resolver.cluster.BrandingCacheInvalidationBatch;
+import org.wso2.carbon.identity.branding.preference.resolver.cluster.BrandingClusterInvalidator;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.BrandingResourceDAO;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.impl.BrandingResourceDAOImpl;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.model.BrandingResourceCandidate;
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.AncestorOrganization;
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.OrganizationHierarchyResolver;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.CustomTextInvalidationDebouncer;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationCheckpoint;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationCheckpointStore;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationJob;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationJobManager;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationWalker;
 import org.wso2.carbon.identity.branding.preference.resolver.internal.BrandingResolverComponentDataHolder;
+import org.wso2.carbon.identity.branding.preference.resolver.util.BrandingResolverAsyncExecutor;
+import org.wso2.carbon.identity.branding.preference.resolver.util.HierarchyInvalidationExecutor;
+import org.wso2.carbon.identity.branding.preference.resolver.util.InFlightLoadRegistry;
+import org.wso2.carbon.identity.branding.preference.resolver.warmup.BrandingAccessTracker;
+import org.wso2.carbon.identity.branding.preference.resolver.warmup.BrandingWarmUpEntry;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
-import org.wso2.carbon.identity.core.ThreadLocalAwareExecutors;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.JdbcUtils;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
-import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.identity.organization.management.service.util.Utils;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.APPLICATION_BRANDING_RESOURCE_TYPE;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.APPLICATION_TYPE;
@@ -88,6 +126,12 @@ import static org.wso2.carbon.identity.branding.preference.management.core.const
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_INVALID_BRANDING_PREFERENCE_TYPE;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ORGANIZATION_TYPE;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_NAME_SEPARATOR;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_BATCHED_ANCESTOR_LOOKUP_ENABLED_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_GENERATION_INVALIDATION_ENABLED_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_IN_FLIGHT_LOAD_WAIT_TIMEOUT_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_IN_FLIGHT_LOAD_WAIT_TIMEOUT_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_TOMBSTONE_TIMEOUT_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_TOMBSTONE_TIMEOUT_DEFAULT;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_NOT_EXISTS_ERROR_CODE;
 import static org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils.getFormattedLocale;
 import static org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils.handleClientException;
@@ -106,16 +150,25 @@ import static org.wso2.carbon.identity.branding.preference.management.core.util.
 public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceResolver {
 
     private static final Log LOG = LogFactory.getLog(UIBrandingPreferenceResolverImpl.class);
-    private final ExecutorService executorService = ThreadLocalAwareExecutors.newFixedThreadPool(1);
     private static final String ORGANIZATION_DETAILS = "organizationDetails";
     private static final String DISPLAY_NAME = "displayName";
-    private static final String PUBLISHED_BRANDING_CACHE_KEY_SUFFIX = "_published";
+    private static final String ETAG_DIGEST_ALGORITHM = "SHA-256";
     private static final CustomContentPersistentDAO CUSTOM_CONTENT_DAO =
             CustomContentPersistentFactory.getCustomContentPersistentDAO();
 
     private final BrandedOrgCache brandedOrgCache;
     private final BrandedAppCache brandedAppCache;
     private final TextCustomizedOrgCache textCustomizedOrgCache;
+    private final ResolvedBrandingCache resolvedBrandingCache;
+    private final OrganizationHierarchyResolver organizationHierarchyResolver;
+    private final BrandingResourceDAO brandingResourceDAO;
+    private final long tombstoneTimeoutInMillis;
+    private final boolean batchedAncestorLookupEnabled;
+    private final boolean hierarchyGenerationInvalidationEnabled;
+    private final InFlightLoadRegistry<String, ResolvedBrandingCacheEntry> inFlightBrandingLoads;
+    private final InFlightLoadRegistry<String, CustomText> inFlightCustomTextLoads;
+    private final HierarchyInvalidationCheckpointStore checkpointStore;
+    private final HierarchyInvalidationWalker hierarchyInvalidationWalker;
 
     /**
      * UI branding preference resolver implementation constructor
@@ -140,9 +193,78 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
     public UIBrandingPreferenceResolverImpl(BrandedOrgCache brandedOrgCache, BrandedAppCache brandedAppCache,
                                             TextCustomizedOrgCache textCustomizedOrgCache) {
 
+        this(brandedOrgCache, brandedAppCache, textCustomizedOrgCache, ResolvedBrandingCache.getInstance());
+    }
+
+    /**
+     * UI branding preference resolver implementation constructor.
+     *
+     * @param brandedOrgCache        Cache instance for branded org.
+     * @param brandedAppCache        Cache instance for branded app.
+     * @param textCustomizedOrgCache Cache instance for custom text.
+     * @param resolvedBrandingCache  Cache instance for resolved branding preferences.
+     */
+    public UIBrandingPreferenceResolverImpl(BrandedOrgCache brandedOrgCache, BrandedAppCache brandedAppCache,
+                                            TextCustomizedOrgCache textCustomizedOrgCache,
+                                            ResolvedBrandingCache resolvedBrandingCache) {
+
+        this(brandedOrgCache, brandedAppCache, textCustomizedOrgCache, resolvedBrandingCache,
+                new OrganizationHierarchyResolver(OrganizationHierarchyCache.getInstance(),
+                        AncestorAppIdsCache.getInstance()));
+    }
+
+    /**
+     * UI branding preference resolver implementation constructor.
+     *
+     * @param brandedOrgCache               Cache instance for branded org.
+     * @param brandedAppCache               Cache instance for branded app.
+     * @param textCustomizedOrgCache        Cache instance for custom text.
+     * @param resolvedBrandingCache         Cache instance for resolved branding preferences.
+     * @param organizationHierarchyResolver Resolver for the ancestor hierarchy of organizations and applications.
+     */
+    public UIBrandingPreferenceResolverImpl(BrandedOrgCache brandedOrgCache, BrandedAppCache brandedAppCache,
+                                            TextCustomizedOrgCache textCustomizedOrgCache,
+                                            ResolvedBrandingCache resolvedBrandingCache,
+                                            OrganizationHierarchyResolver organizationHierarchyResolver) {
+
+        this(brandedOrgCache, brandedAppCache, textCustomizedOrgCache, resolvedBrandingCache,
+                organizationHierarchyResolver, BrandingResourceDAOImpl.getInstance());
+    }
+
+    /**
+     * UI branding preference resolver implementation constructor.
+     *
+     * @param brandedOrgCache               Cache instance for branded org.
+     * @param brandedAppCache               Cache instance for branded app.
+     * @param textCustomizedOrgCache        Cache instance for custom text.
+     * @param resolvedBrandingCache         Cache instance for resolved branding preferences.
+     * @param organizationHierarchyResolver Resolver for the ancestor hierarchy of organizations and applications.
+     * @param brandingResourceDAO           DAO to retrieve the branding resources of a hierarchy in a single query.
+     */
+    public UIBrandingPreferenceResolverImpl(BrandedOrgCache brandedOrgCache, BrandedAppCache brandedAppCache,
+                                            TextCustomizedOrgCache textCustomizedOrgCache,
+                                            ResolvedBrandingCache resolvedBrandingCache,
+                                            OrganizationHierarchyResolver organizationHierarchyResolver,
+                                            BrandingResourceDAO brandingResourceDAO) {
+
         this.brandedOrgCache = brandedOrgCache;
         this.brandedAppCache = brandedAppCache;
         this.textCustomizedOrgCache = textCustomizedOrgCache;
+        this.resolvedBrandingCache = resolvedBrandingCache;
+        this.organizationHierarchyResolver = organizationHierarchyResolver;
+        this.brandingResourceDAO = brandingResourceDAO;
+        this.tombstoneTimeoutInMillis = TimeUnit.SECONDS.toMillis(BrandingPreferenceMgtUtils
+                .getPositiveIntegerConfig(RESOLVER_TOMBSTONE_TIMEOUT_CONFIG_KEY, RESOLVER_TOMBSTONE_TIMEOUT_DEFAULT));
+        this.batchedAncestorLookupEnabled =
+                BrandingPreferenceMgtUtils.getBooleanConfig(RESOLVER_BATCHED_ANCESTOR_LOOKUP_ENABLED_CONFIG_KEY, false);
+        this.hierarchyGenerationInvalidationEnabled =
+                BrandingPreferenceMgtUtils.getBooleanConfig(RESOLVER_GENERATION_INVALIDATION_ENABLED_CONFIG_KEY, true);
+        int inFlightLoadWaitTimeout = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                RESOLVER_IN_FLIGHT_LOAD_WAIT_TIMEOUT_CONFIG_KEY, RESOLVER_IN_FLIGHT_LOAD_WAIT_TIMEOUT_DEFAULT);
+        this.inFlightBrandingLoads = new InFlightLoadRegistry<>(inFlightLoadWaitTimeout, resolvedBrandingCache);
+        this.inFlightCustomTextLoads = new InFlightLoadRegistry<>(inFlightLoadWaitTimeout, textCustomizedOrgCache);
+        this.checkpointStore = HierarchyInvalidationCheckpointStore.getInstance();
+        this.hierarchyInvalidationWalker = new HierarchyInvalidationWalker(checkpointStore);
     }
 
     /**
@@ -160,37 +282,141 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
     public BrandingPreference resolveBranding(String type, String name, String locale, boolean restrictToPublished)
             throws BrandingPreferenceMgtException {
 
-        String currentTenantDomain;
-        String organizationId;
+        return resolveBranding(type, name, locale, restrictToPublished, getAccessingOrganizationId());
+    }
+
+    @Override
+    public CompletionStage<BrandingPreference> resolveBrandingAsync(String type, String name, String locale,
+                                                                    boolean restrictToPublished) {
+
+        // The accessing organization is not restored by the tenant flow of the executor. Hence, it is captured here.
+        String accessingOrganizationId = getAccessingOrganizationId();
+        return BrandingResolverAsyncExecutor.getInstance().submit(
+                () -> resolveBranding(type, name, locale, restrictToPublished, accessingOrganizationId));
+    }
+
+    private BrandingPreference resolveBranding(String type, String name, String locale, boolean restrictToPublished,
+                                               String accessingOrganizationId)
+            throws BrandingPreferenceMgtException {
+
+        String currentTenantDomain = resolveCurrentTenantDomain(accessingOrganizationId);
+        String organizationId = resolveCurrentOrganizationId(accessingOrganizationId, currentTenantDomain);
+        return toBrandingPreference(resolveBrandingEntry(type, name, locale, organizationId, currentTenantDomain,
+                restrictToPublished), locale);
+    }
+
+    @Override
+    public ResolvedBrandingPayload resolveBrandingPayload(String type, String name, String locale,
+                                                          boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        String accessingOrganizationId = getAccessingOrganizationId();
+        String currentTenantDomain = resolveCurrentTenantDomain(accessingOrganizationId);
+        String organizationId = resolveCurrentOrganizationId(accessingOrganizationId, currentTenantDomain);
+        return resolveBrandingEntry(type, name, locale, organizationId, currentTenantDomain, restrictToPublished)
+                .getPayload();
+    }
+
+    @Override
+    public BulkBrandingResolveResult resolveBranding(Collection<BrandingResolveRequest> requests,
+                                                     boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        // The current tenant and organization are resolved once for all the requests. Requests of the same
+        // organization share the cached ancestor hierarchy and the resolver caches while being resolved.
+        String accessingOrganizationId = getAccessingOrganizationId();
+        String currentTenantDomain = resolveCurrentTenantDomain(accessingOrganizationId);
+        String organizationId = resolveCurrentOrganizationId(accessingOrganizationId, currentTenantDomain);
+        BulkBrandingResolveResult result = new BulkBrandingResolveResult();
+        for (BrandingResolveRequest request : new LinkedHashSet<>(requests)) {
+            try {
+                result.addBrandingPreference(request, toBrandingPreference(resolveBrandingEntry(request.getType(),
+                        request.getName(), request.getLocale(), organizationId, currentTenantDomain,
+                        restrictToPublished), request.getLocale()));
+            } catch (BrandingPreferenceMgtException e) {
+                result.addError(request, e);
+            }
+        }
+        return result;
+    }
+
+    private String resolveCurrentTenantDomain(String accessingOrganizationId)
+            throws BrandingPreferenceMgtException {
+
         try {
-            currentTenantDomain = resolveEffectiveTenantDomain();
-            organizationId = resolveEffectiveOrganizationId();
+            return resolveEffectiveTenantDomain(accessingOrganizationId);
         } catch (OrganizationManagementException e) {
             throw handleServerException(ERROR_CODE_ERROR_RESOLVING_TENANT_FOR_BRANDING_PREFERENCE,
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getAccessingOrganizationId());
+                    accessingOrganizationId);
         }
+    }
 
-        OrganizationManager organizationManager =
-                BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
+    private String resolveCurrentOrganizationId(String accessingOrganizationId, String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
 
+        String organizationId = resolveEffectiveOrganizationId(accessingOrganizationId);
         if (organizationId == null) {
+            OrganizationManager organizationManager =
+                    BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
             try {
                 organizationId = organizationManager.resolveOrganizationId(currentTenantDomain);
             } catch (OrganizationManagementException e) {
                 throw handleServerException(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, currentTenantDomain);
             }
         }
+        return organizationId;
+    }
 
+    private ResolvedBrandingCacheEntry resolveBrandingEntry(String type, String name, String locale,
+                                                            String organizationId, String currentTenantDomain,
+                                                            boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        ResolvedBrandingCacheEntry resolvedBranding;
         if (APPLICATION_TYPE.equals(type)) {
-            return resolveApplicationBranding(name, locale, organizationId, currentTenantDomain, restrictToPublished);
+            resolvedBranding = resolveApplicationBranding(name, locale, organizationId, currentTenantDomain,
+                    restrictToPublished);
         } else if (ORGANIZATION_TYPE.equals(type)) {
-            return resolveOrganizationBranding(name, locale, organizationId, currentTenantDomain, restrictToPublished);
+            resolvedBranding = resolveOrganizationBranding(name, locale, organizationId, currentTenantDomain,
+                    restrictToPublished);
+        } else {
+            throw handleClientException(ERROR_CODE_INVALID_BRANDING_PREFERENCE_TYPE, type, currentTenantDomain);
+        }
+
+        BrandingAccessTracker accessTracker = BrandingAccessTracker.getInstance();
+        if (accessTracker.isEnabled()) {
+            accessTracker.recordAccess(new BrandingWarmUpEntry(type, name, locale, organizationId,
+                    currentTenantDomain, restrictToPublished), resolvedBranding.getResolvedFromType(),
+                    resolvedBranding.getResolvedFromName());
+        }
+        return resolvedBranding;
+    }
+
+    /**
+     * Resolve the given branding in its tenant to warm up the resolver caches.
+     *
+     * @param entry Branding to be resolved.
+     * @return Resolved branding.
+     * @throws BrandingPreferenceMgtException If the branding cannot be resolved.
+     */
+    public ResolvedBrandingCacheEntry warmUpBranding(BrandingWarmUpEntry entry) throws BrandingPreferenceMgtException {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            carbonContext.setTenantDomain(entry.getTenantDomain());
+            carbonContext.setTenantId(IdentityTenantUtil.getTenantId(entry.getTenantDomain()));
+            carbonContext.setOrganizationId(entry.getOrganizationId());
+            return resolveBrandingEntry(entry.getType(), entry.getName(), entry.getLocale(),
+                    entry.getOrganizationId(), entry.getTenantDomain(), entry.isRestrictToPublished());
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
         }
-        throw handleClientException(ERROR_CODE_INVALID_BRANDING_PREFERENCE_TYPE, type, currentTenantDomain);
     }
 
-    private BrandingPreference resolveOrganizationBranding(String name, String locale, String organizationId,
-                                                           String currentTenantDomain, boolean restrictToPublished)
+    private ResolvedBrandingCacheEntry resolveOrganizationBranding(String name, String locale, String organizationId,
+                                                                   String currentTenantDomain,
+                                                                   boolean restrictToPublished)
             throws BrandingPreferenceMgtException {
 
         OrganizationManager organizationManager =
@@ -207,226 +433,711 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         }
 
         if (organizationId != null) {
-            Optional<BrandingPreference> resolvedBrandingPreference;
-            if (restrictToPublished) {
-                resolvedBrandingPreference = getOrganizationBrandingFromCache(name, locale,
-                        organizationId + PUBLISHED_BRANDING_CACHE_KEY_SUFFIX, currentTenantDomain);
-                if (resolvedBrandingPreference.isPresent()) {
-                    return resolvedBrandingPreference.get();
-                }
-            }
-            resolvedBrandingPreference =
-                    getOrganizationBrandingFromCache(name, locale, organizationId, currentTenantDomain);
-            if (isBrandingAvailable(restrictToPublished, resolvedBrandingPreference)) {
-                return resolvedBrandingPreference.get();
+            ResolvedBrandingCacheEntry resolvedBranding = getResolvedBrandingFromCache(ORGANIZATION_TYPE,
+                    organizationId, locale, restrictToPublished, currentTenantDomain);
+            if (resolvedBranding != null) {
+                return resolvedBranding;
             }
 
-            // No cache found. Start with current organization.
+            String resolvedOrganizationId = organizationId;
+            String resolvedTenantDomain = currentTenantDomain;
+            return loadResolvedBranding(ORGANIZATION_TYPE, organizationId, locale, restrictToPublished,
+                    currentTenantDomain, hierarchyGenerations -> resolveOrganizationBrandingFromHierarchy(name,
+                            locale, resolvedOrganizationId, resolvedTenantDomain, restrictToPublished,
+                            hierarchyGenerations));
+        } else {
+            // No need to resolve the branding preference. Try to fetch the config from the same org.
             Optional<BrandingPreference> brandingPreference =
                     getBrandingPreference(ORGANIZATION_TYPE, name, locale, currentTenantDomain);
             if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
-                return brandingPreference.get();
+                return toResolvedBrandingCacheEntry(brandingPreference.get(), currentTenantDomain);
             }
+            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
+                    ORGANIZATION_TYPE, name, currentTenantDomain);
+        }
+    }
 
-            try {
-                // There's no need to resolve branding preferences for super tenant since it is the root organization.
-                if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
-                    List<String> ancestorOrganizationIds =
-                            organizationManager.getAncestorOrganizationIds(organizationId);
-                    if (CollectionUtils.isEmpty(ancestorOrganizationIds) || ancestorOrganizationIds.size() < 2) {
-                        /*  No branding found. Adding the same tenant domain to cache
-                          to avoid the resolving in the next run. */
-                        addOrgBrandingToCacheOnRead(organizationId, currentTenantDomain, currentTenantDomain,
-                                restrictToPublished);
-                        throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
-                                ORGANIZATION_TYPE, name, currentTenantDomain);
-                    }
+    private BrandingPreference resolveOrganizationBrandingFromHierarchy(String name, String locale,
+                                                                        String organizationId,
+                                                                        String currentTenantDomain,
+                                                                        boolean restrictToPublished,
+                                                                        Map<String, Long> hierarchyGenerations)
+            throws BrandingPreferenceMgtException {
 
-                    // Get the minimum hierarchy depth that needs to be reached to resolve branding preference
-                    int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
-                    for (String ancestorOrgId : ancestorOrganizationIds.subList(1, ancestorOrganizationIds.size())) {
-                        String ancestorTenantDomain = organizationManager.resolveTenantDomain(ancestorOrgId);
-                        int ancestorDepthInHierarchy =
-                                organizationManager.getOrganizationDepthInHierarchy(ancestorOrgId);
-
-                        if (ancestorDepthInHierarchy >= minHierarchyDepth) {
-                            brandingPreference =
-                                    getBrandingPreference(ORGANIZATION_TYPE, name, locale, ancestorTenantDomain);
-                            if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
-                                /*Since Branding is inherited from an ancestor org,
-                                  removing the ancestor org displayName.*/
-                                removeOrgDisplayNameFromBrandingPreference(brandingPreference.get());
-                                addOrgBrandingToCacheOnRead(organizationId, currentTenantDomain, ancestorTenantDomain,
-                                        restrictToPublished);
-                                return brandingPreference.get();
-                            }
-                        } else {
-                            break;
-                        }
-                    }
-                }
-            } catch (OrganizationManagementException e) {
-                throw handleServerException(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, currentTenantDomain);
+        // Both the draft and the published resolutions are kept in a single entry, hence a single cache probe.
+        BrandedOrgCacheKey cacheKey = new BrandedOrgCacheKey(organizationId);
+        BrandedOrgCacheEntry cachedResolution = brandedOrgCache.getValueFromCache(cacheKey, currentTenantDomain);
+        if (cachedResolution != null && !isHierarchyGenerationCurrent(cachedResolution)) {
+            cachedResolution = null;
+        }
+        brandedOrgCache.refreshIfStale(cacheKey, cachedResolution, currentTenantDomain,
+                () -> refreshOrganizationBranding(name, locale, organizationId, currentTenantDomain,
+                        restrictToPublished));
+        Optional<BrandingPreference> resolvedBrandingPreference = getOrganizationBrandingFromCache(name, locale,
+                cachedResolution, currentTenantDomain, restrictToPublished);
+        if (isBrandingAvailable(restrictToPublished, resolvedBrandingPreference)) {
+            hierarchyGenerations.putAll(cachedResolution.getDependentGenerations(restrictToPublished));
+            return resolvedBrandingPreference.get();
+        }
+
+        BrandedOrgCacheEntry resolution = new BrandedOrgCacheEntry();
+        resolution.setHierarchyGenerations(getHierarchyGenerations(organizationId, currentTenantDomain));
+        BrandingPreference brandingPreference;
+        long loadStartTime = System.nanoTime();
+        try {
+            if (batchedAncestorLookupEnabled) {
+                brandingPreference = resolveOrganizationBrandingWithBatchedLookup(name, locale, organizationId,
+                        currentTenantDomain, restrictToPublished, resolution, cachedResolution);
+            } else {
+                brandingPreference = resolveOrganizationBrandingFromAncestors(name, locale, organizationId,
+                        currentTenantDomain, restrictToPublished, resolution, cachedResolution);
             }
+        } finally {
+            brandedOrgCache.recordLoadTime(currentTenantDomain, System.nanoTime() - loadStartTime);
+        }
+        hierarchyGenerations.putAll(resolution.getDependentGenerations(restrictToPublished));
+        return brandingPreference;
+    }
 
-            // No branding found. Adding the same tenant domain to cache to avoid the resolving in the next run.
-            addOrgBrandingToCacheOnRead(organizationId, currentTenantDomain, currentTenantDomain, restrictToPublished);
-            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
-                    ORGANIZATION_TYPE, name, currentTenantDomain);
-        } else {
-            // No need to resolve the branding preference. Try to fetch the config from the same org.
-            Optional<BrandingPreference> brandingPreference =
-                    getBrandingPreference(ORGANIZATION_TYPE, name, locale, currentTenantDomain);
-            if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
-                return brandingPreference.get();
+    /**
+     * Resolve the organization branding from the hierarchy again to refresh the stale branding resolved tenant
+     * cache entry.
+     */
+    private void refreshOrganizationBranding(String name, String locale, String organizationId,
+                                             String currentTenantDomain, boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        BrandedOrgCacheEntry resolution = new BrandedOrgCacheEntry();
+        resolution.setHierarchyGenerations(getHierarchyGenerations(organizationId, currentTenantDomain));
+        try {
+            if (batchedAncestorLookupEnabled) {
+                resolveOrganizationBrandingWithBatchedLookup(name, locale, organizationId, currentTenantDomain,
+                        restrictToPublished, resolution, null);
+            } else {
+                resolveOrganizationBrandingFromAncestors(name, locale, organizationId, currentTenantDomain,
+                        restrictToPublished, resolution, null);
             }
-            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
-                    ORGANIZATION_TYPE, name, currentTenantDomain);
+        } catch (BrandingPreferenceMgtClientException e) {
+            // No branding is configured in the hierarchy, hence a tombstone is cached for the organization.
+            return;
         }
+        // A branding resolved from the organization itself is not cached by the resolution.
+        addOrgBrandingToCacheOnRead(organizationId, currentTenantDomain, resolution, null);
     }
 
-    private BrandingPreference resolveApplicationBranding(String appId, String locale, String orgId,
-                                                          String currentTenantDomain, boolean restrictToPublished)
+    private BrandingPreference resolveOrganizationBrandingFromAncestors(String name, String locale,
+                                                                        String organizationId,
+                                                                        String currentTenantDomain,
+                                                                        boolean restrictToPublished,
+                                                                        BrandedOrgCacheEntry resolution,
+                                                                        BrandedOrgCacheEntry cachedResolution)
             throws BrandingPreferenceMgtException {
 
-        Optional<BrandingPreference> resolvedBrandingPreference;
-        if (restrictToPublished) {
-            resolvedBrandingPreference = getApplicationBrandingFromCache(appId + PUBLISHED_BRANDING_CACHE_KEY_SUFFIX,
-                    locale, currentTenantDomain);
-            if (resolvedBrandingPreference.isPresent()) {
-                return resolvedBrandingPreference.get();
+        // No cache found. Start with current organization.
+        Optional<BrandingPreference> brandingPreference =
+                getBrandingPreference(ORGANIZATION_TYPE, name, locale, currentTenantDomain);
+        if (recordOrgBranding(resolution, brandingPreference, currentTenantDomain, restrictToPublished)) {
+            return brandingPreference.get();
+        }
+
+        try {
+            // There's no need to resolve branding preferences for super tenant since it is the root organization.
+            if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
+                List<AncestorOrganization> ancestorOrganizations =
+                        organizationHierarchyResolver.getAncestorOrganizations(organizationId, currentTenantDomain);
+                if (ancestorOrganizations.isEmpty()) {
+                    // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+                    addOrgBrandingTombstoneToCache(organizationId, currentTenantDomain, resolution,
+                            cachedResolution);
+                    throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
+                            ORGANIZATION_TYPE, name, currentTenantDomain);
+                }
+
+                // Get the minimum hierarchy depth that needs to be reached to resolve branding preference
+                int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+                for (AncestorOrganization ancestorOrganization : ancestorOrganizations) {
+                    String ancestorTenantDomain = ancestorOrganization.getTenantDomain();
+                    if (ancestorOrganization.getDepthInHierarchy() >= minHierarchyDepth) {
+                        brandingPreference =
+                                getBrandingPreference(ORGANIZATION_TYPE, name, locale, ancestorTenantDomain);
+                        if (recordOrgBranding(resolution, brandingPreference, ancestorTenantDomain,
+                                restrictToPublished)) {
+                            /*Since Branding is inherited from an ancestor org,
+                              removing the ancestor org displayName.*/
+                            removeOrgDisplayNameFromBrandingPreference(brandingPreference.get());
+                            addOrgBrandingToCacheOnRead(organizationId, currentTenantDomain, resolution,
+                                    cachedResolution);
+                            return brandingPreference.get();
+                        }
+                    } else {
+                        break;
+                    }
+                }
             }
+        } catch (OrganizationManagementException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, currentTenantDomain);
+        }
+
+        // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+        addOrgBrandingTombstoneToCache(organizationId, currentTenantDomain, resolution, cachedResolution);
+        throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
+                ORGANIZATION_TYPE, name, currentTenantDomain);
+    }
+
+    private ResolvedBrandingCacheEntry resolveApplicationBranding(String appId, String locale, String orgId,
+                                                                  String currentTenantDomain,
+                                                                  boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        ResolvedBrandingCacheEntry resolvedBranding = getResolvedBrandingFromCache(APPLICATION_TYPE, appId, locale,
+                restrictToPublished, currentTenantDomain);
+        if (resolvedBranding != null) {
+            return resolvedBranding;
         }
 
-        resolvedBrandingPreference = getApplicationBrandingFromCache(appId, locale, currentTenantDomain);
+        return loadResolvedBranding(APPLICATION_TYPE, appId, locale, restrictToPublished, currentTenantDomain,
+                hierarchyGenerations -> resolveApplicationBrandingFromHierarchy(appId, locale, orgId,
+                        currentTenantDomain, restrictToPublished, hierarchyGenerations));
+    }
+
+    private BrandingPreference resolveApplicationBrandingFromHierarchy(String appId, String locale, String orgId,
+                                                                       String currentTenantDomain,
+                                                                       boolean restrictToPublished,
+                                                                       Map<String, Long> hierarchyGenerations)
+            throws BrandingPreferenceMgtException {
+
+        // Both the draft and the published resolutions are kept in a single entry, hence a single cache probe.
+        BrandedAppCacheKey cacheKey = new BrandedAppCacheKey(appId);
+        BrandedAppCacheEntry cachedResolution = brandedAppCache.getValueFromCache(cacheKey, currentTenantDomain);
+        if (cachedResolution != null && !isHierarchyGenerationCurrent(cachedResolution)) {
+            cachedResolution = null;
+        }
+        brandedAppCache.refreshIfStale(cacheKey, cachedResolution, currentTenantDomain,
+                () -> refreshApplicationBranding(appId, locale, orgId, currentTenantDomain, restrictToPublished));
+        Optional<BrandingPreference> resolvedBrandingPreference = getApplicationBrandingFromCache(appId, locale,
+                cachedResolution, currentTenantDomain, restrictToPublished);
         if (isBrandingAvailable(restrictToPublished, resolvedBrandingPreference)) {
+            hierarchyGenerations.putAll(cachedResolution.getDependentGenerations(restrictToPublished));
             return resolvedBrandingPreference.get();
         }
 
+        BrandedAppCacheEntry resolution = new BrandedAppCacheEntry();
+        resolution.setHierarchyGenerations(getHierarchyGenerations(orgId, currentTenantDomain));
+        BrandingPreference brandingPreference;
+        long loadStartTime = System.nanoTime();
+        try {
+            if (batchedAncestorLookupEnabled) {
+                brandingPreference = resolveApplicationBrandingWithBatchedLookup(appId, locale, orgId,
+                        currentTenantDomain, restrictToPublished, resolution, cachedResolution);
+            } else {
+                brandingPreference = resolveApplicationBrandingFromAncestors(appId, locale, orgId,
+                        currentTenantDomain, restrictToPublished, resolution, cachedResolution);
+            }
+        } finally {
+            brandedAppCache.recordLoadTime(currentTenantDomain, System.nanoTime() - loadStartTime);
+        }
+        hierarchyGenerations.putAll(resolution.getDependentGenerations(restrictToPublished));
+        return brandingPreference;
+    }
+
+    /**
+     * Resolve the application branding from the hierarchy again to refresh the stale branding resolved app cache
+     * entry.
+     */
+    private void refreshApplicationBranding(String appId, String locale, String orgId, String currentTenantDomain,
+                                            boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        BrandedAppCacheEntry resolution = new BrandedAppCacheEntry();
+        resolution.setHierarchyGenerations(getHierarchyGenerations(orgId, currentTenantDomain));
+        try {
+            if (batchedAncestorLookupEnabled) {
+                resolveApplicationBrandingWithBatchedLookup(appId, locale, orgId, currentTenantDomain,
+                        restrictToPublished, resolution, null);
+            } else {
+                resolveApplicationBrandingFromAncestors(appId, locale, orgId, currentTenantDomain,
+                        restrictToPublished, resolution, null);
+            }
+        } catch (BrandingPreferenceMgtClientException e) {
+            // No branding is configured in the hierarchy, hence a tombstone is cached for the application.
+            return;
+        }
+        // A branding resolved from the application itself is not cached by the resolution.
+        addAppBrandingToCacheOnRead(appId, currentTenantDomain, resolution, null);
+    }
+
+    private BrandingPreference resolveApplicationBrandingFromAncestors(String appId, String locale, String orgId,
+                                                                       String currentTenantDomain,
+                                                                       boolean restrictToPublished,
+                                                                       BrandedAppCacheEntry resolution,
+                                                                       BrandedAppCacheEntry cachedResolution)
+            throws BrandingPreferenceMgtException {
+
         // No cache found. Start with current organization application branding.
         Optional<BrandingPreference> brandingPreference =
                 getBrandingPreference(APPLICATION_TYPE, appId, locale, currentTenantDomain);
-        if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
+        if (recordAppBranding(resolution, brandingPreference, currentTenantDomain, appId, APPLICATION_TYPE,
+                restrictToPublished)) {
             return brandingPreference.get();
         }
 
         // No application branding found. Check current organization branding.
         brandingPreference = getBrandingPreference(ORGANIZATION_TYPE, currentTenantDomain, locale,
                 currentTenantDomain);
-        if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
-            addAppBrandingToCacheOnRead(appId, currentTenantDomain, null, currentTenantDomain, ORGANIZATION_TYPE,
-                    restrictToPublished);
+        if (recordAppBranding(resolution, brandingPreference, currentTenantDomain, null, ORGANIZATION_TYPE,
+                restrictToPublished)) {
+            addAppBrandingToCacheOnRead(appId, currentTenantDomain, resolution, cachedResolution);
             return brandingPreference.get();
         }
 
         /* It is not possible to resolve application branding further if the organization ID is null or
           if the current tenant domain is super tenant since it is the root organization. */
         if (orgId == null || MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
-            // No branding found. Adding the same app id to cache to avoid the resolving in the next run.
-            addAppBrandingToCacheOnRead(appId, currentTenantDomain, appId, currentTenantDomain, APPLICATION_TYPE,
-                    restrictToPublished);
+            // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+            addAppBrandingTombstoneToCache(appId, currentTenantDomain, resolution, cachedResolution);
             throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
                     APPLICATION_TYPE, appId, currentTenantDomain);
         }
 
         try {
-            OrganizationManager organizationManager =
-                    BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
-            List<String> ancestorOrganizationIds = organizationManager.getAncestorOrganizationIds(orgId);
-            if (CollectionUtils.isEmpty(ancestorOrganizationIds) || ancestorOrganizationIds.size() < 2) {
-                // No branding found. Adding the same app id to cache to avoid the resolving in the next run.
-                addAppBrandingToCacheOnRead(appId, currentTenantDomain, appId, currentTenantDomain, APPLICATION_TYPE,
-                        restrictToPublished);
+            List<AncestorOrganization> ancestorOrganizations =
+                    organizationHierarchyResolver.getAncestorOrganizations(orgId, currentTenantDomain);
+            if (ancestorOrganizations.isEmpty()) {
+                // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+                addAppBrandingTombstoneToCache(appId, currentTenantDomain, resolution, cachedResolution);
                 throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
                         APPLICATION_TYPE, appId, currentTenantDomain);
             }
 
-            OrgApplicationManager orgApplicationManager =
-                    BrandingResolverComponentDataHolder.getInstance().getOrgApplicationManager();
-            Map<String, String> ancestorAppIds = orgApplicationManager.getAncestorAppIds(appId, orgId);
-            int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
-            for (String ancestorOrgId : ancestorOrganizationIds.subList(1, ancestorOrganizationIds.size())) {
-                String ancestorAppId = ancestorAppIds.get(ancestorOrgId);
-                String ancestorTenantDomain = organizationManager.resolveTenantDomain(ancestorOrgId);
-                int ancestorDepthInHierarchy = organizationManager.getOrganizationDepthInHierarchy(ancestorOrgId);
+            Map<String, String> ancestorAppIds =
+                    organizationHierarchyResolver.getAncestorAppIds(appId, orgId, currentTenantDomain);
+            int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+            for (AncestorOrganization ancestorOrganization : ancestorOrganizations) {
+                String ancestorAppId = ancestorAppIds.get(ancestorOrganization.getOrganizationId());
+                String ancestorTenantDomain = ancestorOrganization.getTenantDomain();
+                if (ancestorOrganization.getDepthInHierarchy() >= minHierarchyDepth) {
+                    brandingPreference =
+                            getAppBrandingPreferenceFromAncestor(appId, locale, currentTenantDomain, ancestorAppId,
+                                    ancestorTenantDomain, restrictToPublished, resolution, cachedResolution);
+                    if (brandingPreference.isPresent()) {
+                        return brandingPreference.get();
+                    }
+                } else {
+                    break;
+                }
+            }
+
+            // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+            addAppBrandingTombstoneToCache(appId, currentTenantDomain, resolution, cachedResolution);
+            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
+                    APPLICATION_TYPE, appId, currentTenantDomain);
+        } catch (OrganizationManagementException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GETTING_APP_BRANDING_PREFERENCE,
+                    appId, currentTenantDomain);
+        }
+    }
+
+    /**
+     * Resolve the organization branding by retrieving the branding resources of the current organization and the
+     * ancestor organizations in a single query. The nearest configured branding is returned.
+     */
+    private BrandingPreference resolveOrganizationBrandingWithBatchedLookup(String name, String locale,
+                                                                            String organizationId,
+                                                                            String currentTenantDomain,
+                                                                            boolean restrictToPublished,
+                                                                            BrandedOrgCacheEntry resolution,
+                                                                            BrandedOrgCacheEntry cachedResolution)
+            throws BrandingPreferenceMgtException {
+
+        List<BrandingResourceCandidate> candidates = new ArrayList<>();
+        candidates.add(buildBrandingResourceCandidate(ORGANIZATION_TYPE, name, locale, currentTenantDomain));
+        // There's no need to resolve branding preferences for super tenant since it is the root organization.
+        if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
+            try {
+                for (AncestorOrganization ancestorOrganization :
+                        getBrandingEligibleAncestors(organizationId, currentTenantDomain)) {
+                    candidates.add(buildBrandingResourceCandidate(ORGANIZATION_TYPE, name, locale,
+                            ancestorOrganization.getTenantDomain()));
+                }
+            } catch (OrganizationManagementException e) {
+                throw handleServerException(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, currentTenantDomain);
+            }
+        }
+
+        Map<BrandingResourceCandidate, byte[]> resourceFiles =
+                brandingResourceDAO.getBrandingResourceFiles(candidates, currentTenantDomain);
+        for (BrandingResourceCandidate candidate : candidates) {
+            Optional<BrandingPreference> brandingPreference =
+                    getBrandingPreference(candidate, resourceFiles.get(candidate), locale);
+            if (!recordOrgBranding(resolution, brandingPreference, candidate.getTenantDomain(),
+                    restrictToPublished)) {
+                continue;
+            }
+            if (!currentTenantDomain.equals(candidate.getTenantDomain())) {
+                // Since Branding is inherited from an ancestor org, removing the ancestor org displayName.
+                removeOrgDisplayNameFromBrandingPreference(brandingPreference.get());
+                addOrgBrandingToCacheOnRead(organizationId, currentTenantDomain, resolution, cachedResolution);
+            }
+            return brandingPreference.get();
+        }
+
+        // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+        addOrgBrandingTombstoneToCache(organizationId, currentTenantDomain, resolution, cachedResolution);
+        throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
+                ORGANIZATION_TYPE, name, currentTenantDomain);
+    }
+
+    /**
+     * Resolve the application branding by retrieving the app-level and org-level branding resources of the current
+     * organization and the ancestor organizations in a single query. The nearest configured branding is returned.
+     */
+    private BrandingPreference resolveApplicationBrandingWithBatchedLookup(String appId, String locale, String orgId,
+                                                                           String currentTenantDomain,
+                                                                           boolean restrictToPublished,
+                                                                           BrandedAppCacheEntry resolution,
+                                                                           BrandedAppCacheEntry cachedResolution)
+            throws BrandingPreferenceMgtException {
+
+        List<BrandingResourceCandidate> candidates = new ArrayList<>();
+        candidates.add(buildBrandingResourceCandidate(APPLICATION_TYPE, appId, locale, currentTenantDomain));
+        candidates.add(buildBrandingResourceCandidate(ORGANIZATION_TYPE, currentTenantDomain, locale,
+                currentTenantDomain));
+        /* It is not possible to resolve application branding further if the organization ID is null or
+          if the current tenant domain is super tenant since it is the root organization. */
+        if (orgId != null && !MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
+            try {
+                List<AncestorOrganization> ancestorOrganizations =
+                        getBrandingEligibleAncestors(orgId, currentTenantDomain);
+                if (!ancestorOrganizations.isEmpty()) {
+                    Map<String, String> ancestorAppIds =
+                            organizationHierarchyResolver.getAncestorAppIds(appId, orgId, currentTenantDomain);
+                    for (AncestorOrganization ancestorOrganization : ancestorOrganizations) {
+                        String ancestorTenantDomain = ancestorOrganization.getTenantDomain();
+                        String ancestorAppId = ancestorAppIds.get(ancestorOrganization.getOrganizationId());
+                        // If the app is selectively not shared with the ancestor org, ancestor app id can be empty.
+                        if (StringUtils.isNotBlank(ancestorAppId)) {
+                            candidates.add(buildBrandingResourceCandidate(APPLICATION_TYPE, ancestorAppId, locale,
+                                    ancestorTenantDomain));
+                        }
+                        candidates.add(buildBrandingResourceCandidate(ORGANIZATION_TYPE, ancestorTenantDomain,
+                                locale, ancestorTenantDomain));
+                    }
+                }
+            } catch (OrganizationManagementException e) {
+                throw handleServerException(ERROR_CODE_ERROR_GETTING_APP_BRANDING_PREFERENCE,
+                        appId, currentTenantDomain);
+            }
+        }
+
+        Map<BrandingResourceCandidate, byte[]> resourceFiles =
+                brandingResourceDAO.getBrandingResourceFiles(candidates, currentTenantDomain);
+        for (BrandingResourceCandidate candidate : candidates) {
+            Optional<BrandingPreference> brandingPreference =
+                    getBrandingPreference(candidate, resourceFiles.get(candidate), locale);
+            boolean isAppLevelBranding = APPLICATION_TYPE.equals(candidate.getBrandingType());
+            if (!recordAppBranding(resolution, brandingPreference, candidate.getTenantDomain(),
+                    isAppLevelBranding ? candidate.getBrandingName() : null, candidate.getBrandingType(),
+                    restrictToPublished)) {
+                continue;
+            }
+            if (currentTenantDomain.equals(candidate.getTenantDomain())) {
+                if (!isAppLevelBranding) {
+                    addAppBrandingToCacheOnRead(appId, currentTenantDomain, resolution, cachedResolution);
+                }
+                return brandingPreference.get();
+            }
+            // Since Branding is inherited from the ancestor org, removing the ancestor org displayName.
+            removeOrgDisplayNameFromBrandingPreference(brandingPreference.get());
+            addAppBrandingToCacheOnRead(appId, currentTenantDomain, resolution, cachedResolution);
+            return brandingPreference.get();
+        }
+
+        // No branding found. Adding a tombstone to cache to avoid the resolving in the next run.
+        addAppBrandingTombstoneToCache(appId, currentTenantDomain, resolution, cachedResolution);
+        throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
+                APPLICATION_TYPE, appId, currentTenantDomain);
+    }
+
+    /**
+     * Get the ancestor organizations which are deep enough in the hierarchy to inherit the branding from.
+     */
+    private List<AncestorOrganization> getBrandingEligibleAncestors(String organizationId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+        List<AncestorOrganization> eligibleAncestors = new ArrayList<>();
+        for (AncestorOrganization ancestorOrganization :
+                organizationHierarchyResolver.getAncestorOrganizations(organizationId, tenantDomain)) {
+            if (ancestorOrganization.getDepthInHierarchy() < minHierarchyDepth) {
+                break;
+            }
+            if (StringUtils.isNotBlank(ancestorOrganization.getTenantDomain())) {
+                eligibleAncestors.add(ancestorOrganization);
+            }
+        }
+        return eligibleAncestors;
+    }
+
+    private BrandingResourceCandidate buildBrandingResourceCandidate(String type, String name, String locale,
+                                                                     String tenantDomain) {
+
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        String resourceName = APPLICATION_TYPE.equals(type) ? name.toLowerCase() + RESOURCE_NAME_SEPARATOR + locale
+                : tenantId + RESOURCE_NAME_SEPARATOR + locale;
+        return new BrandingResourceCandidate(type, name, tenantDomain, tenantId, getResourceType(type), resourceName);
+    }
+
+    /**
+     * Build the branding preference from the file content of a branding resource retrieved in a batched lookup.
+     */
+    private Optional<BrandingPreference> getBrandingPreference(BrandingResourceCandidate candidate, byte[] value,
+                                                               String locale)
+            throws BrandingPreferenceMgtException {
+
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(candidate.getTenantDomain(), true);
+            String resolvedSourceName = ORGANIZATION_TYPE.equals(candidate.getBrandingType()) ?
+                    candidate.getTenantDomain() : candidate.getBrandingName();
+            return Optional.of(buildBrandingPreference(new ByteArrayInputStream(value), candidate.getBrandingType(),
+                    candidate.getBrandingName(), locale, resolvedSourceName));
+        } catch (IOException e) {
+            throw handleServerException(ERROR_CODE_ERROR_BUILDING_BRANDING_PREFERENCE, candidate.getTenantDomain());
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Get the fully resolved branding preference from the resolved branding cache.
+     *
+     * @param type                Type of the requested branding.
+     * @param brandedIdentifier   Identifier of the organization/application that the branding is requested for.
+     * @param locale              Requested locale.
+     * @param restrictToPublished Whether the branding is resolved only using published branding preferences.
+     * @param currentTenantDomain Tenant domain of the cache entry.
+     * @return Resolved branding cache entry, or null if a cache entry does not exist.
+     */
+    private ResolvedBrandingCacheEntry getResolvedBrandingFromCache(String type, String brandedIdentifier,
+                                                                    String locale, boolean restrictToPublished,
+                                                                    String currentTenantDomain) {
+
+        ResolvedBrandingCacheEntry valueFromCache = resolvedBrandingCache.getValueFromCache(
+                new ResolvedBrandingCacheKey(type, brandedIdentifier, locale, restrictToPublished),
+                currentTenantDomain);
+        if (valueFromCache != null && !isHierarchyGenerationCurrent(valueFromCache)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Resolved branding preference for: " + brandedIdentifier + " in tenant: " +
+                        currentTenantDomain + " is stale since a branding in the hierarchy has changed.");
+            }
+            return null;
+        }
+        if (valueFromCache != null && LOG.isDebugEnabled()) {
+            LOG.debug("Resolved branding preference for: " + brandedIdentifier + " is retrieved from the cache in " +
+                    "tenant: " + currentTenantDomain);
+        }
+        return valueFromCache;
+    }
+
+    /**
+     * Build the branding preference returned to the caller from a resolved branding cache entry.
+     *
+     * @param resolvedBranding Resolved branding cache entry.
+     * @param locale           Requested locale.
+     * @return Resolved branding preference.
+     */
+    private BrandingPreference toBrandingPreference(ResolvedBrandingCacheEntry resolvedBranding, String locale) {
+
+        BrandingPreference brandingPreference = new BrandingPreference();
+        brandingPreference.setPreference(resolvedBranding.getPreference());
+        brandingPreference.setType(resolvedBranding.getType());
+        brandingPreference.setName(resolvedBranding.getName());
+        brandingPreference.setLocale(locale);
+        brandingPreference.setResolvedFrom(resolvedBranding.getResolvedFromType(),
+                resolvedBranding.getResolvedFromName());
+        return brandingPreference;
+    }
+
+    private ResolvedBrandingCacheEntry toResolvedBrandingCacheEntry(BrandingPreference brandingPreference,
+                                                                    String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        return new ResolvedBrandingCacheEntry(brandingPreference.getType(), brandingPreference.getName(),
+                brandingPreference.getResolvedFrom().getType(), brandingPreference.getResolvedFrom().getName(),
+                brandingPreference.getPreference(),
+                buildResolvedBrandingPayload(brandingPreference.getPreference(), currentTenantDomain));
+    }
+
+    /**
+     * Serialize the resolved branding preference to UTF-8 encoded JSON and compute its entity tag. The payload is
+     * built along with the resolved branding cache entry, before the entry is shared through the cache.
+     *
+     * @param preference          Resolved branding preference.
+     * @param currentTenantDomain Tenant domain of the resolved branding.
+     * @return Serialized form of the resolved branding preference.
+     * @throws BrandingPreferenceMgtException If an error occurred while serializing the branding preference.
+     */
+    private ResolvedBrandingPayload buildResolvedBrandingPayload(Object preference, String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        byte[] content;
+        try {
+            content = new ObjectMapper().writeValueAsBytes(preference);
+        } catch (IOException e) {
+            throw handleServerException(ERROR_CODE_ERROR_BUILDING_BRANDING_PREFERENCE, currentTenantDomain, e);
+        }
+        String eTag;
+        try {
+            byte[] digest = MessageDigest.getInstance(ETAG_DIGEST_ALGORITHM).digest(content);
+            eTag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw handleServerException(ERROR_CODE_ERROR_BUILDING_BRANDING_PREFERENCE, currentTenantDomain, e);
+        }
+        return new ResolvedBrandingPayload(content, eTag, System.currentTimeMillis());
+    }
+
+    /**
+     * Resolve the branding preference from the hierarchy and add it to the resolved branding cache. Concurrent
+     * resolutions of the same branding are coalesced so that only one of them walks the hierarchy.
+     *
+     * @param type                Type of the requested branding.
+     * @param brandedIdentifier   Identifier of the organization/application that the branding is requested for.
+     * @param locale              Requested locale.
+     * @param restrictToPublished Whether the branding is resolved only using published branding preferences.
+     * @param currentTenantDomain Tenant domain of the cache entry.
+     * @param hierarchyResolver   Loader which resolves the branding preference from the hierarchy, and records the
+     *                            branding generations of the hierarchy that the resolution depends on.
+     * @return Resolved branding cache entry.
+     * @throws BrandingPreferenceMgtException If an error occurred while resolving the branding preference.
+     */
+    private ResolvedBrandingCacheEntry loadResolvedBranding(String type, String brandedIdentifier, String locale,
+                                                            boolean restrictToPublished, String currentTenantDomain,
+                                                            HierarchyBrandingLoader hierarchyResolver)
+            throws BrandingPreferenceMgtException {
 
-                if (ancestorDepthInHierarchy >= minHierarchyDepth) {
-                    brandingPreference =
-                            getAppBrandingPreferenceFromAncestor(appId, locale, currentTenantDomain, ancestorAppId,
-                                    ancestorTenantDomain, restrictToPublished);
-                    if (brandingPreference.isPresent()) {
-                        return brandingPreference.get();
-                    }
-                } else {
-                    break;
-                }
+        String loadKey = currentTenantDomain + ":" + type + ":" + brandedIdentifier + ":" + locale + ":" +
+                restrictToPublished;
+        return inFlightBrandingLoads.load(loadKey, () -> {
+            Map<String, Long> hierarchyGenerations = new HashMap<>();
+            BrandingPreference brandingPreference;
+            long loadStartTime = System.nanoTime();
+            try {
+                brandingPreference = hierarchyResolver.load(hierarchyGenerations);
+            } finally {
+                resolvedBrandingCache.recordLoadTime(currentTenantDomain, System.nanoTime() - loadStartTime);
             }
-
-            // No branding found. Adding the same app id to cache to avoid the resolving in the next run.
-            addAppBrandingToCacheOnRead(appId, currentTenantDomain, appId, currentTenantDomain, APPLICATION_TYPE,
-                    restrictToPublished);
-            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED,
-                    APPLICATION_TYPE, appId, currentTenantDomain);
-        } catch (OrganizationManagementException e) {
-            throw handleServerException(ERROR_CODE_ERROR_GETTING_APP_BRANDING_PREFERENCE,
-                    appId, currentTenantDomain);
-        }
+            return addResolvedBrandingToCache(type, brandedIdentifier, locale, restrictToPublished,
+                    currentTenantDomain, brandingPreference, hierarchyGenerations);
+        });
     }
 
-    private Optional<BrandingPreference> getOrganizationBrandingFromCache(String name, String locale, String cacheKeyId,
-                                                                          String currentTenantDomain)
+    /**
+     * Add the fully resolved branding preference to the resolved branding cache.
+     *
+     * @param type                 Type of the requested branding.
+     * @param brandedIdentifier    Identifier of the organization/application that the branding is requested for.
+     * @param locale               Requested locale.
+     * @param restrictToPublished  Whether the branding is resolved only using published branding preferences.
+     * @param currentTenantDomain  Tenant domain of the cache entry.
+     * @param brandingPreference   Resolved branding preference.
+     * @param hierarchyGenerations Branding generations of the hierarchy that the resolution depends on.
+     * @return Added cache entry.
+     * @throws BrandingPreferenceMgtException If an error occurred while serializing the branding preference.
+     */
+    private ResolvedBrandingCacheEntry addResolvedBrandingToCache(String type, String brandedIdentifier,
+                                                                  String locale, boolean restrictToPublished,
+                                                                  String currentTenantDomain,
+                                                                  BrandingPreference brandingPreference,
+                                                                  Map<String, Long> hierarchyGenerations)
             throws BrandingPreferenceMgtException {
 
-        BrandedOrgCacheEntry valueFromCache;
-        valueFromCache =
-                brandedOrgCache.getValueFromCache(new BrandedOrgCacheKey(cacheKeyId),
-                        currentTenantDomain);
-        if (valueFromCache != null) {
-            String brandingResolvedTenantDomain = valueFromCache.getBrandingResolvedTenant();
-            BrandingPreference resolvedBrandingPreference = getPreference(ORGANIZATION_TYPE, name, locale,
-                    brandingResolvedTenantDomain);
+        ResolvedBrandingCacheKey cacheKey =
+                new ResolvedBrandingCacheKey(type, brandedIdentifier, locale, restrictToPublished);
+        ResolvedBrandingCacheEntry cacheEntry = toResolvedBrandingCacheEntry(brandingPreference, currentTenantDomain);
+        cacheEntry.setHierarchyGenerations(hierarchyGenerations);
+        resolvedBrandingCache.addToCacheOnRead(cacheKey, cacheEntry, currentTenantDomain);
+        return cacheEntry;
+    }
 
-            if (!currentTenantDomain.equals(brandingResolvedTenantDomain)) {
-                // Since Branding is inherited from an ancestor org, removing the ancestor org displayName.
-                removeOrgDisplayNameFromBrandingPreference(resolvedBrandingPreference);
+    private Optional<BrandingPreference> getOrganizationBrandingFromCache(String name, String locale,
+                                                                          BrandedOrgCacheEntry cachedResolution,
+                                                                          String currentTenantDomain,
+                                                                          boolean restrictToPublished)
+            throws BrandingPreferenceMgtException {
+
+        if (cachedResolution == null) {
+            return Optional.empty();
+        }
+        BrandingResolutionTarget target = cachedResolution.getTarget(restrictToPublished);
+        if (target == null) {
+            return Optional.empty();
+        }
+        if (target.isNotConfigured()) {
+            if (target.isExpired()) {
+                TombstoneCacheStatistics.getInstance().recordExpiration(BrandedOrgCache.CACHE_NAME);
+                return Optional.empty();
             }
-            return Optional.of(resolvedBrandingPreference);
+            TombstoneCacheStatistics.getInstance().recordHit(BrandedOrgCache.CACHE_NAME);
+            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED, ORGANIZATION_TYPE, name,
+                    currentTenantDomain);
         }
-        return Optional.empty();
+        String brandingResolvedTenantDomain = target.getResolvedTenantDomain();
+        BrandingPreference resolvedBrandingPreference = getPreference(ORGANIZATION_TYPE, name, locale,
+                brandingResolvedTenantDomain);
+
+        if (!currentTenantDomain.equals(brandingResolvedTenantDomain)) {
+            // Since Branding is inherited from an ancestor org, removing the ancestor org displayName.
+            removeOrgDisplayNameFromBrandingPreference(resolvedBrandingPreference);
+        }
+        return Optional.of(resolvedBrandingPreference);
     }
 
-    private Optional<BrandingPreference> getApplicationBrandingFromCache(String cacheKeyId, String locale,
-                                                                         String currentTenantDomain)
+    private Optional<BrandingPreference> getApplicationBrandingFromCache(String appId, String locale,
+                                                                         BrandedAppCacheEntry cachedResolution,
+                                                                         String currentTenantDomain,
+                                                                         boolean restrictToPublished)
             throws BrandingPreferenceMgtException {
 
-        BrandedAppCacheEntry valueFromCache =
-                brandedAppCache.getValueFromCache(new BrandedAppCacheKey(cacheKeyId), currentTenantDomain);
-        if (valueFromCache != null) {
-            String brandingResolvedAppId = valueFromCache.getBrandingResolvedAppId();
-            String brandingResolvedTenantDomain = valueFromCache.getBrandingResolvedTenant();
-            String resolvedBrandingType = valueFromCache.getResolvedBrandingType();
-
-            BrandingPreference resolvedBrandingPreference;
-            if (APPLICATION_TYPE.equals(resolvedBrandingType)) {
-                resolvedBrandingPreference =
-                        getPreference(APPLICATION_TYPE, brandingResolvedAppId, locale, brandingResolvedTenantDomain);
-            } else {
-                resolvedBrandingPreference =
-                        getPreference(ORGANIZATION_TYPE, brandingResolvedTenantDomain, locale,
-                                brandingResolvedTenantDomain);
-            }
-            if (!currentTenantDomain.equals(brandingResolvedTenantDomain)) {
-                // Since Branding is inherited from an ancestor org, removing the ancestor org displayName.
-                removeOrgDisplayNameFromBrandingPreference(resolvedBrandingPreference);
+        if (cachedResolution == null) {
+            return Optional.empty();
+        }
+        BrandingResolutionTarget target = cachedResolution.getTarget(restrictToPublished);
+        if (target == null) {
+            return Optional.empty();
+        }
+        if (target.isNotConfigured()) {
+            if (target.isExpired()) {
+                TombstoneCacheStatistics.getInstance().recordExpiration(BrandedAppCache.CACHE_NAME);
+                return Optional.empty();
             }
-            return Optional.of(resolvedBrandingPreference);
+            TombstoneCacheStatistics.getInstance().recordHit(BrandedAppCache.CACHE_NAME);
+            throw handleClientException(ERROR_CODE_BRANDING_PREFERENCE_NOT_CONFIGURED, APPLICATION_TYPE, appId,
+                    currentTenantDomain);
         }
-        return Optional.empty();
+        String brandingResolvedTenantDomain = target.getResolvedTenantDomain();
+        BrandingPreference resolvedBrandingPreference;
+        if (APPLICATION_TYPE.equals(target.getResolvedBrandingType())) {
+            resolvedBrandingPreference = getPreference(APPLICATION_TYPE, target.getResolvedAppId(), locale,
+                    brandingResolvedTenantDomain);
+        } else {
+            resolvedBrandingPreference =
+                    getPreference(ORGANIZATION_TYPE, brandingResolvedTenantDomain, locale,
+                            brandingResolvedTenantDomain);
+        }
+        if (!currentTenantDomain.equals(brandingResolvedTenantDomain)) {
+            // Since Branding is inherited from an ancestor org, removing the ancestor org displayName.
+            removeOrgDisplayNameFromBrandingPreference(resolvedBrandingPreference);
+        }
+        return Optional.of(resolvedBrandingPreference);
     }
 
     private Optional<BrandingPreference> getAppBrandingPreferenceFromAncestor(
             String appId, String locale, String currentTenantDomain, String ancestorAppId,
-            String ancestorTenantDomain, Boolean restrictToPublished) throws BrandingPreferenceMgtException {
+            String ancestorTenantDomain, Boolean restrictToPublished, BrandedAppCacheEntry resolution,
+            BrandedAppCacheEntry cachedResolution) throws BrandingPreferenceMgtException {
 
         Optional<BrandingPreference> brandingPreference;
         // If the app is selectively not shared with the ancestor org, ancestor app id can be empty.
@@ -434,12 +1145,12 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
             // Check ancestor organization app-level branding.
             brandingPreference = getBrandingPreference(APPLICATION_TYPE, ancestorAppId, locale,
                     ancestorTenantDomain);
-            if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
+            if (recordAppBranding(resolution, brandingPreference, ancestorTenantDomain, ancestorAppId,
+                    APPLICATION_TYPE, restrictToPublished)) {
                 /* Since Branding is inherited from app-level branding of the ancestor org,
                   removing the ancestor org displayName. */
                 removeOrgDisplayNameFromBrandingPreference(brandingPreference.get());
-                addAppBrandingToCacheOnRead(appId, currentTenantDomain, ancestorAppId, ancestorTenantDomain,
-                        APPLICATION_TYPE, restrictToPublished);
+                addAppBrandingToCacheOnRead(appId, currentTenantDomain, resolution, cachedResolution);
                 return brandingPreference;
             }
         }
@@ -447,12 +1158,12 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         brandingPreference =
                 getBrandingPreference(ORGANIZATION_TYPE, ancestorTenantDomain, locale,
                         ancestorTenantDomain);
-        if (isBrandingAvailable(restrictToPublished, brandingPreference)) {
+        if (recordAppBranding(resolution, brandingPreference, ancestorTenantDomain, null, ORGANIZATION_TYPE,
+                restrictToPublished)) {
             /* Since Branding is inherited from org-level branding of the parent org,
               removing the ancestor org displayName. */
             removeOrgDisplayNameFromBrandingPreference(brandingPreference.get());
-            addAppBrandingToCacheOnRead(appId, currentTenantDomain, null, ancestorTenantDomain,
-                    ORGANIZATION_TYPE, restrictToPublished);
+            addAppBrandingToCacheOnRead(appId, currentTenantDomain, resolution, cachedResolution);
             return brandingPreference;
         }
         return Optional.empty();
@@ -462,6 +1173,18 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
     public void clearBrandingResolverCacheHierarchy(String type, String name, String currentTenantDomain)
             throws BrandingPreferenceMgtException {
 
+        // The locale of the change is not known, hence no descendant is skipped by the hierarchy walk.
+        clearBrandingResolverCacheHierarchy(type, name, null, currentTenantDomain);
+    }
+
+    @Override
+    public void clearBrandingResolverCacheHierarchy(String type, String name, String locale,
+                                                    String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        // Resolved branding preferences of the organization are materialized per locale, hence clear all of them.
+        resolvedBrandingCache.clear(currentTenantDomain);
+
         OrganizationManager organizationManager =
                 BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
         String organizationId = getOrganizationId();
@@ -487,17 +1210,17 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
                 clearOrgBrandingResolverCache(currentTenantDomain, organizationId);
                 brandedAppCache.clear(currentTenantDomain);
             }
+            if (hierarchyGenerationInvalidationEnabled) {
+                /* Resolver cache entries of the child organizations which inherit from this organization record its
+                  branding generation. Hence, advancing it makes exactly those entries stale without traversing the
+                  hierarchy. */
+                organizationHierarchyResolver.advanceBrandingGeneration(currentTenantDomain);
+                return;
+            }
             String usernameInContext = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-            String currentOrgId = organizationId;
             // Clear branding resolver caches by looping through child organization hierarchy.
-            CompletableFuture.runAsync(() -> {
-                try {
-                    clearBrandingResolverCacheHierarchy(type, name, organizationManager, currentOrgId,
-                            currentTenantDomain, usernameInContext);
-                } catch (BrandingPreferenceMgtServerException e) {
-                    LOG.error("An error occurred while clearing branding preference cache hierarchy", e);
-                }
-            }, executorService);
+            submitHierarchyInvalidation(HierarchyInvalidationCheckpoint.forBranding(currentTenantDomain,
+                    organizationId, usernameInContext, type, name, locale));
         }
     }
 
@@ -511,73 +1234,228 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, currentTenantDomain, currentTenantDomain);
     }
 
-    private void clearBrandingResolverCacheHierarchy(String type, String name, OrganizationManager organizationManager,
-                                                     String currentOrgId, String currentTenantDomain,
-                                                     String usernameInContext)
+    /**
+     * Resume the hierarchy invalidation walks which were interrupted before they invalidated their last page.
+     */
+    public void resumeHierarchyInvalidations() {
+
+        for (HierarchyInvalidationCheckpoint checkpoint : checkpointStore.getCheckpoints()) {
+            LOG.info("Resuming the hierarchy invalidation walk: " + checkpoint.getId() + " of tenant: " +
+                    checkpoint.getTenantDomain() + " after " + checkpoint.getProcessedCount() + " organizations.");
+            submitHierarchyInvalidation(checkpoint);
+        }
+    }
+
+    /**
+     * Save the checkpoint of a hierarchy invalidation walk and submit the walk as a job.
+     *
+     * @param checkpoint Checkpoint of the walk.
+     */
+    private void submitHierarchyInvalidation(HierarchyInvalidationCheckpoint checkpoint) {
+
+        checkpointStore.save(checkpoint);
+        HierarchyInvalidationJob job = HierarchyInvalidationJobManager.getInstance().submit(checkpoint.getId(),
+                checkpoint.getJobKey(), checkpoint.getTenantDomain(),
+                submittedJob -> runHierarchyInvalidation(checkpoint, submittedJob));
+        if (!checkpoint.getId().equals(job.getId())) {
+            // The walk is merged into a queued job, which has its own checkpoint.
+            checkpointStore.remove(checkpoint.getId());
+        }
+    }
+
+    private void runHierarchyInvalidation(HierarchyInvalidationCheckpoint checkpoint, HierarchyInvalidationJob job)
+            throws BrandingPreferenceMgtServerException {
+
+        OrganizationManager organizationManager =
+                BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
+        if (HierarchyInvalidationCheckpoint.CUSTOM_TEXT_KIND.equals(checkpoint.getKind())) {
+            clearCustomTextResolverCacheHierarchy(organizationManager, checkpoint, job);
+        } else {
+            clearBrandingResolverCacheHierarchy(organizationManager, checkpoint, job);
+        }
+    }
+
+    private void clearBrandingResolverCacheHierarchy(OrganizationManager organizationManager,
+                                                     HierarchyInvalidationCheckpoint checkpoint,
+                                                     HierarchyInvalidationJob job)
             throws BrandingPreferenceMgtServerException {
 
-        String cursor = null;
-        int pageSize = 10000;
-        int iteratorLimit = 100;
+        String type = checkpoint.getType();
+        String name = checkpoint.getName();
+        String currentTenantDomain = checkpoint.getTenantDomain();
+        String usernameInContext = checkpoint.getUsername();
+        // Whether the tenants below the changed organization own a published branding, found during the walk.
+        Map<String, Boolean> ownedBrandings = new ConcurrentHashMap<>();
+        BrandingClusterInvalidator clusterInvalidator = BrandingClusterInvalidator.getInstance();
+        BrandingCacheInvalidationBatch resolvedBrandingBatch = clusterInvalidator.isBatchingEnabled() ?
+                clusterInvalidator.newBatch(getHierarchyInvalidationCaches(true)) : null;
+        // Application branding values are invalidated per application, hence only organization walks batch them.
+        BrandingCacheInvalidationBatch resolverBatch =
+                clusterInvalidator.isBatchingEnabled() && ORGANIZATION_TYPE.equals(type) ?
+                        clusterInvalidator.newBatch(getHierarchyInvalidationCaches(false)) : null;
         try {
             PrivilegedCarbonContext.startTenantFlow();
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(currentTenantDomain, true);
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(usernameInContext);
-            int counter = 0;
-            do {
-                try {
-                    List<BasicOrganization> organizations =
-                            organizationManager.getOrganizations(pageSize, cursor, null, "DESC", "", true);
-                    Map<String, String> childAppIds = new HashMap<>();
-                    if (APPLICATION_TYPE.equals(type)) {
-                        OrgApplicationManager orgApplicationManager =
-                                BrandingResolverComponentDataHolder.getInstance().getOrgApplicationManager();
-                        List<String> childOrgIds = organizations.stream()
-                                .map(BasicOrganization::getId)
-                                .collect(Collectors.toList());
-                        childAppIds = orgApplicationManager.getChildAppIds(name, currentOrgId, childOrgIds);
-                    }
-                    for (BasicOrganization childOrganization : organizations) {
-                        String childTenantDomain = organizationManager.resolveTenantDomain(childOrganization.getId());
-                        if (StringUtils.isNotBlank(childTenantDomain)) {
-                            if (APPLICATION_TYPE.equals(type)) {
-                                String childAppId = childAppIds.get(childOrganization.getId());
-                                if (StringUtils.isNotBlank(childAppId)) {
-                                    clearAppBrandingResolverCache(childTenantDomain, childAppId);
-                                }
-                            } else if (ORGANIZATION_TYPE.equals(type)) {
-                                clearOrgBrandingResolverCache(childTenantDomain, childOrganization.getId());
-                                brandedAppCache.clear(childTenantDomain);
-                            }
-                        }
-                    }
-                    cursor = organizations.isEmpty() ? null : Base64.getEncoder().encodeToString(
-                            organizations.get(organizations.size() - 1).getCreated().getBytes(StandardCharsets.UTF_8));
-                    if (counter > iteratorLimit || counter == 0) {
-                        LOG.info("Cursor: " + cursor + ", Organization Size : " + organizations.size()
-                                + " and Counter : " + counter);
-                    }
-                    if (counter > iteratorLimit + 5) {
-                        break;
-                    }
-                } catch (OrganizationManagementException e) {
-                    throw handleServerException(ERROR_CODE_ERROR_CLEARING_BRANDING_PREFERENCE_RESOLVER_CACHE_HIERARCHY,
-                            currentTenantDomain);
+            hierarchyInvalidationWalker.walk(organizationManager, checkpoint, job, organizationIds -> {
+                Map<String, String> childAppIds = new HashMap<>();
+                if (APPLICATION_TYPE.equals(type)) {
+                    OrgApplicationManager orgApplicationManager =
+                            BrandingResolverComponentDataHolder.getInstance().getOrgApplicationManager();
+                    childAppIds.putAll(orgApplicationManager.getChildAppIds(name, checkpoint.getOrganizationId(),
+                            organizationIds));
                 }
-                counter++;
-            } while (cursor != null);
+                // Descendant organizations of the page are invalidated in parallel.
+                HierarchyInvalidationExecutor.getInstance().invalidate(organizationIds, currentTenantDomain,
+                        usernameInContext, descendantOrgId -> clearDescendantBrandingResolverCache(checkpoint,
+                                descendantOrgId, childAppIds.get(descendantOrgId), ownedBrandings,
+                                resolvedBrandingBatch, resolverBatch));
+            });
+        } catch (OrganizationManagementException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CLEARING_BRANDING_PREFERENCE_RESOLVER_CACHE_HIERARCHY,
+                    currentTenantDomain, e);
         } finally {
+            if (resolvedBrandingBatch != null) {
+                resolvedBrandingBatch.flush();
+            }
+            if (resolverBatch != null) {
+                resolverBatch.flush();
+            }
             PrivilegedCarbonContext.endTenantFlow();
         }
     }
 
-    private void clearOrgBrandingResolverCache(String tenantDomain, String organizationId) {
+    /**
+     * Clear the branding resolver caches of a descendant organization found by a hierarchy walk, unless the
+     * organization cannot inherit the changed branding.
+     *
+     * @param checkpoint            Checkpoint of the walk.
+     * @param organizationId        Id of the descendant organization.
+     * @param appId                 Id of the application in the descendant organization, if any.
+     * @param ownedBrandings        Whether the tenants below the changed organization own a published branding.
+     * @param resolvedBrandingBatch Batch of the resolved branding cache, if the invalidations are batched.
+     * @param resolverBatch         Batch of the organization branding caches, if the invalidations are batched.
+     * @throws OrganizationManagementException If the hierarchy of the organization cannot be resolved.
+     */
+    private void clearDescendantBrandingResolverCache(HierarchyInvalidationCheckpoint checkpoint,
+                                                      String organizationId, String appId,
+                                                      Map<String, Boolean> ownedBrandings,
+                                                      BrandingCacheInvalidationBatch resolvedBrandingBatch,
+                                                      BrandingCacheInvalidationBatch resolverBatch)
+            throws OrganizationManagementException {
+
+        String type = checkpoint.getType();
+        String tenantDomain = organizationHierarchyResolver.resolveTenantDomain(organizationId);
+        if (StringUtils.isBlank(tenantDomain)) {
+            return;
+        }
+        if (isBrandingOwnedBelow(checkpoint, organizationId, tenantDomain, ownedBrandings)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Skipping the branding resolver cache invalidation of organization: " + organizationId +
+                        " since its branding is resolved below organization: " + checkpoint.getOrganizationId());
+            }
+            return;
+        }
+        if (resolvedBrandingBatch != null) {
+            resolvedBrandingBatch.add(tenantDomain);
+        } else {
+            resolvedBrandingCache.clear(tenantDomain);
+        }
+        if (APPLICATION_TYPE.equals(type)) {
+            if (StringUtils.isNotBlank(appId)) {
+                clearAppBrandingResolverCache(tenantDomain, appId);
+            }
+        } else if (ORGANIZATION_TYPE.equals(type)) {
+            if (resolverBatch != null) {
+                resolverBatch.add(tenantDomain);
+            } else {
+                clearOrgBrandingResolverCache(tenantDomain, organizationId);
+                brandedAppCache.clear(tenantDomain);
+            }
+        }
+    }
+
+    /**
+     * Check whether the organization or one of its ancestors below the changed organization owns a published
+     * organization branding of the changed locale. Both the organization and the application brandings of the
+     * organization are then resolved before reaching the changed organization, hence they cannot be affected.
+     *
+     * @param checkpoint     Checkpoint of the walk.
+     * @param organizationId Id of the descendant organization.
+     * @param tenantDomain   Tenant domain of the descendant organization.
+     * @param ownedBrandings Whether the tenants below the changed organization own a published branding.
+     * @return True if the branding of the organization is resolved below the changed organization.
+     * @throws OrganizationManagementException If the hierarchy of the organization cannot be resolved.
+     */
+    private boolean isBrandingOwnedBelow(HierarchyInvalidationCheckpoint checkpoint, String organizationId,
+                                         String tenantDomain, Map<String, Boolean> ownedBrandings)
+            throws OrganizationManagementException {
+
+        String locale = checkpoint.getLocale();
+        if (StringUtils.isBlank(locale)) {
+            return false;
+        }
+        if (ownsPublishedBranding(tenantDomain, locale, ownedBrandings)) {
+            return true;
+        }
+        for (AncestorOrganization ancestorOrganization :
+                organizationHierarchyResolver.getAncestorOrganizations(organizationId, tenantDomain)) {
+            if (checkpoint.getOrganizationId().equals(ancestorOrganization.getOrganizationId())) {
+                return false;
+            }
+            if (StringUtils.isNotBlank(ancestorOrganization.getTenantDomain()) &&
+                    ownsPublishedBranding(ancestorOrganization.getTenantDomain(), locale, ownedBrandings)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the tenant owns a published organization branding of the given locale. The result is kept for
+     * the rest of the walk, hence each tenant is looked up once.
+     */
+    private boolean ownsPublishedBranding(String tenantDomain, String locale, Map<String, Boolean> ownedBrandings) {
+
+        Boolean ownsBranding = ownedBrandings.get(tenantDomain);
+        if (ownsBranding != null) {
+            return ownsBranding;
+        }
+        try {
+            Optional<BrandingPreference> brandingPreference =
+                    getBrandingPreference(ORGANIZATION_TYPE, tenantDomain, locale, tenantDomain);
+            ownsBranding = brandingPreference.isPresent() &&
+                    BrandingPreferenceMgtUtils.isBrandingPublished(brandingPreference.get());
+        } catch (BrandingPreferenceMgtException e) {
+            // The descendants of a tenant whose branding cannot be read are invalidated.
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error occurred while checking the branding preference of tenant: " + tenantDomain, e);
+            }
+            ownsBranding = false;
+        }
+        ownedBrandings.put(tenantDomain, ownsBranding);
+        return ownsBranding;
+    }
+
+    /**
+     * Get the caches invalidated for the child organizations by a hierarchy walk, keyed by their names.
+     *
+     * @param resolvedBrandingOnly Whether to get only the resolved branding cache.
+     * @return Caches invalidated by the walk.
+     */
+    private Map<String, InstrumentedBaseCache<?, ?>> getHierarchyInvalidationCaches(boolean resolvedBrandingOnly) {
 
-        clearOrgBrandingResolverCacheWithKeyId(tenantDomain, organizationId);
-        clearOrgBrandingResolverCacheWithKeyId(tenantDomain, organizationId + PUBLISHED_BRANDING_CACHE_KEY_SUFFIX);
+        Map<String, InstrumentedBaseCache<?, ?>> caches = new LinkedHashMap<>();
+        if (resolvedBrandingOnly) {
+            caches.put(ResolvedBrandingCache.CACHE_NAME, resolvedBrandingCache);
+            return caches;
+        }
+        caches.put(BrandedOrgCache.CACHE_NAME, brandedOrgCache);
+        caches.put(BrandedAppCache.CACHE_NAME, brandedAppCache);
+        return caches;
     }
 
-    private void clearOrgBrandingResolverCacheWithKeyId(String tenantDomain, String organizationId) {
+    private void clearOrgBrandingResolverCache(String tenantDomain, String organizationId) {
 
         BrandedOrgCacheKey brandedOrgCacheKey = new BrandedOrgCacheKey(organizationId);
         BrandedOrgCacheEntry valueFromCache =
@@ -590,13 +1468,7 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
 
     private void clearAppBrandingResolverCache(String tenantDomain, String appId) {
 
-        clearAppBrandingResolverCacheWithKeyId(tenantDomain, appId);
-        clearAppBrandingResolverCacheWithKeyId(tenantDomain, appId + PUBLISHED_BRANDING_CACHE_KEY_SUFFIX);
-    }
-
-    private void clearAppBrandingResolverCacheWithKeyId(String tenantDomain, String cacheKeyId) {
-
-        BrandedAppCacheKey brandedAppCacheKey = new BrandedAppCacheKey(cacheKeyId);
+        BrandedAppCacheKey brandedAppCacheKey = new BrandedAppCacheKey(appId);
         BrandedAppCacheEntry valueFromCache =
                 brandedAppCache.getValueFromCache(brandedAppCacheKey, tenantDomain);
         if (valueFromCache != null) {
@@ -609,14 +1481,31 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
     public CustomText resolveCustomText(String type, String name, String screen, String locale)
             throws BrandingPreferenceMgtException {
 
+        return resolveCustomText(type, name, screen, locale, getAccessingOrganizationId());
+    }
+
+    @Override
+    public CompletionStage<CustomText> resolveCustomTextAsync(String type, String name, String screen,
+                                                              String locale) {
+
+        // The accessing organization is not restored by the tenant flow of the executor. Hence, it is captured here.
+        String accessingOrganizationId = getAccessingOrganizationId();
+        return BrandingResolverAsyncExecutor.getInstance().submit(
+                () -> resolveCustomText(type, name, screen, locale, accessingOrganizationId));
+    }
+
+    private CustomText resolveCustomText(String type, String name, String screen, String locale,
+                                         String accessingOrganizationId)
+            throws BrandingPreferenceMgtException {
+
         String currentTenantDomain;
         String organizationId;
         try {
-            currentTenantDomain = resolveEffectiveTenantDomain();
-            organizationId = resolveEffectiveOrganizationId();
+            currentTenantDomain = resolveEffectiveTenantDomain(accessingOrganizationId);
+            organizationId = resolveEffectiveOrganizationId(accessingOrganizationId);
         } catch (OrganizationManagementException e) {
             throw handleServerException(ERROR_CODE_ERROR_RESOLVING_TENANT_FOR_CUSTOM_TEXT_PREFERENCE,
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext().getAccessingOrganizationId());
+                    accessingOrganizationId);
         }
 
         OrganizationManager organizationManager =
@@ -643,67 +1532,118 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
 
         if (organizationId != null) {
             String resourceName = getResourceNameForCustomText(screen, locale);
-            TextCustomizedOrgCacheEntry valueFromCache = textCustomizedOrgCache.getValueFromCache
-                    (new TextCustomizedOrgCacheKey(organizationId, resourceName), currentTenantDomain);
+            TextCustomizedOrgCacheKey cacheKey = new TextCustomizedOrgCacheKey(organizationId, resourceName);
+            TextCustomizedOrgCacheEntry valueFromCache =
+                    textCustomizedOrgCache.getValueFromCache(cacheKey, currentTenantDomain);
+            if (valueFromCache instanceof TombstoneCacheEntry) {
+                if (((TombstoneCacheEntry) valueFromCache).isExpired()) {
+                    TombstoneCacheStatistics.getInstance().recordExpiration(TextCustomizedOrgCache.CACHE_NAME);
+                    textCustomizedOrgCache.clearCacheEntry(cacheKey, currentTenantDomain);
+                    valueFromCache = null;
+                } else {
+                    TombstoneCacheStatistics.getInstance().recordHit(TextCustomizedOrgCache.CACHE_NAME);
+                    throw handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain());
+                }
+            }
             if (valueFromCache != null) {
+                String resolvedOrganizationId = organizationId;
+                String resolvedTenantDomain = currentTenantDomain;
+                textCustomizedOrgCache.refreshIfStale(cacheKey, valueFromCache, currentTenantDomain,
+                        () -> refreshCustomText(type, name, screen, locale, resolvedOrganizationId, resourceName,
+                                resolvedTenantDomain));
                 Optional<CustomText> customText =
                         getCustomText(type, name, screen, locale, valueFromCache.getCustomTextResolvedTenant());
                 return customText.orElseThrow(
                         () -> handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain()));
             }
 
-            // No cache found. Start with current organization.
+            // Concurrent resolutions of the same custom text are coalesced to walk the hierarchy only once.
+            String loadKey = currentTenantDomain + ":" + type + ":" + name + ":" + resourceName;
+            String resolvingOrganizationId = organizationId;
+            String resolvingTenantDomain = currentTenantDomain;
+            return inFlightCustomTextLoads.load(loadKey, () -> {
+                long loadStartTime = System.nanoTime();
+                try {
+                    return resolveCustomTextFromHierarchy(type, name, screen, locale, resolvingOrganizationId,
+                            resourceName, resolvingTenantDomain);
+                } finally {
+                    textCustomizedOrgCache.recordLoadTime(resolvingTenantDomain, System.nanoTime() - loadStartTime);
+                }
+            });
+        } else {
+            // No need to resolve the custom text preference. Try to fetch the config from the same org.
             Optional<CustomText> customText = getCustomText(type, name, screen, locale, currentTenantDomain);
-            if (customText.isPresent()) {
-                return customText.get();
-            }
+            return customText.orElseThrow(
+                    () -> handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain()));
+        }
+    }
 
-            try {
-                // There's no need to resolve custom text for super tenant since it is the root organization.
-                if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
-                    // Get the details of the parent organization and resolve the custom text preferences.
-                    List<String> ancestorOrganizationIds =
-                            organizationManager.getAncestorOrganizationIds(organizationId);
-                    if (CollectionUtils.isEmpty(ancestorOrganizationIds) || ancestorOrganizationIds.size() < 2) {
-                        /*  No custom text found. Adding the same tenant domain to cache
-                          to avoid the resolving in the next run. */
-                        addCustomTextResolvedOrgToCacheOnRead(organizationId, resourceName, currentTenantDomain,
-                                currentTenantDomain);
-                        throw handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain());
-                    }
+    private CustomText resolveCustomTextFromHierarchy(String type, String name, String screen, String locale,
+                                                      String organizationId, String resourceName,
+                                                      String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
 
-                    // Get the minimum hierarchy depth that needs to be reached to resolve branding preference.
-                    int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
-                    for (String ancestorOrgId : ancestorOrganizationIds.subList(1, ancestorOrganizationIds.size())) {
-                        String ancestorTenantDomain = organizationManager.resolveTenantDomain(ancestorOrgId);
-                        int ancestorDepthInHierarchy =
-                                organizationManager.getOrganizationDepthInHierarchy(ancestorOrgId);
-
-                        if (ancestorDepthInHierarchy >= minHierarchyDepth) {
-                            customText = getCustomText(type, name, screen, locale, ancestorTenantDomain);
-                            if (customText.isPresent()) {
-                                addCustomTextResolvedOrgToCacheOnRead
-                                        (organizationId, resourceName, currentTenantDomain, ancestorTenantDomain);
-                                return customText.get();
-                            }
-                        } else {
-                            break;
+        // No cache found. Start with current organization.
+        Optional<CustomText> customText = getCustomText(type, name, screen, locale, currentTenantDomain);
+        if (customText.isPresent()) {
+            return customText.get();
+        }
+
+        try {
+            // There's no need to resolve custom text for super tenant since it is the root organization.
+            if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(currentTenantDomain)) {
+                // Get the details of the parent organization and resolve the custom text preferences.
+                List<AncestorOrganization> ancestorOrganizations = organizationHierarchyResolver
+                        .getAncestorOrganizations(organizationId, currentTenantDomain);
+                if (ancestorOrganizations.isEmpty()) {
+                    // No custom text found. Adding a tombstone to cache to avoid the resolving in the next run.
+                    addCustomTextTombstoneToCache(organizationId, resourceName, currentTenantDomain);
+                    throw handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain());
+                }
+
+                // Get the minimum hierarchy depth that needs to be reached to resolve branding preference.
+                int minHierarchyDepth = Utils.getSubOrgStartLevel() - 1;
+                for (AncestorOrganization ancestorOrganization : ancestorOrganizations) {
+                    String ancestorTenantDomain = ancestorOrganization.getTenantDomain();
+                    if (ancestorOrganization.getDepthInHierarchy() >= minHierarchyDepth) {
+                        customText = getCustomText(type, name, screen, locale, ancestorTenantDomain);
+                        if (customText.isPresent()) {
+                            addCustomTextResolvedOrgToCacheOnRead
+                                    (organizationId, resourceName, currentTenantDomain, ancestorTenantDomain);
+                            return customText.get();
                         }
+                    } else {
+                        break;
                     }
                 }
-            } catch (OrganizationManagementException e) {
-                throw handleServerException(ERROR_CODE_ERROR_GETTING_CUSTOM_TEXT_PREFERENCE, getTenantDomain());
             }
+        } catch (OrganizationManagementException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GETTING_CUSTOM_TEXT_PREFERENCE, getTenantDomain());
+        }
 
-            // No custom text found. Adding the same tenant domain to cache to avoid the resolving in the next run.
-            addCustomTextResolvedOrgToCacheOnRead(organizationId, resourceName, 
-                    currentTenantDomain, currentTenantDomain);
-            throw handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain());
-        } else {
-            // No need to resolve the custom text preference. Try to fetch the config from the same org.
-            Optional<CustomText> customText = getCustomText(type, name, screen, locale, currentTenantDomain);
-            return customText.orElseThrow(
-                    () -> handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain()));
+        // No custom text found. Adding a tombstone to cache to avoid the resolving in the next run.
+        addCustomTextTombstoneToCache(organizationId, resourceName, currentTenantDomain);
+        throw handleClientException(ERROR_CODE_CUSTOM_TEXT_PREFERENCE_NOT_EXISTS, getTenantDomain());
+    }
+
+    /**
+     * Resolve the custom text from the hierarchy again to refresh the stale custom text resolved tenant cache entry.
+     */
+    private void refreshCustomText(String type, String name, String screen, String locale, String organizationId,
+                                   String resourceName, String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        if (getCustomText(type, name, screen, locale, currentTenantDomain).isPresent()) {
+            // A custom text resolved from the organization itself is not cached by the resolution.
+            addCustomTextResolvedOrgToCacheOnRead(organizationId, resourceName, currentTenantDomain,
+                    currentTenantDomain);
+            return;
+        }
+        try {
+            resolveCustomTextFromHierarchy(type, name, screen, locale, organizationId, resourceName,
+                    currentTenantDomain);
+        } catch (BrandingPreferenceMgtClientException e) {
+            // No custom text is configured in the hierarchy, hence a tombstone is cached for the organization.
         }
     }
 
@@ -736,53 +1676,48 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
                 clearCustomTextResolverCache(currentTenantDomain, organizationId, resourceName);
             }
             String usernameInContext = PrivilegedCarbonContext.getThreadLocalCarbonContext().getUsername();
-            // Clear custom text resolver caches by looping through child organization hierarchy.
-            CompletableFuture.runAsync(() -> {
-                try {
-                    clearCustomTextResolverCacheHierarchy(organizationManager, currentTenantDomain, resourceName,
-                            usernameInContext);
-                } catch (BrandingPreferenceMgtServerException e) {
-                    LOG.error("An error occurred while clearing custom text preference cache hierarchy", e);
-                }
-            }, executorService);
+            /* Clear custom text resolver caches by looping through child organization hierarchy. Resources changed
+              together, such as by a bulk upload, are gathered into a single walk. */
+            CustomTextInvalidationDebouncer.getInstance().submit(currentTenantDomain, organizationId,
+                    usernameInContext, resourceName, this::submitHierarchyInvalidation);
         }
     }
 
     private void clearCustomTextResolverCacheHierarchy(OrganizationManager organizationManager,
-                                                       String currentTenantDomain, String resourceName,
-                                                       String usernameInContext)
+                                                       HierarchyInvalidationCheckpoint checkpoint,
+                                                       HierarchyInvalidationJob job)
             throws BrandingPreferenceMgtServerException {
 
-        String cursor = null;
-        int pageSize = 10000;
+        String currentTenantDomain = checkpoint.getTenantDomain();
+        List<String> resourceNames = checkpoint.getResourceNames();
+        boolean clearAllResources = resourceNames.contains(StringUtils.EMPTY);
+        String usernameInContext = checkpoint.getUsername();
         try {
             PrivilegedCarbonContext.startTenantFlow();
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(currentTenantDomain, true);
             PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(usernameInContext);
-            do {
-                try {
-                    List<BasicOrganization> organizations =
-                            organizationManager.getOrganizations(pageSize, cursor, null, "DESC", "", true);
-                    for (BasicOrganization childOrganization : organizations) {
-                        String childTenantDomain = organizationManager.resolveTenantDomain(childOrganization.getId());
-                        if (StringUtils.isNotBlank(childTenantDomain)) {
-                            if (StringUtils.isBlank(resourceName)) {
-                                // If resourceName is empty, clear all the custom text cache entries for the child org.
-                                clearCustomTextResolverCache(childTenantDomain);
-                            } else {
-                                clearCustomTextResolverCache(childTenantDomain, childOrganization.getId(),
-                                        resourceName);
+            hierarchyInvalidationWalker.walk(organizationManager, checkpoint, job, organizationIds -> {
+                // Descendant organizations of the page are invalidated in parallel.
+                HierarchyInvalidationExecutor.getInstance().invalidate(organizationIds, currentTenantDomain,
+                        usernameInContext, descendantOrgId -> {
+                            String descendantTenantDomain =
+                                    organizationHierarchyResolver.resolveTenantDomain(descendantOrgId);
+                            if (StringUtils.isNotBlank(descendantTenantDomain)) {
+                                if (clearAllResources) {
+                                    // If all the custom texts changed, clear all the custom text entries of the org.
+                                    clearCustomTextResolverCache(descendantTenantDomain);
+                                } else {
+                                    for (String resourceName : resourceNames) {
+                                        clearCustomTextResolverCache(descendantTenantDomain, descendantOrgId,
+                                                resourceName);
+                                    }
+                                }
                             }
-                        }
-                    }
-                    cursor = organizations.isEmpty() ? null : Base64.getEncoder().encodeToString(
-                            organizations.get(organizations.size() - 1).getCreated().getBytes(StandardCharsets.UTF_8));
-                } catch (OrganizationManagementException e) {
-                    throw handleServerException(
-                            ERROR_CODE_ERROR_CLEARING_CUSTOM_TEXT_PREFERENCE_RESOLVER_CACHE_HIERARCHY,
-                            currentTenantDomain);
-                }
-            } while (cursor != null);
+                        });
+            });
+        } catch (OrganizationManagementException e) {
+            throw handleServerException(ERROR_CODE_ERROR_CLEARING_CUSTOM_TEXT_PREFERENCE_RESOLVER_CACHE_HIERARCHY,
+                    currentTenantDomain, e);
         } finally {
             PrivilegedCarbonContext.endTenantFlow();
         }
@@ -816,58 +1751,122 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         }
     }
 
-    private void addOrgBrandingToCache(String brandedOrgId, String brandedTenantDomain,
-                                       String brandingInheritedTenantDomain, boolean restrictToPublished) {
+    /**
+     * Record a branding found while resolving the organization branding.
+     *
+     * @return True if the found branding is the resolved branding.
+     */
+    private boolean recordOrgBranding(BrandedOrgCacheEntry resolution,
+                                      Optional<BrandingPreference> brandingPreference,
+                                      String brandingResolvedTenantDomain, boolean restrictToPublished) {
 
-        String cacheKeyId = brandedOrgId;
-        if (restrictToPublished) {
-            cacheKeyId += PUBLISHED_BRANDING_CACHE_KEY_SUFFIX;
-        }
-        BrandedOrgCacheKey cacheKey = new BrandedOrgCacheKey(cacheKeyId);
-        BrandedOrgCacheEntry cacheEntry = new BrandedOrgCacheEntry(brandingInheritedTenantDomain);
-        brandedOrgCache.addToCache(cacheKey, cacheEntry, brandedTenantDomain);
+        return brandingPreference.isPresent() && resolution.recordFoundBranding(
+                BrandingResolutionTarget.resolvedTo(brandingResolvedTenantDomain, null, ORGANIZATION_TYPE),
+                BrandingPreferenceMgtUtils.isBrandingPublished(brandingPreference.get()), restrictToPublished);
+    }
+
+    /**
+     * Record a branding found while resolving the application branding.
+     *
+     * @return True if the found branding is the resolved branding.
+     */
+    private boolean recordAppBranding(BrandedAppCacheEntry resolution,
+                                      Optional<BrandingPreference> brandingPreference,
+                                      String brandingResolvedTenantDomain, String brandingResolvedAppId,
+                                      String resolvedBrandingType, boolean restrictToPublished) {
+
+        return brandingPreference.isPresent() && resolution.recordFoundBranding(
+                BrandingResolutionTarget.resolvedTo(brandingResolvedTenantDomain, brandingResolvedAppId,
+                        resolvedBrandingType),
+                BrandingPreferenceMgtUtils.isBrandingPublished(brandingPreference.get()), restrictToPublished);
     }
 
+    /**
+     * Add the resolution to the branding resolved tenant cache. The targets which are not resolved in this run
+     * are retained from the cached resolution.
+     *
+     * @param brandedOrgId        Organization id that the branding is requested for.
+     * @param brandedTenantDomain Tenant domain that the branding is requested for.
+     * @param resolution          Resolution of this run.
+     * @param cachedResolution    Resolution which was in the cache, if any.
+     */
     private void addOrgBrandingToCacheOnRead(String brandedOrgId, String brandedTenantDomain,
-                                       String brandingInheritedTenantDomain, boolean restrictToPublished) {
+                                             BrandedOrgCacheEntry resolution, BrandedOrgCacheEntry cachedResolution) {
 
-        String cacheKeyId = brandedOrgId;
-        if (restrictToPublished) {
-            cacheKeyId += PUBLISHED_BRANDING_CACHE_KEY_SUFFIX;
-        }
-        BrandedOrgCacheKey cacheKey = new BrandedOrgCacheKey(cacheKeyId);
-        BrandedOrgCacheEntry cacheEntry = new BrandedOrgCacheEntry(brandingInheritedTenantDomain);
-        brandedOrgCache.addToCacheOnRead(cacheKey, cacheEntry, brandedTenantDomain);
+        resolution.fillMissingTargets(cachedResolution);
+        resolution.retainDependentGenerations();
+        brandedOrgCache.addToCacheOnRead(new BrandedOrgCacheKey(brandedOrgId), resolution, brandedTenantDomain);
     }
 
-    private void addAppBrandingToCache(String appId, String tenantDomain, String brandingInheritedAppId,
-                                       String brandingInheritedTenantDomain, String resolvedBrandingType,
-                                       boolean restrictToPublished) {
+    /**
+     * Add the resolution to the branding resolved app cache. The targets which are not resolved in this run
+     * are retained from the cached resolution.
+     *
+     * @param appId            Application id that the branding is requested for.
+     * @param tenantDomain     Tenant domain of the application.
+     * @param resolution       Resolution of this run.
+     * @param cachedResolution Resolution which was in the cache, if any.
+     */
+    private void addAppBrandingToCacheOnRead(String appId, String tenantDomain, BrandedAppCacheEntry resolution,
+                                             BrandedAppCacheEntry cachedResolution) {
 
-        String cacheKeyId = appId;
-        if (restrictToPublished) {
-            cacheKeyId += PUBLISHED_BRANDING_CACHE_KEY_SUFFIX;
-        }
-        BrandedAppCacheKey cacheKey = new BrandedAppCacheKey(cacheKeyId);
-        BrandedAppCacheEntry cacheEntry =
-                new BrandedAppCacheEntry(brandingInheritedTenantDomain, brandingInheritedAppId,
-                        resolvedBrandingType);
-        brandedAppCache.addToCache(cacheKey, cacheEntry, tenantDomain);
+        resolution.fillMissingTargets(cachedResolution);
+        resolution.retainDependentGenerations();
+        brandedAppCache.addToCacheOnRead(new BrandedAppCacheKey(appId), resolution, tenantDomain);
     }
 
-    private void addAppBrandingToCacheOnRead(String appId, String tenantDomain, String brandingInheritedAppId,
-                                       String brandingInheritedTenantDomain, String resolvedBrandingType,
-                                       boolean restrictToPublished) {
+    /**
+     * Add a tombstone to the branding resolved tenant cache, when no branding is configured in the hierarchy.
+     *
+     * @param brandedOrgId        Organization id that the branding is requested for.
+     * @param brandedTenantDomain Tenant domain that the branding is requested for.
+     * @param resolution          Resolution of this run.
+     * @param cachedResolution    Resolution which was in the cache, if any.
+     */
+    private void addOrgBrandingTombstoneToCache(String brandedOrgId, String brandedTenantDomain,
+                                                BrandedOrgCacheEntry resolution,
+                                                BrandedOrgCacheEntry cachedResolution) {
+
+        resolution.recordNotConfigured(getTombstoneExpiryTime());
+        addOrgBrandingToCacheOnRead(brandedOrgId, brandedTenantDomain, resolution, cachedResolution);
+        TombstoneCacheStatistics.getInstance().recordAddition(BrandedOrgCache.CACHE_NAME);
+    }
 
-        String cacheKeyId = appId;
-        if (restrictToPublished) {
-            cacheKeyId += PUBLISHED_BRANDING_CACHE_KEY_SUFFIX;
-        }
-        BrandedAppCacheKey cacheKey = new BrandedAppCacheKey(cacheKeyId);
-        BrandedAppCacheEntry cacheEntry =
-                new BrandedAppCacheEntry(brandingInheritedTenantDomain, brandingInheritedAppId,
-                        resolvedBrandingType);
-        brandedAppCache.addToCacheOnRead(cacheKey, cacheEntry, tenantDomain);
+    /**
+     * Add a tombstone to the branding resolved app cache, when no branding is configured in the hierarchy.
+     *
+     * @param appId            Application id that the branding is requested for.
+     * @param tenantDomain     Tenant domain of the application.
+     * @param resolution       Resolution of this run.
+     * @param cachedResolution Resolution which was in the cache, if any.
+     */
+    private void addAppBrandingTombstoneToCache(String appId, String tenantDomain, BrandedAppCacheEntry resolution,
+                                                BrandedAppCacheEntry cachedResolution) {
+
+        resolution.recordNotConfigured(getTombstoneExpiryTime());
+        addAppBrandingToCacheOnRead(appId, tenantDomain, resolution, cachedResolution);
+        TombstoneCacheStatistics.getInstance().recordAddition(BrandedAppCache.CACHE_NAME);
+    }
+
+    /**
+     * Add a tombstone to the custom text resolved tenant cache, when no custom text is configured in the hierarchy.
+     *
+     * @param textCustomizedOrgId        Text customized organization id.
+     * @param resourceName               Resource name of the custom text resource. Unique to the screen & locale.
+     * @param textCustomizedTenantDomain Text customized tenant domain.
+     */
+    private void addCustomTextTombstoneToCache(String textCustomizedOrgId, String resourceName,
+                                               String textCustomizedTenantDomain) {
+
+        textCustomizedOrgCache.addToCacheOnRead(new TextCustomizedOrgCacheKey(textCustomizedOrgId, resourceName),
+                new TextCustomizedOrgTombstoneCacheEntry(textCustomizedTenantDomain, getTombstoneExpiryTime()),
+                textCustomizedTenantDomain);
+        TombstoneCacheStatistics.getInstance().recordAddition(TextCustomizedOrgCache.CACHE_NAME);
+    }
+
+    private long getTombstoneExpiryTime() {
+
+        return System.currentTimeMillis() + tombstoneTimeoutInMillis;
     }
 
     private Optional<BrandingPreference> getBrandingPreference(String type, String name, String locale,
@@ -971,10 +1970,14 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         return PrivilegedCarbonContext.getThreadLocalCarbonContext().getOrganizationId();
     }
 
-    private String resolveEffectiveTenantDomain() throws OrganizationManagementException {
+    private String getAccessingOrganizationId() {
+
+        return PrivilegedCarbonContext.getThreadLocalCarbonContext().getAccessingOrganizationId();
+    }
+
+    private String resolveEffectiveTenantDomain(String accessingOrganizationId)
+            throws OrganizationManagementException {
 
-        String accessingOrganizationId =
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().getAccessingOrganizationId();
         if (StringUtils.isNotBlank(accessingOrganizationId)) {
             return BrandingResolverComponentDataHolder.getInstance().getOrganizationManager()
                     .resolveTenantDomain(accessingOrganizationId);
@@ -982,10 +1985,8 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         return getTenantDomain();
     }
 
-    private String resolveEffectiveOrganizationId() {
+    private String resolveEffectiveOrganizationId(String accessingOrganizationId) {
 
-        String accessingOrganizationId =
-                PrivilegedCarbonContext.getThreadLocalCarbonContext().getAccessingOrganizationId();
         if (StringUtils.isNotBlank(accessingOrganizationId)) {
             return accessingOrganizationId;
         }
@@ -1186,4 +2187,42 @@ public class UIBrandingPreferenceResolverImpl implements UIBrandingPreferenceRes
         return brandingPreference.isPresent() &&
                 (!restrictToPublished || BrandingPreferenceMgtUtils.isBrandingPublished(brandingPreference.get()));
     }
+
+    /**
+     * Get the current branding generations of the tenants of the organization and its ancestors. The generations are
+     * recorded before the hierarchy is read, so that a branding change during the resolution makes it stale.
+     */
+    private Map<String, Long> getHierarchyGenerations(String organizationId, String currentTenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        if (!hierarchyGenerationInvalidationEnabled || organizationId == null) {
+            return Collections.emptyMap();
+        }
+        try {
+            return organizationHierarchyResolver.getHierarchyGenerations(organizationId, currentTenantDomain);
+        } catch (OrganizationManagementException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, currentTenantDomain);
+        }
+    }
+
+    private boolean isHierarchyGenerationCurrent(HierarchyDependentCacheEntry cacheEntry) {
+
+        return !hierarchyGenerationInvalidationEnabled ||
+                organizationHierarchyResolver.isHierarchyGenerationCurrent(cacheEntry.getHierarchyGenerations());
+    }
+
+    /**
+     * Loader which resolves a branding preference from the organization hierarchy.
+     */
+    @FunctionalInterface
+    private interface HierarchyBrandingLoader {
+
+        /**
+         * @param hierarchyGenerations Map to which the branding generations of the hierarchy that the resolution
+         *                             depends on are added.
+         * @return Resolved branding preference.
+         * @throws BrandingPreferenceMgtException If an error occurred while resolving the branding preference.
+         */
+        BrandingPreference load(Map<String, Long> hierarchyGenerations) throws BrandingPreferenceMgtException;
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache entry which is kept in the ancestor app ids cache.
+ */
+public class AncestorAppIdsCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 7702846193505228461L;
+
+    private final HashMap<String, String> ancestorAppIds;
+
+    /**
+     * @param ancestorAppIds Ancestor application ids against the ancestor organization ids.
+     */
+    public AncestorAppIdsCacheEntry(Map<String, String> ancestorAppIds) {
+
+        this.ancestorAppIds = new HashMap<>(ancestorAppIds);
+    }
+
+    /**
+     * @return Ancestor application ids against the ancestor organization ids.
+     */
+    public Map<String, String> getAncestorAppIds() {
+
+        return Collections.unmodifiableMap(ancestorAppIds);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for lookup the ancestor application ids of a shared application from the cache.
+ */
+public class AncestorAppIdsCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = -6093214483170239654L;
+
+    private final String appId;
+
+    /**
+     * @param appId ID of the application.
+     */
+    public AncestorAppIdsCacheKey(String appId) {
+
+        this.appId = appId;
+    }
+
+    /**
+     * @return ID of the application.
+     */
+    public String getAppId() {
+
+        return appId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        AncestorAppIdsCacheKey that = (AncestorAppIdsCacheKey) o;
+
+        return appId.equals(that.appId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + appId.hashCode();
+        return result;
+    }
+}
@@ -18,12 +18,12 @@
 
 package org.wso2.carbon.identity.branding.preference.resolver.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
 
 /**
  * Cache implementation for branding resolved app cache.
  */
-public class BrandedAppCache extends BaseCache<BrandedAppCacheKey, BrandedAppCacheEntry> {
+public class BrandedAppCache extends InstrumentedBaseCache<BrandedAppCacheKey, BrandedAppCacheEntry> {
 
     public static final String CACHE_NAME = "BrandedAppCache";
 
@@ -18,77 +18,26 @@
 
 package org.wso2.carbon.identity.branding.preference.resolver.cache;
 
-import org.wso2.carbon.identity.core.cache.CacheEntry;
-
 /**
  * Cache entry which is kept in the branding resolved app cache.
  */
-public class BrandedAppCacheEntry extends CacheEntry {
+public class BrandedAppCacheEntry extends BrandingResolutionCacheEntry {
 
-    private static final long serialVersionUID = 3112605038259278888L;
+    private static final long serialVersionUID = -3492286402784326080L;
 
-    private String brandingResolvedTenant;
-    private String brandingResolvedAppId;
-    private String resolvedBrandingType;
+    public BrandedAppCacheEntry() {
 
-    /**
-     * @param brandingResolvedTenant Domain of the tenant that branding is resolved from.
-     * @param brandingResolvedAppId  App ID of the app that branding is resolved from.
-     * @param resolvedBrandingType   Type of the branding that is resolved.
-     */
-    public BrandedAppCacheEntry(String brandingResolvedTenant, String brandingResolvedAppId,
-                                String resolvedBrandingType) {
-
-        this.brandingResolvedTenant = brandingResolvedTenant;
-        this.brandingResolvedAppId = brandingResolvedAppId;
-        this.resolvedBrandingType = resolvedBrandingType;
     }
 
     /**
-     * @return Domain of the tenant that branding is resolved from.
+     * @param brandingResolvedTenant Domain of the tenant that the draft branding is resolved from.
+     * @param brandingResolvedAppId  App ID of the app that the draft branding is resolved from.
+     * @param resolvedBrandingType   Type of the draft branding that is resolved.
      */
-    public String getBrandingResolvedTenant() {
-
-        return brandingResolvedTenant;
-    }
-
-    /**
-     * @param brandingResolvedTenant Domain of the tenant that branding is resolved from.
-     */
-    public void setBrandingResolvedTenant(String brandingResolvedTenant) {
-
-        this.brandingResolvedTenant = brandingResolvedTenant;
-    }
-
-    /**
-     * @return App ID of the app that branding is resolved from.
-     */
-    public String getBrandingResolvedAppId() {
-
-        return brandingResolvedAppId;
-    }
-
-    /**
-     * @param brandingResolvedAppId App ID of the app that branding is resolved from.
-     */
-    public void setBrandingResolvedAppId(String brandingResolvedAppId) {
-
-        this.brandingResolvedAppId = brandingResolvedAppId;
-    }
-
-    /**
-     * @return Type of the branding that is resolved.
-     */
-    public String getResolvedBrandingType() {
-
-        return resolvedBrandingType;
-    }
-
-    /**
-     * @param resolvedBrandingType Type of the branding that is resolved.
-     */
-    public void setResolvedBrandingType(String resolvedBrandingType) {
+    public BrandedAppCacheEntry(String brandingResolvedTenant, String brandingResolvedAppId,
+                                String resolvedBrandingType) {
 
-        this.resolvedBrandingType = resolvedBrandingType;
+        setTarget(false, BrandingResolutionTarget.resolvedTo(brandingResolvedTenant, brandingResolvedAppId,
+                resolvedBrandingType));
     }
 }
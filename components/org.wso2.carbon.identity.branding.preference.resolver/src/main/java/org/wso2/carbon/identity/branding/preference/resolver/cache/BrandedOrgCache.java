@@ -18,12 +18,12 @@
 
 package org.wso2.carbon.identity.branding.preference.resolver.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
 
 /**
  * Cache implementation for branding resolved tenant cache.
  */
-public class BrandedOrgCache extends BaseCache<BrandedOrgCacheKey, BrandedOrgCacheEntry> {
+public class BrandedOrgCache extends InstrumentedBaseCache<BrandedOrgCacheKey, BrandedOrgCacheEntry> {
 
     public static final String CACHE_NAME = "BrandedOrgCache";
 
@@ -18,39 +18,24 @@
 
 package org.wso2.carbon.identity.branding.preference.resolver.cache;
 
-import org.wso2.carbon.identity.core.cache.CacheEntry;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ORGANIZATION_TYPE;
 
 /**
  * Cache entry which is kept in the branding resolved tenant cache.
  */
-public class BrandedOrgCacheEntry extends CacheEntry {
+public class BrandedOrgCacheEntry extends BrandingResolutionCacheEntry {
 
-    private static final long serialVersionUID = 3112605038259278777L;
+    private static final long serialVersionUID = 8940123460575483643L;
 
-    private String brandingResolvedTenant;
+    public BrandedOrgCacheEntry() {
 
-    /**
-     * @param brandingResolvedTenant Domain of the tenant that branding is resolved from.
-     */
-    public BrandedOrgCacheEntry(String brandingResolvedTenant) {
-
-        this.brandingResolvedTenant = brandingResolvedTenant;
     }
 
     /**
-     * @return Domain of the tenant that branding is resolved from
+     * @param brandingResolvedTenant Domain of the tenant that the draft branding is resolved from.
      */
-    public String getBrandingResolvedTenant() {
-
-        return brandingResolvedTenant;
-    }
-
-    /**
-     * @param brandingResolvedTenant Domain of the tenant that branding is resolved from.
-     */
-    public void setBrandingResolvedTenant(String brandingResolvedTenant) {
+    public BrandedOrgCacheEntry(String brandingResolvedTenant) {
 
-        this.brandingResolvedTenant = brandingResolvedTenant;
+        setTarget(false, BrandingResolutionTarget.resolvedTo(brandingResolvedTenant, null, ORGANIZATION_TYPE));
     }
-
 }
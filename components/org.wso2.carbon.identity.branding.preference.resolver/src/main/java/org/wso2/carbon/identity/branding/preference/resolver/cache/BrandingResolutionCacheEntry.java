@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache entry which records both the draft and the published branding resolution targets of an organization or an
+ * application, so that both kinds of requests are served from a single cache entry. A target which is not known yet
+ * is null.
+ */
+public abstract class BrandingResolutionCacheEntry extends HierarchyDependentCacheEntry {
+
+    private static final long serialVersionUID = -1318274637069510238L;
+
+    private BrandingResolutionTarget draftTarget;
+    private BrandingResolutionTarget publishedTarget;
+
+    /**
+     * @param restrictToPublished Whether the target of the published branding resolution is requested.
+     * @return Resolution target, or null if it is not known.
+     */
+    public BrandingResolutionTarget getTarget(boolean restrictToPublished) {
+
+        return restrictToPublished ? publishedTarget : draftTarget;
+    }
+
+    /**
+     * @param restrictToPublished Whether the target of the published branding resolution is set.
+     * @param target              Resolution target.
+     */
+    public void setTarget(boolean restrictToPublished, BrandingResolutionTarget target) {
+
+        if (restrictToPublished) {
+            publishedTarget = target;
+        } else {
+            draftTarget = target;
+        }
+    }
+
+    /**
+     * Record a branding found while walking the hierarchy. The first branding found is the draft target and the
+     * first published branding found is the published target.
+     *
+     * @param target              Target of the found branding.
+     * @param published           Whether the found branding is published.
+     * @param restrictToPublished Whether the walk resolves the published branding.
+     * @return True if the found branding completes the walk.
+     */
+    public boolean recordFoundBranding(BrandingResolutionTarget target, boolean published,
+                                       boolean restrictToPublished) {
+
+        if (draftTarget == null) {
+            draftTarget = target;
+        }
+        if (published && publishedTarget == null) {
+            publishedTarget = target;
+        }
+        return !restrictToPublished || publishedTarget != null;
+    }
+
+    /**
+     * Record that the walk did not find a branding. The targets which are not found are marked as not configured.
+     *
+     * @param expiryTime Time in milliseconds since epoch at which the not configured targets expire.
+     */
+    public void recordNotConfigured(long expiryTime) {
+
+        if (draftTarget == null) {
+            draftTarget = BrandingResolutionTarget.notConfigured(expiryTime);
+        }
+        if (publishedTarget == null) {
+            publishedTarget = BrandingResolutionTarget.notConfigured(expiryTime);
+        }
+    }
+
+    /**
+     * Fill the targets which are not known in this entry from the given entry, unless they have expired.
+     *
+     * @param entry Entry to fill the targets from.
+     */
+    public void fillMissingTargets(BrandingResolutionCacheEntry entry) {
+
+        if (entry == null) {
+            return;
+        }
+        if (draftTarget == null && entry.draftTarget != null && !entry.draftTarget.isExpired()) {
+            draftTarget = entry.draftTarget;
+        }
+        if (publishedTarget == null && entry.publishedTarget != null && !entry.publishedTarget.isExpired()) {
+            publishedTarget = entry.publishedTarget;
+        }
+    }
+
+    /**
+     * @param restrictToPublished Whether the published branding resolution is requested.
+     * @return Branding generations of the tenants that the resolution depends on, from the tenant of the entry up
+     * to the resolved tenant.
+     */
+    public Map<String, Long> getDependentGenerations(boolean restrictToPublished) {
+
+        return getGenerationsUpTo(getTarget(restrictToPublished));
+    }
+
+    /**
+     * Retain only the branding generations of the tenants that the known targets depend on. A branding change of a
+     * tenant above the farthest resolved tenant does not affect the resolution, hence it does not make the entry
+     * stale.
+     */
+    public void retainDependentGenerations() {
+
+        setHierarchyGenerations(getGenerationsUpTo(draftTarget, publishedTarget));
+    }
+
+    private Map<String, Long> getGenerationsUpTo(BrandingResolutionTarget... targets) {
+
+        Set<String> resolvedTenantDomains = new HashSet<>();
+        for (BrandingResolutionTarget target : targets) {
+            if (target == null) {
+                continue;
+            }
+            if (target.isNotConfigured()) {
+                // Branding configured anywhere in the hierarchy would change a not configured resolution.
+                return getHierarchyGenerations();
+            }
+            resolvedTenantDomains.add(target.getResolvedTenantDomain());
+        }
+        Map<String, Long> dependentGenerations = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> hierarchyGeneration : getHierarchyGenerations().entrySet()) {
+            if (resolvedTenantDomains.isEmpty()) {
+                break;
+            }
+            dependentGenerations.put(hierarchyGeneration.getKey(), hierarchyGeneration.getValue());
+            resolvedTenantDomains.remove(hierarchyGeneration.getKey());
+        }
+        return dependentGenerations;
+    }
+}
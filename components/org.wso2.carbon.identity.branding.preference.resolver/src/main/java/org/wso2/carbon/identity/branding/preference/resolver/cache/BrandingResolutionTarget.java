@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import java.io.Serializable;
+
+/**
+ * Target that a branding resolution is resolved to, i.e. the organization/application whose branding preference is
+ * used. A target can also record that nothing is configured anywhere in the hierarchy, in which case it expires
+ * independently of the cache timeout.
+ */
+public class BrandingResolutionTarget implements Serializable, TombstoneCacheEntry {
+
+    private static final long serialVersionUID = 5829163540724912781L;
+
+    private final String resolvedTenantDomain;
+    private final String resolvedAppId;
+    private final String resolvedBrandingType;
+    private final long notConfiguredExpiryTime;
+
+    private BrandingResolutionTarget(String resolvedTenantDomain, String resolvedAppId, String resolvedBrandingType,
+                                     long notConfiguredExpiryTime) {
+
+        this.resolvedTenantDomain = resolvedTenantDomain;
+        this.resolvedAppId = resolvedAppId;
+        this.resolvedBrandingType = resolvedBrandingType;
+        this.notConfiguredExpiryTime = notConfiguredExpiryTime;
+    }
+
+    /**
+     * @param resolvedTenantDomain Domain of the tenant that branding is resolved from.
+     * @param resolvedAppId        App ID of the app that branding is resolved from, if it is app-level branding.
+     * @param resolvedBrandingType Type of the branding that is resolved.
+     * @return Target which resolves to the given branding.
+     */
+    public static BrandingResolutionTarget resolvedTo(String resolvedTenantDomain, String resolvedAppId,
+                                                      String resolvedBrandingType) {
+
+        return new BrandingResolutionTarget(resolvedTenantDomain, resolvedAppId, resolvedBrandingType, 0L);
+    }
+
+    /**
+     * @param expiryTime Time in milliseconds since epoch at which the target expires.
+     * @return Target which records that nothing is configured in the hierarchy.
+     */
+    public static BrandingResolutionTarget notConfigured(long expiryTime) {
+
+        return new BrandingResolutionTarget(null, null, null, expiryTime);
+    }
+
+    /**
+     * @return Domain of the tenant that branding is resolved from.
+     */
+    public String getResolvedTenantDomain() {
+
+        return resolvedTenantDomain;
+    }
+
+    /**
+     * @return App ID of the app that branding is resolved from, if it is app-level branding.
+     */
+    public String getResolvedAppId() {
+
+        return resolvedAppId;
+    }
+
+    /**
+     * @return Type of the branding that is resolved.
+     */
+    public String getResolvedBrandingType() {
+
+        return resolvedBrandingType;
+    }
+
+    /**
+     * @return True if nothing is configured in the hierarchy.
+     */
+    public boolean isNotConfigured() {
+
+        return notConfiguredExpiryTime > 0;
+    }
+
+    @Override
+    public long getExpiryTime() {
+
+        return isNotConfigured() ? notConfiguredExpiryTime : Long.MAX_VALUE;
+    }
+}
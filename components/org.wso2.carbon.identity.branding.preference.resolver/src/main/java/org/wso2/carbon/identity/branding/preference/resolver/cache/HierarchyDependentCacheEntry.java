@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.branding.preference.management.core.cache.TimestampedCacheEntry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache entry which depends on the branding of the tenants in an organization hierarchy. The branding generations of
+ * those tenants are recorded when the entry is resolved, and the entry is stale once any of them is advanced.
+ */
+public abstract class HierarchyDependentCacheEntry extends TimestampedCacheEntry {
+
+    private static final long serialVersionUID = 2705146390832215576L;
+
+    private LinkedHashMap<String, Long> hierarchyGenerations;
+
+    /**
+     * @return Branding generations against the tenant domains that the entry depends on, ordered from the tenant of
+     * the entry up the hierarchy.
+     */
+    public Map<String, Long> getHierarchyGenerations() {
+
+        if (hierarchyGenerations == null) {
+            return Collections.emptyMap();
+        }
+        return Collections.unmodifiableMap(hierarchyGenerations);
+    }
+
+    /**
+     * @param hierarchyGenerations Branding generations against the tenant domains that the entry depends on,
+     *                             ordered from the tenant of the entry up the hierarchy.
+     */
+    public void setHierarchyGenerations(Map<String, Long> hierarchyGenerations) {
+
+        this.hierarchyGenerations = new LinkedHashMap<>(hierarchyGenerations);
+    }
+}
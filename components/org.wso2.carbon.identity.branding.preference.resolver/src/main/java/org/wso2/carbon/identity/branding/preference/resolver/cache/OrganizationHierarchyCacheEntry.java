@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.AncestorOrganization;
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cache entry which is kept in the organization hierarchy cache.
+ */
+public class OrganizationHierarchyCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -1497563021458839217L;
+
+    private final ArrayList<AncestorOrganization> organizationHierarchy;
+
+    /**
+     * @param organizationHierarchy Organizations from the organization itself up to the root organization.
+     */
+    public OrganizationHierarchyCacheEntry(List<AncestorOrganization> organizationHierarchy) {
+
+        this.organizationHierarchy = new ArrayList<>(organizationHierarchy);
+    }
+
+    /**
+     * @return Organizations from the organization itself up to the root organization.
+     */
+    public List<AncestorOrganization> getOrganizationHierarchy() {
+
+        return Collections.unmodifiableList(organizationHierarchy);
+    }
+}
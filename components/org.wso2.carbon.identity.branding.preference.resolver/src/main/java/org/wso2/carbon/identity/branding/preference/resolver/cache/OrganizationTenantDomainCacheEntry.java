@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheEntry;
+
+/**
+ * Cache entry which is kept in the organization tenant domain cache.
+ */
+public class OrganizationTenantDomainCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 2986140537719238604L;
+
+    private final String tenantDomain;
+
+    /**
+     * @param tenantDomain Tenant domain of the organization.
+     */
+    public OrganizationTenantDomainCacheEntry(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+    }
+
+    /**
+     * @return Tenant domain of the organization.
+     */
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
+
+/**
+ * Cache implementation for fully resolved branding preferences.
+ */
+public class ResolvedBrandingCache
+        extends InstrumentedBaseCache<ResolvedBrandingCacheKey, ResolvedBrandingCacheEntry> {
+
+    public static final String CACHE_NAME = "ResolvedBrandingCache";
+
+    private static volatile ResolvedBrandingCache instance;
+
+    private ResolvedBrandingCache() {
+
+        super(CACHE_NAME);
+    }
+
+    /**
+     * Get cache instance.
+     *
+     * @return ResolvedBrandingCache
+     */
+    public static ResolvedBrandingCache getInstance() {
+
+        if (instance == null) {
+            synchronized (ResolvedBrandingCache.class) {
+                if (instance == null) {
+                    instance = new ResolvedBrandingCache();
+                }
+            }
+        }
+        return instance;
+    }
+}
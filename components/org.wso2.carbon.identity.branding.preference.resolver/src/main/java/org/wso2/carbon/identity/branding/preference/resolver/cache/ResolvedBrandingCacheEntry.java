@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache entry which is kept in the resolved branding cache.
+ * The preference is stored in its final form, i.e. with the custom layout content merged and the inherited
+ * organization display name masked. The preference is kept unmodifiable, since it is shared by all the cache hits.
+ * Its serialized form is built before the entry is added to the cache and is not changed afterwards.
+ */
+public class ResolvedBrandingCacheEntry extends HierarchyDependentCacheEntry {
+
+    private static final long serialVersionUID = 2870317457609432716L;
+
+    private final String type;
+    private final String name;
+    private final String resolvedFromType;
+    private final String resolvedFromName;
+    private final Object preference;
+    private final ResolvedBrandingPayload payload;
+
+    /**
+     * @param type             Type of the resolved branding preference.
+     * @param name             Name of the resolved branding preference.
+     * @param resolvedFromType Type of the branding that the preference is resolved from.
+     * @param resolvedFromName Name of the tenant/application that the preference is resolved from.
+     * @param preference       Resolved branding preference.
+     * @param payload          Serialized form of the resolved branding preference.
+     */
+    public ResolvedBrandingCacheEntry(String type, String name, String resolvedFromType, String resolvedFromName,
+                                      Object preference, ResolvedBrandingPayload payload) {
+
+        this.type = type;
+        this.name = name;
+        this.resolvedFromType = resolvedFromType;
+        this.resolvedFromName = resolvedFromName;
+        this.preference = toUnmodifiablePreference(preference);
+        this.payload = payload;
+    }
+
+    /**
+     * @return Type of the resolved branding preference.
+     */
+    public String getType() {
+
+        return type;
+    }
+
+    /**
+     * @return Name of the resolved branding preference.
+     */
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * @return Type of the branding that the preference is resolved from.
+     */
+    public String getResolvedFromType() {
+
+        return resolvedFromType;
+    }
+
+    /**
+     * @return Name of the tenant/application that the preference is resolved from.
+     */
+    public String getResolvedFromName() {
+
+        return resolvedFromName;
+    }
+
+    /**
+     * @return Resolved branding preference. Its maps and lists are unmodifiable.
+     */
+    public Object getPreference() {
+
+        return preference;
+    }
+
+    /**
+     * @return Time in milliseconds at which the branding preference was resolved.
+     */
+    public long getLastModified() {
+
+        return payload.getLastModified();
+    }
+
+    /**
+     * @return Serialized form of the resolved branding preference.
+     */
+    public ResolvedBrandingPayload getPayload() {
+
+        return payload;
+    }
+
+    /**
+     * Wrap the maps and lists of the given preference in unmodifiable views, down to its leaf values. The other
+     * values of a JSON preference are immutable.
+     *
+     * @param preference Resolved branding preference.
+     * @return Unmodifiable branding preference.
+     */
+    private static Object toUnmodifiablePreference(Object preference) {
+
+        if (preference instanceof Map) {
+            Map<Object, Object> unmodifiablePreference = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) preference).entrySet()) {
+                unmodifiablePreference.put(entry.getKey(), toUnmodifiablePreference(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(unmodifiablePreference);
+        }
+        if (preference instanceof List) {
+            List<Object> unmodifiablePreference = new ArrayList<>(((List<?>) preference).size());
+            for (Object value : (List<?>) preference) {
+                unmodifiablePreference.add(toUnmodifiablePreference(value));
+            }
+            return Collections.unmodifiableList(unmodifiablePreference);
+        }
+        return preference;
+    }
+}
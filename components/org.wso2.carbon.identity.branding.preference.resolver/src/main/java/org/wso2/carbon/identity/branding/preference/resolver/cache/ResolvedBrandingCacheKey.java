@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import org.wso2.carbon.identity.core.cache.CacheKey;
+
+/**
+ * Cache key for lookup fully resolved branding preferences from the cache.
+ */
+public class ResolvedBrandingCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 5837164265012347183L;
+
+    private final String brandingType;
+    private final String brandedIdentifier;
+    private final String locale;
+    private final boolean restrictToPublished;
+
+    /**
+     * @param brandingType        Type of the requested branding (organization/application).
+     * @param brandedIdentifier   Identifier of the organization or application that the branding is applied to.
+     * @param locale              Requested locale.
+     * @param restrictToPublished Whether the branding is resolved only using published branding preferences.
+     */
+    public ResolvedBrandingCacheKey(String brandingType, String brandedIdentifier, String locale,
+                                    boolean restrictToPublished) {
+
+        this.brandingType = brandingType;
+        this.brandedIdentifier = brandedIdentifier;
+        this.locale = locale;
+        this.restrictToPublished = restrictToPublished;
+    }
+
+    /**
+     * @return Type of the requested branding (organization/application).
+     */
+    public String getBrandingType() {
+
+        return brandingType;
+    }
+
+    /**
+     * @return Identifier of the organization or application that the branding is applied to.
+     */
+    public String getBrandedIdentifier() {
+
+        return brandedIdentifier;
+    }
+
+    /**
+     * @return Requested locale.
+     */
+    public String getLocale() {
+
+        return locale;
+    }
+
+    /**
+     * @return Whether the branding is resolved only using published branding preferences.
+     */
+    public boolean isRestrictToPublished() {
+
+        return restrictToPublished;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+
+        ResolvedBrandingCacheKey that = (ResolvedBrandingCacheKey) o;
+
+        if (restrictToPublished != that.restrictToPublished) {
+            return false;
+        }
+        if (!brandingType.equals(that.brandingType)) {
+            return false;
+        }
+        if (!brandedIdentifier.equals(that.brandedIdentifier)) {
+            return false;
+        }
+        return locale.equals(that.locale);
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = super.hashCode();
+        result = 31 * result + brandingType.hashCode();
+        result = 31 * result + brandedIdentifier.hashCode();
+        result = 31 * result + locale.hashCode();
+        result = 31 * result + (restrictToPublished ? 1 : 0);
+        return result;
+    }
+}
@@ -18,12 +18,13 @@
 
 package org.wso2.carbon.identity.branding.preference.resolver.cache;
 
-import org.wso2.carbon.identity.core.cache.BaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
 
 /**
  * Cache implementation for custom text resolved tenant cache.
  */
-public class TextCustomizedOrgCache extends BaseCache<TextCustomizedOrgCacheKey, TextCustomizedOrgCacheEntry> {
+public class TextCustomizedOrgCache
+        extends InstrumentedBaseCache<TextCustomizedOrgCacheKey, TextCustomizedOrgCacheEntry> {
 
     public static final String CACHE_NAME = "TextCustomizedOrgCache";
 
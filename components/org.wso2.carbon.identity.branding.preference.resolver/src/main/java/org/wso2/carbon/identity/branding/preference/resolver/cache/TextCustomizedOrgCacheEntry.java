@@ -18,12 +18,12 @@
 
 package org.wso2.carbon.identity.branding.preference.resolver.cache;
 
-import org.wso2.carbon.identity.core.cache.CacheEntry;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.TimestampedCacheEntry;
 
 /**
  * Cache entry which is kept in the custom text resolved tenant cache.
  */
-public class TextCustomizedOrgCacheEntry extends CacheEntry {
+public class TextCustomizedOrgCacheEntry extends TimestampedCacheEntry {
 
     private static final long serialVersionUID = 3112605038259278777L;
 
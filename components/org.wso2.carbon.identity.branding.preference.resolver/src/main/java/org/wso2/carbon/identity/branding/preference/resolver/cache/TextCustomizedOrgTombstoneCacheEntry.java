@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+/**
+ * Tombstone entry which is kept in the custom text resolved tenant cache when nothing is configured in the hierarchy.
+ */
+public class TextCustomizedOrgTombstoneCacheEntry extends TextCustomizedOrgCacheEntry implements TombstoneCacheEntry {
+
+    private static final long serialVersionUID = 4429317906254184526L;
+
+    private final long expiryTime;
+
+    /**
+     * @param tenantDomain Domain of the tenant that the resolution is started from.
+     * @param expiryTime   Time in milliseconds since epoch at which the tombstone expires.
+     */
+    public TextCustomizedOrgTombstoneCacheEntry(String tenantDomain, long expiryTime) {
+
+        super(tenantDomain);
+        this.expiryTime = expiryTime;
+    }
+
+    @Override
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+/**
+ * Marker for resolver cache entries which record that nothing is configured for the cached key anywhere in the
+ * organization hierarchy. Tombstones expire independently of the cache timeout.
+ */
+public interface TombstoneCacheEntry {
+
+    /**
+     * @return Time in milliseconds since epoch at which the tombstone expires.
+     */
+    long getExpiryTime();
+
+    /**
+     * @return True if the tombstone has expired.
+     */
+    default boolean isExpired() {
+
+        return System.currentTimeMillis() >= getExpiryTime();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the tombstone entries added to, served from and expired in the resolver caches.
+ */
+public class TombstoneCacheStatistics {
+
+    private static final TombstoneCacheStatistics INSTANCE = new TombstoneCacheStatistics();
+
+    private final Map<String, LongAdder> additions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> expirations = new ConcurrentHashMap<>();
+
+    private TombstoneCacheStatistics() {
+
+    }
+
+    /**
+     * Get the tombstone cache statistics instance.
+     *
+     * @return TombstoneCacheStatistics instance.
+     */
+    public static TombstoneCacheStatistics getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Record a tombstone added to the given cache.
+     *
+     * @param cacheName Name of the cache.
+     */
+    public void recordAddition(String cacheName) {
+
+        additions.computeIfAbsent(cacheName, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Record a request answered from a tombstone of the given cache.
+     *
+     * @param cacheName Name of the cache.
+     */
+    public void recordHit(String cacheName) {
+
+        hits.computeIfAbsent(cacheName, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Record an expired tombstone found in the given cache.
+     *
+     * @param cacheName Name of the cache.
+     */
+    public void recordExpiration(String cacheName) {
+
+        expirations.computeIfAbsent(cacheName, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param cacheName Name of the cache.
+     * @return Number of tombstones added to the given cache.
+     */
+    public long getAdditionCount(String cacheName) {
+
+        return getCount(additions, cacheName);
+    }
+
+    /**
+     * @param cacheName Name of the cache.
+     * @return Number of requests answered from tombstones of the given cache.
+     */
+    public long getHitCount(String cacheName) {
+
+        return getCount(hits, cacheName);
+    }
+
+    /**
+     * @param cacheName Name of the cache.
+     * @return Number of expired tombstones found in the given cache.
+     */
+    public long getExpirationCount(String cacheName) {
+
+        return getCount(expirations, cacheName);
+    }
+
+    private long getCount(Map<String, LongAdder> counters, String cacheName) {
+
+        LongAdder counter = counters.get(cacheName);
+        return counter == null ? 0 : counter.sum();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cluster;
+
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Batch of tenants whose branding resolver cache values are invalidated by a hierarchy walk. The values are
+ * invalidated on this node as the tenants are added, and the other cluster nodes are notified of the whole batch
+ * in a single {@link BrandingCacheInvalidationMessage} once the batch is full or its flush interval has elapsed.
+ * The batch is shared by the workers of a single walk.
+ */
+public class BrandingCacheInvalidationBatch {
+
+    private final BrandingClusterInvalidator clusterInvalidator;
+    private final Map<String, InstrumentedBaseCache<?, ?>> caches;
+    private final int batchSize;
+    private final long flushIntervalInMillis;
+    private final List<String> tenantDomains = new ArrayList<>();
+    private long lastFlushTime = System.currentTimeMillis();
+
+    BrandingCacheInvalidationBatch(BrandingClusterInvalidator clusterInvalidator,
+                                   Map<String, InstrumentedBaseCache<?, ?>> caches, int batchSize,
+                                   long flushIntervalInMillis) {
+
+        this.clusterInvalidator = clusterInvalidator;
+        this.caches = new LinkedHashMap<>(caches);
+        this.batchSize = batchSize;
+        this.flushIntervalInMillis = flushIntervalInMillis;
+    }
+
+    /**
+     * Invalidate the cache values of the given tenant on this node and add it to the batch.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public synchronized void add(String tenantDomain) {
+
+        for (InstrumentedBaseCache<?, ?> cache : caches.values()) {
+            cache.invalidateLocally(tenantDomain);
+        }
+        tenantDomains.add(tenantDomain);
+        if (tenantDomains.size() >= batchSize || System.currentTimeMillis() - lastFlushTime >= flushIntervalInMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * Notify the other cluster nodes of the tenants added since the last flush.
+     */
+    public synchronized void flush() {
+
+        lastFlushTime = System.currentTimeMillis();
+        if (tenantDomains.isEmpty()) {
+            return;
+        }
+        clusterInvalidator.send(new BrandingCacheInvalidationMessage(new ArrayList<>(caches.keySet()),
+                tenantDomains));
+        tenantDomains.clear();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cluster;
+
+import org.apache.axis2.clustering.ClusteringCommand;
+import org.apache.axis2.clustering.ClusteringFault;
+import org.apache.axis2.clustering.ClusteringMessage;
+import org.apache.axis2.context.ConfigurationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cluster message which invalidates the branding resolver cache values of a batch of tenants on the receiving nodes.
+ */
+public class BrandingCacheInvalidationMessage extends ClusteringMessage {
+
+    private static final long serialVersionUID = 4301755815274302218L;
+
+    private final ArrayList<String> cacheNames;
+    private final ArrayList<String> tenantDomains;
+
+    /**
+     * @param cacheNames    Names of the caches to be invalidated.
+     * @param tenantDomains Tenant domains of the values to be invalidated.
+     */
+    public BrandingCacheInvalidationMessage(List<String> cacheNames, List<String> tenantDomains) {
+
+        this.cacheNames = new ArrayList<>(cacheNames);
+        this.tenantDomains = new ArrayList<>(tenantDomains);
+    }
+
+    public List<String> getCacheNames() {
+
+        return cacheNames;
+    }
+
+    public List<String> getTenantDomains() {
+
+        return tenantDomains;
+    }
+
+    @Override
+    public ClusteringCommand getResponse() {
+
+        return null;
+    }
+
+    @Override
+    public void execute(ConfigurationContext configurationContext) throws ClusteringFault {
+
+        BrandingClusterInvalidator.getInstance().onInvalidationReceived(this);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cluster;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.clustering.ClusteringFault;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.branding.preference.resolver.internal.BrandingResolverComponentDataHolder;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_BATCHING_ENABLE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_BATCH_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_BATCH_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_FLUSH_INTERVAL_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CLUSTER_INVALIDATION_FLUSH_INTERVAL_DEFAULT;
+
+/**
+ * Sends and receives the batched invalidations of the branding resolver caches across the cluster. When batching is
+ * enabled, hierarchy walks invalidate the cache values of each tenant only on the local node and notify the other
+ * nodes through a {@link BrandingCacheInvalidationBatch}, instead of a cluster wide invalidation per cache entry.
+ */
+public class BrandingClusterInvalidator {
+
+    private static final Log LOG = LogFactory.getLog(BrandingClusterInvalidator.class);
+    private static volatile BrandingClusterInvalidator instance;
+
+    private final boolean batchingEnabled;
+    private final int batchSize;
+    private final long flushIntervalInMillis;
+    private final Map<String, InstrumentedBaseCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final LongAdder sentMessageCount = new LongAdder();
+    private final LongAdder sentTenantCount = new LongAdder();
+    private final LongAdder failedMessageCount = new LongAdder();
+    private final LongAdder receivedMessageCount = new LongAdder();
+    private final LongAdder receivedTenantCount = new LongAdder();
+
+    private BrandingClusterInvalidator() {
+
+        batchingEnabled = BrandingPreferenceMgtUtils.getBooleanConfig(CLUSTER_INVALIDATION_BATCHING_ENABLE_CONFIG_KEY,
+                false);
+        batchSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(CLUSTER_INVALIDATION_BATCH_SIZE_CONFIG_KEY,
+                CLUSTER_INVALIDATION_BATCH_SIZE_DEFAULT);
+        flushIntervalInMillis = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                CLUSTER_INVALIDATION_FLUSH_INTERVAL_CONFIG_KEY, CLUSTER_INVALIDATION_FLUSH_INTERVAL_DEFAULT);
+    }
+
+    /**
+     * Getting the singleton instance of BrandingClusterInvalidator.
+     *
+     * @return BrandingClusterInvalidator instance.
+     */
+    public static BrandingClusterInvalidator getInstance() {
+
+        if (instance == null) {
+            synchronized (BrandingClusterInvalidator.class) {
+                if (instance == null) {
+                    instance = new BrandingClusterInvalidator();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Register a cache which can be invalidated by the messages received from the other cluster nodes.
+     *
+     * @param cacheName Cache name.
+     * @param cache     Cache.
+     */
+    public void registerCache(String cacheName, InstrumentedBaseCache<?, ?> cache) {
+
+        caches.put(cacheName, cache);
+    }
+
+    public boolean isBatchingEnabled() {
+
+        return batchingEnabled;
+    }
+
+    /**
+     * Create a batch which invalidates the values of the given caches.
+     *
+     * @param batchCaches Caches to be invalidated, by their names.
+     * @return Invalidation batch.
+     */
+    public BrandingCacheInvalidationBatch newBatch(Map<String, InstrumentedBaseCache<?, ?>> batchCaches) {
+
+        return new BrandingCacheInvalidationBatch(this, batchCaches, batchSize, flushIntervalInMillis);
+    }
+
+    /**
+     * Send the given invalidation message to the other cluster nodes. Nothing is sent if clustering is not enabled.
+     *
+     * @param message Invalidation message.
+     */
+    void send(BrandingCacheInvalidationMessage message) {
+
+        ClusteringAgent clusteringAgent = getClusteringAgent();
+        if (clusteringAgent == null) {
+            return;
+        }
+        try {
+            clusteringAgent.sendMessage(message, true);
+            sentMessageCount.increment();
+            sentTenantCount.add(message.getTenantDomains().size());
+        } catch (ClusteringFault e) {
+            failedMessageCount.increment();
+            LOG.error("Error while sending the branding cache invalidation message of " +
+                    message.getTenantDomains().size() + " tenants to the cluster.", e);
+        }
+    }
+
+    /**
+     * Invalidate the cache values of the tenants in an invalidation message received from another cluster node.
+     *
+     * @param message Invalidation message.
+     */
+    void onInvalidationReceived(BrandingCacheInvalidationMessage message) {
+
+        receivedMessageCount.increment();
+        receivedTenantCount.add(message.getTenantDomains().size());
+        for (String cacheName : message.getCacheNames()) {
+            InstrumentedBaseCache<?, ?> cache = caches.get(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            for (String tenantDomain : message.getTenantDomains()) {
+                cache.invalidateLocally(tenantDomain);
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Invalidated the branding caches: " + message.getCacheNames() + " of " +
+                    message.getTenantDomains().size() + " tenants on a cluster message.");
+        }
+    }
+
+    public long getSentMessageCount() {
+
+        return sentMessageCount.sum();
+    }
+
+    public long getSentTenantCount() {
+
+        return sentTenantCount.sum();
+    }
+
+    public long getFailedMessageCount() {
+
+        return failedMessageCount.sum();
+    }
+
+    public long getReceivedMessageCount() {
+
+        return receivedMessageCount.sum();
+    }
+
+    public long getReceivedTenantCount() {
+
+        return receivedTenantCount.sum();
+    }
+
+    private ClusteringAgent getClusteringAgent() {
+
+        ConfigurationContextService configurationContextService =
+                BrandingResolverComponentDataHolder.getInstance().getConfigurationContextService();
+        if (configurationContextService == null) {
+            return null;
+        }
+        ConfigurationContext configurationContext = configurationContextService.getServerConfigContext();
+        if (configurationContext == null || configurationContext.getAxisConfiguration() == null) {
+            return null;
+        }
+        return configurationContext.getAxisConfiguration().getClusteringAgent();
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.dao;
+
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.model.BrandingResourceCandidate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This interface performs read operations on branding resources across the organization hierarchy.
+ */
+public interface BrandingResourceDAO {
+
+    /**
+     * Retrieve the files of the given branding resources in a single query.
+     *
+     * @param candidates   Branding resources to retrieve.
+     * @param tenantDomain Tenant domain that the branding is resolved for.
+     * @return File content of the branding resources which exist, against the branding resource.
+     * @throws BrandingPreferenceMgtException If an error occurs while retrieving the branding resources.
+     */
+    Map<BrandingResourceCandidate, byte[]> getBrandingResourceFiles(List<BrandingResourceCandidate> candidates,
+                                                                    String tenantDomain)
+            throws BrandingPreferenceMgtException;
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.dao.constants;
+
+/**
+ * SQL constants used for branding resource resolving DAO operations.
+ */
+public class SQLConstants {
+
+    public static final String GET_BRANDING_RESOURCE_FILES_SQL = "SELECT R.TENANT_ID, R.NAME, T.NAME AS TYPE_NAME, " +
+            "F.VALUE FROM IDN_CONFIG_RESOURCE R INNER JOIN IDN_CONFIG_TYPE T ON R.TYPE_ID = T.ID " +
+            "INNER JOIN IDN_CONFIG_FILE F ON F.RESOURCE_ID = R.ID WHERE ";
+    public static final String BRANDING_RESOURCE_CONDITION_SQL =
+            "(T.NAME = :TYPE_NAME%1$d; AND R.TENANT_ID = :TENANT_ID%1$d; AND R.NAME = :NAME%1$d;)";
+    public static final String OR = " OR ";
+    public static final String ORDER_BY_FILE_ID_SQL = " ORDER BY F.ID";
+
+    /**
+     * Grouping of constants related to database table columns.
+     */
+    public static class BrandingResourceTableColumns {
+
+        public static final String TENANT_ID = "TENANT_ID";
+        public static final String NAME = "NAME";
+        public static final String TYPE_NAME = "TYPE_NAME";
+        public static final String VALUE = "VALUE";
+    }
+}
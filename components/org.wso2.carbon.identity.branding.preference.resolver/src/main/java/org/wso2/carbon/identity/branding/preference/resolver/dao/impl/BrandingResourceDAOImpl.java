@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.dao.impl;
+
+import org.apache.commons.io.IOUtils;
+import org.wso2.carbon.database.utils.jdbc.NamedJdbcTemplate;
+import org.wso2.carbon.database.utils.jdbc.exceptions.TransactionException;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.BrandingResourceDAO;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.model.BrandingResourceCandidate;
+import org.wso2.carbon.identity.core.util.JdbcUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE;
+import static org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils.handleServerException;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.BRANDING_RESOURCE_CONDITION_SQL;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.BrandingResourceTableColumns.NAME;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.BrandingResourceTableColumns.TENANT_ID;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.BrandingResourceTableColumns.TYPE_NAME;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.BrandingResourceTableColumns.VALUE;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.GET_BRANDING_RESOURCE_FILES_SQL;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.OR;
+import static org.wso2.carbon.identity.branding.preference.resolver.dao.constants.SQLConstants.ORDER_BY_FILE_ID_SQL;
+
+/**
+ * This class reads the branding resources of the configuration store directly, so that the branding resources
+ * of a whole organization hierarchy can be retrieved with a single query.
+ */
+public class BrandingResourceDAOImpl implements BrandingResourceDAO {
+
+    private static final BrandingResourceDAO instance = new BrandingResourceDAOImpl();
+
+    private BrandingResourceDAOImpl() {}
+
+    public static BrandingResourceDAO getInstance() {
+
+        return instance;
+    }
+
+    @Override
+    public Map<BrandingResourceCandidate, byte[]> getBrandingResourceFiles(List<BrandingResourceCandidate> candidates,
+                                                                           String tenantDomain)
+            throws BrandingPreferenceMgtException {
+
+        if (candidates.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<BrandingResourceCandidate, BrandingResourceCandidate> candidatesByKey = new HashMap<>();
+        for (BrandingResourceCandidate candidate : candidates) {
+            candidatesByKey.putIfAbsent(candidate, candidate);
+        }
+        Map<BrandingResourceCandidate, byte[]> resourceFiles = new HashMap<>();
+        NamedJdbcTemplate jdbcTemplate = JdbcUtils.getNewNamedJdbcTemplate();
+        try {
+            jdbcTemplate.withTransaction(template -> {
+                template.executeQuery(
+                        buildGetBrandingResourceFilesQuery(candidates.size()),
+                        (resultSet, rowNum) -> {
+                            BrandingResourceCandidate candidate = candidatesByKey.get(
+                                    new BrandingResourceCandidate(null, null, null, resultSet.getInt(TENANT_ID),
+                                            resultSet.getString(TYPE_NAME), resultSet.getString(NAME)));
+                            byte[] value = readFileValue(resultSet);
+                            /* A resource can hold multiple files. Only the first file is considered as the branding.
+                              The files are ordered by their ID, as the configuration manager lists them. */
+                            if (candidate != null && value != null) {
+                                resourceFiles.putIfAbsent(candidate, value);
+                            }
+                            return null;
+                        },
+                        namedPreparedStatement -> {
+                            for (int i = 0; i < candidates.size(); i++) {
+                                BrandingResourceCandidate candidate = candidates.get(i);
+                                namedPreparedStatement.setString(TYPE_NAME + i, candidate.getResourceType());
+                                namedPreparedStatement.setInt(TENANT_ID + i, candidate.getTenantId());
+                                namedPreparedStatement.setString(NAME + i, candidate.getResourceName());
+                            }
+                        });
+                return null;
+            });
+        } catch (TransactionException e) {
+            throw handleServerException(ERROR_CODE_ERROR_GETTING_BRANDING_PREFERENCE, tenantDomain, e);
+        }
+        return resourceFiles;
+    }
+
+    private String buildGetBrandingResourceFilesQuery(int candidateCount) {
+
+        StringBuilder query = new StringBuilder(GET_BRANDING_RESOURCE_FILES_SQL);
+        for (int i = 0; i < candidateCount; i++) {
+            if (i > 0) {
+                query.append(OR);
+            }
+            query.append(String.format(BRANDING_RESOURCE_CONDITION_SQL, i));
+        }
+        return query.append(ORDER_BY_FILE_ID_SQL).toString();
+    }
+
+    private byte[] readFileValue(ResultSet resultSet) throws SQLException {
+
+        try (InputStream inputStream = resultSet.getBinaryStream(VALUE)) {
+            return inputStream == null ? null : IOUtils.toByteArray(inputStream);
+        } catch (IOException e) {
+            throw new SQLException("Error while reading the branding resource file.", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.dao.model;
+
+import java.util.Objects;
+
+/**
+ * Branding resource in the configuration store which may hold the branding preference of an organization or an
+ * application in the hierarchy.
+ */
+public class BrandingResourceCandidate {
+
+    private final String brandingType;
+    private final String brandingName;
+    private final String tenantDomain;
+    private final int tenantId;
+    private final String resourceType;
+    private final String resourceName;
+
+    /**
+     * @param brandingType Type of the branding (organization or application).
+     * @param brandingName Name of the branding.
+     * @param tenantDomain Tenant domain that owns the branding resource.
+     * @param tenantId     Tenant id that owns the branding resource.
+     * @param resourceType Resource type of the branding resource.
+     * @param resourceName Resource name of the branding resource.
+     */
+    public BrandingResourceCandidate(String brandingType, String brandingName, String tenantDomain, int tenantId,
+                                     String resourceType, String resourceName) {
+
+        this.brandingType = brandingType;
+        this.brandingName = brandingName;
+        this.tenantDomain = tenantDomain;
+        this.tenantId = tenantId;
+        this.resourceType = resourceType;
+        this.resourceName = resourceName;
+    }
+
+    public String getBrandingType() {
+
+        return brandingType;
+    }
+
+    public String getBrandingName() {
+
+        return brandingName;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public int getTenantId() {
+
+        return tenantId;
+    }
+
+    public String getResourceType() {
+
+        return resourceType;
+    }
+
+    public String getResourceName() {
+
+        return resourceName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BrandingResourceCandidate that = (BrandingResourceCandidate) o;
+        return tenantId == that.tenantId && resourceType.equals(that.resourceType) &&
+                resourceName.equals(that.resourceName);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(tenantId, resourceType, resourceName);
+    }
+}
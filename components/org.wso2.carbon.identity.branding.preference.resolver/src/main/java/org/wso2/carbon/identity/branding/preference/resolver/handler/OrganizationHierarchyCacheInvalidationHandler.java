@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.handler;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.OrganizationHierarchyResolver;
+import org.wso2.carbon.identity.core.bean.context.MessageContext;
+import org.wso2.carbon.identity.event.IdentityEventException;
+import org.wso2.carbon.identity.event.bean.IdentityEventMessageContext;
+import org.wso2.carbon.identity.event.event.Event;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Event handler which clears the cached organization hierarchy on organization lifecycle events.
+ */
+public class OrganizationHierarchyCacheInvalidationHandler extends AbstractEventHandler {
+
+    private static final Log LOG = LogFactory.getLog(OrganizationHierarchyCacheInvalidationHandler.class);
+
+    private static final String HANDLER_NAME = "brandingOrganizationHierarchyCacheInvalidationHandler";
+    private static final String ORGANIZATION_ID_PROPERTY = "ORGANIZATION_ID";
+    private static final Set<String> HANDLED_EVENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "POST_DELETE_ORGANIZATION", "POST_UPDATE_ORGANIZATION", "POST_PATCH_ORGANIZATION")));
+
+    private final OrganizationHierarchyResolver organizationHierarchyResolver;
+
+    public OrganizationHierarchyCacheInvalidationHandler(OrganizationHierarchyResolver organizationHierarchyResolver) {
+
+        this.organizationHierarchyResolver = organizationHierarchyResolver;
+    }
+
+    @Override
+    public String getName() {
+
+        return HANDLER_NAME;
+    }
+
+    @Override
+    public boolean canHandle(MessageContext messageContext) throws IdentityRuntimeException {
+
+        Event event = ((IdentityEventMessageContext) messageContext).getEvent();
+        return event != null && HANDLED_EVENTS.contains(event.getEventName());
+    }
+
+    @Override
+    public void handleEvent(Event event) throws IdentityEventException {
+
+        if (event.getEventProperties() == null) {
+            return;
+        }
+        Object organizationId = event.getEventProperties().get(ORGANIZATION_ID_PROPERTY);
+        if (!(organizationId instanceof String)) {
+            return;
+        }
+        organizationHierarchyResolver.clearOrganizationHierarchy((String) organizationId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cleared the cached hierarchy of the organization: " + organizationId + " on event: "
+                    + event.getEventName());
+        }
+    }
+}
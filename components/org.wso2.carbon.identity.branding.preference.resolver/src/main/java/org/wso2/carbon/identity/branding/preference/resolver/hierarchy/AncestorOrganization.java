@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.hierarchy;
+
+import java.io.Serializable;
+
+/**
+ * Organization in the ancestor hierarchy of an organization, along with its tenant domain and depth.
+ */
+public class AncestorOrganization implements Serializable {
+
+    private static final long serialVersionUID = 2309418830561247915L;
+
+    private final String organizationId;
+    private final String tenantDomain;
+    private final int depthInHierarchy;
+
+    /**
+     * @param organizationId   ID of the organization.
+     * @param tenantDomain     Tenant domain of the organization.
+     * @param depthInHierarchy Depth of the organization in the hierarchy. Root organization is at depth 0.
+     */
+    public AncestorOrganization(String organizationId, String tenantDomain, int depthInHierarchy) {
+
+        this.organizationId = organizationId;
+        this.tenantDomain = tenantDomain;
+        this.depthInHierarchy = depthInHierarchy;
+    }
+
+    /**
+     * @return ID of the organization.
+     */
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    /**
+     * @return Tenant domain of the organization.
+     */
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    /**
+     * @return Depth of the organization in the hierarchy.
+     */
+    public int getDepthInHierarchy() {
+
+        return depthInHierarchy;
+    }
+}
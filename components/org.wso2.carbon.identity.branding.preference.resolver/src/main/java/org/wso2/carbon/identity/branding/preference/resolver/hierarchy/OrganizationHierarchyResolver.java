@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.hierarchy;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.AncestorAppIdsCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.AncestorAppIdsCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.AncestorAppIdsCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingGenerationCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingGenerationCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingGenerationCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationTenantDomainCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationTenantDomainCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationTenantDomainCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.internal.BrandingResolverComponentDataHolder;
+import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Resolves the ancestor hierarchy of organizations and shared applications, backed by the hierarchy caches.
+ * Organization hierarchies are kept in the super tenant cache space since they are not tenant specific and have
+ * to be invalidated by organization id alone. Branding generations are kept there as well, since they are checked
+ * by the resolver cache entries of every tenant down the hierarchy, and so are the tenant domains of organizations,
+ * since they are looked up for every organization found by a hierarchy invalidation walk.
+ */
+public class OrganizationHierarchyResolver {
+
+    private static final AtomicLong GENERATION_SEQUENCE = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    private final OrganizationHierarchyCache organizationHierarchyCache;
+    private final AncestorAppIdsCache ancestorAppIdsCache;
+    private final BrandingGenerationCache brandingGenerationCache;
+    private final OrganizationTenantDomainCache organizationTenantDomainCache;
+
+    public OrganizationHierarchyResolver(OrganizationHierarchyCache organizationHierarchyCache,
+                                         AncestorAppIdsCache ancestorAppIdsCache) {
+
+        this(organizationHierarchyCache, ancestorAppIdsCache, BrandingGenerationCache.getInstance());
+    }
+
+    public OrganizationHierarchyResolver(OrganizationHierarchyCache organizationHierarchyCache,
+                                         AncestorAppIdsCache ancestorAppIdsCache,
+                                         BrandingGenerationCache brandingGenerationCache) {
+
+        this(organizationHierarchyCache, ancestorAppIdsCache, brandingGenerationCache,
+                OrganizationTenantDomainCache.getInstance());
+    }
+
+    public OrganizationHierarchyResolver(OrganizationHierarchyCache organizationHierarchyCache,
+                                         AncestorAppIdsCache ancestorAppIdsCache,
+                                         BrandingGenerationCache brandingGenerationCache,
+                                         OrganizationTenantDomainCache organizationTenantDomainCache) {
+
+        this.organizationHierarchyCache = organizationHierarchyCache;
+        this.ancestorAppIdsCache = ancestorAppIdsCache;
+        this.brandingGenerationCache = brandingGenerationCache;
+        this.organizationTenantDomainCache = organizationTenantDomainCache;
+    }
+
+    /**
+     * Get the ancestor organizations of the given organization, ordered from the parent organization up to the
+     * root organization.
+     *
+     * @param organizationId ID of the organization.
+     * @param tenantDomain   Tenant domain of the organization.
+     * @return Ancestor organizations along with their tenant domains and depths.
+     * @throws OrganizationManagementException If an error occurred while resolving the hierarchy.
+     */
+    public List<AncestorOrganization> getAncestorOrganizations(String organizationId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        List<AncestorOrganization> organizationHierarchy = getOrganizationHierarchy(organizationId, tenantDomain);
+        if (organizationHierarchy.size() < 2) {
+            return Collections.emptyList();
+        }
+        return organizationHierarchy.subList(1, organizationHierarchy.size());
+    }
+
+    /**
+     * Get the ancestor application ids of the given shared application.
+     *
+     * @param appId        ID of the application.
+     * @param orgId        ID of the organization that the application belongs to.
+     * @param tenantDomain Tenant domain of the organization that the application belongs to.
+     * @return Ancestor application ids against the ancestor organization ids.
+     * @throws OrganizationManagementException If an error occurred while resolving the ancestor applications.
+     */
+    public Map<String, String> getAncestorAppIds(String appId, String orgId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        AncestorAppIdsCacheKey cacheKey = new AncestorAppIdsCacheKey(appId);
+        AncestorAppIdsCacheEntry valueFromCache = ancestorAppIdsCache.getValueFromCache(cacheKey, tenantDomain);
+        if (valueFromCache != null) {
+            return valueFromCache.getAncestorAppIds();
+        }
+
+        OrgApplicationManager orgApplicationManager =
+                BrandingResolverComponentDataHolder.getInstance().getOrgApplicationManager();
+        Map<String, String> ancestorAppIds = orgApplicationManager.getAncestorAppIds(appId, orgId);
+        if (MapUtils.isEmpty(ancestorAppIds)) {
+            return Collections.emptyMap();
+        }
+        AncestorAppIdsCacheEntry cacheEntry = new AncestorAppIdsCacheEntry(ancestorAppIds);
+        ancestorAppIdsCache.addToCacheOnRead(cacheKey, cacheEntry, tenantDomain);
+        return cacheEntry.getAncestorAppIds();
+    }
+
+    /**
+     * Resolve the tenant domain of the given organization. The tenant domain of an organization does not change,
+     * hence it is served from the cached hierarchy of the organization or the tenant domain cache when possible.
+     * The organization manager has no bulk lookup of tenant domains, hence a hierarchy walk resolves the
+     * organizations of a page one at a time and only the cache misses reach the organization manager.
+     *
+     * @param organizationId ID of the organization.
+     * @return Tenant domain of the organization, or null if the organization has no tenant.
+     * @throws OrganizationManagementException If an error occurred while resolving the tenant domain.
+     */
+    public String resolveTenantDomain(String organizationId) throws OrganizationManagementException {
+
+        OrganizationTenantDomainCacheKey cacheKey = new OrganizationTenantDomainCacheKey(organizationId);
+        OrganizationTenantDomainCacheEntry valueFromCache =
+                organizationTenantDomainCache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (valueFromCache != null) {
+            return valueFromCache.getTenantDomain();
+        }
+        OrganizationHierarchyCacheEntry hierarchyFromCache = organizationHierarchyCache.getValueFromCache(
+                new OrganizationHierarchyCacheKey(organizationId), SUPER_TENANT_DOMAIN_NAME);
+        if (hierarchyFromCache != null && !hierarchyFromCache.getOrganizationHierarchy().isEmpty()) {
+            return hierarchyFromCache.getOrganizationHierarchy().get(0).getTenantDomain();
+        }
+
+        OrganizationManager organizationManager =
+                BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
+        String tenantDomain = organizationManager.resolveTenantDomain(organizationId);
+        if (StringUtils.isNotBlank(tenantDomain)) {
+            // An organization without a tenant may get one later, hence only the resolved tenant domains are cached.
+            organizationTenantDomainCache.addToCacheOnRead(cacheKey,
+                    new OrganizationTenantDomainCacheEntry(tenantDomain), SUPER_TENANT_DOMAIN_NAME);
+        }
+        return tenantDomain;
+    }
+
+    /**
+     * Get the current branding generations of the tenants of the given organization and its ancestor organizations.
+     *
+     * @param organizationId ID of the organization.
+     * @param tenantDomain   Tenant domain of the organization.
+     * @return Branding generations against the tenant domains, ordered from the organization up to the root.
+     * @throws OrganizationManagementException If an error occurred while resolving the hierarchy.
+     */
+    public Map<String, Long> getHierarchyGenerations(String organizationId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        Map<String, Long> hierarchyGenerations = new LinkedHashMap<>();
+        hierarchyGenerations.put(tenantDomain, getBrandingGeneration(tenantDomain));
+        for (AncestorOrganization ancestorOrganization : getAncestorOrganizations(organizationId, tenantDomain)) {
+            if (StringUtils.isNotBlank(ancestorOrganization.getTenantDomain())) {
+                hierarchyGenerations.put(ancestorOrganization.getTenantDomain(),
+                        getBrandingGeneration(ancestorOrganization.getTenantDomain()));
+            }
+        }
+        return hierarchyGenerations;
+    }
+
+    /**
+     * Check whether none of the given branding generations has been advanced since they were recorded.
+     *
+     * @param hierarchyGenerations Branding generations against the tenant domains.
+     * @return True if all the branding generations are current.
+     */
+    public boolean isHierarchyGenerationCurrent(Map<String, Long> hierarchyGenerations) {
+
+        for (Map.Entry<String, Long> hierarchyGeneration : hierarchyGenerations.entrySet()) {
+            if (getBrandingGeneration(hierarchyGeneration.getKey()) != hierarchyGeneration.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Advance the branding generation of the given tenant, so that every cache entry which depends on the branding
+     * of the tenant becomes stale at once.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void advanceBrandingGeneration(String tenantDomain) {
+
+        brandingGenerationCache.clearCacheEntry(new BrandingGenerationCacheKey(tenantDomain), SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    /**
+     * Clear the cached hierarchy and tenant domain of the given organization.
+     *
+     * @param organizationId ID of the organization.
+     */
+    public void clearOrganizationHierarchy(String organizationId) {
+
+        organizationHierarchyCache.clearCacheEntry(new OrganizationHierarchyCacheKey(organizationId),
+                SUPER_TENANT_DOMAIN_NAME);
+        organizationTenantDomainCache.clearCacheEntry(new OrganizationTenantDomainCacheKey(organizationId),
+                SUPER_TENANT_DOMAIN_NAME);
+    }
+
+    private List<AncestorOrganization> getOrganizationHierarchy(String organizationId, String tenantDomain)
+            throws OrganizationManagementException {
+
+        OrganizationHierarchyCacheEntry valueFromCache = organizationHierarchyCache.getValueFromCache(
+                new OrganizationHierarchyCacheKey(organizationId), SUPER_TENANT_DOMAIN_NAME);
+        if (valueFromCache != null) {
+            return valueFromCache.getOrganizationHierarchy();
+        }
+
+        OrganizationManager organizationManager =
+                BrandingResolverComponentDataHolder.getInstance().getOrganizationManager();
+        List<String> ancestorOrganizationIds = organizationManager.getAncestorOrganizationIds(organizationId);
+        if (CollectionUtils.isEmpty(ancestorOrganizationIds)) {
+            return Collections.emptyList();
+        }
+
+        // Ancestor ids are ordered from the organization itself up to the root organization which is at depth 0.
+        int depthInHierarchy = ancestorOrganizationIds.size() - 1;
+        List<AncestorOrganization> organizationHierarchy = new ArrayList<>(ancestorOrganizationIds.size());
+        organizationHierarchy.add(new AncestorOrganization(organizationId, tenantDomain, depthInHierarchy));
+        if (depthInHierarchy > 0) {
+            List<AncestorOrganization> parentHierarchy = getCachedOrganizationHierarchy(
+                    ancestorOrganizationIds.get(1), depthInHierarchy);
+            if (parentHierarchy != null) {
+                organizationHierarchy.addAll(parentHierarchy);
+            } else {
+                for (int i = 1; i < ancestorOrganizationIds.size(); i++) {
+                    String ancestorOrgId = ancestorOrganizationIds.get(i);
+                    organizationHierarchy.add(new AncestorOrganization(ancestorOrgId,
+                            organizationManager.resolveTenantDomain(ancestorOrgId), depthInHierarchy - i));
+                }
+            }
+        }
+
+        OrganizationHierarchyCacheEntry cacheEntry = new OrganizationHierarchyCacheEntry(organizationHierarchy);
+        organizationHierarchyCache.addToCacheOnRead(new OrganizationHierarchyCacheKey(organizationId), cacheEntry,
+                SUPER_TENANT_DOMAIN_NAME);
+        return cacheEntry.getOrganizationHierarchy();
+    }
+
+    /**
+     * Get the current branding generation of the given tenant. A generation which is not in the cache has either
+     * been advanced or evicted, hence a new generation is started which makes the dependent entries stale.
+     */
+    private long getBrandingGeneration(String tenantDomain) {
+
+        BrandingGenerationCacheKey cacheKey = new BrandingGenerationCacheKey(tenantDomain);
+        BrandingGenerationCacheEntry valueFromCache =
+                brandingGenerationCache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME);
+        if (valueFromCache != null) {
+            return valueFromCache.getGeneration();
+        }
+        long generation = GENERATION_SEQUENCE.incrementAndGet();
+        brandingGenerationCache.addToCacheOnRead(cacheKey, new BrandingGenerationCacheEntry(generation),
+                SUPER_TENANT_DOMAIN_NAME);
+        return generation;
+    }
+
+    /**
+     * Get the cached hierarchy of the parent organization, so that the hierarchy of a child organization can be
+     * built without resolving the tenant domains of the ancestors again.
+     */
+    private List<AncestorOrganization> getCachedOrganizationHierarchy(String parentOrganizationId,
+                                                                      int expectedSize) {
+
+        OrganizationHierarchyCacheEntry valueFromCache = organizationHierarchyCache.getValueFromCache(
+                new OrganizationHierarchyCacheKey(parentOrganizationId), SUPER_TENANT_DOMAIN_NAME);
+        if (valueFromCache == null || valueFromCache.getOrganizationHierarchy().size() != expectedSize) {
+            return null;
+        }
+        return valueFromCache.getOrganizationHierarchy();
+    }
+}
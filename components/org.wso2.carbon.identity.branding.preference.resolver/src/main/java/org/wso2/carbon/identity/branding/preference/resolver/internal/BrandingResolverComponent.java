@@ -23,17 +23,35 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.branding.preference.management.core.UIBrandingPreferenceResolver;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
 import org.wso2.carbon.identity.branding.preference.resolver.UIBrandingPreferenceResolverImpl;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.AncestorAppIdsCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.TextCustomizedOrgCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cluster.BrandingClusterInvalidator;
+import org.wso2.carbon.identity.branding.preference.resolver.handler.OrganizationHierarchyCacheInvalidationHandler;
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.OrganizationHierarchyResolver;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.CustomTextInvalidationDebouncer;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationCheckpointStore;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationJobManager;
+import org.wso2.carbon.identity.branding.preference.resolver.util.BrandingResolverAsyncExecutor;
+import org.wso2.carbon.identity.branding.preference.resolver.util.HierarchyInvalidationExecutor;
+import org.wso2.carbon.identity.branding.preference.resolver.warmup.BrandingCacheWarmUpService;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
+import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_ENABLED_CONFIG_KEY;
 
 /**
  * OSGi declarative services component which handles registration and un-registration of branding preference management
@@ -47,13 +65,32 @@ public class BrandingResolverComponent {
 
     private static final Log LOG = LogFactory.getLog(BrandingResolverComponent.class);
 
+    private BrandingCacheWarmUpService warmUpService;
+
     @Activate
     protected void activate(ComponentContext context) {
 
         try {
+            OrganizationHierarchyResolver organizationHierarchyResolver = new OrganizationHierarchyResolver(
+                    OrganizationHierarchyCache.getInstance(), AncestorAppIdsCache.getInstance());
+            UIBrandingPreferenceResolverImpl brandingPreferenceResolver = new UIBrandingPreferenceResolverImpl(
+                    BrandedOrgCache.getInstance(), BrandedAppCache.getInstance(),
+                    TextCustomizedOrgCache.getInstance(), ResolvedBrandingCache.getInstance(),
+                    organizationHierarchyResolver);
+            BrandingClusterInvalidator clusterInvalidator = BrandingClusterInvalidator.getInstance();
+            clusterInvalidator.registerCache(BrandedOrgCache.CACHE_NAME, BrandedOrgCache.getInstance());
+            clusterInvalidator.registerCache(BrandedAppCache.CACHE_NAME, BrandedAppCache.getInstance());
+            clusterInvalidator.registerCache(ResolvedBrandingCache.CACHE_NAME, ResolvedBrandingCache.getInstance());
             context.getBundleContext().registerService(UIBrandingPreferenceResolver.class,
-                    new UIBrandingPreferenceResolverImpl(BrandedOrgCache.getInstance(),
-                            BrandedAppCache.getInstance(), TextCustomizedOrgCache.getInstance()), null);
+                    brandingPreferenceResolver, null);
+            context.getBundleContext().registerService(AbstractEventHandler.class.getName(),
+                    new OrganizationHierarchyCacheInvalidationHandler(organizationHierarchyResolver), null);
+            // Hierarchy invalidations interrupted by the previous shutdown are resumed from their checkpoints.
+            brandingPreferenceResolver.resumeHierarchyInvalidations();
+            if (BrandingPreferenceMgtUtils.getBooleanConfig(RESOLVER_WARM_UP_ENABLED_CONFIG_KEY, false)) {
+                warmUpService = new BrandingCacheWarmUpService(brandingPreferenceResolver);
+                warmUpService.start();
+            }
             if (LOG.isDebugEnabled()) {
                 LOG.debug("BrandingResolver Component is activated.");
             }
@@ -62,6 +99,25 @@ public class BrandingResolverComponent {
         }
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext context) {
+
+        if (warmUpService != null) {
+            warmUpService.stop();
+            warmUpService = null;
+        }
+        BrandingResolverAsyncExecutor.shutdown();
+        // Pending custom text invalidations are submitted before the job manager stops, so that they are checkpointed.
+        CustomTextInvalidationDebouncer.shutdown();
+        HierarchyInvalidationJobManager.shutdown();
+        HierarchyInvalidationExecutor.shutdown();
+        // Checkpoints saved by the stopped walks are written before the component is deactivated.
+        HierarchyInvalidationCheckpointStore.shutdown();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("BrandingResolver Component is deactivated.");
+        }
+    }
+
     @Reference(
             name = "resource.configuration.manager.service",
             service = ConfigurationManager.class,
@@ -116,4 +172,21 @@ public class BrandingResolverComponent {
 
         BrandingResolverComponentDataHolder.getInstance().setOrgApplicationManager(null);
     }
+
+    @Reference(
+            name = "config.context.service",
+            service = ConfigurationContextService.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetConfigurationContextService"
+    )
+    protected void setConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        BrandingResolverComponentDataHolder.getInstance().setConfigurationContextService(configurationContextService);
+    }
+
+    protected void unsetConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        BrandingResolverComponentDataHolder.getInstance().setConfigurationContextService(null);
+    }
 }
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.branding.preference.resolver.internal;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.utils.ConfigurationContextService;
 
 /**
  * A class to keep the data of the branding preference management component.
@@ -33,6 +34,7 @@ public class BrandingResolverComponentDataHolder {
     private ConfigurationManager configurationManager;
     private OrganizationManager organizationManager;
     private OrgApplicationManager orgApplicationManager;
+    private ConfigurationContextService configurationContextService;
 
     public static BrandingResolverComponentDataHolder getInstance() {
 
@@ -72,4 +74,14 @@ public class BrandingResolverComponentDataHolder {
 
         this.orgApplicationManager = orgApplicationManager;
     }
+
+    public ConfigurationContextService getConfigurationContextService() {
+
+        return configurationContextService;
+    }
+
+    public void setConfigurationContextService(ConfigurationContextService configurationContextService) {
+
+        this.configurationContextService = configurationContextService;
+    }
 }
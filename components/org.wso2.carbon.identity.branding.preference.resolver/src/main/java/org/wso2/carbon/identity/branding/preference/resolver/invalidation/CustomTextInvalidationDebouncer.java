@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_ENABLED_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_WINDOW_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_WINDOW_DEFAULT;
+
+/**
+ * Gathers the custom text resources changed in a tenant within a time window, so that a single hierarchy walk
+ * clears all of them instead of a walk per changed resource. The window starts with the first change of the tenant,
+ * hence a steady stream of changes does not postpone the walk indefinitely.
+ */
+public class CustomTextInvalidationDebouncer {
+
+    private static final Log LOG = LogFactory.getLog(CustomTextInvalidationDebouncer.class);
+    private static final String THREAD_NAME = "branding-custom-text-invalidation-debouncer";
+    private static volatile CustomTextInvalidationDebouncer instance;
+
+    private final boolean enabled;
+    private final long windowInMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, PendingInvalidation> pendingInvalidations = new HashMap<>();
+    private final LongAdder debouncedCount = new LongAdder();
+    private final LongAdder flushedCount = new LongAdder();
+
+    private CustomTextInvalidationDebouncer() {
+
+        this(BrandingPreferenceMgtUtils.getBooleanConfig(RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_ENABLED_CONFIG_KEY,
+                        false),
+                BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                        RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_WINDOW_CONFIG_KEY,
+                        RESOLVER_CUSTOM_TEXT_INVALIDATION_DEBOUNCE_WINDOW_DEFAULT));
+    }
+
+    CustomTextInvalidationDebouncer(boolean enabled, long windowInMillis) {
+
+        this.enabled = enabled;
+        this.windowInMillis = windowInMillis;
+        this.scheduler = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Getting the singleton instance of CustomTextInvalidationDebouncer.
+     *
+     * @return CustomTextInvalidationDebouncer instance.
+     */
+    public static CustomTextInvalidationDebouncer getInstance() {
+
+        if (instance == null) {
+            synchronized (CustomTextInvalidationDebouncer.class) {
+                if (instance == null) {
+                    instance = new CustomTextInvalidationDebouncer();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the debouncer. The pending invalidations are submitted right away, hence they are not lost. A new
+     * debouncer is created on the next {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (CustomTextInvalidationDebouncer.class) {
+            if (instance != null) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Submit the invalidation of a changed custom text resource. When debouncing is enabled, it is gathered with the
+     * other resources of the tenant changed within the window. Otherwise, it is submitted right away.
+     *
+     * @param tenantDomain   Tenant domain whose hierarchy is invalidated.
+     * @param organizationId Organization id of the tenant domain.
+     * @param username       Username of the user who changed the custom text.
+     * @param resourceName   Changed resource name, or empty if all the custom texts of the tenant changed.
+     * @param submission     Submission of the walk which clears the gathered resources.
+     */
+    public void submit(String tenantDomain, String organizationId, String username, String resourceName,
+                       Consumer<HierarchyInvalidationCheckpoint> submission) {
+
+        if (!enabled) {
+            submission.accept(HierarchyInvalidationCheckpoint.forCustomText(tenantDomain, organizationId, username,
+                    Collections.singletonList(resourceName)));
+            return;
+        }
+        synchronized (this) {
+            PendingInvalidation pendingInvalidation = pendingInvalidations.get(tenantDomain);
+            if (pendingInvalidation != null) {
+                pendingInvalidation.add(resourceName);
+                debouncedCount.increment();
+                return;
+            }
+            pendingInvalidation = new PendingInvalidation(tenantDomain, organizationId, username, submission);
+            pendingInvalidation.add(resourceName);
+            pendingInvalidations.put(tenantDomain, pendingInvalidation);
+        }
+        try {
+            scheduler.schedule(() -> flush(tenantDomain), windowInMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // The debouncer is shutting down, hence the invalidation is submitted right away.
+            flush(tenantDomain);
+        }
+    }
+
+    /**
+     * Get the number of changes gathered into an invalidation which was already pending.
+     *
+     * @return Debounced change count.
+     */
+    public long getDebouncedCount() {
+
+        return debouncedCount.sum();
+    }
+
+    /**
+     * Get the number of walks submitted for the gathered changes.
+     *
+     * @return Flushed invalidation count.
+     */
+    public long getFlushedCount() {
+
+        return flushedCount.sum();
+    }
+
+    private void flush(String tenantDomain) {
+
+        PendingInvalidation pendingInvalidation;
+        synchronized (this) {
+            pendingInvalidation = pendingInvalidations.remove(tenantDomain);
+        }
+        if (pendingInvalidation != null) {
+            pendingInvalidation.submit();
+        }
+    }
+
+    void close() {
+
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        List<PendingInvalidation> remainingInvalidations;
+        synchronized (this) {
+            remainingInvalidations = new ArrayList<>(pendingInvalidations.values());
+            pendingInvalidations.clear();
+        }
+        remainingInvalidations.forEach(PendingInvalidation::submit);
+    }
+
+    /**
+     * Custom text resources of a tenant changed within the current window.
+     */
+    private class PendingInvalidation {
+
+        private final String tenantDomain;
+        private final String organizationId;
+        private final String username;
+        private final Consumer<HierarchyInvalidationCheckpoint> submission;
+        private final Set<String> resourceNames = new LinkedHashSet<>();
+
+        PendingInvalidation(String tenantDomain, String organizationId, String username,
+                            Consumer<HierarchyInvalidationCheckpoint> submission) {
+
+            this.tenantDomain = tenantDomain;
+            this.organizationId = organizationId;
+            this.username = username;
+            this.submission = submission;
+        }
+
+        void add(String resourceName) {
+
+            if (resourceNames.contains(StringUtils.EMPTY)) {
+                return;
+            }
+            if (StringUtils.isEmpty(resourceName)) {
+                // Clearing all the custom texts covers every resource changed in the window.
+                resourceNames.clear();
+                resourceNames.add(StringUtils.EMPTY);
+                return;
+            }
+            resourceNames.add(resourceName);
+        }
+
+        void submit() {
+
+            flushedCount.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Submitting the custom text invalidation of " + resourceNames.size() +
+                        " resources of tenant: " + tenantDomain + ".");
+            }
+            try {
+                submission.accept(HierarchyInvalidationCheckpoint.forCustomText(tenantDomain, organizationId,
+                        username, resourceNames));
+            } catch (RuntimeException e) {
+                LOG.error("Error while submitting the custom text invalidation of tenant: " + tenantDomain, e);
+            }
+        }
+    }
+}
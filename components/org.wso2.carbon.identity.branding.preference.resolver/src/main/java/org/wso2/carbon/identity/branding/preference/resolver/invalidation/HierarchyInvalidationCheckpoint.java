@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Durable progress of a hierarchy invalidation walk. It records what the walk invalidates and the cursor of the last
+ * page of descendant organizations which the walk has completed, so that an interrupted walk can be resumed from the
+ * next page.
+ */
+public class HierarchyInvalidationCheckpoint {
+
+    public static final String BRANDING_KIND = "branding";
+    public static final String CUSTOM_TEXT_KIND = "customText";
+
+    private static final String KIND = "kind";
+    private static final String TENANT_DOMAIN = "tenantDomain";
+    private static final String ORGANIZATION_ID = "organizationId";
+    private static final String USERNAME = "username";
+    private static final String TYPE = "type";
+    private static final String NAME = "name";
+    private static final String LOCALE = "locale";
+    private static final String RESOURCE_NAME_PREFIX = "resourceName.";
+    private static final String CURSOR = "cursor";
+    private static final String PROCESSED_COUNT = "processedCount";
+
+    private final String id;
+    private final String kind;
+    private final String tenantDomain;
+    private final String organizationId;
+    private final String username;
+    private final String type;
+    private final String name;
+    private final String locale;
+    private final List<String> resourceNames;
+    private volatile String cursor;
+    private volatile long processedCount;
+
+    private HierarchyInvalidationCheckpoint(String id, String kind, String tenantDomain, String organizationId,
+                                            String username, String type, String name, String locale,
+                                            List<String> resourceNames) {
+
+        this.id = id;
+        this.kind = kind;
+        this.tenantDomain = tenantDomain;
+        this.organizationId = organizationId;
+        this.username = username;
+        this.type = type;
+        this.name = name;
+        this.locale = locale;
+        this.resourceNames = resourceNames;
+    }
+
+    /**
+     * Create the checkpoint of a new branding resolver cache walk.
+     *
+     * @param tenantDomain   Tenant domain whose hierarchy is walked.
+     * @param organizationId Organization id of the tenant domain.
+     * @param username       Username of the user who triggered the walk.
+     * @param type           Branding preference type.
+     * @param name           Branding preference name.
+     * @param locale         Locale of the changed branding preference, or null if it is not known.
+     * @return Checkpoint at the start of the walk.
+     */
+    public static HierarchyInvalidationCheckpoint forBranding(String tenantDomain, String organizationId,
+                                                              String username, String type, String name,
+                                                              String locale) {
+
+        return new HierarchyInvalidationCheckpoint(UUID.randomUUID().toString(), BRANDING_KIND, tenantDomain,
+                organizationId, username, type, name, locale, null);
+    }
+
+    /**
+     * Create the checkpoint of a new custom text resolver cache walk.
+     *
+     * @param tenantDomain   Tenant domain whose hierarchy is walked.
+     * @param organizationId Organization id of the tenant domain.
+     * @param username       Username of the user who triggered the walk.
+     * @param resourceNames  Custom text resource names, or only an empty name to clear all the custom texts.
+     * @return Checkpoint at the start of the walk.
+     */
+    public static HierarchyInvalidationCheckpoint forCustomText(String tenantDomain, String organizationId,
+                                                                String username, Collection<String> resourceNames) {
+
+        List<String> sortedResourceNames = new ArrayList<>(resourceNames);
+        Collections.sort(sortedResourceNames);
+        return new HierarchyInvalidationCheckpoint(UUID.randomUUID().toString(), CUSTOM_TEXT_KIND, tenantDomain,
+                organizationId, username, null, null, null, Collections.unmodifiableList(sortedResourceNames));
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public String getKind() {
+
+        return kind;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public String getUsername() {
+
+        return username;
+    }
+
+    public String getType() {
+
+        return type;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * Get the locale of the changed branding preference.
+     *
+     * @return Locale, or null if it is not known or the walk is not a branding walk.
+     */
+    public String getLocale() {
+
+        return locale;
+    }
+
+    /**
+     * Get the custom text resource names cleared by the walk. An empty name clears all the custom texts.
+     *
+     * @return Resource names in their natural order, or null if the walk is not a custom text walk.
+     */
+    public List<String> getResourceNames() {
+
+        return resourceNames;
+    }
+
+    /**
+     * Get the cursor of the last page of descendant organizations which the walk has completed.
+     *
+     * @return Page cursor or null if the walk has not completed a page yet.
+     */
+    public String getCursor() {
+
+        return cursor;
+    }
+
+    public long getProcessedCount() {
+
+        return processedCount;
+    }
+
+    /**
+     * Get the key of the walk. Walks with the same key invalidate the same caches of the same hierarchy.
+     *
+     * @return Walk key.
+     */
+    public String getJobKey() {
+
+        if (BRANDING_KIND.equals(kind)) {
+            return String.join(":", kind, tenantDomain, type, name, locale != null ? locale : "");
+        }
+        return String.join(":", kind, tenantDomain, String.join(",", resourceNames));
+    }
+
+    /**
+     * Record the progress of the walk since the last advance. It is synchronized with {@link #toAttributes()}, so
+     * that a checkpoint is never stored with the cursor and the processed count of different advances.
+     *
+     * @param pageCursor        Cursor of the last page which the walk has completed.
+     * @param organizationCount Number of organizations visited since the last advance.
+     */
+    synchronized void advance(String pageCursor, int organizationCount) {
+
+        this.cursor = pageCursor;
+        this.processedCount += organizationCount;
+    }
+
+    /**
+     * Get the attributes which the checkpoint is stored with.
+     *
+     * @return Attribute values by their keys.
+     */
+    synchronized Map<String, String> toAttributes() {
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put(KIND, kind);
+        attributes.put(TENANT_DOMAIN, tenantDomain);
+        attributes.put(ORGANIZATION_ID, organizationId);
+        putIfNotNull(attributes, USERNAME, username);
+        putIfNotNull(attributes, TYPE, type);
+        putIfNotNull(attributes, NAME, name);
+        putIfNotNull(attributes, LOCALE, locale);
+        if (resourceNames != null) {
+            // Each resource name is kept in its own attribute, since a bulk change may touch many of them.
+            for (int i = 0; i < resourceNames.size(); i++) {
+                attributes.put(RESOURCE_NAME_PREFIX + i, resourceNames.get(i));
+            }
+        }
+        putIfNotNull(attributes, CURSOR, cursor);
+        attributes.put(PROCESSED_COUNT, String.valueOf(processedCount));
+        return attributes;
+    }
+
+    /**
+     * Read a checkpoint from the attributes which it is stored with.
+     *
+     * @param id         Checkpoint id.
+     * @param attributes Attribute values by their keys.
+     * @return Checkpoint.
+     */
+    static HierarchyInvalidationCheckpoint fromAttributes(String id, Map<String, String> attributes) {
+
+        List<String> resourceNames = null;
+        if (CUSTOM_TEXT_KIND.equals(attributes.get(KIND))) {
+            resourceNames = new ArrayList<>();
+            for (int i = 0; attributes.containsKey(RESOURCE_NAME_PREFIX + i); i++) {
+                resourceNames.add(attributes.get(RESOURCE_NAME_PREFIX + i));
+            }
+            resourceNames = Collections.unmodifiableList(resourceNames);
+        }
+        HierarchyInvalidationCheckpoint checkpoint = new HierarchyInvalidationCheckpoint(id, attributes.get(KIND),
+                attributes.get(TENANT_DOMAIN), attributes.get(ORGANIZATION_ID), attributes.get(USERNAME),
+                attributes.get(TYPE), attributes.get(NAME), attributes.get(LOCALE), resourceNames);
+        checkpoint.cursor = attributes.get(CURSOR);
+        String processedCount = attributes.get(PROCESSED_COUNT);
+        checkpoint.processedCount = processedCount != null ? Long.parseLong(processedCount) : 0L;
+        return checkpoint;
+    }
+
+    private static void putIfNotNull(Map<String, String> attributes, String key, String value) {
+
+        if (value != null) {
+            attributes.put(key, value);
+        }
+    }
+}
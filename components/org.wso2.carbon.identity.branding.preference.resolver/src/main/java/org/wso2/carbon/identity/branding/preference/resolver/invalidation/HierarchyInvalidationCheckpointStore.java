@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.branding.preference.resolver.internal.BrandingResolverComponentDataHolder;
+import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Attribute;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceTypeAdd;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_CHECKPOINT_ENABLED_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCES_NOT_EXISTS_ERROR_CODE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_NOT_EXISTS_ERROR_CODE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
+
+/**
+ * Keeps the checkpoints of the unfinished hierarchy invalidation walks as configuration resources of the super tenant,
+ * so that the walks interrupted by a restart are resumed when the resolver component is activated again on any node
+ * of the cluster. The resources are written by a single writer thread from snapshots of the checkpoints taken when they
+ * are saved, hence saving a checkpoint does not block the walk or the request which submits it. Saves made while a
+ * write is pending are written together.
+ */
+public class HierarchyInvalidationCheckpointStore {
+
+    private static final Log LOG = LogFactory.getLog(HierarchyInvalidationCheckpointStore.class);
+    private static final String RESOURCE_TYPE_DESCRIPTION = "Checkpoints of the branding hierarchy invalidation walks";
+    private static final String WRITER_THREAD_NAME = "branding-invalidation-checkpoint-writer";
+    private static final long WRITER_SHUTDOWN_TIMEOUT_IN_SECONDS = 10L;
+    private static volatile HierarchyInvalidationCheckpointStore instance;
+
+    private final Supplier<ConfigurationManager> configurationManagerSupplier;
+    private final Map<String, HierarchyInvalidationCheckpoint> checkpoints = new LinkedHashMap<>();
+    // Snapshots of the checkpoints which are not written yet, keyed by their ids. A null snapshot deletes the
+    // checkpoint.
+    private final Map<String, Map<String, String>> pendingSnapshots = new LinkedHashMap<>();
+    private final ExecutorService writer;
+    private boolean writePending;
+    private volatile boolean resourceTypeAdded;
+
+    /**
+     * @param configurationManagerSupplier Supplier of the configuration manager to keep the checkpoints with, or null
+     *                                     to keep them only in memory.
+     */
+    public HierarchyInvalidationCheckpointStore(Supplier<ConfigurationManager> configurationManagerSupplier) {
+
+        this.configurationManagerSupplier = configurationManagerSupplier;
+        if (configurationManagerSupplier == null) {
+            this.writer = null;
+            return;
+        }
+        ThreadPoolExecutor writerExecutor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        writerExecutor.allowCoreThreadTimeOut(true);
+        this.writer = writerExecutor;
+        load();
+    }
+
+    /**
+     * Getting the singleton instance of HierarchyInvalidationCheckpointStore.
+     *
+     * @return HierarchyInvalidationCheckpointStore instance.
+     */
+    public static HierarchyInvalidationCheckpointStore getInstance() {
+
+        if (instance == null) {
+            synchronized (HierarchyInvalidationCheckpointStore.class) {
+                if (instance == null) {
+                    instance = new HierarchyInvalidationCheckpointStore(
+                            BrandingPreferenceMgtUtils.getBooleanConfig(
+                                    RESOLVER_INVALIDATION_CHECKPOINT_ENABLED_CONFIG_KEY, true) ?
+                                    BrandingResolverComponentDataHolder.getInstance()::getConfigurationManager : null);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the store after writing the pending checkpoints. A new store is created on the next
+     * {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (HierarchyInvalidationCheckpointStore.class) {
+            if (instance != null) {
+                instance.close();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Save the current state of the given checkpoint, replacing its previous state. The checkpoint is written
+     * asynchronously.
+     *
+     * @param checkpoint Checkpoint.
+     */
+    public synchronized void save(HierarchyInvalidationCheckpoint checkpoint) {
+
+        checkpoints.put(checkpoint.getId(), checkpoint);
+        if (writer != null) {
+            pendingSnapshots.put(checkpoint.getId(), checkpoint.toAttributes());
+            schedulePersist();
+        }
+    }
+
+    /**
+     * Remove the checkpoint of a finished walk.
+     *
+     * @param checkpointId Checkpoint id.
+     */
+    public synchronized void remove(String checkpointId) {
+
+        if (checkpoints.remove(checkpointId) != null && writer != null) {
+            pendingSnapshots.put(checkpointId, null);
+            schedulePersist();
+        }
+    }
+
+    /**
+     * Get the checkpoints of the unfinished walks.
+     *
+     * @return Checkpoints.
+     */
+    public synchronized List<HierarchyInvalidationCheckpoint> getCheckpoints() {
+
+        return new ArrayList<>(checkpoints.values());
+    }
+
+    /**
+     * Read the checkpoints of the walks which were unfinished when the nodes of the cluster were stopped. A walk which
+     * is still run by another node may be resumed too, which is harmless since the invalidations are idempotent.
+     */
+    private void load() {
+
+        try {
+            startSuperTenantFlow();
+            Resources resources = configurationManagerSupplier.get()
+                    .getResourcesByType(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE);
+            resourceTypeAdded = true;
+            if (resources == null || resources.getResources() == null) {
+                return;
+            }
+            for (Resource resource : resources.getResources()) {
+                Map<String, String> attributes = new HashMap<>();
+                if (resource.getAttributes() != null) {
+                    for (Attribute attribute : resource.getAttributes()) {
+                        attributes.put(attribute.getKey(), attribute.getValue());
+                    }
+                }
+                checkpoints.put(resource.getResourceName(),
+                        HierarchyInvalidationCheckpoint.fromAttributes(resource.getResourceName(), attributes));
+            }
+        } catch (ConfigurationManagementException e) {
+            if (!RESOURCES_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode()) &&
+                    !RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
+                LOG.warn("Unable to read the hierarchy invalidation checkpoints.", e);
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to read the hierarchy invalidation checkpoints.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    /**
+     * Wait until the checkpoints saved so far are written.
+     */
+    void flush() {
+
+        if (writer == null) {
+            return;
+        }
+        try {
+            // The writer runs the writes in order, hence the pending write is done once this task is run.
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to wait for the hierarchy invalidation checkpoints to be written.", e);
+            }
+        }
+    }
+
+    /**
+     * Stop the writer after writing the pending checkpoints. Checkpoints saved afterwards are written in the thread
+     * which saves them.
+     */
+    void close() {
+
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(WRITER_SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Timed out while writing the hierarchy invalidation checkpoints.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Schedule a write of the pending snapshots, unless a write which has not taken them yet is pending. Must be
+     * called while holding the lock of the store.
+     */
+    private void schedulePersist() {
+
+        if (writePending) {
+            return;
+        }
+        writePending = true;
+        try {
+            writer.execute(this::persist);
+        } catch (RejectedExecutionException e) {
+            // The writer is stopped, hence the checkpoints are written in this thread.
+            persist();
+        }
+    }
+
+    private void persist() {
+
+        Map<String, Map<String, String>> snapshots;
+        synchronized (this) {
+            writePending = false;
+            snapshots = new LinkedHashMap<>(pendingSnapshots);
+            pendingSnapshots.clear();
+        }
+        try {
+            startSuperTenantFlow();
+            ConfigurationManager configurationManager = configurationManagerSupplier.get();
+            for (Map.Entry<String, Map<String, String>> snapshot : snapshots.entrySet()) {
+                if (snapshot.getValue() == null) {
+                    deleteCheckpoint(configurationManager, snapshot.getKey());
+                } else {
+                    replaceCheckpoint(configurationManager, snapshot.getKey(), snapshot.getValue());
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Unable to write the hierarchy invalidation checkpoints.", e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private void replaceCheckpoint(ConfigurationManager configurationManager, String checkpointId,
+                                   Map<String, String> snapshot) {
+
+        List<Attribute> attributes = new ArrayList<>(snapshot.size());
+        for (Map.Entry<String, String> attribute : snapshot.entrySet()) {
+            attributes.add(new Attribute(attribute.getKey(), attribute.getValue()));
+        }
+        Resource resource = new Resource(checkpointId, RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE);
+        resource.setAttributes(attributes);
+        resource.setHasAttribute(true);
+        try {
+            addResourceTypeIfNotExists(configurationManager);
+            configurationManager.replaceResource(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE, resource);
+        } catch (ConfigurationManagementException e) {
+            LOG.error("Unable to write the hierarchy invalidation checkpoint: " + checkpointId, e);
+        }
+    }
+
+    private void deleteCheckpoint(ConfigurationManager configurationManager, String checkpointId) {
+
+        try {
+            configurationManager.deleteResource(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE, checkpointId);
+        } catch (ConfigurationManagementException e) {
+            if (!RESOURCE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode()) &&
+                    !RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
+                LOG.error("Unable to delete the hierarchy invalidation checkpoint: " + checkpointId, e);
+            }
+        }
+    }
+
+    private void addResourceTypeIfNotExists(ConfigurationManager configurationManager)
+            throws ConfigurationManagementException {
+
+        if (resourceTypeAdded) {
+            return;
+        }
+        try {
+            configurationManager.getResourceType(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE);
+        } catch (ConfigurationManagementClientException e) {
+            if (!RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE.equals(e.getErrorCode())) {
+                throw e;
+            }
+            ResourceTypeAdd resourceType = new ResourceTypeAdd();
+            resourceType.setName(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE);
+            resourceType.setDescription(RESOURCE_TYPE_DESCRIPTION);
+            configurationManager.addResourceType(resourceType);
+        }
+        resourceTypeAdded = true;
+    }
+
+    private static void startSuperTenantFlow() {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(SUPER_TENANT_ID);
+    }
+}
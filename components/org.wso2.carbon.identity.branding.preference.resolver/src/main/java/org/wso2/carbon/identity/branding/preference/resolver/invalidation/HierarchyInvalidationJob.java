@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hierarchy invalidation job submitted to the {@link HierarchyInvalidationJobManager}. Requests to invalidate the
+ * same hierarchy made while the job is queued are merged into the job.
+ */
+public class HierarchyInvalidationJob {
+
+    /**
+     * States of a hierarchy invalidation job.
+     */
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final String key;
+    private final String tenantDomain;
+    private final long submittedTime;
+    private final AtomicInteger mergedCount = new AtomicInteger();
+    private final LongAdder processedCount = new LongAdder();
+    private final AtomicInteger pageCount = new AtomicInteger();
+    private volatile State state = State.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile long startTime;
+    private volatile long endTime;
+
+    HierarchyInvalidationJob(String id, String key, String tenantDomain) {
+
+        this.id = id;
+        this.key = key;
+        this.tenantDomain = tenantDomain;
+        this.submittedTime = System.currentTimeMillis();
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    /**
+     * Get the key of the invalidated hierarchy. Jobs with the same key invalidate the same caches of the same
+     * hierarchy.
+     *
+     * @return Job key.
+     */
+    public String getKey() {
+
+        return key;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public State getState() {
+
+        return state;
+    }
+
+    /**
+     * Get the number of requests merged into this job while it was queued.
+     *
+     * @return Merged request count.
+     */
+    public int getMergedCount() {
+
+        return mergedCount.get();
+    }
+
+    public long getSubmittedTime() {
+
+        return submittedTime;
+    }
+
+    public long getStartTime() {
+
+        return startTime;
+    }
+
+    public long getEndTime() {
+
+        return endTime;
+    }
+
+    /**
+     * Get the time the job waited in the queue, or has been waiting so far if it is still queued.
+     *
+     * @return Queued duration in milliseconds.
+     */
+    public long getQueuedDurationInMillis() {
+
+        long queueEndTime = startTime > 0 ? startTime : (endTime > 0 ? endTime : System.currentTimeMillis());
+        return queueEndTime - submittedTime;
+    }
+
+    /**
+     * Get the time the job ran, or has been running so far if it is still running.
+     *
+     * @return Run duration in milliseconds.
+     */
+    public long getRunDurationInMillis() {
+
+        if (startTime == 0) {
+            return 0;
+        }
+        return (endTime > 0 ? endTime : System.currentTimeMillis()) - startTime;
+    }
+
+    /**
+     * Get the number of child organizations invalidated by the job.
+     *
+     * @return Processed organization count.
+     */
+    public long getProcessedCount() {
+
+        return processedCount.sum();
+    }
+
+    public int getPageCount() {
+
+        return pageCount.get();
+    }
+
+    /**
+     * Get the throughput of the job over its run so far.
+     *
+     * @return Invalidated organizations per second.
+     */
+    public long getOrganizationsPerSecond() {
+
+        long runDuration = getRunDurationInMillis();
+        return runDuration > 0 ? getProcessedCount() * 1000 / runDuration : 0;
+    }
+
+    /**
+     * Check whether the job has been asked to stop. A running walk checks this between the pages of the hierarchy.
+     *
+     * @return True if the job is cancelled.
+     */
+    public boolean isCancelRequested() {
+
+        return cancelRequested;
+    }
+
+    void merge() {
+
+        mergedCount.incrementAndGet();
+    }
+
+    void recordPage(int organizationCount) {
+
+        processedCount.add(organizationCount);
+        pageCount.incrementAndGet();
+    }
+
+    void requestCancel() {
+
+        cancelRequested = true;
+    }
+
+    void start() {
+
+        startTime = System.currentTimeMillis();
+        state = State.RUNNING;
+    }
+
+    void end(State endState) {
+
+        endTime = System.currentTimeMillis();
+        state = endState;
+    }
+}
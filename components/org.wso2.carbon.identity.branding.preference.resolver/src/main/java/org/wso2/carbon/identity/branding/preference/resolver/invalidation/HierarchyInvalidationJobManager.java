@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtServerException;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_HISTORY_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_HISTORY_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_POOL_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_POOL_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_QUEUE_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_QUEUE_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_RETRY_COUNT_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_JOB_RETRY_COUNT_DEFAULT;
+
+/**
+ * Runs the hierarchy invalidation walks of the branding and custom text resolver caches as jobs in a bounded queue.
+ * A job submitted while another job with the same key is still queued is merged into the queued job, since a single
+ * walk started after both requests invalidates the caches for both of them. When the queue is full, the job runs in
+ * the submitting thread, which slows down the requests that trigger the invalidations. A job which fails is resumed
+ * from its checkpoint after a growing back-off, up to a configured number of times. If it still fails, its checkpoint
+ * is kept and the walk is resumed on the next start.
+ */
+public class HierarchyInvalidationJobManager {
+
+    private static final Log LOG = LogFactory.getLog(HierarchyInvalidationJobManager.class);
+    private static final String THREAD_NAME_PREFIX = "branding-hierarchy-invalidation-job-";
+    private static final String RETRY_THREAD_NAME = "branding-hierarchy-invalidation-job-retry";
+    private static final long RETRY_BACK_OFF_IN_MILLIS = 30000L;
+    private static volatile HierarchyInvalidationJobManager instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ScheduledThreadPoolExecutor retryScheduler;
+    private final int historySize;
+    private final int retryCount;
+    private final long retryBackOffInMillis;
+    private final HierarchyInvalidationCheckpointStore checkpointStore;
+    private final Map<String, HierarchyInvalidationJob> queuedJobsByKey = new HashMap<>();
+    private final Map<String, HierarchyInvalidationJob> activeJobs = new LinkedHashMap<>();
+    private final Deque<HierarchyInvalidationJob> finishedJobs = new ArrayDeque<>();
+    private final Map<String, ScheduledFuture<?>> pendingRetries = new HashMap<>();
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder mergedCount = new LongAdder();
+    private final LongAdder callerRunCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+
+    private HierarchyInvalidationJobManager() {
+
+        this(BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_INVALIDATION_JOB_POOL_SIZE_CONFIG_KEY,
+                        RESOLVER_INVALIDATION_JOB_POOL_SIZE_DEFAULT),
+                BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_INVALIDATION_JOB_QUEUE_SIZE_CONFIG_KEY,
+                        RESOLVER_INVALIDATION_JOB_QUEUE_SIZE_DEFAULT),
+                BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_INVALIDATION_JOB_HISTORY_SIZE_CONFIG_KEY,
+                        RESOLVER_INVALIDATION_JOB_HISTORY_SIZE_DEFAULT),
+                HierarchyInvalidationCheckpointStore.getInstance(),
+                BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_INVALIDATION_JOB_RETRY_COUNT_CONFIG_KEY,
+                        RESOLVER_INVALIDATION_JOB_RETRY_COUNT_DEFAULT), RETRY_BACK_OFF_IN_MILLIS);
+    }
+
+    HierarchyInvalidationJobManager(int poolSize, int queueSize, int historySize) {
+
+        this(poolSize, queueSize, historySize, null);
+    }
+
+    HierarchyInvalidationJobManager(int poolSize, int queueSize, int historySize,
+                                    HierarchyInvalidationCheckpointStore checkpointStore) {
+
+        this(poolSize, queueSize, historySize, checkpointStore, 0, 0L);
+    }
+
+    HierarchyInvalidationJobManager(int poolSize, int queueSize, int historySize,
+                                    HierarchyInvalidationCheckpointStore checkpointStore, int retryCount,
+                                    long retryBackOffInMillis) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+        this.retryScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, RETRY_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retryScheduler.setKeepAliveTime(60L, TimeUnit.SECONDS);
+        this.retryScheduler.allowCoreThreadTimeOut(true);
+        this.historySize = historySize;
+        this.retryCount = retryCount;
+        this.retryBackOffInMillis = retryBackOffInMillis;
+        this.checkpointStore = checkpointStore;
+    }
+
+    /**
+     * Getting the singleton instance of HierarchyInvalidationJobManager.
+     *
+     * @return HierarchyInvalidationJobManager instance.
+     */
+    public static HierarchyInvalidationJobManager getInstance() {
+
+        if (instance == null) {
+            synchronized (HierarchyInvalidationJobManager.class) {
+                if (instance == null) {
+                    instance = new HierarchyInvalidationJobManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the job manager. A new job manager is created on the next {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (HierarchyInvalidationJobManager.class) {
+            if (instance != null) {
+                instance.executor.shutdownNow();
+                // Failed jobs waiting to be retried are resumed from their checkpoints on the next start.
+                instance.retryScheduler.shutdownNow();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Submit a hierarchy invalidation walk. If a job with the same key is queued, the walk is merged into it.
+     *
+     * @param key          Key of the invalidated hierarchy.
+     * @param tenantDomain Tenant domain whose hierarchy is invalidated.
+     * @param walk         Walk which invalidates the hierarchy.
+     * @return Job which runs the walk.
+     */
+    public HierarchyInvalidationJob submit(String key, String tenantDomain, Walk walk) {
+
+        return submit(UUID.randomUUID().toString(), key, tenantDomain, walk);
+    }
+
+    /**
+     * Submit a hierarchy invalidation walk with the given job id. The checkpoint of the walk, if any, is saved under
+     * the job id and is removed when the job completes or is cancelled. If a job with the same key is queued, the
+     * walk is merged into it and the returned job has a different id.
+     *
+     * @param jobId        Job id.
+     * @param key          Key of the invalidated hierarchy.
+     * @param tenantDomain Tenant domain whose hierarchy is invalidated.
+     * @param walk         Walk which invalidates the hierarchy.
+     * @return Job which runs the walk.
+     */
+    public HierarchyInvalidationJob submit(String jobId, String key, String tenantDomain, Walk walk) {
+
+        return submit(jobId, key, tenantDomain, walk, 0);
+    }
+
+    private HierarchyInvalidationJob submit(String jobId, String key, String tenantDomain, Walk walk, int attempt) {
+
+        HierarchyInvalidationJob job;
+        synchronized (this) {
+            submittedCount.increment();
+            HierarchyInvalidationJob queuedJob = queuedJobsByKey.get(key);
+            if (queuedJob != null) {
+                queuedJob.merge();
+                mergedCount.increment();
+                return queuedJob;
+            }
+            job = new HierarchyInvalidationJob(jobId, key, tenantDomain);
+            queuedJobsByKey.put(key, job);
+            activeJobs.put(job.getId(), job);
+        }
+        try {
+            executor.execute(() -> run(job, walk, attempt));
+        } catch (RejectedExecutionException e) {
+            callerRunCount.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Hierarchy invalidation job queue is full. Running the job: " + job.getId() +
+                        " in the submitting thread.");
+            }
+            run(job, walk, attempt);
+        }
+        return job;
+    }
+
+    /**
+     * Cancel the given job. A queued job does not run, while a running job stops before its next page. A failed job
+     * waiting to be retried is not retried.
+     *
+     * @param jobId Job id.
+     * @return True if the job was queued, running or waiting to be retried.
+     */
+    public boolean cancel(String jobId) {
+
+        synchronized (this) {
+            ScheduledFuture<?> pendingRetry = pendingRetries.remove(jobId);
+            if (pendingRetry != null) {
+                pendingRetry.cancel(false);
+                if (checkpointStore != null) {
+                    checkpointStore.remove(jobId);
+                }
+                return true;
+            }
+            HierarchyInvalidationJob job = activeJobs.get(jobId);
+            if (job == null) {
+                return false;
+            }
+            job.requestCancel();
+            if (job.getState() == HierarchyInvalidationJob.State.QUEUED) {
+                queuedJobsByKey.remove(job.getKey(), job);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Get the job with the given id, if it is active or among the recently finished jobs.
+     *
+     * @param jobId Job id.
+     * @return Job or null if it is not found.
+     */
+    public synchronized HierarchyInvalidationJob getJob(String jobId) {
+
+        HierarchyInvalidationJob job = activeJobs.get(jobId);
+        if (job != null) {
+            return job;
+        }
+        return finishedJobs.stream().filter(finishedJob -> finishedJob.getId().equals(jobId)).findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Get the queued and running jobs, followed by the recently finished jobs, latest first.
+     *
+     * @return Jobs.
+     */
+    public synchronized List<HierarchyInvalidationJob> getJobs() {
+
+        List<HierarchyInvalidationJob> jobs = new ArrayList<>(activeJobs.values());
+        jobs.addAll(finishedJobs);
+        return jobs;
+    }
+
+    public int getQueuedCount() {
+
+        return executor.getQueue().size();
+    }
+
+    public long getSubmittedCount() {
+
+        return submittedCount.sum();
+    }
+
+    public long getMergedCount() {
+
+        return mergedCount.sum();
+    }
+
+    public long getCallerRunCount() {
+
+        return callerRunCount.sum();
+    }
+
+    public long getRetriedCount() {
+
+        return retriedCount.sum();
+    }
+
+    private void run(HierarchyInvalidationJob job, Walk walk, int attempt) {
+
+        synchronized (this) {
+            // Requests made from now on need a new walk, since this walk may have passed their organizations.
+            queuedJobsByKey.remove(job.getKey(), job);
+            if (job.isCancelRequested()) {
+                finish(job, HierarchyInvalidationJob.State.CANCELLED);
+                return;
+            }
+            job.start();
+        }
+        HierarchyInvalidationJob.State endState = HierarchyInvalidationJob.State.COMPLETED;
+        try {
+            walk.run(job);
+            if (job.isCancelRequested()) {
+                endState = HierarchyInvalidationJob.State.CANCELLED;
+            }
+        } catch (BrandingPreferenceMgtServerException | RuntimeException e) {
+            endState = HierarchyInvalidationJob.State.FAILED;
+            LOG.error("An error occurred while running the hierarchy invalidation job: " + job.getId() +
+                    " of tenant: " + job.getTenantDomain(), e);
+        } finally {
+            synchronized (this) {
+                finish(job, endState);
+                if (endState == HierarchyInvalidationJob.State.FAILED) {
+                    scheduleRetry(job, walk, attempt);
+                }
+            }
+        }
+    }
+
+    /**
+     * Schedule the failed job to be resumed from its checkpoint, unless it has been retried the configured number of
+     * times. Must be called while holding the lock of the job manager.
+     */
+    private void scheduleRetry(HierarchyInvalidationJob job, Walk walk, int attempt) {
+
+        if (attempt >= retryCount) {
+            if (retryCount > 0) {
+                LOG.error("Hierarchy invalidation job: " + job.getId() + " of tenant: " + job.getTenantDomain() +
+                        " failed after " + retryCount + " retries. It is resumed on the next start.");
+            }
+            return;
+        }
+        try {
+            pendingRetries.put(job.getId(), retryScheduler.schedule(() -> retry(job, walk, attempt + 1),
+                    retryBackOffInMillis * (attempt + 1), TimeUnit.MILLISECONDS));
+        } catch (RejectedExecutionException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Job manager is shut down. Hierarchy invalidation job: " + job.getId() +
+                        " is resumed on the next start.");
+            }
+        }
+    }
+
+    private void retry(HierarchyInvalidationJob failedJob, Walk walk, int attempt) {
+
+        synchronized (this) {
+            if (pendingRetries.remove(failedJob.getId()) == null) {
+                // The job was cancelled while waiting to be retried.
+                return;
+            }
+        }
+        retriedCount.increment();
+        LOG.info("Retrying the hierarchy invalidation job: " + failedJob.getId() + " of tenant: " +
+                failedJob.getTenantDomain() + ", attempt: " + attempt + " of " + retryCount + ".");
+        HierarchyInvalidationJob job =
+                submit(failedJob.getId(), failedJob.getKey(), failedJob.getTenantDomain(), walk, attempt);
+        if (checkpointStore != null && !failedJob.getId().equals(job.getId())) {
+            // The walk is merged into a queued job, which walks the whole hierarchy with its own checkpoint.
+            checkpointStore.remove(failedJob.getId());
+        }
+    }
+
+    private void finish(HierarchyInvalidationJob job, HierarchyInvalidationJob.State endState) {
+
+        job.end(endState);
+        activeJobs.remove(job.getId());
+        if (checkpointStore != null && endState != HierarchyInvalidationJob.State.FAILED) {
+            // The checkpoint of a failed job is kept, hence its walk is resumed by a retry or on the next start.
+            checkpointStore.remove(job.getId());
+        }
+        finishedJobs.addFirst(job);
+        while (finishedJobs.size() > historySize) {
+            finishedJobs.removeLast();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Hierarchy invalidation job: " + job.getId() + " of tenant: " + job.getTenantDomain() +
+                    " ended with state: " + endState + " after running for " + job.getRunDurationInMillis() +
+                    " ms and waiting for " + job.getQueuedDurationInMillis() + " ms.");
+        }
+    }
+
+    /**
+     * Walk which invalidates the caches of a hierarchy.
+     */
+    @FunctionalInterface
+    public interface Walk {
+
+        void run(HierarchyInvalidationJob job) throws BrandingPreferenceMgtServerException;
+    }
+}
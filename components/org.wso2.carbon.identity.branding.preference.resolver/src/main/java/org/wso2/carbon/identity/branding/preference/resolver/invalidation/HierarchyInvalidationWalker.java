@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_PAGE_RETRY_COUNT_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_PAGE_RETRY_COUNT_DEFAULT;
+
+/**
+ * Walks the descendant organizations of the organization in the carbon context a page at a time, newest first. The
+ * cursor of the last completed page is saved in the checkpoint, hence an interrupted walk resumes from the next page.
+ * A page which fails is retried with a growing back-off before the walk fails.
+ */
+public class HierarchyInvalidationWalker {
+
+    private static final Log LOG = LogFactory.getLog(HierarchyInvalidationWalker.class);
+    private static final int PAGE_SIZE = 1000;
+    private static final String SORT_ORDER = "DESC";
+    private static final int PROGRESS_LOG_INTERVAL = 100;
+    private static final long RETRY_BACK_OFF_IN_MILLIS = 1000L;
+    private static final long CHECKPOINT_INTERVAL_IN_MILLIS = 5000L;
+
+    private final HierarchyInvalidationCheckpointStore checkpointStore;
+    private final int pageRetryCount;
+    private final long retryBackOffInMillis;
+    private final long checkpointIntervalInMillis;
+
+    public HierarchyInvalidationWalker(HierarchyInvalidationCheckpointStore checkpointStore) {
+
+        this(checkpointStore, BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                RESOLVER_INVALIDATION_PAGE_RETRY_COUNT_CONFIG_KEY, RESOLVER_INVALIDATION_PAGE_RETRY_COUNT_DEFAULT),
+                RETRY_BACK_OFF_IN_MILLIS, CHECKPOINT_INTERVAL_IN_MILLIS);
+    }
+
+    HierarchyInvalidationWalker(HierarchyInvalidationCheckpointStore checkpointStore, int pageRetryCount,
+                                long retryBackOffInMillis, long checkpointIntervalInMillis) {
+
+        this.checkpointStore = checkpointStore;
+        this.pageRetryCount = pageRetryCount;
+        this.retryBackOffInMillis = retryBackOffInMillis;
+        this.checkpointIntervalInMillis = checkpointIntervalInMillis;
+    }
+
+    /**
+     * Walk the descendant organizations until all of them are visited or the job is cancelled. The walk must run in
+     * the tenant flow of the tenant whose descendants are walked.
+     *
+     * @param organizationManager Organization manager.
+     * @param checkpoint          Checkpoint of the walk.
+     * @param job                 Job which runs the walk.
+     * @param pageInvalidation    Invalidation of a page of descendant organizations.
+     * @throws OrganizationManagementException If a page still fails after the retries.
+     */
+    public void walk(OrganizationManager organizationManager, HierarchyInvalidationCheckpoint checkpoint,
+                     HierarchyInvalidationJob job, PageInvalidation pageInvalidation)
+            throws OrganizationManagementException {
+
+        String cursor = checkpoint.getCursor();
+        if (cursor != null && LOG.isDebugEnabled()) {
+            LOG.debug("Resuming the hierarchy invalidation walk: " + checkpoint.getId() + " of tenant: " +
+                    checkpoint.getTenantDomain() + " after " + checkpoint.getProcessedCount() + " organizations.");
+        }
+        long lastCheckpointTime = System.currentTimeMillis();
+        int visitedSinceCheckpoint = 0;
+        while (!job.isCancelRequested()) {
+            String pageCursor = cursor;
+            List<BasicOrganization> organizations = withRetries(() ->
+                    organizationManager.getOrganizations(PAGE_SIZE, pageCursor, null, SORT_ORDER, "", true));
+            if (organizations.isEmpty()) {
+                break;
+            }
+            List<String> organizationIds = organizations.stream()
+                    .map(BasicOrganization::getId)
+                    .collect(Collectors.toList());
+            withRetries(() -> {
+                pageInvalidation.invalidate(organizationIds);
+                return null;
+            });
+            cursor = Base64.getEncoder().encodeToString(
+                    organizations.get(organizations.size() - 1).getCreated().getBytes(StandardCharsets.UTF_8));
+            job.recordPage(organizations.size());
+            visitedSinceCheckpoint += organizations.size();
+            if (System.currentTimeMillis() - lastCheckpointTime >= checkpointIntervalInMillis) {
+                // Pages visited after the last save are visited again on resume, which is harmless.
+                checkpoint.advance(cursor, visitedSinceCheckpoint);
+                checkpointStore.save(checkpoint);
+                lastCheckpointTime = System.currentTimeMillis();
+                visitedSinceCheckpoint = 0;
+            }
+            if (job.getPageCount() % PROGRESS_LOG_INTERVAL == 0) {
+                LOG.info("Hierarchy invalidation job: " + job.getId() + " of tenant: " + job.getTenantDomain() +
+                        " visited " + job.getProcessedCount() + " organizations in " + job.getPageCount() +
+                        " pages at " + job.getOrganizationsPerSecond() + " organizations per second.");
+            }
+        }
+    }
+
+    private <T> T withRetries(Page<T> page) throws OrganizationManagementException {
+
+        int attempt = 0;
+        while (true) {
+            try {
+                return page.run();
+            } catch (OrganizationManagementException e) {
+                if (attempt >= pageRetryCount) {
+                    throw e;
+                }
+                attempt++;
+                LOG.warn("Failed to walk a hierarchy page. Retrying, attempt: " + attempt + " of " +
+                        pageRetryCount + ".", e);
+                try {
+                    Thread.sleep(retryBackOffInMillis * attempt);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Page<T> {
+
+        T run() throws OrganizationManagementException;
+    }
+
+    /**
+     * Invalidation of a page of descendant organizations. It is retried when the page fails, hence it must be
+     * idempotent.
+     */
+    @FunctionalInterface
+    public interface PageInvalidation {
+
+        /**
+         * Invalidate the caches of the given organizations.
+         *
+         * @param organizationIds Ids of the organizations to invalidate.
+         * @throws OrganizationManagementException If the page cannot be invalidated.
+         */
+        void invalidate(List<String> organizationIds) throws OrganizationManagementException;
+    }
+}
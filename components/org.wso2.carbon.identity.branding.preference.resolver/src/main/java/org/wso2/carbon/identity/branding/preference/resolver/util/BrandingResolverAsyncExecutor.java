@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.BrandingCacheMetrics;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_ASYNC_RESOLVE_CAPACITY_EXCEEDED;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_ASYNC_POOL_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_ASYNC_POOL_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_ASYNC_QUEUE_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_ASYNC_QUEUE_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_ASYNC_VIRTUAL_THREADS_ENABLED_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils.handleServerException;
+
+/**
+ * Bounded executor which runs the asynchronous branding and custom text resolutions. The tenant state of the
+ * submitting thread's carbon context is restored in a tenant flow before each resolution runs. The metrics of the
+ * executor are published as an MBean.
+ */
+public class BrandingResolverAsyncExecutor implements BrandingResolverAsyncExecutorMXBean {
+
+    private static final Log LOG = LogFactory.getLog(BrandingResolverAsyncExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "branding-resolver-async-";
+    private static final String MBEAN_TYPE = "ExecutorMetrics";
+    private static final String MBEAN_NAME = "BrandingResolverAsyncExecutor";
+    private static volatile BrandingResolverAsyncExecutor instance;
+
+    private final ThreadPoolExecutor executor;
+    private final boolean virtualThreadsEnabled;
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder totalExecutionTimeInMillis = new LongAdder();
+
+    private BrandingResolverAsyncExecutor() {
+
+        int poolSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_ASYNC_POOL_SIZE_CONFIG_KEY,
+                RESOLVER_ASYNC_POOL_SIZE_DEFAULT);
+        int queueSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_ASYNC_QUEUE_SIZE_CONFIG_KEY,
+                RESOLVER_ASYNC_QUEUE_SIZE_DEFAULT);
+        ThreadFactory threadFactory = null;
+        if (BrandingPreferenceMgtUtils.getBooleanConfig(RESOLVER_ASYNC_VIRTUAL_THREADS_ENABLED_CONFIG_KEY, true)) {
+            threadFactory = getVirtualThreadFactory(THREAD_NAME_PREFIX);
+        }
+        virtualThreadsEnabled = threadFactory != null;
+        if (threadFactory == null) {
+            threadFactory = getPlatformThreadFactory(THREAD_NAME_PREFIX);
+        }
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Branding resolver async executor is initialized with pool size: " + poolSize +
+                    ", queue size: " + queueSize + " and virtual threads enabled: " + virtualThreadsEnabled);
+        }
+    }
+
+    /**
+     * Getting the singleton instance of BrandingResolverAsyncExecutor.
+     *
+     * @return BrandingResolverAsyncExecutor instance.
+     */
+    public static BrandingResolverAsyncExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (BrandingResolverAsyncExecutor.class) {
+                if (instance == null) {
+                    BrandingResolverAsyncExecutor asyncExecutor = new BrandingResolverAsyncExecutor();
+                    BrandingCacheMetrics.getInstance().registerMBean(MBEAN_TYPE, MBEAN_NAME, asyncExecutor);
+                    instance = asyncExecutor;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the executor. A new executor is created on the next {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (BrandingResolverAsyncExecutor.class) {
+            if (instance != null) {
+                instance.executor.shutdown();
+                BrandingCacheMetrics.getInstance().unregisterMBean(MBEAN_TYPE, MBEAN_NAME);
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Run the given resolution asynchronously in the tenant context of the calling thread.
+     *
+     * @param resolution Resolution to be run.
+     * @param <T>        Type of the resolved value.
+     * @return Completion stage of the resolved value. It completes exceptionally if the resolution fails or the
+     * executor has no capacity to accept it.
+     */
+    public <T> CompletionStage<T> submit(Resolution<T> resolution) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        String username = carbonContext.getUsername();
+        String organizationId = carbonContext.getOrganizationId();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submittedCount.increment();
+        try {
+            executor.execute(() -> {
+                long startTime = System.currentTimeMillis();
+                try {
+                    PrivilegedCarbonContext.startTenantFlow();
+                    PrivilegedCarbonContext threadLocalCarbonContext =
+                            PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                    threadLocalCarbonContext.setTenantDomain(tenantDomain);
+                    threadLocalCarbonContext.setTenantId(tenantId);
+                    threadLocalCarbonContext.setUsername(username);
+                    threadLocalCarbonContext.setOrganizationId(organizationId);
+                    result.complete(resolution.resolve());
+                    completedCount.increment();
+                } catch (BrandingPreferenceMgtException | RuntimeException e) {
+                    failedCount.increment();
+                    result.completeExceptionally(e);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                    totalExecutionTimeInMillis.add(System.currentTimeMillis() - startTime);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            result.completeExceptionally(handleServerException(ERROR_CODE_ASYNC_RESOLVE_CAPACITY_EXCEEDED,
+                    tenantDomain, e));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+
+        return virtualThreadsEnabled;
+    }
+
+    @Override
+    public int getActiveCount() {
+
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public int getQueuedCount() {
+
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public long getSubmittedCount() {
+
+        return submittedCount.sum();
+    }
+
+    @Override
+    public long getCompletedCount() {
+
+        return completedCount.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+
+        return rejectedCount.sum();
+    }
+
+    @Override
+    public long getTotalExecutionTimeInMillis() {
+
+        return totalExecutionTimeInMillis.sum();
+    }
+
+    /**
+     * Look up the virtual thread factory reflectively, so that virtual threads are used only when the runtime
+     * supports them.
+     *
+     * @param threadNamePrefix Prefix of the thread names.
+     * @return Virtual thread factory or null if the runtime does not support virtual threads.
+     */
+    static ThreadFactory getVirtualThreadFactory(String threadNamePrefix) {
+
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Virtual threads are not supported by the runtime. Using platform threads.", e);
+            }
+            return null;
+        }
+    }
+
+    static ThreadFactory getPlatformThreadFactory(String threadNamePrefix) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Resolution which runs in the executor.
+     *
+     * @param <T> Type of the resolved value.
+     */
+    @FunctionalInterface
+    public interface Resolution<T> {
+
+        T resolve() throws BrandingPreferenceMgtException;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+/**
+ * Management interface exposing the metrics of the branding resolver async executor over JMX.
+ */
+public interface BrandingResolverAsyncExecutorMXBean {
+
+    /**
+     * @return Whether the resolutions run on virtual threads.
+     */
+    boolean isVirtualThreadsEnabled();
+
+    /**
+     * @return Number of resolutions which are currently running.
+     */
+    int getActiveCount();
+
+    /**
+     * @return Number of resolutions waiting in the queue of the executor.
+     */
+    int getQueuedCount();
+
+    /**
+     * @return Number of resolutions submitted to the executor.
+     */
+    long getSubmittedCount();
+
+    /**
+     * @return Number of resolutions which completed successfully.
+     */
+    long getCompletedCount();
+
+    /**
+     * @return Number of resolutions which failed.
+     */
+    long getFailedCount();
+
+    /**
+     * @return Number of resolutions rejected as the executor had no capacity to accept them.
+     */
+    long getRejectedCount();
+
+    /**
+     * @return Total time spent running the resolutions, in milliseconds.
+     */
+    long getTotalExecutionTimeInMillis();
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_PARALLELISM_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_PARALLELISM_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_QUEUE_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_QUEUE_SIZE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_VIRTUAL_THREADS_ENABLED_CONFIG_KEY;
+
+/**
+ * Executor which invalidates the resolver caches of the organizations in a page of a hierarchy walk in parallel.
+ * The page is split into as many chunks as the configured parallelism, and each chunk is processed in a tenant flow
+ * of the organization whose hierarchy is walked. The chunks run on a bounded pool of platform threads, and once its
+ * queue is full a chunk runs on the walking thread itself, which slows down the walk instead of queueing without a
+ * bound. When virtual threads are enabled and supported by the runtime, each chunk runs on a new virtual thread
+ * instead, since virtual threads are not meant to be pooled. The number of chunks of a page is bounded by the
+ * parallelism either way.
+ */
+public class HierarchyInvalidationExecutor {
+
+    private static final Log LOG = LogFactory.getLog(HierarchyInvalidationExecutor.class);
+    private static final String THREAD_NAME_PREFIX = "branding-hierarchy-invalidation-";
+    private static volatile HierarchyInvalidationExecutor instance;
+
+    private final int parallelism;
+    private final ExecutorService executor;
+    private final LongAdder invalidatedCount = new LongAdder();
+    private final LongAdder totalExecutionTimeInMillis = new LongAdder();
+
+    private HierarchyInvalidationExecutor() {
+
+        parallelism = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(RESOLVER_INVALIDATION_PARALLELISM_CONFIG_KEY,
+                RESOLVER_INVALIDATION_PARALLELISM_DEFAULT);
+        ExecutorService virtualThreadExecutor = null;
+        if (BrandingPreferenceMgtUtils.getBooleanConfig(RESOLVER_INVALIDATION_VIRTUAL_THREADS_ENABLED_CONFIG_KEY,
+                false)) {
+            virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        }
+        if (virtualThreadExecutor != null) {
+            executor = virtualThreadExecutor;
+        } else {
+            int queueSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                    RESOLVER_INVALIDATION_QUEUE_SIZE_CONFIG_KEY, RESOLVER_INVALIDATION_QUEUE_SIZE_DEFAULT);
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism, 60L,
+                    TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueSize),
+                    BrandingResolverAsyncExecutor.getPlatformThreadFactory(THREAD_NAME_PREFIX),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            executor = threadPoolExecutor;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Hierarchy invalidation executor is initialized with parallelism: " + parallelism +
+                    " and virtual threads enabled: " + (virtualThreadExecutor != null));
+        }
+    }
+
+    /**
+     * Getting the singleton instance of HierarchyInvalidationExecutor.
+     *
+     * @return HierarchyInvalidationExecutor instance.
+     */
+    public static HierarchyInvalidationExecutor getInstance() {
+
+        if (instance == null) {
+            synchronized (HierarchyInvalidationExecutor.class) {
+                if (instance == null) {
+                    instance = new HierarchyInvalidationExecutor();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Shut down the executor. A new executor is created on the next {@link #getInstance()} call.
+     */
+    public static void shutdown() {
+
+        synchronized (HierarchyInvalidationExecutor.class) {
+            if (instance != null) {
+                instance.executor.shutdown();
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Invalidate the given organizations of a page in parallel and wait until all of them are invalidated.
+     *
+     * @param organizations Organizations of the page.
+     * @param tenantDomain  Tenant domain of the organization whose hierarchy is walked.
+     * @param username      Username of the user who triggered the walk.
+     * @param invalidation  Invalidation of a single organization.
+     * @param <T>           Type of the organizations.
+     * @throws OrganizationManagementException If the invalidation of an organization fails.
+     */
+    public <T> void invalidate(List<T> organizations, String tenantDomain, String username,
+                               Invalidation<T> invalidation) throws OrganizationManagementException {
+
+        long startTime = System.currentTimeMillis();
+        int chunkSize = (organizations.size() + parallelism - 1) / parallelism;
+        if (parallelism == 1 || organizations.size() <= 1) {
+            invalidate(organizations, invalidation);
+        } else {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int start = 0; start < organizations.size(); start += chunkSize) {
+                List<T> chunk = organizations.subList(start, Math.min(start + chunkSize, organizations.size()));
+                futures.add(executor.submit(() -> {
+                    try {
+                        PrivilegedCarbonContext.startTenantFlow();
+                        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                        PrivilegedCarbonContext.getThreadLocalCarbonContext().setUsername(username);
+                        invalidate(chunk, invalidation);
+                        return null;
+                    } finally {
+                        PrivilegedCarbonContext.endTenantFlow();
+                    }
+                }));
+            }
+            awaitAll(futures);
+        }
+        invalidatedCount.add(organizations.size());
+        totalExecutionTimeInMillis.add(System.currentTimeMillis() - startTime);
+    }
+
+    public int getParallelism() {
+
+        return parallelism;
+    }
+
+    public long getInvalidatedCount() {
+
+        return invalidatedCount.sum();
+    }
+
+    public long getTotalExecutionTimeInMillis() {
+
+        return totalExecutionTimeInMillis.sum();
+    }
+
+    /**
+     * Create an executor which runs each task on a new virtual thread. The executor is looked up reflectively, so
+     * that virtual threads are used only when the runtime supports them.
+     *
+     * @return Virtual thread per task executor or null if the runtime does not support virtual threads.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+
+        ThreadFactory threadFactory = BrandingResolverAsyncExecutor.getVirtualThreadFactory(THREAD_NAME_PREFIX);
+        if (threadFactory == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Virtual thread per task executor is not supported by the runtime. Using platform " +
+                        "threads.", e);
+            }
+            return null;
+        }
+    }
+
+    private static <T> void invalidate(List<T> organizations, Invalidation<T> invalidation)
+            throws OrganizationManagementException {
+
+        for (T organization : organizations) {
+            invalidation.invalidate(organization);
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws OrganizationManagementException {
+
+        OrganizationManagementException failure = null;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> pending.cancel(true));
+                throw new IllegalStateException("Interrupted while invalidating the organization hierarchy.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof OrganizationManagementException) {
+                    if (failure == null) {
+                        failure = (OrganizationManagementException) cause;
+                    }
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Invalidation of the resolver caches of a single organization.
+     *
+     * @param <T> Type of the organization.
+     */
+    @FunctionalInterface
+    public interface Invalidation<T> {
+
+        void invalidate(T organization) throws OrganizationManagementException;
+    }
+}
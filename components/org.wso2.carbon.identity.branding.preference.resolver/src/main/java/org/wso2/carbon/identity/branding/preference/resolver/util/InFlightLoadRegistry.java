@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtServerException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ErrorMessages.ERROR_CODE_IN_FLIGHT_LOAD_INTERRUPTED;
+import static org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils.handleServerException;
+
+/**
+ * Registry of in-flight loads which coalesces concurrent loads of the same key. The first caller performs the load
+ * while the other callers wait for its result. A waiting caller falls back to a direct load if the result is not
+ * available within the configured wait timeout. The joined and timed out loads are recorded in the metrics of the
+ * cache populated by the loads.
+ *
+ * @param <K> Type of the load key.
+ * @param <V> Type of the loaded value.
+ */
+public class InFlightLoadRegistry<K, V> {
+
+    private static final Log LOG = LogFactory.getLog(InFlightLoadRegistry.class);
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final long waitTimeoutInMillis;
+    private final InstrumentedBaseCache<?, ?> cache;
+
+    /**
+     * @param waitTimeoutInMillis Maximum time a caller waits for an in-flight load before loading directly.
+     * @param cache               Cache populated by the loads, whose metrics record the joined loads.
+     */
+    public InFlightLoadRegistry(long waitTimeoutInMillis, InstrumentedBaseCache<?, ?> cache) {
+
+        this.waitTimeoutInMillis = waitTimeoutInMillis;
+        this.cache = cache;
+    }
+
+    /**
+     * Load the value of the given key, joining an in-flight load of the same key if there is one.
+     *
+     * @param key    Load key.
+     * @param loader Loader which performs the actual load.
+     * @return Loaded value.
+     * @throws BrandingPreferenceMgtException If the load fails or the wait for an in-flight load is interrupted.
+     */
+    public V load(K key, Loader<V> loader) throws BrandingPreferenceMgtException {
+
+        CompletableFuture<V> inFlightLoad = new CompletableFuture<>();
+        CompletableFuture<V> existingLoad = inFlightLoads.putIfAbsent(key, inFlightLoad);
+        if (existingLoad == null) {
+            try {
+                V value = loader.load();
+                inFlightLoad.complete(value);
+                return value;
+            } catch (BrandingPreferenceMgtException | RuntimeException e) {
+                inFlightLoad.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlightLoads.remove(key, inFlightLoad);
+            }
+        }
+
+        cache.recordCoalescedLoad();
+        try {
+            return existingLoad.get(waitTimeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BrandingPreferenceMgtException) {
+                throw toWaiterException((BrandingPreferenceMgtException) e.getCause());
+            }
+            throw new IllegalStateException("In-flight load of: " + key + " failed.", e.getCause());
+        } catch (TimeoutException e) {
+            cache.recordTimedOutLoadWait();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Timed out while waiting for the in-flight load of: " + key + ". Loading directly.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handleServerException(ERROR_CODE_IN_FLIGHT_LOAD_INTERRUPTED, String.valueOf(key), e);
+        }
+        return loader.load();
+    }
+
+    /**
+     * Each waiter gets its own exception, which keeps the error code of the failed load and refers to it as the cause,
+     * so that the exception of the load is not shared across the requests.
+     */
+    private static BrandingPreferenceMgtException toWaiterException(BrandingPreferenceMgtException e) {
+
+        if (e instanceof BrandingPreferenceMgtClientException) {
+            return new BrandingPreferenceMgtClientException(e.getMessage(), e.getErrorCode(), e);
+        }
+        if (e instanceof BrandingPreferenceMgtServerException) {
+            return new BrandingPreferenceMgtServerException(e.getMessage(), e.getErrorCode(), e);
+        }
+        return new BrandingPreferenceMgtException(e.getMessage(), e.getErrorCode(), e);
+    }
+
+    /**
+     * @return Number of loads which are currently in progress.
+     */
+    public int getInFlightLoadCount() {
+
+        return inFlightLoads.size();
+    }
+
+    /**
+     * Loader which performs the actual load of a value.
+     *
+     * @param <V> Type of the loaded value.
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+
+        V load() throws BrandingPreferenceMgtException;
+    }
+}
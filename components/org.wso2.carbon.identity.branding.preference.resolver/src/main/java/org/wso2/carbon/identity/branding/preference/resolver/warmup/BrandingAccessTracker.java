@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the most frequently resolved brandings of this node, which are written to the warm-up snapshot.
+ * The number of tracked brandings is bounded and the access counts are halved after each snapshot, so that the
+ * brandings which are no longer used age out.
+ */
+public class BrandingAccessTracker {
+
+    private static final BrandingAccessTracker INSTANCE = new BrandingAccessTracker();
+
+    private final Map<BrandingWarmUpEntry, TrackedAccess> trackedAccesses = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile int maxTrackedEntries;
+
+    private BrandingAccessTracker() {
+
+    }
+
+    /**
+     * Get the branding access tracker instance.
+     *
+     * @return BrandingAccessTracker instance.
+     */
+    public static BrandingAccessTracker getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Start tracking the resolved brandings.
+     *
+     * @param maxTrackedEntries Maximum number of brandings to track.
+     */
+    public void enable(int maxTrackedEntries) {
+
+        this.maxTrackedEntries = maxTrackedEntries;
+        this.enabled = true;
+    }
+
+    /**
+     * Stop tracking the resolved brandings and discard the tracked ones.
+     */
+    public void disable() {
+
+        this.enabled = false;
+        trackedAccesses.clear();
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Record a resolved branding.
+     *
+     * @param entry            Resolved branding request.
+     * @param resolvedFromType Type of the branding the request is resolved from.
+     * @param resolvedFromName Name of the branding the request is resolved from.
+     */
+    public void recordAccess(BrandingWarmUpEntry entry, String resolvedFromType, String resolvedFromName) {
+
+        if (!enabled) {
+            return;
+        }
+        TrackedAccess trackedAccess = getTrackedAccess(entry);
+        if (trackedAccess != null) {
+            trackedAccess.accessCount.incrementAndGet();
+            trackedAccess.resolvedFromType = resolvedFromType;
+            trackedAccess.resolvedFromName = resolvedFromName;
+        }
+    }
+
+    /**
+     * Carry over the access count of a branding from a previous snapshot.
+     *
+     * @param hotBrandingEntry Branding entry read from the snapshot.
+     */
+    public void seed(HotBrandingEntry hotBrandingEntry) {
+
+        if (!enabled) {
+            return;
+        }
+        TrackedAccess trackedAccess = getTrackedAccess(hotBrandingEntry.getEntry());
+        if (trackedAccess != null) {
+            trackedAccess.accessCount.addAndGet(hotBrandingEntry.getAccessCount());
+            if (trackedAccess.resolvedFromName == null) {
+                trackedAccess.resolvedFromType = hotBrandingEntry.getResolvedFromType();
+                trackedAccess.resolvedFromName = hotBrandingEntry.getResolvedFromName();
+            }
+        }
+    }
+
+    /**
+     * Get the most frequently resolved brandings.
+     *
+     * @param count Maximum number of brandings to return.
+     * @return Brandings ordered by the access count.
+     */
+    public List<HotBrandingEntry> getHottestEntries(int count) {
+
+        List<HotBrandingEntry> hotBrandingEntries = new ArrayList<>();
+        for (Map.Entry<BrandingWarmUpEntry, TrackedAccess> tracked : trackedAccesses.entrySet()) {
+            TrackedAccess trackedAccess = tracked.getValue();
+            hotBrandingEntries.add(new HotBrandingEntry(tracked.getKey(), trackedAccess.accessCount.get(),
+                    trackedAccess.resolvedFromType, trackedAccess.resolvedFromName));
+        }
+        hotBrandingEntries.sort(Comparator.comparingLong(HotBrandingEntry::getAccessCount).reversed());
+        return hotBrandingEntries.size() > count ? new ArrayList<>(hotBrandingEntries.subList(0, count)) :
+                hotBrandingEntries;
+    }
+
+    /**
+     * Halve the access counts of the tracked brandings and stop tracking the ones which are no longer resolved.
+     */
+    public void decay() {
+
+        trackedAccesses.values().removeIf(trackedAccess -> trackedAccess.accessCount.updateAndGet(
+                accessCount -> accessCount / 2) == 0);
+    }
+
+    private TrackedAccess getTrackedAccess(BrandingWarmUpEntry entry) {
+
+        TrackedAccess trackedAccess = trackedAccesses.get(entry);
+        if (trackedAccess == null && trackedAccesses.size() < maxTrackedEntries) {
+            trackedAccess = trackedAccesses.computeIfAbsent(entry, key -> new TrackedAccess());
+        }
+        return trackedAccess;
+    }
+
+    /**
+     * Access count of a tracked branding and where it was last resolved from.
+     */
+    private static class TrackedAccess {
+
+        private final AtomicLong accessCount = new AtomicLong();
+        private volatile String resolvedFromType;
+        private volatile String resolvedFromName;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+/**
+ * Management interface exposing the progress of the branding resolver cache warm-up over JMX.
+ */
+public interface BrandingCacheWarmUpMXBean {
+
+    /**
+     * @return Number of brandings read from the warm-up snapshot.
+     */
+    int getSnapshotEntryCount();
+
+    /**
+     * @return Number of brandings resolved by the warm-up.
+     */
+    long getWarmedUpCount();
+
+    /**
+     * @return Number of brandings which could not be resolved by the warm-up.
+     */
+    long getFailedCount();
+
+    /**
+     * @return Number of brandings resolved from a different branding than the one recorded in the snapshot.
+     */
+    long getChangedCount();
+
+    /**
+     * @return Whether the warm-up has completed.
+     */
+    boolean isWarmUpCompleted();
+
+    /**
+     * @return Time taken by the warm-up, in milliseconds.
+     */
+    long getWarmUpTimeInMillis();
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.BrandingCacheMetrics;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.branding.preference.resolver.UIBrandingPreferenceResolverImpl;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCacheEntry;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_RATE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_RATE_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_SNAPSHOT_FILE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_SNAPSHOT_INTERVAL_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_SNAPSHOT_INTERVAL_DEFAULT;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_SNAPSHOT_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_WARM_UP_SNAPSHOT_SIZE_DEFAULT;
+
+/**
+ * Periodically writes the most frequently resolved brandings of this node to a snapshot on the local disk and
+ * replays the snapshot in the background when the node starts, so that the resolver caches are warm before the
+ * tenants log in. The replay is rate limited to avoid overloading the configuration store at startup. The progress
+ * of the warm-up is published as an MBean while the service is running.
+ */
+public class BrandingCacheWarmUpService implements BrandingCacheWarmUpMXBean {
+
+    private static final Log LOG = LogFactory.getLog(BrandingCacheWarmUpService.class);
+    private static final String THREAD_NAME = "branding-resolver-warm-up";
+    private static final String MBEAN_TYPE = "WarmUpMetrics";
+    private static final String MBEAN_NAME = "BrandingCacheWarmUp";
+    private static final String CARBON_HOME = "carbon.home";
+    private static final String DEFAULT_SNAPSHOT_FILE = "repository/data/branding/resolver-warm-up-snapshot.json";
+    // More brandings than the snapshot size are tracked, so that the brandings entering the hot set are counted.
+    private static final int TRACKED_ENTRIES_PER_SNAPSHOT_ENTRY = 10;
+
+    private final UIBrandingPreferenceResolverImpl brandingPreferenceResolver;
+    private final BrandingWarmUpSnapshotStore snapshotStore;
+    private final BrandingAccessTracker accessTracker;
+    private final int snapshotSize;
+    private final int snapshotIntervalInSeconds;
+    private final long resolveIntervalInNanos;
+    private final LongAdder warmedUpCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder changedCount = new LongAdder();
+    private ScheduledExecutorService scheduler;
+    private volatile int snapshotEntryCount;
+    private volatile boolean warmUpCompleted;
+    private volatile long warmUpTimeInMillis;
+
+    public BrandingCacheWarmUpService(UIBrandingPreferenceResolverImpl brandingPreferenceResolver) {
+
+        this(brandingPreferenceResolver, new BrandingWarmUpSnapshotStore(getSnapshotFile()),
+                BrandingAccessTracker.getInstance());
+    }
+
+    public BrandingCacheWarmUpService(UIBrandingPreferenceResolverImpl brandingPreferenceResolver,
+                                      BrandingWarmUpSnapshotStore snapshotStore,
+                                      BrandingAccessTracker accessTracker) {
+
+        this.brandingPreferenceResolver = brandingPreferenceResolver;
+        this.snapshotStore = snapshotStore;
+        this.accessTracker = accessTracker;
+        this.snapshotSize = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                RESOLVER_WARM_UP_SNAPSHOT_SIZE_CONFIG_KEY, RESOLVER_WARM_UP_SNAPSHOT_SIZE_DEFAULT);
+        this.snapshotIntervalInSeconds = BrandingPreferenceMgtUtils.getPositiveIntegerConfig(
+                RESOLVER_WARM_UP_SNAPSHOT_INTERVAL_CONFIG_KEY, RESOLVER_WARM_UP_SNAPSHOT_INTERVAL_DEFAULT);
+        this.resolveIntervalInNanos = TimeUnit.SECONDS.toNanos(1) / BrandingPreferenceMgtUtils
+                .getPositiveIntegerConfig(RESOLVER_WARM_UP_RATE_CONFIG_KEY, RESOLVER_WARM_UP_RATE_DEFAULT);
+    }
+
+    /**
+     * Start tracking the resolved brandings, replay the snapshot in the background and schedule the periodic
+     * snapshots.
+     */
+    public synchronized void start() {
+
+        accessTracker.enable(snapshotSize * TRACKED_ENTRIES_PER_SNAPSHOT_ENTRY);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Both tasks run in the same thread, hence a snapshot is never written while the warm-up is in progress.
+        scheduler.execute(this::warmUp);
+        scheduler.scheduleWithFixedDelay(this::writeSnapshot, snapshotIntervalInSeconds, snapshotIntervalInSeconds,
+                TimeUnit.SECONDS);
+        BrandingCacheMetrics.getInstance().registerMBean(MBEAN_TYPE, MBEAN_NAME, this);
+    }
+
+    /**
+     * Stop the warm-up and the periodic snapshots. A final snapshot is written if the warm-up has completed, so that
+     * the brandings resolved since the last snapshot are not lost on a restart.
+     */
+    public synchronized void stop() {
+
+        if (scheduler == null) {
+            return;
+        }
+        BrandingCacheMetrics.getInstance().unregisterMBean(MBEAN_TYPE, MBEAN_NAME);
+        scheduler.shutdownNow();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOG.warn("Branding resolver warm-up did not stop in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        if (warmUpCompleted) {
+            writeSnapshot();
+        }
+        accessTracker.disable();
+    }
+
+    /**
+     * Replay the brandings of the snapshot, starting from the most frequently resolved ones.
+     */
+    void warmUp() {
+
+        long startTime = System.currentTimeMillis();
+        List<HotBrandingEntry> hotBrandingEntries;
+        try {
+            hotBrandingEntries = snapshotStore.read();
+        } catch (IOException e) {
+            LOG.warn("Error while reading the branding resolver warm-up snapshot. Skipping the warm-up.", e);
+            warmUpCompleted = true;
+            return;
+        }
+
+        snapshotEntryCount = hotBrandingEntries.size();
+        LOG.info("Warming up the branding resolver caches with " + snapshotEntryCount + " brandings.");
+        long nextResolveTime = System.nanoTime();
+        for (HotBrandingEntry hotBrandingEntry : hotBrandingEntries) {
+            try {
+                long waitTime = nextResolveTime - System.nanoTime();
+                if (waitTime > 0) {
+                    TimeUnit.NANOSECONDS.sleep(waitTime);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOG.info("Branding resolver warm-up is interrupted after " + warmedUpCount.sum() + " brandings.");
+                return;
+            }
+            nextResolveTime = Math.max(nextResolveTime, System.nanoTime()) + resolveIntervalInNanos;
+            warmUp(hotBrandingEntry);
+        }
+        warmUpTimeInMillis = System.currentTimeMillis() - startTime;
+        warmUpCompleted = true;
+        LOG.info("Branding resolver warm-up is completed in " + warmUpTimeInMillis + " ms. Warmed up: " +
+                warmedUpCount.sum() + ", failed: " + failedCount.sum() + ", resolved from a different branding: " +
+                changedCount.sum());
+    }
+
+    private void warmUp(HotBrandingEntry hotBrandingEntry) {
+
+        BrandingWarmUpEntry entry = hotBrandingEntry.getEntry();
+        accessTracker.seed(hotBrandingEntry);
+        try {
+            ResolvedBrandingCacheEntry resolvedBranding = brandingPreferenceResolver.warmUpBranding(entry);
+            warmedUpCount.increment();
+            if (hotBrandingEntry.getResolvedFromName() != null && (!Objects.equals(
+                    hotBrandingEntry.getResolvedFromType(), resolvedBranding.getResolvedFromType()) ||
+                    !Objects.equals(hotBrandingEntry.getResolvedFromName(), resolvedBranding.getResolvedFromName()))) {
+                changedCount.increment();
+            }
+        } catch (BrandingPreferenceMgtException | RuntimeException e) {
+            failedCount.increment();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while warming up the branding: " + entry.getType() + ":" + entry.getName() +
+                        " of tenant: " + entry.getTenantDomain(), e);
+            }
+        }
+    }
+
+    /**
+     * Write the most frequently resolved brandings to the snapshot and age out the tracked access counts.
+     */
+    void writeSnapshot() {
+
+        try {
+            snapshotStore.write(accessTracker.getHottestEntries(snapshotSize));
+            accessTracker.decay();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Branding resolver warm-up snapshot is written to: " + snapshotStore.getSnapshotFile());
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Error while writing the branding resolver warm-up snapshot to: " +
+                    snapshotStore.getSnapshotFile(), e);
+        }
+    }
+
+    @Override
+    public int getSnapshotEntryCount() {
+
+        return snapshotEntryCount;
+    }
+
+    @Override
+    public long getWarmedUpCount() {
+
+        return warmedUpCount.sum();
+    }
+
+    @Override
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    @Override
+    public long getChangedCount() {
+
+        return changedCount.sum();
+    }
+
+    @Override
+    public boolean isWarmUpCompleted() {
+
+        return warmUpCompleted;
+    }
+
+    @Override
+    public long getWarmUpTimeInMillis() {
+
+        return warmUpTimeInMillis;
+    }
+
+    private static Path getSnapshotFile() {
+
+        String snapshotFile = IdentityUtil.getProperty(RESOLVER_WARM_UP_SNAPSHOT_FILE_CONFIG_KEY);
+        if (StringUtils.isNotBlank(snapshotFile)) {
+            return Paths.get(snapshotFile.trim());
+        }
+        return Paths.get(System.getProperty(CARBON_HOME, "."), DEFAULT_SNAPSHOT_FILE);
+    }
+}
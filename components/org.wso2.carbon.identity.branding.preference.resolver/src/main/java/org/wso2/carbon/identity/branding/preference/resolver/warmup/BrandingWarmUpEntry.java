@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+import org.json.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * Branding resolve request which is recorded in the warm-up snapshot and replayed to warm up the resolver caches.
+ */
+public class BrandingWarmUpEntry {
+
+    private static final String TYPE = "type";
+    private static final String NAME = "name";
+    private static final String LOCALE = "locale";
+    private static final String ORGANIZATION_ID = "organizationId";
+    private static final String TENANT_DOMAIN = "tenantDomain";
+    private static final String RESTRICT_TO_PUBLISHED = "restrictToPublished";
+
+    private final String type;
+    private final String name;
+    private final String locale;
+    private final String organizationId;
+    private final String tenantDomain;
+    private final boolean restrictToPublished;
+
+    public BrandingWarmUpEntry(String type, String name, String locale, String organizationId, String tenantDomain,
+                               boolean restrictToPublished) {
+
+        this.type = type;
+        this.name = name;
+        this.locale = locale;
+        this.organizationId = organizationId;
+        this.tenantDomain = tenantDomain;
+        this.restrictToPublished = restrictToPublished;
+    }
+
+    public String getType() {
+
+        return type;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public String getLocale() {
+
+        return locale;
+    }
+
+    public String getOrganizationId() {
+
+        return organizationId;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public boolean isRestrictToPublished() {
+
+        return restrictToPublished;
+    }
+
+    /**
+     * Write the entry to the given JSON object.
+     *
+     * @param json JSON object to write to.
+     */
+    void writeTo(JSONObject json) {
+
+        json.put(TYPE, type);
+        json.put(NAME, name);
+        json.put(LOCALE, locale);
+        json.put(ORGANIZATION_ID, organizationId);
+        json.put(TENANT_DOMAIN, tenantDomain);
+        json.put(RESTRICT_TO_PUBLISHED, restrictToPublished);
+    }
+
+    /**
+     * Read an entry from the given JSON object.
+     *
+     * @param json JSON object to read from.
+     * @return Warm-up entry.
+     */
+    static BrandingWarmUpEntry readFrom(JSONObject json) {
+
+        return new BrandingWarmUpEntry(json.getString(TYPE), json.getString(NAME), json.optString(LOCALE, null),
+                json.optString(ORGANIZATION_ID, null), json.getString(TENANT_DOMAIN),
+                json.getBoolean(RESTRICT_TO_PUBLISHED));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BrandingWarmUpEntry that = (BrandingWarmUpEntry) o;
+        return restrictToPublished == that.restrictToPublished && Objects.equals(type, that.type) &&
+                Objects.equals(name, that.name) && Objects.equals(locale, that.locale) &&
+                Objects.equals(organizationId, that.organizationId) && Objects.equals(tenantDomain, that.tenantDomain);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(type, name, locale, organizationId, tenantDomain, restrictToPublished);
+    }
+}
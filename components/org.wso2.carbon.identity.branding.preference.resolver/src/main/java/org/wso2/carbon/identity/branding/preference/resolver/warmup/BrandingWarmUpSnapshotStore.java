@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads and writes the warm-up snapshot of the most frequently resolved brandings on the local disk.
+ */
+public class BrandingWarmUpSnapshotStore {
+
+    private static final String ACCESS_COUNT = "accessCount";
+    private static final String RESOLVED_FROM_TYPE = "resolvedFromType";
+    private static final String RESOLVED_FROM_NAME = "resolvedFromName";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path snapshotFile;
+
+    public BrandingWarmUpSnapshotStore(Path snapshotFile) {
+
+        this.snapshotFile = snapshotFile;
+    }
+
+    public Path getSnapshotFile() {
+
+        return snapshotFile;
+    }
+
+    /**
+     * Write the given brandings to the snapshot. The snapshot is replaced atomically, hence a partially written
+     * snapshot is never read.
+     *
+     * @param hotBrandingEntries Brandings to write.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public void write(List<HotBrandingEntry> hotBrandingEntries) throws IOException {
+
+        JSONArray snapshot = new JSONArray();
+        for (HotBrandingEntry hotBrandingEntry : hotBrandingEntries) {
+            JSONObject json = new JSONObject();
+            hotBrandingEntry.getEntry().writeTo(json);
+            json.put(ACCESS_COUNT, hotBrandingEntry.getAccessCount());
+            json.put(RESOLVED_FROM_TYPE, hotBrandingEntry.getResolvedFromType());
+            json.put(RESOLVED_FROM_NAME, hotBrandingEntry.getResolvedFromName());
+            snapshot.put(json);
+        }
+
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + TEMP_FILE_SUFFIX);
+        Files.write(tempFile, snapshot.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read the brandings from the snapshot.
+     *
+     * @return Brandings in the snapshot or an empty list if there is no snapshot.
+     * @throws IOException If the snapshot cannot be read or is malformed.
+     */
+    public List<HotBrandingEntry> read() throws IOException {
+
+        if (!Files.isRegularFile(snapshotFile)) {
+            return Collections.emptyList();
+        }
+        String content = new String(Files.readAllBytes(snapshotFile), StandardCharsets.UTF_8);
+        try {
+            JSONArray snapshot = new JSONArray(content);
+            List<HotBrandingEntry> hotBrandingEntries = new ArrayList<>(snapshot.length());
+            for (int i = 0; i < snapshot.length(); i++) {
+                JSONObject json = snapshot.getJSONObject(i);
+                hotBrandingEntries.add(new HotBrandingEntry(BrandingWarmUpEntry.readFrom(json),
+                        json.optLong(ACCESS_COUNT, 0), json.optString(RESOLVED_FROM_TYPE, null),
+                        json.optString(RESOLVED_FROM_NAME, null)));
+            }
+            return hotBrandingEntries;
+        } catch (JSONException e) {
+            throw new IOException("Malformed branding warm-up snapshot: " + snapshotFile, e);
+        }
+    }
+}
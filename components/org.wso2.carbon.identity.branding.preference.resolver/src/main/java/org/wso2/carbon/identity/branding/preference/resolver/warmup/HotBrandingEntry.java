@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+/**
+ * Warm-up entry together with the number of times it was resolved and where the branding was resolved from.
+ */
+public class HotBrandingEntry {
+
+    private final BrandingWarmUpEntry entry;
+    private final long accessCount;
+    private final String resolvedFromType;
+    private final String resolvedFromName;
+
+    public HotBrandingEntry(BrandingWarmUpEntry entry, long accessCount, String resolvedFromType,
+                            String resolvedFromName) {
+
+        this.entry = entry;
+        this.accessCount = accessCount;
+        this.resolvedFromType = resolvedFromType;
+        this.resolvedFromName = resolvedFromName;
+    }
+
+    public BrandingWarmUpEntry getEntry() {
+
+        return entry;
+    }
+
+    public long getAccessCount() {
+
+        return accessCount;
+    }
+
+    public String getResolvedFromType() {
+
+        return resolvedFromType;
+    }
+
+    public String getResolvedFromName() {
+
+        return resolvedFromName;
+    }
+}
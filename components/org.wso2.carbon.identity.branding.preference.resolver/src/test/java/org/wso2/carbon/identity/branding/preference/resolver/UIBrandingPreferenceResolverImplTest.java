@@ -22,6 +22,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.testng.Assert;
@@ -39,24 +40,52 @@ import org.wso2.carbon.identity.branding.preference.management.core.exception.Br
 import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtServerException;
 import org.wso2.carbon.identity.branding.preference.management.core.internal.BrandingPreferenceManagerComponentDataHolder;
 import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingPreference;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BrandingResolveRequest;
+import org.wso2.carbon.identity.branding.preference.management.core.model.BulkBrandingResolveResult;
 import org.wso2.carbon.identity.branding.preference.management.core.model.CustomText;
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
+import org.wso2.carbon.identity.branding.preference.management.core.util.BrandingPreferenceMgtUtils;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.AncestorAppIdsCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCache;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCacheEntry;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCacheKey;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingGenerationCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingGenerationCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingGenerationCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandingResolutionTarget;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationHierarchyCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationTenantDomainCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationTenantDomainCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.OrganizationTenantDomainCacheKey;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCacheEntry;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCacheKey;
 import org.wso2.carbon.identity.branding.preference.resolver.cache.TextCustomizedOrgCache;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.BrandingResourceDAO;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.model.BrandingResourceCandidate;
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.AncestorOrganization;
+import org.wso2.carbon.identity.branding.preference.resolver.hierarchy.OrganizationHierarchyResolver;
 import org.wso2.carbon.identity.branding.preference.resolver.internal.BrandingResolverComponentDataHolder;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationJob;
+import org.wso2.carbon.identity.branding.preference.resolver.invalidation.HierarchyInvalidationJobManager;
 import org.wso2.carbon.identity.common.testng.realm.InMemoryRealmService;
 import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
 import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementException;
 import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceFile;
 import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.event.Event;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.organization.management.application.OrgApplicationManager;
 import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
 import org.wso2.carbon.user.api.TenantManager;
 import org.wso2.carbon.user.api.UserRealmService;
 import org.wso2.carbon.user.core.UserStoreException;
@@ -67,9 +96,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -77,12 +109,18 @@ import java.util.Map;
 import javax.sql.DataSource;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 import static org.testng.Assert.assertThrows;
@@ -92,8 +130,12 @@ import static org.wso2.carbon.identity.branding.preference.management.core.const
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.CUSTOM_TEXT_RESOURCE_TYPE;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.DEFAULT_LOCALE;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ORGANIZATION_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_BATCHED_ANCESTOR_LOOKUP_ENABLED_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_GENERATION_INVALIDATION_ENABLED_CONFIG_KEY;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_NAME_SEPARATOR;
 import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_NOT_EXISTS_ERROR_CODE;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_ID;
 
 /**
  * Unit tests for UIBrandingPreferenceResolverImpl.
@@ -115,8 +157,20 @@ public class UIBrandingPreferenceResolverImplTest {
     @Mock
     private TextCustomizedOrgCache textCustomizedOrgCache;
     @Mock
+    private ResolvedBrandingCache resolvedBrandingCache;
+    @Mock
+    private OrganizationHierarchyCache organizationHierarchyCache;
+    @Mock
+    private AncestorAppIdsCache ancestorAppIdsCache;
+    @Mock
+    private BrandingGenerationCache brandingGenerationCache;
+    @Mock
+    private OrganizationTenantDomainCache organizationTenantDomainCache;
+    @Mock
     private CustomContentPersistentDAO customContentPersistentDAO;
     @Mock
+    private BrandingResourceDAO brandingResourceDAO;
+    @Mock
     private Connection connection;
 
     private MockedStatic<CustomContentPersistentFactory> mockedCustomContentPersistentFactory;
@@ -134,6 +188,7 @@ public class UIBrandingPreferenceResolverImplTest {
     private static final String CHILD_APP_ID = "42ef1d92-add6-449b-8a3c-fc308d2a4eac";
     private static final String CHILD_ORG_ID = "30b701c6-e309-4241-b047-0c299c45d1a0";
     private static final int CHILD_TENANT_ID = 3;
+    private static final long HIERARCHY_INVALIDATION_TIMEOUT = 10000L;
 
     @BeforeMethod
     public void setUp() throws Exception {
@@ -157,8 +212,10 @@ public class UIBrandingPreferenceResolverImplTest {
         BrandingPreferenceManagerComponentDataHolder.getInstance().setIdentityEventService(identityEventService);
         doNothing().when(identityEventService).handleEvent(any(Event.class));
 
-        brandingPreferenceResolver =
-                new UIBrandingPreferenceResolverImpl(brandedOrgCache, brandedAppCache, textCustomizedOrgCache);
+        brandingPreferenceResolver = new UIBrandingPreferenceResolverImpl(brandedOrgCache, brandedAppCache,
+                textCustomizedOrgCache, resolvedBrandingCache,
+                new OrganizationHierarchyResolver(organizationHierarchyCache, ancestorAppIdsCache,
+                        brandingGenerationCache, organizationTenantDomainCache));
     }
 
     @AfterMethod
@@ -194,6 +251,61 @@ public class UIBrandingPreferenceResolverImplTest {
         }
     }
 
+    @Test
+    public void testResolveBrandingInBulk() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            String resourceName = CHILD_APP_ID.toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceId = "51356f5e-e10b-49f2-87a6-f7f48e164374";
+            String resourceFileName = "sample-child-app-branding-preference.json";
+
+            mockBrandingPreferenceRetrieval(resourceName, resourceId, APPLICATION_BRANDING_RESOURCE_TYPE,
+                    resourceFileName);
+
+            BrandingResolveRequest appRequest =
+                    new BrandingResolveRequest(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE);
+            BrandingResolveRequest invalidRequest =
+                    new BrandingResolveRequest("INVALID", CHILD_APP_ID, DEFAULT_LOCALE);
+            BulkBrandingResolveResult result = brandingPreferenceResolver.resolveBranding(
+                    Arrays.asList(appRequest, invalidRequest, appRequest), false);
+
+            Assert.assertEquals(result.getBrandingPreferences().size(), 1);
+            BrandingPreference resolvedBrandingPreference = result.getBrandingPreferences().get(appRequest);
+            Assert.assertEquals(resolvedBrandingPreference.getName(), CHILD_APP_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getType(), APPLICATION_TYPE);
+            Assert.assertEquals(resolvedBrandingPreference.getPreference(), getPreferenceFromFile(resourceFileName));
+            Assert.assertEquals(result.getErrors().size(), 1);
+            Assert.assertTrue(result.getErrors().get(invalidRequest) instanceof BrandingPreferenceMgtClientException);
+        }
+    }
+
+    @Test
+    public void testResolveBrandingPayload() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            String resourceName = CHILD_APP_ID.toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceId = "51356f5e-e10b-49f2-87a6-f7f48e164374";
+            String resourceFileName = "sample-child-app-branding-preference.json";
+
+            mockBrandingPreferenceRetrieval(resourceName, resourceId, APPLICATION_BRANDING_RESOURCE_TYPE,
+                    resourceFileName);
+
+            ResolvedBrandingPayload payload = brandingPreferenceResolver.resolveBrandingPayload(APPLICATION_TYPE,
+                    CHILD_APP_ID, DEFAULT_LOCALE, false);
+
+            Assert.assertEquals(new ObjectMapper().readValue(payload.getContent(), Object.class),
+                    getPreferenceFromFile(resourceFileName));
+            Assert.assertTrue(payload.getETag().startsWith("\"") && payload.getETag().endsWith("\""));
+            Assert.assertTrue(payload.getLastModified() > 0);
+        }
+    }
+
     @Test
     public void testResolveAppBrandingFromCurrentOrgBranding() throws Exception {
 
@@ -283,6 +395,39 @@ public class UIBrandingPreferenceResolverImplTest {
         }
     }
 
+    @Test
+    public void testResolveOrgBrandingFromParentOrgWithCachedHierarchy() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+            String resourceName =
+                    String.valueOf(PARENT_TENANT_ID).toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceId = "81356f5e-e10b-49f2-87a6-f7f48e164374";
+            String resourceFileName = "sample-parent-org-branding-preference.json";
+
+            List<AncestorOrganization> organizationHierarchy = new ArrayList<>();
+            organizationHierarchy.add(new AncestorOrganization(CHILD_ORG_ID, CHILD_ORG_ID, 2));
+            organizationHierarchy.add(new AncestorOrganization(PARENT_ORG_ID, PARENT_ORG_ID, 1));
+            organizationHierarchy.add(new AncestorOrganization(ROOT_ORG_ID, ROOT_TENANT_DOMAIN, 0));
+            when(organizationHierarchyCache.getValueFromCache(eq(new OrganizationHierarchyCacheKey(CHILD_ORG_ID)),
+                    anyString())).thenReturn(new OrganizationHierarchyCacheEntry(organizationHierarchy));
+
+            mockBrandingPreferenceRetrieval(resourceName, resourceId, BRANDING_RESOURCE_TYPE, resourceFileName);
+
+            BrandingPreference resolvedBrandingPreference =
+                    brandingPreferenceResolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false);
+
+            Assert.assertEquals(resolvedBrandingPreference.getName(), PARENT_ORG_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), PARENT_ORG_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getType(), ORGANIZATION_TYPE);
+            // The organization hierarchy should be served from the cache.
+            verify(organizationManager, never()).getAncestorOrganizationIds(anyString());
+            verify(organizationManager, never()).resolveTenantDomain(anyString());
+            verify(organizationManager, never()).getOrganizationDepthInHierarchy(anyString());
+        }
+    }
+
     @Test
     public void testResolveAppBrandingFromRootAppBranding() throws Exception {
 
@@ -579,6 +724,396 @@ public class UIBrandingPreferenceResolverImplTest {
         }
     }
 
+    @Test
+    public void testResolveAppBrandingFromResolvedBrandingCache() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            Object preference =
+                    getPreferenceFromFile("sample-parent-app-branding-preference-without-display-name.json");
+            ResolvedBrandingCacheEntry resolvedBrandingCacheEntry = new ResolvedBrandingCacheEntry(
+                    APPLICATION_TYPE, PARENT_APP_ID, APPLICATION_TYPE, PARENT_APP_ID, preference,
+                    buildResolvedBrandingPayload(preference));
+            when(resolvedBrandingCache.getValueFromCache(
+                    eq(new ResolvedBrandingCacheKey(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, true)),
+                    eq(CHILD_ORG_ID))).thenReturn(resolvedBrandingCacheEntry);
+
+            BrandingPreference resolvedBrandingPreference =
+                    brandingPreferenceResolver.resolveBranding(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, true);
+
+            Assert.assertEquals(resolvedBrandingPreference.getName(), PARENT_APP_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getLocale(), DEFAULT_LOCALE);
+            Assert.assertEquals(resolvedBrandingPreference.getType(), APPLICATION_TYPE);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), PARENT_APP_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getType(), APPLICATION_TYPE);
+            Assert.assertEquals(resolvedBrandingPreference.getPreference(), preference);
+            // The payload is built along with the cache entry and is served as it is.
+            Assert.assertSame(brandingPreferenceResolver.resolveBrandingPayload(APPLICATION_TYPE, CHILD_APP_ID,
+                    DEFAULT_LOCALE, true), resolvedBrandingCacheEntry.getPayload());
+            // Resolved tenant cache and the configuration store should not be consulted on a resolved cache hit.
+            verify(brandedAppCache, never()).getValueFromCache(any(BrandedAppCacheKey.class), anyString());
+            verify(configurationManager, never()).getFiles(anyString(), anyString());
+        }
+    }
+
+    @Test
+    public void testResolvedBrandingFromResolvedBrandingCacheIsUnmodifiable() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            String preferenceFileName = "sample-parent-app-branding-preference-without-display-name.json";
+            Object cachedPreference = getPreferenceFromFile(preferenceFileName);
+            ResolvedBrandingCacheEntry resolvedBrandingCacheEntry = new ResolvedBrandingCacheEntry(
+                    APPLICATION_TYPE, PARENT_APP_ID, APPLICATION_TYPE, PARENT_APP_ID, cachedPreference,
+                    buildResolvedBrandingPayload(cachedPreference));
+            when(resolvedBrandingCache.getValueFromCache(
+                    eq(new ResolvedBrandingCacheKey(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, true)),
+                    eq(CHILD_ORG_ID))).thenReturn(resolvedBrandingCacheEntry);
+
+            BrandingPreference resolvedBrandingPreference =
+                    brandingPreferenceResolver.resolveBranding(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, true);
+            Map<String, Object> preference = (Map<String, Object>) resolvedBrandingPreference.getPreference();
+            Map<String, Object> organizationDetails = (Map<String, Object>) preference.get("organizationDetails");
+            assertThrows(UnsupportedOperationException.class,
+                    () -> organizationDetails.put("displayName", "Mutated Name"));
+            assertThrows(UnsupportedOperationException.class, () -> preference.remove("configs"));
+            // The cached preference is handed out without copying it.
+            Assert.assertSame(resolvedBrandingPreference.getPreference(), resolvedBrandingCacheEntry.getPreference());
+
+            BrandingPreference nextResolvedBrandingPreference =
+                    brandingPreferenceResolver.resolveBranding(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, true);
+            Assert.assertEquals(nextResolvedBrandingPreference.getPreference(),
+                    getPreferenceFromFile(preferenceFileName));
+            Assert.assertTrue(BrandingPreferenceMgtUtils.isBrandingPublished(nextResolvedBrandingPreference));
+        }
+    }
+
+    @Test
+    public void testResolveOrgBrandingWithStaleResolvedBrandingCacheEntry() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            String resourceName =
+                    String.valueOf(CHILD_TENANT_ID).toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceId = "61356f5e-e10b-49f2-87a6-f7f48e164374";
+            String resourceFileName = "sample-child-org-branding-preference.json";
+            mockBrandingPreferenceRetrieval(resourceName, resourceId, BRANDING_RESOURCE_TYPE, resourceFileName);
+
+            // The cached resolution was inherited from the parent org, whose branding has changed since then.
+            ResolvedBrandingCacheEntry resolvedBrandingCacheEntry = new ResolvedBrandingCacheEntry(
+                    ORGANIZATION_TYPE, CHILD_ORG_ID, ORGANIZATION_TYPE, PARENT_ORG_ID, Collections.emptyMap(),
+                    buildResolvedBrandingPayload(Collections.emptyMap()));
+            Map<String, Long> hierarchyGenerations = new HashMap<>();
+            hierarchyGenerations.put(PARENT_ORG_ID, 1L);
+            resolvedBrandingCacheEntry.setHierarchyGenerations(hierarchyGenerations);
+            when(resolvedBrandingCache.getValueFromCache(
+                    eq(new ResolvedBrandingCacheKey(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false)),
+                    eq(CHILD_ORG_ID))).thenReturn(resolvedBrandingCacheEntry);
+            when(brandingGenerationCache.getValueFromCache(eq(new BrandingGenerationCacheKey(PARENT_ORG_ID)),
+                    anyString())).thenReturn(new BrandingGenerationCacheEntry(2L));
+
+            BrandingPreference resolvedBrandingPreference =
+                    brandingPreferenceResolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false);
+
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), CHILD_ORG_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getPreference(), getPreferenceFromFile(resourceFileName));
+        }
+    }
+
+    @Test
+    public void testResolvedOrgBrandingDependsOnTenantsUpToResolvedTenant() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+            String resourceName =
+                    String.valueOf(PARENT_TENANT_ID).toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceId = "81356f5e-e10b-49f2-87a6-f7f48e164374";
+            String resourceFileName = "sample-parent-org-branding-preference.json";
+
+            List<AncestorOrganization> organizationHierarchy = new ArrayList<>();
+            organizationHierarchy.add(new AncestorOrganization(CHILD_ORG_ID, CHILD_ORG_ID, 2));
+            organizationHierarchy.add(new AncestorOrganization(PARENT_ORG_ID, PARENT_ORG_ID, 1));
+            organizationHierarchy.add(new AncestorOrganization(ROOT_ORG_ID, ROOT_TENANT_DOMAIN, 0));
+            when(organizationHierarchyCache.getValueFromCache(eq(new OrganizationHierarchyCacheKey(CHILD_ORG_ID)),
+                    anyString())).thenReturn(new OrganizationHierarchyCacheEntry(organizationHierarchy));
+            mockBrandingPreferenceRetrieval(resourceName, resourceId, BRANDING_RESOURCE_TYPE, resourceFileName);
+
+            brandingPreferenceResolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false);
+
+            ArgumentCaptor<BrandedOrgCacheEntry> brandedOrgCacheEntry =
+                    ArgumentCaptor.forClass(BrandedOrgCacheEntry.class);
+            verify(brandedOrgCache).addToCacheOnRead(eq(new BrandedOrgCacheKey(CHILD_ORG_ID)),
+                    brandedOrgCacheEntry.capture(), eq(CHILD_ORG_ID));
+            // A branding change of the root organization does not affect the branding inherited from the parent.
+            Assert.assertEquals(new ArrayList<>(brandedOrgCacheEntry.getValue().getHierarchyGenerations().keySet()),
+                    Arrays.asList(CHILD_ORG_ID, PARENT_ORG_ID));
+            ArgumentCaptor<ResolvedBrandingCacheEntry> resolvedBrandingCacheEntry =
+                    ArgumentCaptor.forClass(ResolvedBrandingCacheEntry.class);
+            verify(resolvedBrandingCache).addToCacheOnRead(any(ResolvedBrandingCacheKey.class),
+                    resolvedBrandingCacheEntry.capture(), eq(CHILD_ORG_ID));
+            Assert.assertEquals(resolvedBrandingCacheEntry.getValue().getHierarchyGenerations().keySet(),
+                    brandedOrgCacheEntry.getValue().getHierarchyGenerations().keySet());
+        }
+    }
+
+    @Test
+    public void testUnrelatedBrandingChangeKeepsDependentResolvedBranding() throws Exception {
+
+        // The resolver is built with the default configuration, backed by a branding generation cache with state.
+        OrganizationHierarchyResolver hierarchyResolver = new OrganizationHierarchyResolver(organizationHierarchyCache,
+                ancestorAppIdsCache, mockClusteredBrandingGenerationCache(new HashMap<>(), new HashMap<>()),
+                organizationTenantDomainCache);
+        UIBrandingPreferenceResolver resolver = new UIBrandingPreferenceResolverImpl(brandedOrgCache,
+                brandedAppCache, textCustomizedOrgCache, resolvedBrandingCache, hierarchyResolver);
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            List<AncestorOrganization> organizationHierarchy = new ArrayList<>();
+            organizationHierarchy.add(new AncestorOrganization(CHILD_ORG_ID, CHILD_ORG_ID, 2));
+            organizationHierarchy.add(new AncestorOrganization(PARENT_ORG_ID, PARENT_ORG_ID, 1));
+            organizationHierarchy.add(new AncestorOrganization(ROOT_ORG_ID, ROOT_TENANT_DOMAIN, 0));
+            when(organizationHierarchyCache.getValueFromCache(eq(new OrganizationHierarchyCacheKey(CHILD_ORG_ID)),
+                    anyString())).thenReturn(new OrganizationHierarchyCacheEntry(organizationHierarchy));
+
+            // The cached branding of the child org is inherited from the parent org, hence it depends on the
+            // branding generations of the child org and the parent org only.
+            Object preference =
+                    getPreferenceFromFile("sample-parent-org-branding-preference-without-display-name.json");
+            ResolvedBrandingCacheEntry resolvedBrandingCacheEntry = new ResolvedBrandingCacheEntry(
+                    ORGANIZATION_TYPE, CHILD_ORG_ID, ORGANIZATION_TYPE, PARENT_ORG_ID, preference,
+                    buildResolvedBrandingPayload(preference));
+            Map<String, Long> hierarchyGenerations =
+                    new HashMap<>(hierarchyResolver.getHierarchyGenerations(CHILD_ORG_ID, CHILD_ORG_ID));
+            hierarchyGenerations.remove(ROOT_TENANT_DOMAIN);
+            resolvedBrandingCacheEntry.setHierarchyGenerations(hierarchyGenerations);
+            when(resolvedBrandingCache.getValueFromCache(
+                    eq(new ResolvedBrandingCacheKey(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false)),
+                    eq(CHILD_ORG_ID))).thenReturn(resolvedBrandingCacheEntry);
+
+            // The branding of the root org is changed.
+            setCarbonContextForTenant(ROOT_TENANT_DOMAIN, ROOT_TENANT_ID, ROOT_ORG_ID);
+            resolver.clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, ROOT_TENANT_DOMAIN, ROOT_TENANT_DOMAIN);
+
+            // The branding of the child org is still served from the resolved branding cache.
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+            BrandingPreference resolvedBrandingPreference =
+                    resolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), PARENT_ORG_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getPreference(), preference);
+            verify(configurationManager, never()).getFiles(anyString(), anyString());
+            // No organization is walked to invalidate the resolver caches.
+            verify(organizationManager, never()).getOrganizations(any(), any(), any(), any(), any(), anyBoolean());
+
+            // The branding of the parent org is changed, which makes the cached branding of the child org stale.
+            setCarbonContextForTenant(PARENT_ORG_ID, PARENT_TENANT_ID, PARENT_ORG_ID);
+            resolver.clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, PARENT_ORG_ID, PARENT_ORG_ID);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+            String resourceName =
+                    String.valueOf(CHILD_TENANT_ID).toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceFileName = "sample-child-org-branding-preference.json";
+            mockBrandingPreferenceRetrieval(resourceName, "61356f5e-e10b-49f2-87a6-f7f48e164374",
+                    BRANDING_RESOURCE_TYPE, resourceFileName);
+
+            resolvedBrandingPreference =
+                    resolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), CHILD_ORG_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getPreference(), getPreferenceFromFile(resourceFileName));
+        }
+    }
+
+    @Test
+    public void testClearBrandingResolverCacheHierarchyAdvancesBrandingGeneration() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(PARENT_ORG_ID, PARENT_TENANT_ID, PARENT_ORG_ID);
+
+            brandingPreferenceResolver.clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, PARENT_ORG_ID,
+                    PARENT_ORG_ID);
+
+            verify(brandingGenerationCache).clearCacheEntry(new BrandingGenerationCacheKey(PARENT_ORG_ID),
+                    SUPER_TENANT_DOMAIN_NAME);
+            // The child organizations should not be traversed to invalidate their resolver caches.
+            verify(organizationManager, never()).getOrganizations(any(), any(), any(), any(), any(),
+                    anyBoolean());
+        }
+    }
+
+    @Test
+    public void testBrandingGenerationAdvanceIsPropagatedToOtherNodes() throws Exception {
+
+        // Each node keeps its own branding generations in a node local cache.
+        Map<BrandingGenerationCacheKey, BrandingGenerationCacheEntry> firstNodeGenerations = new HashMap<>();
+        Map<BrandingGenerationCacheKey, BrandingGenerationCacheEntry> secondNodeGenerations = new HashMap<>();
+        OrganizationHierarchyResolver firstNode = new OrganizationHierarchyResolver(organizationHierarchyCache,
+                ancestorAppIdsCache, mockClusteredBrandingGenerationCache(firstNodeGenerations, secondNodeGenerations),
+                organizationTenantDomainCache);
+        OrganizationHierarchyResolver secondNode = new OrganizationHierarchyResolver(organizationHierarchyCache,
+                ancestorAppIdsCache, mockClusteredBrandingGenerationCache(secondNodeGenerations, firstNodeGenerations),
+                organizationTenantDomainCache);
+        mockAncestorOrgIdAndAppIdRetrieval();
+        when(organizationManager.resolveTenantDomain(PARENT_ORG_ID)).thenReturn(PARENT_ORG_ID);
+
+        Map<String, Long> secondNodeDependencies = secondNode.getHierarchyGenerations(CHILD_ORG_ID, CHILD_ORG_ID);
+        Assert.assertTrue(secondNode.isHierarchyGenerationCurrent(secondNodeDependencies));
+
+        // The parent org branding is changed through the first node.
+        firstNode.advanceBrandingGeneration(PARENT_ORG_ID);
+
+        // The entries cached by the second node which inherit from the parent org become stale.
+        Assert.assertFalse(secondNode.isHierarchyGenerationCurrent(secondNodeDependencies));
+        Assert.assertTrue(secondNode.isHierarchyGenerationCurrent(
+                Collections.singletonMap(CHILD_ORG_ID, secondNodeDependencies.get(CHILD_ORG_ID))));
+    }
+
+    @Test
+    public void testClearBrandingResolverCacheHierarchySkipsSubtreeOwningBranding() throws Exception {
+
+        UIBrandingPreferenceResolver resolver = createResolverWithHierarchyWalkInvalidation();
+        setCarbonContextForTenant(SUPER_TENANT_DOMAIN_NAME, SUPER_TENANT_ID, ROOT_ORG_ID);
+        mockDescendantOrganizations(CHILD_ORG_ID, PARENT_ORG_ID);
+        mockAncestorOrgIdAndAppIdRetrieval();
+        when(organizationManager.resolveTenantDomain(PARENT_ORG_ID)).thenReturn(PARENT_ORG_ID);
+        when(organizationManager.resolveTenantDomain(CHILD_ORG_ID)).thenReturn(CHILD_ORG_ID);
+        // The parent org owns a published branding of the changed locale.
+        mockOwnedOrgBranding(PARENT_ORG_ID, "sample-parent-org-branding-preference.json");
+        mockBrandedOrgCacheEntry(CHILD_ORG_ID, CHILD_ORG_ID, PARENT_ORG_ID);
+
+        // Generation invalidation is disabled, hence the descendants are invalidated by a hierarchy walk.
+        resolver.clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, ROOT_ORG_ID, DEFAULT_LOCALE,
+                SUPER_TENANT_DOMAIN_NAME);
+        waitForHierarchyInvalidation();
+
+        // Neither the parent org nor its descendants inherit the changed branding, hence their caches are kept.
+        verify(resolvedBrandingCache, never()).clear(PARENT_ORG_ID);
+        verify(brandedAppCache, never()).clear(PARENT_ORG_ID);
+        verify(resolvedBrandingCache, never()).clear(CHILD_ORG_ID);
+        verify(brandedOrgCache, never()).clearCacheEntry(new BrandedOrgCacheKey(CHILD_ORG_ID), CHILD_ORG_ID);
+    }
+
+    @Test
+    public void testClearBrandingResolverCacheHierarchyWalksDescendantsWithoutPublishedBranding() throws Exception {
+
+        UIBrandingPreferenceResolver resolver = createResolverWithHierarchyWalkInvalidation();
+        setCarbonContextForTenant(SUPER_TENANT_DOMAIN_NAME, SUPER_TENANT_ID, ROOT_ORG_ID);
+        mockDescendantOrganizations(CHILD_ORG_ID, PARENT_ORG_ID);
+        mockAncestorOrgIdAndAppIdRetrieval();
+        when(organizationManager.resolveTenantDomain(PARENT_ORG_ID)).thenReturn(PARENT_ORG_ID);
+        when(organizationManager.resolveTenantDomain(CHILD_ORG_ID)).thenReturn(CHILD_ORG_ID);
+        // The published branding of the parent org is still resolved from the root org.
+        mockOwnedOrgBranding(PARENT_ORG_ID, "sample-child-org-unpublished-branding-preference.json");
+        mockBrandedOrgCacheEntry(CHILD_ORG_ID, CHILD_ORG_ID, PARENT_ORG_ID);
+
+        resolver.clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, ROOT_ORG_ID, DEFAULT_LOCALE,
+                SUPER_TENANT_DOMAIN_NAME);
+        waitForHierarchyInvalidation();
+
+        verify(resolvedBrandingCache).clear(PARENT_ORG_ID);
+        verify(brandedAppCache).clear(PARENT_ORG_ID);
+        verify(resolvedBrandingCache).clear(CHILD_ORG_ID);
+        verify(brandedOrgCache).clearCacheEntry(new BrandedOrgCacheKey(CHILD_ORG_ID), CHILD_ORG_ID);
+    }
+
+    @Test
+    public void testClearBrandingResolverCacheHierarchyWalksDescendantsOwningOtherLocale() throws Exception {
+
+        UIBrandingPreferenceResolver resolver = createResolverWithHierarchyWalkInvalidation();
+        setCarbonContextForTenant(SUPER_TENANT_DOMAIN_NAME, SUPER_TENANT_ID, ROOT_ORG_ID);
+        mockDescendantOrganizations(CHILD_ORG_ID, PARENT_ORG_ID);
+        mockAncestorOrgIdAndAppIdRetrieval();
+        when(organizationManager.resolveTenantDomain(PARENT_ORG_ID)).thenReturn(PARENT_ORG_ID);
+        when(organizationManager.resolveTenantDomain(CHILD_ORG_ID)).thenReturn(CHILD_ORG_ID);
+        // The parent org owns a published branding of the default locale only.
+        mockOwnedOrgBranding(PARENT_ORG_ID, "sample-parent-org-branding-preference.json");
+
+        resolver.clearBrandingResolverCacheHierarchy(ORGANIZATION_TYPE, ROOT_ORG_ID, "fr-FR",
+                SUPER_TENANT_DOMAIN_NAME);
+        waitForHierarchyInvalidation();
+
+        verify(resolvedBrandingCache).clear(PARENT_ORG_ID);
+        verify(resolvedBrandingCache).clear(CHILD_ORG_ID);
+    }
+
+    @Test
+    public void testResolveTenantDomainFromTenantDomainCache() throws Exception {
+
+        OrganizationHierarchyResolver organizationHierarchyResolver = new OrganizationHierarchyResolver(
+                organizationHierarchyCache, ancestorAppIdsCache, brandingGenerationCache,
+                organizationTenantDomainCache);
+        when(organizationManager.resolveTenantDomain(CHILD_ORG_ID)).thenReturn(CHILD_ORG_ID);
+
+        Assert.assertEquals(organizationHierarchyResolver.resolveTenantDomain(CHILD_ORG_ID), CHILD_ORG_ID);
+        OrganizationTenantDomainCacheKey cacheKey = new OrganizationTenantDomainCacheKey(CHILD_ORG_ID);
+        ArgumentCaptor<OrganizationTenantDomainCacheEntry> cacheEntry =
+                ArgumentCaptor.forClass(OrganizationTenantDomainCacheEntry.class);
+        verify(organizationTenantDomainCache).addToCacheOnRead(eq(cacheKey), cacheEntry.capture(),
+                eq(SUPER_TENANT_DOMAIN_NAME));
+
+        // Once cached, the tenant domain is resolved without calling the organization manager.
+        when(organizationTenantDomainCache.getValueFromCache(cacheKey, SUPER_TENANT_DOMAIN_NAME))
+                .thenReturn(cacheEntry.getValue());
+        Assert.assertEquals(organizationHierarchyResolver.resolveTenantDomain(CHILD_ORG_ID), CHILD_ORG_ID);
+        verify(organizationManager, times(1)).resolveTenantDomain(CHILD_ORG_ID);
+    }
+
+    @Test
+    public void testResolveOrgBrandingFromTombstoneCacheEntry() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            BrandedOrgCacheEntry brandedOrgCacheEntry = new BrandedOrgCacheEntry();
+            brandedOrgCacheEntry.setTarget(false,
+                    BrandingResolutionTarget.notConfigured(System.currentTimeMillis() + 60000L));
+            when(brandedOrgCache.getValueFromCache(eq(new BrandedOrgCacheKey(CHILD_ORG_ID)), eq(CHILD_ORG_ID)))
+                    .thenReturn(brandedOrgCacheEntry);
+
+            assertThrows(BrandingPreferenceMgtClientException.class, () ->
+                    brandingPreferenceResolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE,
+                            false));
+            // The hierarchy should not be traversed while the tombstone is alive.
+            verify(configurationManager, never()).getFiles(anyString(), anyString());
+            verify(organizationManager, never()).getAncestorOrganizationIds(anyString());
+        }
+    }
+
+    @Test
+    public void testResolveOrgBrandingRestrictedToPublishedFromCache() throws Exception {
+
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+
+            String resourceName =
+                    String.valueOf(PARENT_TENANT_ID).toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+            String resourceId = "81356f5e-e10b-49f2-87a6-f7f48e164374";
+            String resourceFileName = "sample-parent-org-branding-preference.json";
+
+            BrandedOrgCacheEntry brandedOrgCacheEntry = new BrandedOrgCacheEntry(CHILD_ORG_ID);
+            brandedOrgCacheEntry.setTarget(true,
+                    BrandingResolutionTarget.resolvedTo(PARENT_ORG_ID, null, ORGANIZATION_TYPE));
+            when(brandedOrgCache.getValueFromCache(eq(new BrandedOrgCacheKey(CHILD_ORG_ID)), eq(CHILD_ORG_ID)))
+                    .thenReturn(brandedOrgCacheEntry);
+            mockBrandingPreferenceRetrieval(resourceName, resourceId, BRANDING_RESOURCE_TYPE, resourceFileName);
+
+            BrandingPreference resolvedBrandingPreference =
+                    brandingPreferenceResolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, true);
+
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), PARENT_ORG_ID);
+            Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getType(), ORGANIZATION_TYPE);
+            // The published resolution should be served from a single cache probe, without a hierarchy walk.
+            verify(brandedOrgCache, times(1)).getValueFromCache(any(BrandedOrgCacheKey.class), anyString());
+            verify(organizationManager, never()).getAncestorOrganizationIds(anyString());
+        }
+    }
+
     @Test
     public void testResolveOrgBrandingRestrictedToPublishedWithPublishedCurrentOrgBranding() throws Exception {
 
@@ -792,6 +1327,75 @@ public class UIBrandingPreferenceResolverImplTest {
             });
         }
     }
+
+    @Test
+    public void testResolveAppBrandingFromParentOrgBrandingWithBatchedLookup() throws Exception {
+
+        UIBrandingPreferenceResolver resolver = createResolverWithBatchedLookup();
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+            try (MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil = mockTenantIdRetrieval()) {
+                mockAncestorOrgIdAndAppIdRetrieval();
+
+                when(organizationManager.resolveTenantDomain(PARENT_ORG_ID)).thenReturn(PARENT_ORG_ID);
+                when(organizationManager.getOrganizationDepthInHierarchy(PARENT_ORG_ID)).thenReturn(1);
+
+                String resourceName =
+                        String.valueOf(PARENT_TENANT_ID).toLowerCase() + RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE;
+                Map<BrandingResourceCandidate, byte[]> resourceFiles = new HashMap<>();
+                resourceFiles.put(new BrandingResourceCandidate(ORGANIZATION_TYPE, PARENT_ORG_ID, PARENT_ORG_ID,
+                        PARENT_TENANT_ID, BRANDING_RESOURCE_TYPE, resourceName),
+                        Files.readAllBytes(Paths.get(getSamplesPath("sample-parent-org-branding-preference.json"))));
+                when(brandingResourceDAO.getBrandingResourceFiles(any(), eq(CHILD_ORG_ID))).thenReturn(resourceFiles);
+
+                BrandingPreference resolvedBrandingPreference =
+                        resolver.resolveBranding(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, false);
+
+                Assert.assertEquals(resolvedBrandingPreference.getName(), PARENT_ORG_ID);
+                Assert.assertEquals(resolvedBrandingPreference.getType(), ORGANIZATION_TYPE);
+                Assert.assertEquals(resolvedBrandingPreference.getResolvedFrom().getName(), PARENT_ORG_ID);
+                Assert.assertEquals(resolvedBrandingPreference.getPreference(),
+                        getPreferenceFromFile("sample-parent-org-branding-preference-without-display-name.json"));
+
+                // The hierarchy is read in a single lookup, starting with the branding of the application itself.
+                @SuppressWarnings("unchecked")
+                ArgumentCaptor<List<BrandingResourceCandidate>> candidatesCaptor =
+                        ArgumentCaptor.forClass(List.class);
+                verify(brandingResourceDAO, times(1)).getBrandingResourceFiles(candidatesCaptor.capture(),
+                        eq(CHILD_ORG_ID));
+                BrandingResourceCandidate firstCandidate = candidatesCaptor.getValue().get(0);
+                Assert.assertEquals(firstCandidate.getResourceType(), APPLICATION_BRANDING_RESOURCE_TYPE);
+                Assert.assertEquals(firstCandidate.getBrandingName(), CHILD_APP_ID);
+                verify(configurationManager, never()).getFiles(anyString(), anyString());
+            }
+        }
+    }
+
+    @Test(description = "Test errors while getting branding preference with the batched ancestor lookup.")
+    public void testErrorsWhileGettingBrandingPreferenceWithBatchedLookup() throws Exception {
+
+        UIBrandingPreferenceResolver resolver = createResolverWithBatchedLookup();
+        try (MockedStatic<OSGiDataHolder> mockedOSGiDataHolder = mockStatic(OSGiDataHolder.class)) {
+            mockOSGiDataHolder(mockedOSGiDataHolder);
+            setCarbonContextForTenant(CHILD_ORG_ID, CHILD_TENANT_ID, CHILD_ORG_ID);
+            try (MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil = mockTenantIdRetrieval()) {
+                mockAncestorOrgIdAndAppIdRetrieval();
+
+                // Test when no branding resource is available in the hierarchy.
+                when(brandingResourceDAO.getBrandingResourceFiles(any(), eq(CHILD_ORG_ID)))
+                        .thenReturn(Collections.emptyMap());
+                assertThrows(BrandingPreferenceMgtClientException.class, () ->
+                        resolver.resolveBranding(ORGANIZATION_TYPE, CHILD_ORG_ID, DEFAULT_LOCALE, false));
+
+                // Test failure when getting the branding resources from the config store.
+                doThrow(BrandingPreferenceMgtServerException.class).when(brandingResourceDAO)
+                        .getBrandingResourceFiles(any(), eq(CHILD_ORG_ID));
+                assertThrows(BrandingPreferenceMgtServerException.class, () ->
+                        resolver.resolveBranding(APPLICATION_TYPE, CHILD_APP_ID, DEFAULT_LOCALE, false));
+            }
+        }
+    }
                          
     @Test(description = "Test resolveBranding uses accessing org as the effective org when accessing org ID is set.")
     public void testResolveBrandingUsesAccessingOrgIdAsEffectiveOrg() throws Exception {
@@ -894,7 +1498,10 @@ public class UIBrandingPreferenceResolverImplTest {
                     .thenThrow(new OrganizationManagementException("error"));
 
             UIBrandingPreferenceResolverImpl resolver =
-                    new UIBrandingPreferenceResolverImpl(brandedOrgCache, brandedAppCache, textCustomizedOrgCache);
+                    new UIBrandingPreferenceResolverImpl(brandedOrgCache, brandedAppCache, textCustomizedOrgCache,
+                            resolvedBrandingCache,
+                            new OrganizationHierarchyResolver(organizationHierarchyCache, ancestorAppIdsCache,
+                                    brandingGenerationCache));
 
             assertThrows(BrandingPreferenceMgtException.class, () -> {
                 resolver.resolveCustomText(ORGANIZATION_TYPE, name, screen, DEFAULT_LOCALE);
@@ -902,6 +1509,135 @@ public class UIBrandingPreferenceResolverImplTest {
         }
     }
 
+    /**
+     * Mock a single page of the descendant organizations of the organization in the carbon context, newest first.
+     */
+    private void mockDescendantOrganizations(String... organizationIds) throws OrganizationManagementException {
+
+        List<BasicOrganization> organizations = new ArrayList<>();
+        for (int i = 0; i < organizationIds.length; i++) {
+            BasicOrganization organization = new BasicOrganization();
+            organization.setId(organizationIds[i]);
+            organization.setCreated(String.valueOf(organizationIds.length - i));
+            organizations.add(organization);
+        }
+        when(organizationManager.getOrganizations(any(), any(), any(), any(), any(), anyBoolean()))
+                .thenReturn(organizations, Collections.emptyList());
+    }
+
+    /**
+     * Mock the organization branding of the default locale owned by the given tenant. The other tenants own no
+     * branding.
+     */
+    private void mockOwnedOrgBranding(String tenantDomain, String resourceFileName)
+            throws ConfigurationManagementException {
+
+        String resourceId = "7b3c2a4e-5d1f-4c8e-9a6b-0e2d4f6a8c1b";
+        when(configurationManager.getFiles(eq(BRANDING_RESOURCE_TYPE), anyString())).thenAnswer(invocation -> {
+            String resourceName = invocation.getArgument(1);
+            if (tenantDomain.equals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain()) &&
+                    resourceName.endsWith(RESOURCE_NAME_SEPARATOR + DEFAULT_LOCALE)) {
+                return getResourceFiles(resourceName, resourceId, BRANDING_RESOURCE_TYPE);
+            }
+            return Collections.emptyList();
+        });
+        when(configurationManager.getFileById(eq(BRANDING_RESOURCE_TYPE), anyString(), eq(resourceId)))
+                .thenAnswer(invocation -> FileUtils.openInputStream(new File(getSamplesPath(resourceFileName))));
+    }
+
+    private void mockBrandedOrgCacheEntry(String organizationId, String draftResolvedTenant,
+                                          String publishedResolvedTenant) {
+
+        BrandedOrgCacheEntry brandedOrgCacheEntry = new BrandedOrgCacheEntry();
+        brandedOrgCacheEntry.setTarget(false,
+                BrandingResolutionTarget.resolvedTo(draftResolvedTenant, null, ORGANIZATION_TYPE));
+        brandedOrgCacheEntry.setTarget(true,
+                BrandingResolutionTarget.resolvedTo(publishedResolvedTenant, null, ORGANIZATION_TYPE));
+        when(brandedOrgCache.getValueFromCache(new BrandedOrgCacheKey(organizationId), organizationId))
+                .thenReturn(brandedOrgCacheEntry);
+    }
+
+    /**
+     * Wait until the hierarchy invalidation jobs finish and check that the latest job completed.
+     */
+    private void waitForHierarchyInvalidation() throws InterruptedException {
+
+        HierarchyInvalidationJobManager jobManager = HierarchyInvalidationJobManager.getInstance();
+        long deadline = System.currentTimeMillis() + HIERARCHY_INVALIDATION_TIMEOUT;
+        while (jobManager.getJobs().stream().anyMatch(job -> job.getState() == HierarchyInvalidationJob.State.QUEUED
+                || job.getState() == HierarchyInvalidationJob.State.RUNNING)) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, "Hierarchy invalidation did not finish.");
+            Thread.sleep(50L);
+        }
+        Assert.assertEquals(jobManager.getJobs().get(0).getState(), HierarchyInvalidationJob.State.COMPLETED);
+    }
+
+    /**
+     * Create a resolver which invalidates the resolver caches of the hierarchy by walking the child organizations,
+     * instead of advancing branding generations.
+     */
+    private UIBrandingPreferenceResolver createResolverWithHierarchyWalkInvalidation() {
+
+        try (MockedStatic<IdentityUtil> mockedIdentityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            mockedIdentityUtil.when(() -> IdentityUtil.getProperty(RESOLVER_GENERATION_INVALIDATION_ENABLED_CONFIG_KEY))
+                    .thenReturn("false");
+            return new UIBrandingPreferenceResolverImpl(brandedOrgCache, brandedAppCache, textCustomizedOrgCache,
+                    resolvedBrandingCache, new OrganizationHierarchyResolver(organizationHierarchyCache,
+                    ancestorAppIdsCache, brandingGenerationCache, organizationTenantDomainCache));
+        }
+    }
+
+    /**
+     * Create a resolver which retrieves the branding resources of the hierarchy with a single batched lookup.
+     */
+    private UIBrandingPreferenceResolver createResolverWithBatchedLookup() {
+
+        try (MockedStatic<IdentityUtil> mockedIdentityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            mockedIdentityUtil.when(() -> IdentityUtil.getProperty(RESOLVER_BATCHED_ANCESTOR_LOOKUP_ENABLED_CONFIG_KEY))
+                    .thenReturn("true");
+            return new UIBrandingPreferenceResolverImpl(brandedOrgCache, brandedAppCache, textCustomizedOrgCache,
+                    resolvedBrandingCache, new OrganizationHierarchyResolver(organizationHierarchyCache,
+                    ancestorAppIdsCache, brandingGenerationCache, organizationTenantDomainCache),
+                    brandingResourceDAO);
+        }
+    }
+
+    /**
+     * Mock the node local branding generation cache of a node. Clearing an entry is propagated to the other node, as
+     * the cache invalidation of the cluster does.
+     */
+    private BrandingGenerationCache mockClusteredBrandingGenerationCache(
+            Map<BrandingGenerationCacheKey, BrandingGenerationCacheEntry> localGenerations,
+            Map<BrandingGenerationCacheKey, BrandingGenerationCacheEntry> remoteGenerations) {
+
+        BrandingGenerationCache generationCache = mock(BrandingGenerationCache.class);
+        when(generationCache.getValueFromCache(any(BrandingGenerationCacheKey.class), eq(SUPER_TENANT_DOMAIN_NAME)))
+                .thenAnswer(invocation -> localGenerations.get(invocation.getArgument(0)));
+        doAnswer(invocation -> localGenerations.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(generationCache).addToCacheOnRead(any(BrandingGenerationCacheKey.class),
+                        any(BrandingGenerationCacheEntry.class), eq(SUPER_TENANT_DOMAIN_NAME));
+        doAnswer(invocation -> {
+            localGenerations.remove(invocation.getArgument(0));
+            remoteGenerations.remove(invocation.getArgument(0));
+            return null;
+        }).when(generationCache).clearCacheEntry(any(BrandingGenerationCacheKey.class), eq(SUPER_TENANT_DOMAIN_NAME));
+        return generationCache;
+    }
+
+    /**
+     * The batched ancestor lookup resolves the tenant IDs of the ancestor organizations outside a tenant flow.
+     */
+    private MockedStatic<IdentityTenantUtil> mockTenantIdRetrieval() {
+
+        MockedStatic<IdentityTenantUtil> mockedIdentityTenantUtil =
+                mockStatic(IdentityTenantUtil.class, CALLS_REAL_METHODS);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(ROOT_TENANT_DOMAIN))
+                .thenReturn(ROOT_TENANT_ID);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(PARENT_ORG_ID)).thenReturn(PARENT_TENANT_ID);
+        mockedIdentityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(CHILD_ORG_ID)).thenReturn(CHILD_TENANT_ID);
+        return mockedIdentityTenantUtil;
+    }
+
     private void mockOSGiDataHolder(MockedStatic<OSGiDataHolder> mockedOSGiDataHolder)
             throws Exception {
 
@@ -966,6 +1702,12 @@ public class UIBrandingPreferenceResolverImplTest {
         System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome, "conf").toString());
     }
 
+    private ResolvedBrandingPayload buildResolvedBrandingPayload(Object preference) throws IOException {
+
+        return new ResolvedBrandingPayload(new ObjectMapper().writeValueAsBytes(preference), "\"etag\"",
+                System.currentTimeMillis());
+    }
+
     private Object getPreferenceFromFile(String filename) throws IOException {
 
         File sampleResourceFile = new File(getSamplesPath(filename));
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.cluster;
+
+import org.apache.axis2.clustering.ClusteringAgent;
+import org.apache.axis2.context.ConfigurationContext;
+import org.apache.axis2.engine.AxisConfiguration;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.branding.preference.management.core.cache.InstrumentedBaseCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedAppCache;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.BrandedOrgCache;
+import org.wso2.carbon.identity.branding.preference.resolver.internal.BrandingResolverComponentDataHolder;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.utils.ConfigurationContextService;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Test class for the batched cluster invalidation of the branding resolver caches.
+ */
+@WithCarbonHome
+public class BrandingClusterInvalidatorTest {
+
+    private BrandedOrgCache brandedOrgCache;
+    private BrandedAppCache brandedAppCache;
+    private ClusteringAgent clusteringAgent;
+
+    @BeforeMethod
+    public void setUp() {
+
+        brandedOrgCache = mock(BrandedOrgCache.class);
+        brandedAppCache = mock(BrandedAppCache.class);
+        clusteringAgent = mock(ClusteringAgent.class);
+        ConfigurationContextService configurationContextService = mock(ConfigurationContextService.class);
+        ConfigurationContext configurationContext = mock(ConfigurationContext.class);
+        AxisConfiguration axisConfiguration = mock(AxisConfiguration.class);
+        when(configurationContextService.getServerConfigContext()).thenReturn(configurationContext);
+        when(configurationContext.getAxisConfiguration()).thenReturn(axisConfiguration);
+        when(axisConfiguration.getClusteringAgent()).thenReturn(clusteringAgent);
+        BrandingResolverComponentDataHolder.getInstance().setConfigurationContextService(configurationContextService);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        BrandingResolverComponentDataHolder.getInstance().setConfigurationContextService(null);
+    }
+
+    @Test
+    public void testBatchSendsSingleMessagePerBatch() throws Exception {
+
+        BrandingClusterInvalidator clusterInvalidator = BrandingClusterInvalidator.getInstance();
+        long sentMessageCount = clusterInvalidator.getSentMessageCount();
+        Map<String, InstrumentedBaseCache<?, ?>> caches = new LinkedHashMap<>();
+        caches.put(BrandedOrgCache.CACHE_NAME, brandedOrgCache);
+        caches.put(BrandedAppCache.CACHE_NAME, brandedAppCache);
+        BrandingCacheInvalidationBatch batch = new BrandingCacheInvalidationBatch(clusterInvalidator, caches, 2,
+                60000L);
+
+        batch.add("child-1.com");
+        verify(brandedOrgCache).invalidateLocally("child-1.com");
+        verify(brandedAppCache).invalidateLocally("child-1.com");
+        verifyNoInteractions(clusteringAgent);
+
+        batch.add("child-2.com");
+        batch.add("child-3.com");
+        batch.flush();
+        ArgumentCaptor<BrandingCacheInvalidationMessage> messageCaptor =
+                ArgumentCaptor.forClass(BrandingCacheInvalidationMessage.class);
+        verify(clusteringAgent, times(2)).sendMessage(messageCaptor.capture(), eq(true));
+        assertEquals(messageCaptor.getAllValues().get(0).getCacheNames(),
+                Arrays.asList(BrandedOrgCache.CACHE_NAME, BrandedAppCache.CACHE_NAME));
+        assertEquals(messageCaptor.getAllValues().get(0).getTenantDomains(),
+                Arrays.asList("child-1.com", "child-2.com"));
+        assertEquals(messageCaptor.getAllValues().get(1).getTenantDomains(),
+                Collections.singletonList("child-3.com"));
+        assertEquals(clusterInvalidator.getSentMessageCount(), sentMessageCount + 2);
+    }
+
+    @Test
+    public void testReceivedMessageInvalidatesRegisteredCaches() throws Exception {
+
+        BrandingClusterInvalidator clusterInvalidator = BrandingClusterInvalidator.getInstance();
+        clusterInvalidator.registerCache(BrandedOrgCache.CACHE_NAME, brandedOrgCache);
+        long receivedMessageCount = clusterInvalidator.getReceivedMessageCount();
+
+        new BrandingCacheInvalidationMessage(Arrays.asList(BrandedOrgCache.CACHE_NAME, "UnknownCache"),
+                Arrays.asList("child-1.com", "child-2.com")).execute(null);
+        verify(brandedOrgCache).invalidateLocally("child-1.com");
+        verify(brandedOrgCache).invalidateLocally("child-2.com");
+        verifyNoInteractions(clusteringAgent);
+        assertEquals(clusterInvalidator.getReceivedMessageCount(), receivedMessageCount + 1);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.dao.impl;
+
+import org.mockito.MockedConstruction;
+import org.testng.annotations.Test;
+import org.wso2.carbon.database.utils.jdbc.NamedQueryFilter;
+import org.wso2.carbon.database.utils.jdbc.NamedTemplate;
+import org.wso2.carbon.database.utils.jdbc.RowMapper;
+import org.wso2.carbon.database.utils.jdbc.exceptions.DataAccessException;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.BrandingResourceDAO;
+import org.wso2.carbon.identity.branding.preference.resolver.dao.model.BrandingResourceCandidate;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.common.testng.WithH2Database;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.APPLICATION_BRANDING_RESOURCE_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.APPLICATION_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.BRANDING_RESOURCE_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ORGANIZATION_TYPE;
+
+/**
+ * Test class for BrandingResourceDAOImpl.
+ */
+@WithCarbonHome
+@WithH2Database(files = {"dbscripts/config/h2.sql"})
+public class BrandingResourceDAOImplTest {
+
+    private static final String TENANT_DOMAIN = "child.com";
+    private final BrandingResourceDAO brandingResourceDAO = BrandingResourceDAOImpl.getInstance();
+
+    @Test(description = "Test for retrieving the branding resources of a hierarchy in a single lookup")
+    public void testGetBrandingResourceFiles() throws Exception {
+
+        BrandingResourceCandidate childOrgBranding = new BrandingResourceCandidate(ORGANIZATION_TYPE, "child.com",
+                "child.com", 3, BRANDING_RESOURCE_TYPE, "3_en-US");
+        BrandingResourceCandidate parentAppBranding = new BrandingResourceCandidate(APPLICATION_TYPE,
+                "parent-app-id", "parent.com", 2, APPLICATION_BRANDING_RESOURCE_TYPE, "parent-app-id_en-US");
+        BrandingResourceCandidate parentOrgBranding = new BrandingResourceCandidate(ORGANIZATION_TYPE, "parent.com",
+                "parent.com", 2, BRANDING_RESOURCE_TYPE, "2_en-US");
+        BrandingResourceCandidate rootOrgBranding = new BrandingResourceCandidate(ORGANIZATION_TYPE, "root.com",
+                "root.com", 1, BRANDING_RESOURCE_TYPE, "1_en-US");
+        // Resource name of an existing resource but with a different resource type.
+        BrandingResourceCandidate rootAppBranding = new BrandingResourceCandidate(APPLICATION_TYPE, "1",
+                "root.com", 1, APPLICATION_BRANDING_RESOURCE_TYPE, "1_en-US");
+
+        Map<BrandingResourceCandidate, byte[]> resourceFiles = brandingResourceDAO.getBrandingResourceFiles(
+                Arrays.asList(childOrgBranding, parentAppBranding, parentOrgBranding, rootOrgBranding,
+                        rootAppBranding), TENANT_DOMAIN);
+
+        assertEquals(resourceFiles.size(), 2);
+        assertEquals(new String(resourceFiles.get(parentAppBranding), StandardCharsets.UTF_8),
+                "{\"source\":\"parent-app\"}");
+        // Resource holds multiple files, of which the first file by ID is considered as the branding.
+        assertEquals(new String(resourceFiles.get(rootOrgBranding), StandardCharsets.UTF_8),
+                "{\"source\":\"org-1\"}");
+        assertFalse(resourceFiles.containsKey(childOrgBranding));
+        // Resource exists without a file.
+        assertFalse(resourceFiles.containsKey(parentOrgBranding));
+        assertFalse(resourceFiles.containsKey(rootAppBranding));
+    }
+
+    @Test(description = "Test for retrieving the branding resources without any candidates")
+    public void testGetBrandingResourceFilesWithoutCandidates() throws Exception {
+
+        assertTrue(brandingResourceDAO.getBrandingResourceFiles(new ArrayList<>(), TENANT_DOMAIN).isEmpty());
+    }
+
+    @Test(description = "Test for retrieving the branding resources when the database query fails")
+    public void testGetBrandingResourceFilesWithDataAccessError() {
+
+        List<BrandingResourceCandidate> candidates = new ArrayList<>();
+        candidates.add(new BrandingResourceCandidate(ORGANIZATION_TYPE, "root.com", "root.com", 1,
+                BRANDING_RESOURCE_TYPE, "1_en-US"));
+        try (MockedConstruction<NamedTemplate> mockedNamedTemplate = mockConstruction(NamedTemplate.class,
+                (mock, context) -> {
+                    when(mock.executeQuery(any(String.class), any(RowMapper.class), any(NamedQueryFilter.class)))
+                            .thenThrow(DataAccessException.class);
+                })) {
+            assertThrows(BrandingPreferenceMgtException.class, () ->
+                    brandingResourceDAO.getBrandingResourceFiles(candidates, TENANT_DOMAIN));
+        }
+    }
+}
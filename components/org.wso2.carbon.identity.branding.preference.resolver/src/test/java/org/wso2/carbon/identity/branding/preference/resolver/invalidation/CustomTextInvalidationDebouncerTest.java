@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for CustomTextInvalidationDebouncer.
+ */
+public class CustomTextInvalidationDebouncerTest {
+
+    private static final String TENANT_DOMAIN = "root.com";
+    private static final String OTHER_TENANT_DOMAIN = "child.com";
+    private static final String ORGANIZATION_ID = "root-org-id";
+
+    @Test
+    public void testChangesWithinWindowAreGathered() throws Exception {
+
+        CustomTextInvalidationDebouncer debouncer = new CustomTextInvalidationDebouncer(true, 200);
+        List<HierarchyInvalidationCheckpoint> submittedCheckpoints = new CopyOnWriteArrayList<>();
+        CountDownLatch submitted = new CountDownLatch(2);
+
+        for (String resourceName : Arrays.asList("login--en-US", "login--fr-FR", "consent--en-US", "login--en-US")) {
+            debouncer.submit(TENANT_DOMAIN, ORGANIZATION_ID, "admin", resourceName, checkpoint -> {
+                submittedCheckpoints.add(checkpoint);
+                submitted.countDown();
+            });
+        }
+        debouncer.submit(OTHER_TENANT_DOMAIN, "child-org-id", "admin", "login--en-US", checkpoint -> {
+            submittedCheckpoints.add(checkpoint);
+            submitted.countDown();
+        });
+
+        assertTrue(submitted.await(10, TimeUnit.SECONDS));
+        assertEquals(submittedCheckpoints.size(), 2);
+        HierarchyInvalidationCheckpoint checkpoint = submittedCheckpoints.stream()
+                .filter(submittedCheckpoint -> TENANT_DOMAIN.equals(submittedCheckpoint.getTenantDomain()))
+                .findFirst().orElseThrow(IllegalStateException::new);
+        assertEquals(checkpoint.getResourceNames(), Arrays.asList("consent--en-US", "login--en-US", "login--fr-FR"));
+        assertEquals(checkpoint.getOrganizationId(), ORGANIZATION_ID);
+        assertEquals(debouncer.getDebouncedCount(), 3L);
+        assertEquals(debouncer.getFlushedCount(), 2L);
+    }
+
+    @Test
+    public void testClearAllCoversOtherChanges() throws Exception {
+
+        CustomTextInvalidationDebouncer debouncer = new CustomTextInvalidationDebouncer(true, 60000);
+        List<HierarchyInvalidationCheckpoint> submittedCheckpoints = new CopyOnWriteArrayList<>();
+
+        debouncer.submit(TENANT_DOMAIN, ORGANIZATION_ID, "admin", "login--en-US", submittedCheckpoints::add);
+        debouncer.submit(TENANT_DOMAIN, ORGANIZATION_ID, "admin", "", submittedCheckpoints::add);
+        debouncer.submit(TENANT_DOMAIN, ORGANIZATION_ID, "admin", "consent--en-US", submittedCheckpoints::add);
+        assertTrue(submittedCheckpoints.isEmpty());
+
+        // Closing the debouncer submits the pending invalidations right away.
+        debouncer.close();
+        assertEquals(submittedCheckpoints.size(), 1);
+        assertEquals(submittedCheckpoints.get(0).getResourceNames(), Collections.singletonList(""));
+    }
+
+    @Test
+    public void testDisabledDebouncerSubmitsRightAway() {
+
+        CustomTextInvalidationDebouncer debouncer = new CustomTextInvalidationDebouncer(false, 200);
+        List<HierarchyInvalidationCheckpoint> submittedCheckpoints = new CopyOnWriteArrayList<>();
+
+        debouncer.submit(TENANT_DOMAIN, ORGANIZATION_ID, "admin", "login--en-US", submittedCheckpoints::add);
+        debouncer.submit(TENANT_DOMAIN, ORGANIZATION_ID, "admin", "consent--en-US", submittedCheckpoints::add);
+
+        assertEquals(submittedCheckpoints.size(), 2);
+        assertEquals(submittedCheckpoints.get(0).getJobKey(), "customText:root.com:login--en-US");
+    }
+}
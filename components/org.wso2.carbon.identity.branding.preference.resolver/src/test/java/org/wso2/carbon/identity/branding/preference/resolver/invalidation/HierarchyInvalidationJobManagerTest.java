@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for HierarchyInvalidationJobManager.
+ */
+public class HierarchyInvalidationJobManagerTest {
+
+    private static final String TENANT_DOMAIN = "root.com";
+    private static final String JOB_KEY = "branding:root.com:ORG:root.com:false";
+    private static final String OTHER_JOB_KEY = "customText:root.com:login";
+
+    @Test
+    public void testQueuedJobsAreMerged() throws Exception {
+
+        HierarchyInvalidationJobManager jobManager = new HierarchyInvalidationJobManager(1, 10, 10);
+        CountDownLatch blockingJobStarted = new CountDownLatch(1);
+        CountDownLatch blockingJobReleased = new CountDownLatch(1);
+        AtomicInteger walkCount = new AtomicInteger();
+
+        HierarchyInvalidationJob blockingJob = jobManager.submit(OTHER_JOB_KEY, TENANT_DOMAIN, job -> {
+            blockingJobStarted.countDown();
+            awaitQuietly(blockingJobReleased);
+        });
+        assertTrue(blockingJobStarted.await(10, TimeUnit.SECONDS));
+
+        HierarchyInvalidationJob queuedJob = jobManager.submit(JOB_KEY, TENANT_DOMAIN,
+                job -> walkCount.incrementAndGet());
+        assertSame(jobManager.submit(JOB_KEY, TENANT_DOMAIN, job -> walkCount.incrementAndGet()), queuedJob);
+        assertEquals(queuedJob.getState(), HierarchyInvalidationJob.State.QUEUED);
+        assertEquals(queuedJob.getMergedCount(), 1);
+        assertEquals(jobManager.getJobs().size(), 2);
+
+        // A job which is already running is not merged with the new requests.
+        HierarchyInvalidationJob otherJob = jobManager.submit(OTHER_JOB_KEY, TENANT_DOMAIN, job -> { });
+        assertNotSame(otherJob, blockingJob);
+
+        blockingJobReleased.countDown();
+        awaitState(queuedJob, HierarchyInvalidationJob.State.COMPLETED);
+        assertEquals(walkCount.get(), 1);
+        assertEquals(jobManager.getMergedCount(), 1L);
+        assertSame(jobManager.getJob(queuedJob.getId()), queuedJob);
+    }
+
+    @Test
+    public void testCancelQueuedAndRunningJobs() throws Exception {
+
+        HierarchyInvalidationJobManager jobManager = new HierarchyInvalidationJobManager(1, 10, 10);
+        CountDownLatch runningJobStarted = new CountDownLatch(1);
+        AtomicInteger walkCount = new AtomicInteger();
+
+        HierarchyInvalidationJob runningJob = jobManager.submit(OTHER_JOB_KEY, TENANT_DOMAIN, job -> {
+            runningJobStarted.countDown();
+            while (!job.isCancelRequested()) {
+                Thread.yield();
+            }
+        });
+        assertTrue(runningJobStarted.await(10, TimeUnit.SECONDS));
+        HierarchyInvalidationJob queuedJob = jobManager.submit(JOB_KEY, TENANT_DOMAIN,
+                job -> walkCount.incrementAndGet());
+
+        assertTrue(jobManager.cancel(queuedJob.getId()));
+        assertTrue(jobManager.cancel(runningJob.getId()));
+        awaitState(runningJob, HierarchyInvalidationJob.State.CANCELLED);
+        awaitState(queuedJob, HierarchyInvalidationJob.State.CANCELLED);
+        assertEquals(walkCount.get(), 0);
+        assertFalse(jobManager.cancel(queuedJob.getId()));
+    }
+
+    @Test
+    public void testJobRunsInCallerWhenQueueIsFull() throws Exception {
+
+        HierarchyInvalidationJobManager jobManager = new HierarchyInvalidationJobManager(1, 1, 10);
+        CountDownLatch blockingJobStarted = new CountDownLatch(1);
+        CountDownLatch blockingJobReleased = new CountDownLatch(1);
+        jobManager.submit(OTHER_JOB_KEY, TENANT_DOMAIN, job -> {
+            blockingJobStarted.countDown();
+            awaitQuietly(blockingJobReleased);
+        });
+        assertTrue(blockingJobStarted.await(10, TimeUnit.SECONDS));
+        jobManager.submit(JOB_KEY, TENANT_DOMAIN, job -> { });
+
+        Thread callerThread = Thread.currentThread();
+        AtomicInteger callerRunCount = new AtomicInteger();
+        HierarchyInvalidationJob callerJob = jobManager.submit(JOB_KEY + ":true", TENANT_DOMAIN, job -> {
+            if (Thread.currentThread() == callerThread) {
+                callerRunCount.incrementAndGet();
+            }
+        });
+        assertEquals(callerJob.getState(), HierarchyInvalidationJob.State.COMPLETED);
+        assertEquals(callerRunCount.get(), 1);
+        assertEquals(jobManager.getCallerRunCount(), 1L);
+        blockingJobReleased.countDown();
+    }
+
+    @Test
+    public void testFailedJobIsResumedFromCheckpoint() throws Exception {
+
+        HierarchyInvalidationCheckpointStore checkpointStore = new HierarchyInvalidationCheckpointStore(null);
+        HierarchyInvalidationJobManager jobManager =
+                new HierarchyInvalidationJobManager(1, 10, 10, checkpointStore, 2, 10L);
+        HierarchyInvalidationCheckpoint checkpoint = HierarchyInvalidationCheckpoint.forBranding(TENANT_DOMAIN,
+                "root-org-id", "admin", "ORG", TENANT_DOMAIN, "en-US");
+        checkpointStore.save(checkpoint);
+        AtomicInteger attemptCount = new AtomicInteger();
+
+        jobManager.submit(checkpoint.getId(), JOB_KEY, TENANT_DOMAIN, job -> {
+            if (attemptCount.incrementAndGet() < 3) {
+                throw new IllegalStateException("Unavailable.");
+            }
+        });
+
+        awaitJobState(jobManager, checkpoint.getId(), HierarchyInvalidationJob.State.COMPLETED);
+        assertEquals(attemptCount.get(), 3);
+        assertEquals(jobManager.getRetriedCount(), 2L);
+        assertTrue(checkpointStore.getCheckpoints().isEmpty());
+    }
+
+    @Test
+    public void testJobKeepsCheckpointAfterRetriesFail() throws Exception {
+
+        HierarchyInvalidationCheckpointStore checkpointStore = new HierarchyInvalidationCheckpointStore(null);
+        HierarchyInvalidationJobManager jobManager =
+                new HierarchyInvalidationJobManager(1, 10, 10, checkpointStore, 1, 10L);
+        HierarchyInvalidationCheckpoint checkpoint = HierarchyInvalidationCheckpoint.forBranding(TENANT_DOMAIN,
+                "root-org-id", "admin", "ORG", TENANT_DOMAIN, "en-US");
+        checkpointStore.save(checkpoint);
+        AtomicInteger attemptCount = new AtomicInteger();
+
+        jobManager.submit(checkpoint.getId(), JOB_KEY, TENANT_DOMAIN, job -> {
+            attemptCount.incrementAndGet();
+            throw new IllegalStateException("Unavailable.");
+        });
+
+        // The retried job runs once it is registered, hence the failed first job is not awaited instead of it.
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (attemptCount.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(jobManager.getRetriedCount(), 1);
+        awaitJobState(jobManager, checkpoint.getId(), HierarchyInvalidationJob.State.FAILED);
+        assertEquals(attemptCount.get(), 2);
+        // The walk is resumed from its checkpoint on the next start.
+        assertEquals(checkpointStore.getCheckpoints().size(), 1);
+        assertFalse(jobManager.cancel(checkpoint.getId()));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitState(HierarchyInvalidationJob job, HierarchyInvalidationJob.State state)
+            throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (job.getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(job.getState(), state);
+    }
+
+    private static void awaitJobState(HierarchyInvalidationJobManager jobManager, String jobId,
+                                      HierarchyInvalidationJob.State state) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (jobManager.getJob(jobId).getState() != state && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(jobManager.getJob(jobId).getState(), state);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.invalidation;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.configuration.mgt.core.ConfigurationManager;
+import org.wso2.carbon.identity.configuration.mgt.core.exception.ConfigurationManagementClientException;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resource;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceType;
+import org.wso2.carbon.identity.configuration.mgt.core.model.ResourceTypeAdd;
+import org.wso2.carbon.identity.configuration.mgt.core.model.Resources;
+import org.wso2.carbon.identity.organization.management.service.OrganizationManager;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+import org.wso2.carbon.identity.organization.management.service.model.BasicOrganization;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE;
+
+/**
+ * Test class for HierarchyInvalidationWalker and HierarchyInvalidationCheckpointStore.
+ */
+public class HierarchyInvalidationWalkerTest {
+
+    private static final String TENANT_DOMAIN = "root.com";
+    private static final String ORGANIZATION_ID = "root-org-id";
+    private static final String ORG_A_CREATED = "2026-01-03 00:00:00";
+    private static final String ORG_B_CREATED = "2026-01-02 00:00:00";
+    private static final String ORG_C_CREATED = "2026-01-01 00:00:00";
+
+    private OrganizationManager organizationManager;
+    private ConfigurationManager configurationManager;
+    private Map<String, Resource> checkpointResources;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        // Descendants are paged newest first, two at a time.
+        organizationManager = mock(OrganizationManager.class);
+        when(organizationManager.getOrganizations(anyInt(), isNull(), isNull(), eq("DESC"), eq(""), eq(true)))
+                .thenReturn(Arrays.asList(organization("org-a", ORG_A_CREATED),
+                        organization("org-b", ORG_B_CREATED)));
+        when(organizationManager.getOrganizations(anyInt(), eq(cursor(ORG_B_CREATED)), isNull(), eq("DESC"), eq(""),
+                eq(true))).thenReturn(Collections.singletonList(organization("org-c", ORG_C_CREATED)));
+        when(organizationManager.getOrganizations(anyInt(), eq(cursor(ORG_C_CREATED)), isNull(), eq("DESC"), eq(""),
+                eq(true))).thenReturn(Collections.emptyList());
+
+        checkpointResources = new LinkedHashMap<>();
+        configurationManager = mock(ConfigurationManager.class);
+        when(configurationManager.getResourceType(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE))
+                .thenReturn(new ResourceType());
+        when(configurationManager.getResourcesByType(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE))
+                .thenAnswer(invocation -> new Resources(new ArrayList<>(checkpointResources.values())));
+        when(configurationManager.replaceResource(eq(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE),
+                any(Resource.class))).thenAnswer(invocation -> {
+                    Resource resource = invocation.getArgument(1);
+                    checkpointResources.put(resource.getResourceName(), resource);
+                    return resource;
+                });
+        doAnswer(invocation -> checkpointResources.remove(invocation.<String>getArgument(1)))
+                .when(configurationManager).deleteResource(eq(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE),
+                        anyString());
+    }
+
+    @Test
+    public void testWalkPagesThroughDescendantsAndSavesCursor() throws Exception {
+
+        HierarchyInvalidationCheckpointStore checkpointStore = newCheckpointStore();
+        HierarchyInvalidationCheckpoint checkpoint = HierarchyInvalidationCheckpoint.forBranding(TENANT_DOMAIN,
+                ORGANIZATION_ID, "admin", "ORG", TENANT_DOMAIN, "en-US");
+        HierarchyInvalidationJob job = newJob(checkpoint);
+        List<String> visitedOrganizations = new ArrayList<>();
+
+        newWalker(checkpointStore, 0).walk(organizationManager, checkpoint, job, visitedOrganizations::addAll);
+
+        assertEquals(visitedOrganizations, Arrays.asList("org-a", "org-b", "org-c"));
+        assertEquals(job.getProcessedCount(), 3L);
+        assertEquals(job.getPageCount(), 2);
+        assertEquals(checkpoint.getCursor(), cursor(ORG_C_CREATED));
+
+        // The saved checkpoint is read back by a new store.
+        checkpointStore.flush();
+        List<HierarchyInvalidationCheckpoint> checkpoints = newCheckpointStore().getCheckpoints();
+        assertEquals(checkpoints.size(), 1);
+        assertEquals(checkpoints.get(0).getId(), checkpoint.getId());
+        assertEquals(checkpoints.get(0).getJobKey(), checkpoint.getJobKey());
+        assertEquals(checkpoints.get(0).getLocale(), "en-US");
+        assertEquals(checkpoints.get(0).getCursor(), cursor(ORG_C_CREATED));
+        assertEquals(checkpoints.get(0).getProcessedCount(), 3L);
+    }
+
+    @Test
+    public void testFailedPageKeepsCheckpointForResume() throws Exception {
+
+        HierarchyInvalidationCheckpointStore checkpointStore = newCheckpointStore();
+        HierarchyInvalidationCheckpoint checkpoint =
+                HierarchyInvalidationCheckpoint.forCustomText(TENANT_DOMAIN, ORGANIZATION_ID, "admin",
+                        Arrays.asList("login", "consent"));
+        AtomicInteger failedAttempts = new AtomicInteger();
+
+        expectThrows(OrganizationManagementException.class, () -> newWalker(checkpointStore, 2).walk(
+                organizationManager, checkpoint, newJob(checkpoint), organizationIds -> {
+                    if (organizationIds.contains("org-c")) {
+                        failedAttempts.incrementAndGet();
+                        throw new OrganizationManagementException("Unavailable.");
+                    }
+                }));
+        assertEquals(failedAttempts.get(), 3);
+
+        // The walk resumes from the page after the last completed page.
+        checkpointStore.flush();
+        HierarchyInvalidationCheckpoint resumedCheckpoint = newCheckpointStore().getCheckpoints().get(0);
+        assertEquals(resumedCheckpoint.getCursor(), cursor(ORG_B_CREATED));
+        assertEquals(resumedCheckpoint.getProcessedCount(), 2L);
+        assertEquals(resumedCheckpoint.getResourceNames(), Arrays.asList("consent", "login"));
+        List<String> visitedOrganizations = new ArrayList<>();
+        newWalker(checkpointStore, 0).walk(organizationManager, resumedCheckpoint, newJob(resumedCheckpoint),
+                visitedOrganizations::addAll);
+        assertEquals(visitedOrganizations, Collections.singletonList("org-c"));
+    }
+
+    @Test
+    public void testCheckpointIsWrittenAsSaved() throws Exception {
+
+        HierarchyInvalidationCheckpointStore checkpointStore = newCheckpointStore();
+        HierarchyInvalidationCheckpoint checkpoint = HierarchyInvalidationCheckpoint.forBranding(TENANT_DOMAIN,
+                ORGANIZATION_ID, "admin", "ORG", TENANT_DOMAIN, "en-US");
+        checkpoint.advance(cursor(ORG_B_CREATED), 2);
+        checkpointStore.save(checkpoint);
+
+        // Progress which is not saved yet is not written, even if the checkpoints are written afterwards.
+        checkpoint.advance(cursor(ORG_C_CREATED), 1);
+        checkpointStore.save(HierarchyInvalidationCheckpoint.forCustomText(TENANT_DOMAIN, ORGANIZATION_ID, "admin",
+                Collections.singletonList("login")));
+        checkpointStore.flush();
+
+        HierarchyInvalidationCheckpoint writtenCheckpoint = newCheckpointStore().getCheckpoints().get(0);
+        assertEquals(writtenCheckpoint.getId(), checkpoint.getId());
+        assertEquals(writtenCheckpoint.getCursor(), cursor(ORG_B_CREATED));
+        assertEquals(writtenCheckpoint.getProcessedCount(), 2L);
+
+        checkpointStore.remove(checkpoint.getId());
+        checkpointStore.close();
+        assertEquals(newCheckpointStore().getCheckpoints().size(), 1);
+    }
+
+    @Test
+    public void testResourceTypeIsAddedWithFirstCheckpoint() throws Exception {
+
+        ConfigurationManagementClientException resourceTypeNotExists =
+                new ConfigurationManagementClientException("Resource type does not exist.",
+                        RESOURCE_TYPE_NOT_EXISTS_ERROR_CODE);
+        when(configurationManager.getResourcesByType(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE))
+                .thenThrow(resourceTypeNotExists);
+        when(configurationManager.getResourceType(RESOLVER_INVALIDATION_CHECKPOINT_RESOURCE_TYPE))
+                .thenThrow(resourceTypeNotExists);
+
+        HierarchyInvalidationCheckpointStore checkpointStore = newCheckpointStore();
+        assertTrue(checkpointStore.getCheckpoints().isEmpty());
+        HierarchyInvalidationCheckpoint checkpoint = HierarchyInvalidationCheckpoint.forBranding(TENANT_DOMAIN,
+                ORGANIZATION_ID, "admin", "ORG", TENANT_DOMAIN, "en-US");
+        checkpointStore.save(checkpoint);
+        checkpointStore.flush();
+
+        verify(configurationManager, times(1)).addResourceType(any(ResourceTypeAdd.class));
+        assertNull(HierarchyInvalidationCheckpoint.fromAttributes(checkpoint.getId(),
+                toAttributes(checkpointResources.get(checkpoint.getId()))).getCursor());
+    }
+
+    private HierarchyInvalidationCheckpointStore newCheckpointStore() {
+
+        return new HierarchyInvalidationCheckpointStore(() -> configurationManager);
+    }
+
+    private static Map<String, String> toAttributes(Resource resource) {
+
+        Map<String, String> attributes = new LinkedHashMap<>();
+        resource.getAttributes().forEach(attribute -> attributes.put(attribute.getKey(), attribute.getValue()));
+        return attributes;
+    }
+
+    private static BasicOrganization organization(String id, String created) {
+
+        BasicOrganization organization = new BasicOrganization();
+        organization.setId(id);
+        organization.setCreated(created);
+        return organization;
+    }
+
+    private static String cursor(String created) {
+
+        return Base64.getEncoder().encodeToString(created.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static HierarchyInvalidationJob newJob(HierarchyInvalidationCheckpoint checkpoint) {
+
+        return new HierarchyInvalidationJob(checkpoint.getId(), checkpoint.getJobKey(), TENANT_DOMAIN);
+    }
+
+    private static HierarchyInvalidationWalker newWalker(HierarchyInvalidationCheckpointStore checkpointStore,
+                                                         int pageRetryCount) {
+
+        return new HierarchyInvalidationWalker(checkpointStore, pageRetryCount, 0, 0);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for BrandingResolverAsyncExecutor.
+ */
+@WithCarbonHome
+public class BrandingResolverAsyncExecutorTest {
+
+    private static final String TENANT_DOMAIN = "child.com";
+    private static final int TENANT_ID = 2;
+    private static final String ORGANIZATION_ID = "child-org-id";
+
+    @AfterClass
+    public void tearDown() {
+
+        BrandingResolverAsyncExecutor.shutdown();
+    }
+
+    @Test
+    public void testResolutionRunsInTenantContextOfCaller() throws Exception {
+
+        try {
+            PrivilegedCarbonContext.startTenantFlow();
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(TENANT_ID);
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setOrganizationId(ORGANIZATION_ID);
+
+            String resolvedContext = BrandingResolverAsyncExecutor.getInstance().submit(() -> {
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                return carbonContext.getTenantDomain() + ":" + carbonContext.getTenantId() + ":" +
+                        carbonContext.getOrganizationId();
+            }).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertEquals(resolvedContext, TENANT_DOMAIN + ":" + TENANT_ID + ":" + ORGANIZATION_ID);
+            assertEquals(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain(), TENANT_DOMAIN);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    @Test
+    public void testFailedResolutionCompletesExceptionally() {
+
+        BrandingPreferenceMgtClientException exception = new BrandingPreferenceMgtClientException("message", "code");
+        long failedCount = BrandingResolverAsyncExecutor.getInstance().getFailedCount();
+
+        ExecutionException thrown = expectThrows(ExecutionException.class,
+                () -> BrandingResolverAsyncExecutor.getInstance().submit(() -> {
+                    throw exception;
+                }).toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertSame(thrown.getCause(), exception);
+        assertEquals(BrandingResolverAsyncExecutor.getInstance().getFailedCount(), failedCount + 1);
+    }
+
+    @Test
+    public void testMetricsPublishedAsMBean() throws Exception {
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(
+                "org.wso2.carbon.identity.branding.preference:type=ExecutorMetrics,name=BrandingResolverAsyncExecutor");
+        BrandingResolverAsyncExecutor.getInstance().submit(() -> "resolved").toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(mBeanServer.isRegistered(objectName));
+        assertEquals(mBeanServer.getAttribute(objectName, "SubmittedCount"),
+                BrandingResolverAsyncExecutor.getInstance().getSubmittedCount());
+
+        BrandingResolverAsyncExecutor.shutdown();
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mockStatic;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_PARALLELISM_CONFIG_KEY;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.RESOLVER_INVALIDATION_QUEUE_SIZE_CONFIG_KEY;
+import static org.wso2.carbon.utils.multitenancy.MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
+
+/**
+ * Test class for HierarchyInvalidationExecutor.
+ */
+@WithCarbonHome
+public class HierarchyInvalidationExecutorTest {
+
+    private static final String USERNAME = "admin";
+
+    @AfterClass
+    public void tearDown() {
+
+        HierarchyInvalidationExecutor.shutdown();
+    }
+
+    @Test
+    public void testPageIsInvalidatedInTenantContext() throws Exception {
+
+        List<String> organizations = IntStream.range(0, 25).mapToObj(i -> "org-" + i).collect(Collectors.toList());
+        Set<String> invalidatedOrganizations = ConcurrentHashMap.newKeySet();
+        Set<String> invalidationContexts = ConcurrentHashMap.newKeySet();
+
+        HierarchyInvalidationExecutor executor = HierarchyInvalidationExecutor.getInstance();
+        long invalidatedCount = executor.getInvalidatedCount();
+        executor.invalidate(organizations, SUPER_TENANT_DOMAIN_NAME, USERNAME, organization -> {
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            invalidationContexts.add(carbonContext.getTenantDomain() + ":" + carbonContext.getUsername());
+            invalidatedOrganizations.add(organization);
+        });
+
+        assertEquals(invalidatedOrganizations.size(), organizations.size());
+        assertTrue(invalidatedOrganizations.containsAll(organizations));
+        assertEquals(invalidationContexts.size(), 1);
+        assertTrue(invalidationContexts.contains(SUPER_TENANT_DOMAIN_NAME + ":" + USERNAME));
+        assertEquals(executor.getInvalidatedCount(), invalidatedCount + organizations.size());
+    }
+
+    @Test
+    public void testFailureOfOrganizationIsPropagated() {
+
+        List<String> organizations = IntStream.range(0, 10).mapToObj(i -> "org-" + i).collect(Collectors.toList());
+        OrganizationManagementException failure = new OrganizationManagementException("Failed to resolve.");
+
+        OrganizationManagementException thrown = expectThrows(OrganizationManagementException.class,
+                () -> HierarchyInvalidationExecutor.getInstance().invalidate(organizations, SUPER_TENANT_DOMAIN_NAME,
+                        USERNAME, organization -> {
+                            if ("org-7".equals(organization)) {
+                                throw failure;
+                            }
+                        }));
+        assertEquals(thrown, failure);
+    }
+
+    @Test
+    public void testChunkRunsOnCallerWhenQueueIsFull() throws Exception {
+
+        HierarchyInvalidationExecutor.shutdown();
+        HierarchyInvalidationExecutor executor;
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class, CALLS_REAL_METHODS)) {
+            identityUtil.when(() -> IdentityUtil.getProperty(RESOLVER_INVALIDATION_PARALLELISM_CONFIG_KEY))
+                    .thenReturn("2");
+            identityUtil.when(() -> IdentityUtil.getProperty(RESOLVER_INVALIDATION_QUEUE_SIZE_CONFIG_KEY))
+                    .thenReturn("1");
+            executor = HierarchyInvalidationExecutor.getInstance();
+        }
+        CountDownLatch workersBusy = new CountDownLatch(2);
+        CountDownLatch callerRan = new CountDownLatch(1);
+        ExecutorService walker = Executors.newSingleThreadExecutor();
+        try {
+            // A walk keeps both threads of the pool busy until a chunk of the next walk has run.
+            Future<?> busyWalk = walker.submit(() -> {
+                executor.invalidate(Arrays.asList("busy-1", "busy-2"), SUPER_TENANT_DOMAIN_NAME, USERNAME,
+                        organization -> {
+                            workersBusy.countDown();
+                            await(callerRan);
+                        });
+                return null;
+            });
+            assertTrue(workersBusy.await(30, TimeUnit.SECONDS));
+
+            // One chunk of the page fills the queue, hence the other one runs on the calling thread.
+            Set<String> invalidationThreads = ConcurrentHashMap.newKeySet();
+            executor.invalidate(Arrays.asList("org-1", "org-2", "org-3", "org-4"), SUPER_TENANT_DOMAIN_NAME,
+                    USERNAME, organization -> {
+                        invalidationThreads.add(Thread.currentThread().getName());
+                        callerRan.countDown();
+                    });
+
+            assertTrue(invalidationThreads.contains(Thread.currentThread().getName()));
+            busyWalk.get(30, TimeUnit.SECONDS);
+        } finally {
+            walker.shutdownNow();
+            HierarchyInvalidationExecutor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            assertTrue(latch.await(30, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
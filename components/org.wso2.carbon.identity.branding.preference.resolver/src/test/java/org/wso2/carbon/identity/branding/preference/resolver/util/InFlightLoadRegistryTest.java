@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.util;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtException;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtServerException;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for InFlightLoadRegistry.
+ */
+public class InFlightLoadRegistryTest {
+
+    private static final String LOAD_KEY = "carbon.super:ORG:org-id:en-US:false";
+    private static final long VERIFY_TIMEOUT_IN_MILLIS = 5000;
+
+    private ResolvedBrandingCache cache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        cache = mock(ResolvedBrandingCache.class);
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+
+        InFlightLoadRegistry<String, String> registry = new InFlightLoadRegistry<>(5000, cache);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executorService.submit(() -> registry.load(LOAD_KEY, () -> {
+                loadCount.incrementAndGet();
+                leaderStarted.countDown();
+                awaitLatch(releaseLeader);
+                return "resolved";
+            }));
+            assertEquals(leaderStarted.await(5, TimeUnit.SECONDS), true);
+            Future<String> waiter = executorService.submit(() -> registry.load(LOAD_KEY, () -> {
+                loadCount.incrementAndGet();
+                return "direct";
+            }));
+            verify(cache, timeout(VERIFY_TIMEOUT_IN_MILLIS)).recordCoalescedLoad();
+            releaseLeader.countDown();
+
+            assertEquals(leader.get(5, TimeUnit.SECONDS), "resolved");
+            assertEquals(waiter.get(5, TimeUnit.SECONDS), "resolved");
+            assertEquals(loadCount.get(), 1);
+            assertEquals(registry.getInFlightLoadCount(), 0);
+        } finally {
+            releaseLeader.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWaiterLoadsDirectlyOnTimeout() throws Exception {
+
+        InFlightLoadRegistry<String, String> registry = new InFlightLoadRegistry<>(50, cache);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> registry.load(LOAD_KEY, () -> {
+                leaderStarted.countDown();
+                awaitLatch(releaseLeader);
+                return "resolved";
+            }));
+            assertEquals(leaderStarted.await(5, TimeUnit.SECONDS), true);
+
+            assertEquals(registry.load(LOAD_KEY, () -> "direct"), "direct");
+            verify(cache).recordCoalescedLoad();
+            verify(cache).recordTimedOutLoadWait();
+        } finally {
+            releaseLeader.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInterruptedWaiterDoesNotLoad() throws Exception {
+
+        InFlightLoadRegistry<String, String> registry = new InFlightLoadRegistry<>(5000, cache);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            executorService.submit(() -> registry.load(LOAD_KEY, () -> {
+                leaderStarted.countDown();
+                awaitLatch(releaseLeader);
+                return "resolved";
+            }));
+            assertEquals(leaderStarted.await(5, TimeUnit.SECONDS), true);
+
+            Thread.currentThread().interrupt();
+            expectThrows(BrandingPreferenceMgtServerException.class, () -> registry.load(LOAD_KEY, () -> {
+                loadCount.incrementAndGet();
+                return "direct";
+            }));
+            assertTrue(Thread.interrupted());
+            assertEquals(loadCount.get(), 0);
+            verify(cache, never()).recordTimedOutLoadWait();
+        } finally {
+            releaseLeader.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLoadFailureIsNotRetained() throws Exception {
+
+        InFlightLoadRegistry<String, String> registry = new InFlightLoadRegistry<>(5000, cache);
+        BrandingPreferenceMgtClientException exception = new BrandingPreferenceMgtClientException("message", "code");
+
+        BrandingPreferenceMgtException thrown = expectThrows(BrandingPreferenceMgtException.class,
+                () -> registry.load(LOAD_KEY, () -> {
+                    throw exception;
+                }));
+        assertSame(thrown, exception);
+        assertEquals(registry.getInFlightLoadCount(), 0);
+        assertEquals(registry.load(LOAD_KEY, () -> "resolved"), "resolved");
+    }
+
+    @Test
+    public void testWaiterGetsItsOwnLoadFailure() throws Exception {
+
+        InFlightLoadRegistry<String, String> registry = new InFlightLoadRegistry<>(5000, cache);
+        BrandingPreferenceMgtClientException exception = new BrandingPreferenceMgtClientException("message", "code");
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executorService.submit(() -> registry.load(LOAD_KEY, () -> {
+                leaderStarted.countDown();
+                awaitLatch(releaseLeader);
+                throw exception;
+            }));
+            assertEquals(leaderStarted.await(5, TimeUnit.SECONDS), true);
+            Future<String> waiter = executorService.submit(() -> registry.load(LOAD_KEY, () -> "direct"));
+            verify(cache, timeout(VERIFY_TIMEOUT_IN_MILLIS)).recordCoalescedLoad();
+            releaseLeader.countDown();
+
+            ExecutionException leaderFailure = expectThrows(ExecutionException.class,
+                    () -> leader.get(5, TimeUnit.SECONDS));
+            assertSame(leaderFailure.getCause(), exception);
+            ExecutionException waiterFailure = expectThrows(ExecutionException.class,
+                    () -> waiter.get(5, TimeUnit.SECONDS));
+            assertTrue(waiterFailure.getCause() instanceof BrandingPreferenceMgtClientException);
+            assertNotSame(waiterFailure.getCause(), exception);
+            assertSame(waiterFailure.getCause().getCause(), exception);
+            assertEquals(((BrandingPreferenceMgtException) waiterFailure.getCause()).getErrorCode(), "code");
+        } finally {
+            releaseLeader.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
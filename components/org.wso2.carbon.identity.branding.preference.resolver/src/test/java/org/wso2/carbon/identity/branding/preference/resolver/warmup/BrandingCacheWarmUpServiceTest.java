@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.branding.preference.resolver.warmup;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.branding.preference.management.core.exception.BrandingPreferenceMgtClientException;
+import org.wso2.carbon.identity.branding.preference.management.core.model.ResolvedBrandingPayload;
+import org.wso2.carbon.identity.branding.preference.resolver.UIBrandingPreferenceResolverImpl;
+import org.wso2.carbon.identity.branding.preference.resolver.cache.ResolvedBrandingCacheEntry;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.APPLICATION_TYPE;
+import static org.wso2.carbon.identity.branding.preference.management.core.constant.BrandingPreferenceMgtConstants.ORGANIZATION_TYPE;
+
+/**
+ * Test class for BrandingCacheWarmUpService.
+ */
+@WithCarbonHome
+public class BrandingCacheWarmUpServiceTest {
+
+    private static final String TENANT_DOMAIN = "child.com";
+    private static final String ORGANIZATION_ID = "child-org-id";
+    private static final String APP_ID = "app-id";
+    private static final String LOCALE = "en-US";
+
+    private final BrandingWarmUpEntry orgEntry =
+            new BrandingWarmUpEntry(ORGANIZATION_TYPE, TENANT_DOMAIN, LOCALE, ORGANIZATION_ID, TENANT_DOMAIN, true);
+    private final BrandingWarmUpEntry appEntry =
+            new BrandingWarmUpEntry(APPLICATION_TYPE, APP_ID, LOCALE, ORGANIZATION_ID, TENANT_DOMAIN, false);
+
+    @AfterMethod
+    public void tearDown() {
+
+        BrandingAccessTracker.getInstance().disable();
+    }
+
+    @Test
+    public void testHottestEntriesAreWrittenToSnapshot() throws Exception {
+
+        BrandingAccessTracker accessTracker = BrandingAccessTracker.getInstance();
+        accessTracker.enable(10);
+        accessTracker.recordAccess(appEntry, ORGANIZATION_TYPE, TENANT_DOMAIN);
+        accessTracker.recordAccess(orgEntry, ORGANIZATION_TYPE, "parent.com");
+        accessTracker.recordAccess(orgEntry, ORGANIZATION_TYPE, "parent.com");
+
+        Path snapshotFile = Files.createTempDirectory("branding-warm-up").resolve("snapshot.json");
+        BrandingWarmUpSnapshotStore snapshotStore = new BrandingWarmUpSnapshotStore(snapshotFile);
+        snapshotStore.write(accessTracker.getHottestEntries(1));
+
+        List<HotBrandingEntry> hotBrandingEntries = snapshotStore.read();
+        assertEquals(hotBrandingEntries.size(), 1);
+        assertEquals(hotBrandingEntries.get(0).getEntry(), orgEntry);
+        assertEquals(hotBrandingEntries.get(0).getAccessCount(), 2);
+        assertEquals(hotBrandingEntries.get(0).getResolvedFromName(), "parent.com");
+
+        // Access counts are halved after each snapshot and the brandings no longer resolved are dropped.
+        accessTracker.decay();
+        assertEquals(accessTracker.getHottestEntries(10).size(), 1);
+        assertEquals(accessTracker.getHottestEntries(10).get(0).getAccessCount(), 1);
+    }
+
+    @Test
+    public void testWarmUpReplaysSnapshot() throws Exception {
+
+        UIBrandingPreferenceResolverImpl brandingPreferenceResolver = mock(UIBrandingPreferenceResolverImpl.class);
+        when(brandingPreferenceResolver.warmUpBranding(orgEntry)).thenReturn(new ResolvedBrandingCacheEntry(
+                ORGANIZATION_TYPE, TENANT_DOMAIN, ORGANIZATION_TYPE, "root.com", null,
+                new ResolvedBrandingPayload(new byte[0], "\"etag\"", System.currentTimeMillis())));
+        when(brandingPreferenceResolver.warmUpBranding(appEntry)).thenThrow(
+                new BrandingPreferenceMgtClientException("message", "code"));
+        BrandingWarmUpSnapshotStore snapshotStore = mock(BrandingWarmUpSnapshotStore.class);
+        when(snapshotStore.read()).thenReturn(Arrays.asList(
+                new HotBrandingEntry(orgEntry, 5, ORGANIZATION_TYPE, "parent.com"),
+                new HotBrandingEntry(appEntry, 3, null, null)));
+        BrandingAccessTracker accessTracker = BrandingAccessTracker.getInstance();
+        accessTracker.enable(10);
+
+        BrandingCacheWarmUpService warmUpService =
+                new BrandingCacheWarmUpService(brandingPreferenceResolver, snapshotStore, accessTracker);
+        assertFalse(warmUpService.isWarmUpCompleted());
+        warmUpService.warmUp();
+
+        verify(brandingPreferenceResolver).warmUpBranding(orgEntry);
+        verify(brandingPreferenceResolver).warmUpBranding(appEntry);
+        assertTrue(warmUpService.isWarmUpCompleted());
+        assertEquals(warmUpService.getSnapshotEntryCount(), 2);
+        assertEquals(warmUpService.getWarmedUpCount(), 1);
+        assertEquals(warmUpService.getFailedCount(), 1);
+        assertEquals(warmUpService.getChangedCount(), 1);
+        // The access counts of the snapshot are carried over to the next snapshot.
+        assertEquals(accessTracker.getHottestEntries(1).get(0).getEntry(), orgEntry);
+        assertEquals(accessTracker.getHottestEntries(1).get(0).getAccessCount(), 5);
+    }
+
+    @Test
+    public void testWarmUpProgressPublishedAsMBean() throws Exception {
+
+        BrandingWarmUpSnapshotStore snapshotStore = mock(BrandingWarmUpSnapshotStore.class);
+        when(snapshotStore.read()).thenReturn(Collections.emptyList());
+        BrandingCacheWarmUpService warmUpService = new BrandingCacheWarmUpService(
+                mock(UIBrandingPreferenceResolverImpl.class), snapshotStore, BrandingAccessTracker.getInstance());
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(
+                "org.wso2.carbon.identity.branding.preference:type=WarmUpMetrics,name=BrandingCacheWarmUp");
+
+        warmUpService.start();
+        try {
+            assertTrue(mBeanServer.isRegistered(objectName));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (!warmUpService.isWarmUpCompleted() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(mBeanServer.getAttribute(objectName, "WarmUpCompleted"), true);
+            assertEquals(mBeanServer.getAttribute(objectName, "SnapshotEntryCount"), 0);
+        } finally {
+            warmUpService.stop();
+        }
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+}